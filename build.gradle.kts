@@ -15,7 +15,7 @@ version = getGitHash()
 
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -34,6 +34,7 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-actuator") // 애플리케이션의 운영 및 상태를 모니터링하고 관리하기 위한 다양한 엔드포인트를 제공하는 스타터(starter) 라이브러리
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("io.projectreactor:reactor-core") // 대기열 논블로킹 스트림(Flux) 응답용 (Spring MVC가 비동기 응답으로 처리)
 
 	implementation("org.springframework.retry:spring-retry")
 	implementation("org.springframework.boot:spring-boot-starter-aop")
@@ -0,0 +1,112 @@
+package com.roovies.concertreservation.config.executor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열의 블로킹 작업(Redis 호출, SSE 전송)을 실행할 전용 Executor 설정.
+ * <p>
+ * app.waiting.execution-mode
+ * <ul>
+ *     <li>platform(기본): 고정 크기 플랫폼 스레드 풀</li>
+ *     <li>virtual: 작업마다 가상 스레드 생성 (블로킹 I/O 대기 중 캐리어 스레드를 점유하지 않음)</li>
+ * </ul>
+ * 공용 풀(ForkJoinPool.commonPool, Redisson 이벤트 루프, Spring 기본 스케줄러)에서 블로킹 작업을 분리하기 위해 사용한다.
+ */
+@Slf4j
+@Configuration
+public class WaitingExecutorConfig {
+
+    private static final String VIRTUAL_MODE = "virtual";
+
+    private final boolean virtual;
+
+    public WaitingExecutorConfig(@Value("${app.waiting.execution-mode:platform}") String executionMode) {
+        this.virtual = VIRTUAL_MODE.equalsIgnoreCase(executionMode);
+        log.info("대기열 작업 실행 방식: {}", virtual ? "virtual thread" : "platform thread");
+    }
+
+    /**
+     * 입장 처리, Pub/Sub 이벤트 처리 등 Redis 호출을 동반하는 작업용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService waitingTaskExecutor(
+            @Value("${app.waiting.executor.platform-threads:16}") int platformThreads
+    ) {
+        return create("waiting-task-", platformThreads);
+    }
+
+    /**
+     * 스케줄별 입장 처리 전용 (분산락 대기, 입장 토큰 서명 등 블로킹 작업)
+     * <p>
+     * 실행 방식과 관계없이 동시 실행 수를 parallelism으로 제한하고, 대기 작업 수도 제한하여
+     * 활성 스케줄이 급증해도 다른 대기열 작업과 자원을 다투지 않도록 한다. 한도를 넘는 작업은 거부된다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService waitingAdmissionExecutor(
+            @Value("${app.waiting.admission.parallelism:4}") int parallelism,
+            @Value("${app.waiting.admission.queue-capacity:1024}") int queueCapacity
+    ) {
+        ThreadFactory threadFactory = virtual
+                ? Thread.ofVirtual().name("waiting-admission-", 0).factory()
+                : new CustomizableThreadFactory("waiting-admission-");
+        return new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * SSE 전송(writer) 전용
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService waitingSseWriterExecutor(
+            @Value("${app.waiting.sse.writer-threads:8}") int writerThreads
+    ) {
+        return create("waiting-sse-writer-", writerThreads);
+    }
+
+    /**
+     * 대기열 Flux 스트림의 MVC 비동기 응답 쓰기 전용 (WebMvcAsyncConfig에서 MVC 비동기 Executor로 지정)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService waitingStreamAsyncExecutor(
+            @Value("${app.waiting.sse.async-threads:32}") int asyncThreads
+    ) {
+        return create("waiting-stream-async-", asyncThreads);
+    }
+
+    /**
+     * virtual 모드에서는 @Scheduled 작업도 가상 스레드에서 실행
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.waiting.execution-mode", havingValue = VIRTUAL_MODE)
+    public TaskScheduler taskScheduler() {
+        SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("waiting-scheduling-");
+        return scheduler;
+    }
+
+    private ExecutorService create(String threadNamePrefix, int platformThreads) {
+        if (virtual)
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix, 0).factory());
+        return Executors.newFixedThreadPool(platformThreads, new CustomizableThreadFactory(threadNamePrefix));
+    }
+}
@@ -0,0 +1,30 @@
+package com.roovies.concertreservation.config.web;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Spring MVC 비동기 응답 설정.
+ * <p>
+ * 대기열 Flux 스트림은 MVC 비동기 응답으로 처리되며, 이벤트 쓰기는 MVC 비동기 Executor에서 수행된다.
+ * 기본값(applicationTaskExecutor, 8개 스레드)을 다른 @Async 작업과 공유하지 않도록 전용 Executor를 지정한다.
+ */
+@Configuration
+public class WebMvcAsyncConfig implements WebMvcConfigurer {
+
+    private final ExecutorService waitingStreamAsyncExecutor;
+
+    public WebMvcAsyncConfig(@Qualifier("waitingStreamAsyncExecutor") ExecutorService waitingStreamAsyncExecutor) {
+        this.waitingStreamAsyncExecutor = waitingStreamAsyncExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(waitingStreamAsyncExecutor));
+    }
+}
@@ -5,9 +5,11 @@ import com.roovies.concertreservation.reservations.application.dto.result.HoldSe
 import com.roovies.concertreservation.reservations.application.port.in.HoldSeatUseCase;
 import com.roovies.concertreservation.reservations.application.port.out.HoldSeatCachePort;
 import com.roovies.concertreservation.reservations.application.port.out.HoldSeatIdempotencyCachePort;
+import com.roovies.concertreservation.shared.domain.event.SeatHoldAttemptedEvent;
 import com.roovies.concertreservation.shared.infra.lock.DistributedLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +29,7 @@ public class HoldSeatService implements HoldSeatUseCase {
 
     private final HoldSeatCachePort holdSeatCachePort;
     private final HoldSeatIdempotencyCachePort holdSeatIdempotencyCachePort;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 좌석 홀딩 요청을 처리한다.
@@ -58,6 +61,27 @@ public class HoldSeatService implements HoldSeatUseCase {
         log.info("[HoldSeatService] 좌석 홀딩 수행 - userId: {}, scheduleId: {}, seatIds: {}",
                 userId, scheduleId, seatIds);
 
+        // 처리 시간 및 기술적 오류 여부를 대기열 입장 허용량 조절 지표로 발행
+        long startedAt = System.nanoTime();
+        boolean failed = false;
+        try {
+            return doHoldSeat(idempotencyKey, scheduleId, seatIds, userId);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            // 비즈니스 거절(중복 요청, 이미 선점된 좌석 등)은 하위 시스템 오류로 집계하지 않음
+            throw e;
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            long latencyMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            eventPublisher.publishEvent(SeatHoldAttemptedEvent.of(scheduleId, latencyMillis, failed));
+        }
+    }
+
+    /**
+     * 멱등성 검증 → 기존 홀딩 확인 → 좌석 홀딩 → 결과 저장 순으로 실제 홀딩을 수행한다.
+     */
+    private HoldSeatResult doHoldSeat(String idempotencyKey, Long scheduleId, List<Long> seatIds, Long userId) {
         // 멱등성 키 검증 및 키 선점
         HoldSeatResult existingResult = validateIdempotencyKeyAndGetResult(idempotencyKey);
         // 선점되어 있으면 결과 반환
@@ -0,0 +1,21 @@
+package com.roovies.concertreservation.shared.domain.event;
+
+/**
+ * 좌석 홀딩 시도 이벤트.
+ * <p>
+ * 좌석 홀딩 요청 처리가 끝날 때마다 인메모리로 발행되며,
+ * 대기열(waiting) 컨텍스트에서 입장 허용량을 조절하기 위한 하위 시스템 상태 지표로 사용된다.
+ *
+ * @param scheduleId 스케줄 ID
+ * @param latencyMillis 홀딩 처리 소요 시간(ms)
+ * @param failed 기술적 오류로 실패했는지 여부 (이미 선점된 좌석 등 비즈니스 거절은 포함하지 않음)
+ */
+public record SeatHoldAttemptedEvent(
+        Long scheduleId,
+        long latencyMillis,
+        boolean failed
+) {
+    public static SeatHoldAttemptedEvent of(Long scheduleId, long latencyMillis, boolean failed) {
+        return new SeatHoldAttemptedEvent(scheduleId, latencyMillis, failed);
+    }
+}
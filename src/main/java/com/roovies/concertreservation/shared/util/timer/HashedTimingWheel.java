@@ -0,0 +1,162 @@
+package com.roovies.concertreservation.shared.util.timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 대량의 만료 작업을 위한 해시 타이밍 휠.
+ * <p>
+ * 만료 시각을 tick 단위 슬롯에 나눠 담고, 전용 스레드 하나가 tick마다 해당 슬롯만 확인한다.
+ * 예약/취소는 O(1)이며, 실행 시각은 최대 tick 간격만큼 늦어질 수 있다.
+ * 만료 작업은 휠 스레드에서 실행되므로 블로킹 작업은 별도 Executor로 넘겨야 한다.
+ */
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final ArrayDeque<Timeout>[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final long startNanos;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long tick; // 휠 스레드에서만 접근
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String threadName, Duration tickDuration, int ticksPerWheel) {
+        if (tickDuration.isNegative() || tickDuration.isZero() || ticksPerWheel <= 0)
+            throw new IllegalArgumentException("타이밍 휠 설정이 올바르지 않습니다.");
+
+        // 슬롯 계산을 비트 연산으로 하기 위해 2의 거듭제곱으로 맞춤
+        int size = 1;
+        while (size < ticksPerWheel)
+            size <<= 1;
+
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new ArrayDeque[size];
+        for (int i = 0; i < size; i++)
+            wheel[i] = new ArrayDeque<>();
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delay 이후 task를 실행하도록 예약한다.
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (!running)
+            throw new IllegalStateException("종료된 타이밍 휠입니다.");
+
+        long deadline = elapsedNanos() + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(task, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long sleepNanos = tickNanos * (tick + 1) - elapsedNanos();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+
+            transferPendingTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled())
+                continue;
+
+            long expireTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+
+            // 이미 지난 만료 시각은 현재 슬롯에서 바로 처리
+            wheel[(int) (Math.max(expireTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(ArrayDeque<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                timeout.expire();
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * 예약된 만료 작업 핸들
+     */
+    public static final class Timeout {
+
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds; // 휠 스레드에서만 접근
+
+        private Timeout(Runnable task, long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * @return 실행 전에 취소되었으면 true (이미 실행되었거나 취소된 경우 false)
+         */
+        public boolean cancel() {
+            return state.compareAndSet(INIT, CANCELLED);
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED))
+                return;
+
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("타이밍 휠 만료 작업 실행 중 오류 발생", e);
+            }
+        }
+    }
+}
@@ -2,12 +2,17 @@ package com.roovies.concertreservation.waiting.application.dto.result;
 
 import lombok.Builder;
 
+import java.time.LocalDateTime;
+
 @Builder
 public record EnterQueueResult(
         boolean admitted,       // 즉시 입장 여부
         String admittedToken,   // 입장 토큰 (즉시 입장 시에만)
         Integer rank,           // 대기 순번 (대기열 진입 시에만)
         Integer totalWaiting,      // 전체 대기자 수
+        Integer estimatedWaitSeconds,   // 예상 대기 시간(초) (대기열 진입 시에만, 입장 속도 측정 전이면 null)
+        Integer nextUpdateSeconds,      // 다음 순번 확인까지 권장 간격(초) (대기열 진입 또는 사전 등록 시에만)
+        LocalDateTime lotteryOpensAt,   // 추첨(대기열 생성) 기준 오픈 시각 (사전 등록 시에만)
         String userKey          // 대기열 식별자
 ) {
 }
@@ -0,0 +1,16 @@
+package com.roovies.concertreservation.waiting.application.dto.result;
+
+import lombok.Builder;
+
+@Builder
+public record WaitingStatusResult(
+        boolean waiting,                // 대기열에 남아 있는지 여부 (false이고 입장 토큰도 없으면 대기열에 없음)
+        boolean admitted,               // 입장 처리 여부
+        String admittedToken,           // 입장 토큰 (입장 처리된 경우에만)
+        Integer rank,                   // 대기 순번 (대기 중인 경우에만)
+        Integer totalWaiting,           // 전체 대기자 수
+        Integer estimatedWaitSeconds,   // 예상 대기 시간(초)
+        Integer nextUpdateSeconds,      // 다음 조회까지 권장 간격(초)
+        String version                  // 응답 내용 버전 (ETag)
+) {
+}
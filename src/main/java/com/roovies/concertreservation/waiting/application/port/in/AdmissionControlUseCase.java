@@ -0,0 +1,18 @@
+package com.roovies.concertreservation.waiting.application.port.in;
+
+public interface AdmissionControlUseCase {
+    /**
+     * 좌석 홀딩 처리 결과(처리 시간, 기술적 오류 여부) 집계
+     */
+    void recordSeatHold(Long resourceId, long latencyMillis, boolean failed);
+
+    /**
+     * 결제 완료 집계
+     */
+    void recordPaymentCompleted(Long resourceId);
+
+    /**
+     * 대기열이 활성화된 리소스별 Permit 한도를 하위 시스템 상태에 맞게 조절
+     */
+    void adjustPermitLimits();
+}
@@ -1,9 +1,15 @@
 package com.roovies.concertreservation.waiting.application.port.in;
 
 import com.roovies.concertreservation.waiting.application.dto.result.EnterQueueResult;
+import com.roovies.concertreservation.waiting.application.dto.result.WaitingStatusResult;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface WaitingUseCase {
     /**
@@ -16,6 +22,17 @@ public interface WaitingUseCase {
      */
     SseEmitter subscribeToQueue(Long userId, Long resourceId, String userKey);
 
+    /**
+     * 논블로킹 스트림 연결 수립 (SSE 연결과 동일한 순번/입장 이벤트를 Flux로 전달)
+     */
+    Flux<ServerSentEvent<Object>> streamQueue(Long userId, Long resourceId, String userKey);
+
+    /**
+     * 대기 상태 폴링 조회 (SSE 연결을 유지할 수 없는 클라이언트용)
+     * - knownVersion과 현재 버전이 같으면 상태가 바뀌거나 maxWait이 지날 때까지 기다렸다가 응답 (long-poll)
+     */
+    CompletableFuture<WaitingStatusResult> getWaitingStatus(Long userId, Long resourceId, String userKey, String knownVersion, Duration maxWait);
+
     /**
      * 활성화된 리소스별 대기자 순번 갱신 이벤트 처리
      */
@@ -32,7 +49,37 @@ public interface WaitingUseCase {
     void notifyAdmittedUsers(Map<String, String> userKeyToAdmittedToken);
 
     /**
-     *
+     * 입장 토큰 없이 userKey만 전달된 입장 처리 알림 전송 (현재 인스턴스에 연결된 대기자만 토큰을 조회하여 전송)
+     */
+    void notifyAdmittedUsers(Long resourceId, Collection<String> userKeys);
+
+    /**
+     * 대기열이 활성화된 모든 리소스의 대기자 입장 처리 (주기적 안전망)
      */
     void admitUsersInActiveWaitingSchedules();
+
+    /**
+     * 특정 리소스의 대기자 입장 처리 (Permit 반환 신호 수신 시)
+     */
+    void admitUsersInSchedule(Long resourceId);
+
+    /**
+     * 오픈 시각이 지난 사전 등록 리소스의 등록자 순서를 무작위로 정해 대기열 일괄 생성
+     */
+    void drawDueLotterySchedules();
+
+    /**
+     * 현재 인스턴스에 연결된(SSE/스트림/폴링) 대기자의 생존 기록을 스케줄별로 한 번에 갱신
+     */
+    void refreshLocalPresence();
+
+    /**
+     * 유예 시간 동안 생존 기록이 갱신되지 않은 대기자를 대기열에서 제거 (연결을 가진 인스턴스가 종료된 경우 등)
+     */
+    void evictAbsentWaiters();
+
+    /**
+     * 입장 토큰 만료 시 Permit 반환 및 입장 가능 신호 발행
+     */
+    void handleAdmittedTokenExpired(Long resourceId, String userKey);
 }
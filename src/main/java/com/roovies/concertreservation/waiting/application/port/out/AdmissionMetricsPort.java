@@ -0,0 +1,35 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import java.time.Duration;
+
+public interface AdmissionMetricsPort {
+    /**
+     * 정기 입장 처리 1회 결과 (처리 대상 스케줄 수, 전체 소요 시간)
+     */
+    void recordRun(int scheduleCount, Duration duration);
+
+    /**
+     * 다른 스레드/인스턴스가 입장 처리 중이라 분산락을 얻지 못한 경우
+     */
+    void recordLockMiss();
+
+    /**
+     * 입장 토큰 발급까지 완료된 인원
+     */
+    void recordAdmitted(int count);
+
+    /**
+     * 스케줄 입장 처리가 제한 시간 안에 끝나지 않은 경우
+     */
+    void recordTimeout();
+
+    /**
+     * 입장 처리 작업 한도 초과로 실행하지 못한 경우
+     */
+    void recordRejected();
+
+    /**
+     * 속도 제한 입장 처리 결과 (스케줄당 설정 속도, 모든 인스턴스에서 측정된 스케줄의 실제 입장 속도)
+     */
+    void recordPacing(Long scheduleId, double configuredPerSecond, double achievedPerSecond);
+}
@@ -0,0 +1,14 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+/**
+ * 스케줄별 입장 처리 담당 인스턴스 판단.
+ * <p>
+ * 담당 배정을 사용하지 않으면 모든 인스턴스가 담당으로 판단되고, 동시 실행은 스케줄 단위 분산락으로만 막는다.
+ */
+public interface AdmissionOwnershipPort {
+
+    /**
+     * @return 현재 인스턴스가 해당 스케줄의 입장 처리를 담당하는지 여부 (Redis 조회 없이 로컬에서 판단)
+     */
+    boolean isLocalOwner(Long scheduleId);
+}
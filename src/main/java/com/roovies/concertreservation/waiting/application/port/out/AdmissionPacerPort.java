@@ -0,0 +1,27 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+/**
+ * 스케줄별 입장 속도 제한(leaky bucket).
+ * <p>
+ * 세마포어(Permit)가 동시에 입장해 있을 수 있는 인원을 제한한다면, 이 저장소는 단위 시간당 입장시키는 인원을 제한한다.
+ * 설정된 속도로 토큰이 채워지고 한 주기 분량 이상은 쌓이지 않으므로, 입장 처리가 몇 번 실행되든 입장은 일정한 속도로 분산된다.
+ */
+public interface AdmissionPacerPort {
+
+    /**
+     * 지금까지 채워진 토큰에서 최대 maxTokens개를 꺼낸다.
+     *
+     * @return 꺼낸 토큰 수 (이번에 입장시킬 수 있는 최대 인원)
+     */
+    int acquire(Long scheduleId, int maxTokens);
+
+    /**
+     * 꺼냈지만 사용하지 않은 토큰을 되돌린다. (대기자 또는 Permit이 부족했던 경우)
+     */
+    void refund(Long scheduleId, int tokens);
+
+    /**
+     * @return 설정된 스케줄당 초당 입장 인원
+     */
+    double getConfiguredAdmissionsPerSecond();
+}
@@ -0,0 +1,20 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+/**
+ * 스케줄별 입장 속도(초당 입장 인원) 저장소.
+ * <p>
+ * 입장 처리 주기마다 입장 인원을 기록하면 지수 가중 이동 평균(EWMA)으로 합산되어,
+ * 모든 인스턴스가 같은 입장 속도로 예상 대기 시간을 계산할 수 있다.
+ */
+public interface AdmissionRatePort {
+
+    /**
+     * 한 번의 입장 처리 결과를 기록한다. (입장 인원이 0이어도 기록해야 정체 시 속도가 감소함)
+     */
+    void recordAdmissions(Long scheduleId, int admittedCount);
+
+    /**
+     * @return 초당 입장 인원 EWMA (기록이 없으면 0)
+     */
+    double getAdmissionsPerSecond(Long scheduleId);
+}
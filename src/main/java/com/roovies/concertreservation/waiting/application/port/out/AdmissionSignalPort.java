@@ -0,0 +1,20 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionSignal;
+
+/**
+ * 입장 허용량 조절을 위한 스케줄별 하위 시스템 상태 지표 저장소.
+ * <p>
+ * 여러 인스턴스에서 수집된 지표를 한 곳에 누적하고, 조절 주기마다 구간 단위로 꺼내간다.
+ */
+public interface AdmissionSignalPort {
+
+    void recordSeatHold(Long scheduleId, long latencyMillis, boolean failed);
+
+    void recordPaymentCompleted(Long scheduleId);
+
+    /**
+     * 누적된 지표를 조회하고 초기화한다. (다음 구간은 0부터 다시 집계)
+     */
+    AdmissionSignal drainSignal(Long scheduleId);
+}
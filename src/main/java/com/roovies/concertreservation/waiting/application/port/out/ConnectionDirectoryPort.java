@@ -0,0 +1,34 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * SSE 연결을 보유한 인스턴스를 기록하는 디렉터리.
+ * <p>
+ * 입장 알림을 모든 인스턴스에 브로드캐스트하지 않고 연결을 가진 인스턴스에만 전달하기 위해 사용된다.
+ */
+public interface ConnectionDirectoryPort {
+
+    String getLocalInstanceId();
+
+    /**
+     * 현재 인스턴스를 userKey 연결의 소유자로 기록한다. (재연결 시 덮어씀)
+     */
+    void registerConnection(String userKey);
+
+    /**
+     * 현재 인스턴스가 소유자로 기록된 경우에만 제거한다.
+     */
+    void unregisterConnection(String userKey);
+
+    /**
+     * @return userKey → 소유 인스턴스ID (기록이 없는 userKey는 포함되지 않음)
+     */
+    Map<String, String> findOwnerInstances(Collection<String> userKeys);
+
+    /**
+     * 소유 인스턴스가 종료되어 더 이상 유효하지 않은 기록을 제거한다.
+     */
+    void removeConnections(Collection<String> userKeys);
+}
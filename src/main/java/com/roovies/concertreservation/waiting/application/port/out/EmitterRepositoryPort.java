@@ -1,11 +1,45 @@
 package com.roovies.concertreservation.waiting.application.port.out;
 
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.Set;
 
 public interface EmitterRepositoryPort {
 
-    void saveEmitterByUserKey(String userKey, SseEmitter emitter);
+    /**
+     * @return 같은 userKey로 이미 연결되어 있던 기존 연결 (없으면 null)
+     */
+    WaitingStream saveEmitter(Long scheduleId, String userKey, WaitingStream stream);
     void removeEmitterByUserKey(String userKey);
+
+    /**
+     * 현재 등록된 연결이 주어진 연결과 같을 때만 제거한다. (재연결로 교체된 이전 연결의 콜백이 새 연결을 지우지 않도록)
+     */
+    boolean removeEmitter(String userKey, WaitingStream stream);
     boolean containsEmitterByUserKey(String userKey);
-    SseEmitter getEmitterByUserKey(String userKey);
+    WaitingStream getEmitterByUserKey(String userKey);
+    Set<String> getUserKeysByScheduleId(Long scheduleId);
+    int countByScheduleId(Long scheduleId);
+
+    /**
+     * 직전 전송 완료 시 정한 갱신 가능 시각이 지나지 않았다면 구간이 바뀌었어도 전송하지 않는다.
+     *
+     * @return 갱신 가능 시각이 지났고 마지막으로 전송 완료된 구간과 달라 새로 전송해야 하면 true (연결이 없으면 false)
+     */
+    boolean shouldSendPosition(String userKey, int positionBucket, long nowMillis);
+
+    /**
+     * 순번 갱신 이벤트 전송이 완료된 뒤 마지막 전송 순번 구간과 다음 갱신 가능 시각을 기록한다. (현재 등록된 연결이 주어진 연결과 같을 때만)
+     *
+     * @param nextUpdateAtMillis 다음 전송이 가능해지는 시각
+     */
+    void recordSentPosition(String userKey, WaitingStream stream, int positionBucket, long nextUpdateAtMillis);
+
+    /**
+     * 연결에 이벤트/heartbeat 전송이 완료된 시각을 기록한다. (현재 등록된 연결이 주어진 연결과 같을 때만)
+     */
+    void recordWrite(String userKey, WaitingStream stream, long nowMillis);
+
+    /**
+     * @return 마지막 전송 완료 시각 (전송 전이면 연결 등록 시각, 현재 등록된 연결이 주어진 연결과 다르면 null)
+     */
+    Long getLastWriteAt(String userKey, WaitingStream stream);
 }
@@ -1,29 +1,55 @@
 package com.roovies.concertreservation.waiting.application.port.out;
 
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public interface WaitingCachePort {
 
     boolean tryAcquirePermit(Long resourceId);
-    boolean tryAcquirePermits(Long scheduleId, int count);
     int getAvailablePermits(Long resourceId);
     void releasePermits(Long resourceId, int count);
+    int getPermitLimit(Long resourceId);
+    void updatePermitLimit(Long resourceId, int permitLimit);
     boolean tryAcquireAdmitLock(Long resourceId);
     void releaseAdmitLock(Long resourceId);
     void saveAdmittedToken(Long resourceId, String userKey, String admittedToken);
+
+    /**
+     * 발급 완료된 입장 토큰 일괄 조회 (토큰이 없거나 발급 전 자리표시자인 사용자는 결과에서 제외)
+     */
+    Map<String, String> getAdmittedTokens(Long resourceId, Collection<String> userKeys);
+    WaitingEntryResult enterOrWait(Long resourceId, Long userId, String userKey);
     void enterQueue(Long resourceId, String userKey);
+
+    /**
+     * 주어진 순서대로 대기열 일괄 진입 (이미 대기열 항목이 있는 사용자는 건너뜀)
+     *
+     * @return 대기열에 진입한 사용자 수
+     */
+    int enterQueueInOrder(Long resourceId, List<String> userKeys);
     WaitingQueueStatus getRankAndTotalWaitingCount(Long resourceId, String userKey);
+    List<WaitingQueueStatus> getRankAndTotalWaitingCounts(Long resourceId, Collection<String> userKeys);
     boolean removeWaitingQueue(Long resourceId, String userKey);
+    void removeUserEntryIndex(Long resourceId, String userKey);
+
+    /**
+     * 입장 토큰 만료 1건에 대해 Permit 1개 반환과 사용자별 대기열 항목 인덱스 정리를 한 번만 수행한다.
+     * 만료 이벤트는 모든 인스턴스가 수신하므로 먼저 처리한 인스턴스만 반영된다.
+     *
+     * @return 이번 호출에서 처리했으면 true (다른 인스턴스가 이미 처리했으면 false)
+     */
+    boolean releaseExpiredAdmission(Long resourceId, String userKey);
     Set<String> getActiveWaitingScheduleIds();
     boolean hasActiveWaitingQueue(Long resourceId);
     Collection<String> getActiveWaitingUserKeys(Long resourceId);
     void removeActiveWaitingScheduleId(Long resourceId);
     int getWaitingQueueSize(Long resourceId);
-    List<WaitingQueueEntry> admitUsers(Long resourceId, int count);
-    void addUserToWaitingQueue(Long resourceId, String userKey, double score);
+    List<WaitingQueueEntry> admitBatch(Long resourceId, int maxCount);
+    void requeueAdmittedUser(Long resourceId, WaitingQueueEntry entry);
 }
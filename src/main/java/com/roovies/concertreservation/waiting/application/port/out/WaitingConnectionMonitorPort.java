@@ -0,0 +1,24 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import java.time.Duration;
+
+/**
+ * 대기열 연결 상태 감시.
+ * <p>
+ * 연결마다 주기적으로 heartbeat를 보내고, 전송이 일정 시간 이상 완료되지 않는 연결(전송이 멈춘 연결)을 정리한다.
+ * 상대가 실제로 수신했는지는 확인하지 않는다. (half-open 연결은 구현체 참고)
+ */
+public interface WaitingConnectionMonitorPort {
+
+    /**
+     * 연결 감시를 시작한다. 연결이 종료되거나 같은 userKey의 새 연결로 교체되면 감시는 자동으로 끝난다.
+     *
+     * @param onStalled 전송이 멈춘 연결로 판단되었을 때 실행할 작업 (블로킹 작업용 Executor에서 실행)
+     */
+    void watch(String userKey, WaitingStream stream, Runnable onStalled);
+
+    /**
+     * delay 이후 작업을 실행한다. (블로킹 작업용 Executor에서 실행)
+     */
+    void schedule(Runnable task, Duration delay);
+}
@@ -4,5 +4,13 @@ import java.util.Map;
 
 public interface WaitingEventPublisher {
     void notifyWaitingQueueStatusEvent(Long resourceId);
-    void notifyAdmittedUsersEvent(Map<String, String> userKeyToAdmittedToken);
+    void notifyAdmittedUsersEvent(Long resourceId, Map<String, String> userKeyToAdmittedToken);
+
+    /**
+     * 특정 인스턴스 전용 채널로 입장 처리 완료 이벤트 발행
+     *
+     * @return 해당 인스턴스가 메시지를 수신했는지 여부 (false면 인스턴스가 종료된 것으로 판단)
+     */
+    boolean notifyAdmittedUsersEvent(String instanceId, Long resourceId, Map<String, String> userKeyToAdmittedToken);
+    void notifyCapacityAvailableEvent(Long resourceId);
 }
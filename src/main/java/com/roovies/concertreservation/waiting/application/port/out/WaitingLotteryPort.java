@@ -0,0 +1,33 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingLotterySchedules;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오픈 전 사전 등록과 오픈 시 추첨 대상자 추출
+ */
+public interface WaitingLotteryPort {
+
+    WaitingLotterySchedules getLotterySchedules();
+
+    /**
+     * @return 사전 등록 리소스의 오픈 시각 (사전 등록 대상이 아니면 null)
+     */
+    LocalDateTime getOpensAt(Long resourceId);
+
+    /**
+     * 사전 등록 (같은 사용자가 다시 등록하면 userKey를 덮어씀)
+     *
+     * @return 등록 여부 (이미 추첨이 끝난 스케줄이면 false)
+     */
+    boolean register(Long resourceId, Long userId, String userKey);
+
+    /**
+     * 등록자 전체를 꺼내고 추첨 완료로 표시 (한 번만 성공)
+     *
+     * @return 등록된 userKey 목록 (이미 추첨이 끝났다면 null)
+     */
+    List<String> drawEntries(Long resourceId);
+}
@@ -0,0 +1,27 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusSnapshot;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusUpdate;
+
+import java.util.Map;
+
+public interface WaitingNotificationPort {
+    /**
+     * 같은 스케줄 대기자들에게 순번 갱신 이벤트 전송 (연결이 밀릴 경우 오래된 이벤트부터 폐기될 수 있음)
+     * - 스냅샷(공유 정보)은 한 번만 직렬화되고, 대기자별로는 순번, 예상 대기 시간, 권장 갱신 간격과 userKey만 덧붙인다.
+     * - 전송이 완료된 이벤트만 연결 저장소에 마지막 전송 순번으로 기록된다. (폐기/실패한 순번은 다음 주기에 다시 전송됨)
+     *
+     * @param updateByUserKey userKey → 대기 순번, 예상 대기 시간 및 전송 완료 시 기록할 전송 상태
+     */
+    void sendStatuses(WaitingStatusSnapshot snapshot, Map<String, WaitingStatusUpdate> updateByUserKey);
+
+    /**
+     * 연결 유지 확인용 주석 라인 전송 (전송 대기 중인 이벤트가 있으면 그 전송으로 대신하므로 생략)
+     */
+    void sendHeartbeat(String userKey);
+
+    /**
+     * 입장 처리 이벤트 전송 (폐기되지 않으며, 전송 후 연결 종료)
+     */
+    void sendAdmit(String userKey, String admittedToken);
+}
@@ -0,0 +1,47 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPollStatus;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 현재 인스턴스에서 폴링 조회 중인 대기자의 상태 저장소.
+ * <p>
+ * 순번 갱신 주기마다 스케줄 단위로 한 번 계산된 상태를 보관하여, 폴링 요청마다 Redis를 조회하지 않도록 한다.
+ * 상태가 바뀌면 해당 대기자의 long-poll 요청을 깨운다.
+ */
+public interface WaitingPollRepositoryPort {
+
+    void register(Long scheduleId, String userKey, WaitingPollStatus status, long nowMillis);
+
+    /**
+     * 마지막 조회 시각을 갱신하고 현재 상태를 반환한다.
+     *
+     * @return 등록되지 않은 userKey면 null
+     */
+    WaitingPollStatus touch(String userKey, long nowMillis);
+
+    /**
+     * 상태를 갱신하고, 버전이 바뀌었다면 대기 중인 long-poll 요청을 완료한다.
+     * 입장 처리된 상태는 순번 갱신으로 덮어쓰지 않는다.
+     */
+    void update(String userKey, WaitingPollStatus status);
+
+    /**
+     * @return 현재 버전이 knownVersion과 다르면 즉시, 같으면 상태가 바뀔 때 완료되는 Future (등록되지 않은 userKey면 null)
+     */
+    CompletableFuture<WaitingPollStatus> awaitChange(String userKey, String knownVersion);
+
+    boolean contains(String userKey);
+
+    Set<String> getUserKeysByScheduleId(Long scheduleId);
+
+    /**
+     * idleSinceMillis 이후로 조회되지 않은 대기자를 제거한다. (대기 중인 long-poll 요청은 현재 상태로 완료)
+     *
+     * @return 제거된 userKey 목록
+     */
+    Collection<String> removeIdle(Long scheduleId, long idleSinceMillis);
+}
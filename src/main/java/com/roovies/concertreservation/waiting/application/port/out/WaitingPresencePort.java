@@ -0,0 +1,26 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스케줄별 대기자 생존 기록(마지막 확인 시각).
+ * <p>
+ * 각 인스턴스가 자신에게 연결된(SSE/스트림/폴링) 대기자를 주기적으로 한 번에 갱신하고,
+ * 일정 시간 이상 갱신되지 않은 대기자는 연결을 가진 인스턴스가 없는 것으로 판단한다. (인스턴스 비정상 종료 등)
+ */
+public interface WaitingPresencePort {
+
+    /**
+     * 대기자들의 마지막 확인 시각을 현재 시각으로 갱신한다.
+     */
+    void touch(Long resourceId, Collection<String> userKeys);
+
+    /**
+     * grace 동안 갱신되지 않은 대기자를 최대 limit명 꺼내고 생존 기록에서 제거한다.
+     *
+     * @return 꺼낸 userKey 목록 (오래된 순)
+     */
+    List<String> takeExpired(Long resourceId, Duration grace, int limit);
+}
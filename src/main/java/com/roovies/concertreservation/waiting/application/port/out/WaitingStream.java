@@ -0,0 +1,30 @@
+package com.roovies.concertreservation.waiting.application.port.out;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+
+/**
+ * 대기자 한 명과의 이벤트 스트림 연결.
+ * <p>
+ * SseEmitter 기반 연결과 Flux 기반 연결을 같은 저장소/전송 경로에서 다루기 위한 추상화이다.
+ */
+public interface WaitingStream {
+
+    /**
+     * @param mediaType null이면 기본 변환 사용
+     * @throws IOException 연결이 끊겼거나 클라이언트가 이벤트를 소비하지 못해 더 이상 전송할 수 없는 경우
+     */
+    void send(String eventName, Object data, MediaType mediaType) throws IOException;
+
+    /**
+     * 이벤트가 아닌 주석 라인(": ...")을 전송한다. 클라이언트에는 전달되지 않으며 연결 유지 확인(heartbeat)에 사용한다.
+     *
+     * @throws IOException 연결이 끊겨 더 이상 전송할 수 없는 경우
+     */
+    void sendComment(String comment) throws IOException;
+
+    void complete();
+
+    void completeWithError(Throwable error);
+}
@@ -0,0 +1,126 @@
+package com.roovies.concertreservation.waiting.application.service;
+
+import com.roovies.concertreservation.waiting.application.port.in.AdmissionControlUseCase;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionSignalPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionSignal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 스케줄별 입장 허용량(Permit 한도)을 하위 시스템 상태에 맞춰 조절하는 서비스.
+ * <p>
+ * 조절 주기마다 좌석 홀딩 처리 시간/오류율과 결제 완료 비율을 확인하여 AIMD 방식으로 한도를 변경한다.
+ * <ul>
+ *     <li>홀딩 처리 시간이 목표치를 넘거나 오류율이 허용치를 넘으면: 한도 × decrease-factor (빠르게 감소)</li>
+ *     <li>정상이고 입장한 사용자가 결제까지 빠져나가고 있으면: 한도 + increase-step (천천히 증가)</li>
+ *     <li>수집된 홀딩 지표가 없거나 결제 완료 비율이 낮으면: 유지</li>
+ * </ul>
+ * 한도는 항상 [min-permits, max-permits] 범위로 제한되며, 한도가 늘어나면 입장 가능 신호를 발행해 바로 입장 처리가 수행되도록 한다.
+ */
+@Slf4j
+@Service("admissionControlService")
+public class AdmissionControlService implements AdmissionControlUseCase {
+
+    private final WaitingCachePort waitingCachePort;
+    private final AdmissionSignalPort admissionSignalPort;
+    private final WaitingEventPublisher waitingEventPublisher;
+
+    private final int minPermits;
+    private final int maxPermits;
+    private final int increaseStep;
+    private final double decreaseFactor;
+    private final long holdLatencyTargetMillis;
+    private final double maxHoldErrorRate;
+    private final double minPaymentCompletionRatio;
+
+    public AdmissionControlService(
+            WaitingCachePort waitingCachePort,
+            AdmissionSignalPort admissionSignalPort,
+            WaitingEventPublisher waitingEventPublisher,
+            @Value("${app.waiting.admission.min-permits:20}") int minPermits,
+            @Value("${app.waiting.admission.max-permits:500}") int maxPermits,
+            @Value("${app.waiting.admission.increase-step:10}") int increaseStep,
+            @Value("${app.waiting.admission.decrease-factor:0.7}") double decreaseFactor,
+            @Value("${app.waiting.admission.hold-latency-target-ms:500}") long holdLatencyTargetMillis,
+            @Value("${app.waiting.admission.max-hold-error-rate:0.05}") double maxHoldErrorRate,
+            @Value("${app.waiting.admission.min-payment-completion-ratio:0.1}") double minPaymentCompletionRatio
+    ) {
+        if (minPermits <= 0 || minPermits > maxPermits)
+            throw new IllegalArgumentException("Permit 한도 범위가 올바르지 않습니다.");
+        if (decreaseFactor <= 0 || decreaseFactor >= 1)
+            throw new IllegalArgumentException("decrease-factor는 0과 1 사이여야 합니다.");
+
+        this.waitingCachePort = waitingCachePort;
+        this.admissionSignalPort = admissionSignalPort;
+        this.waitingEventPublisher = waitingEventPublisher;
+        this.minPermits = minPermits;
+        this.maxPermits = maxPermits;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.holdLatencyTargetMillis = holdLatencyTargetMillis;
+        this.maxHoldErrorRate = maxHoldErrorRate;
+        this.minPaymentCompletionRatio = minPaymentCompletionRatio;
+    }
+
+    @Override
+    public void recordSeatHold(Long scheduleId, long latencyMillis, boolean failed) {
+        admissionSignalPort.recordSeatHold(scheduleId, latencyMillis, failed);
+    }
+
+    @Override
+    public void recordPaymentCompleted(Long scheduleId) {
+        admissionSignalPort.recordPaymentCompleted(scheduleId);
+    }
+
+    @Override
+    public void adjustPermitLimits() {
+        for (String scheduleId : waitingCachePort.getActiveWaitingScheduleIds()) {
+            try {
+                adjustPermitLimit(Long.parseLong(scheduleId));
+            } catch (Exception e) {
+                log.error("Permit 한도 조절 중 오류 발생: scheduleId = {}", scheduleId, e);
+            }
+        }
+    }
+
+    private void adjustPermitLimit(Long scheduleId) {
+        AdmissionSignal signal = admissionSignalPort.drainSignal(scheduleId);
+        int currentLimit = waitingCachePort.getPermitLimit(scheduleId);
+        int nextLimit = decideNextLimit(currentLimit, signal);
+        if (nextLimit == currentLimit)
+            return;
+
+        waitingCachePort.updatePermitLimit(scheduleId, nextLimit);
+        log.info("Permit 한도 조절: scheduleId = {}, {} -> {}, holdCount = {}, avgHoldLatencyMs = {}, holdErrorRate = {}, paymentCount = {}",
+                scheduleId, currentLimit, nextLimit, signal.holdCount(),
+                Math.round(signal.averageHoldLatencyMillis()), signal.holdErrorRate(), signal.paymentCount());
+
+        // 한도가 늘어난 만큼 다음 주기를 기다리지 않고 바로 입장 처리
+        if (nextLimit > currentLimit)
+            waitingEventPublisher.notifyCapacityAvailableEvent(scheduleId);
+    }
+
+    private int decideNextLimit(int currentLimit, AdmissionSignal signal) {
+        int limit = clamp(currentLimit);
+        if (!signal.hasHoldSamples())
+            return limit;
+
+        boolean overloaded = signal.averageHoldLatencyMillis() > holdLatencyTargetMillis
+                || signal.holdErrorRate() > maxHoldErrorRate;
+        if (overloaded)
+            return clamp((int) Math.floor(limit * decreaseFactor));
+
+        // 입장한 사용자가 결제까지 빠져나가지 못하고 있다면 더 들여보내지 않음
+        if (signal.paymentCompletionRatio() < minPaymentCompletionRatio)
+            return limit;
+
+        return clamp(limit + increaseStep);
+    }
+
+    private int clamp(int limit) {
+        return Math.max(minPermits, Math.min(maxPermits, limit));
+    }
+}
@@ -2,53 +2,171 @@ package com.roovies.concertreservation.waiting.application.service;
 
 import com.roovies.concertreservation.shared.util.security.JwtUtils;
 import com.roovies.concertreservation.waiting.application.dto.result.EnterQueueResult;
+import com.roovies.concertreservation.waiting.application.dto.result.WaitingStatusResult;
 import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionMetricsPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionOwnershipPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionPacerPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionRatePort;
+import com.roovies.concertreservation.waiting.application.port.out.ConnectionDirectoryPort;
 import com.roovies.concertreservation.waiting.application.port.out.EmitterRepositoryPort;
 import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingConnectionMonitorPort;
 import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingLotteryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingNotificationPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPollRepositoryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPresencePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
+import com.roovies.concertreservation.waiting.application.service.stream.FluxSinkWaitingStream;
+import com.roovies.concertreservation.waiting.application.service.stream.SseEmitterWaitingStream;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEta;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEtaPolicy;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPollStatus;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPositionBucket;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
-import lombok.RequiredArgsConstructor;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusSnapshot;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusUpdate;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service("reservationWaitingService")
 @Transactional
-@RequiredArgsConstructor
 public class ReservationWaitingService implements WaitingUseCase {
 
     private static final long SSE_TIMOUT = 600000L; // 10분
+    private static final int ADMIT_BATCH_SIZE = 100; // 스케줄당 1회 입장 처리 최대 인원
+    private static final int STREAM_BUFFER_SIZE = 16; // 논블로킹 스트림 연결당 전송 버퍼 크기
+    private static final WaitingPositionBucket STATUS_POSITION_BUCKET = new WaitingPositionBucket(100, 100); // 100번 이내는 1단위, 이후는 100단위로 순번 알림
+    private static final Duration MAX_POLL_WAIT = Duration.ofSeconds(25); // long-poll 최대 대기 시간 (서블릿 비동기 요청 기본 타임아웃 30초 이내)
+    private static final long POLL_IDLE_TIMEOUT_MILLIS = 120000L; // 2분 (최대 권장 갱신 간격의 2배) 동안 조회하지 않은 폴링 대기자는 정리
+    private static final WaitingEtaPolicy ETA_POLICY = new WaitingEtaPolicy(5, 60, 10); // 예상 대기 시간의 1/10 간격으로 갱신 (순번 갱신 주기 5초 ~ 최대 60초)
+    private static final Duration LOTTERY_DRAW_DELAY = Duration.ofSeconds(1); // 오픈 후 추첨까지 대기 시간 (인스턴스별로 버퍼링된 사전 등록이 저장되도록 flush 주기보다 길게)
+    private static final Duration LOTTERY_DRAW_WINDOW = Duration.ofHours(1); // 오픈 후 이 시간이 지나면 추첨을 시도하지 않음
+    private static final int LOTTERY_REFRESH_SPREAD_SECONDS = 10; // 사전 등록자의 추첨 후 재조회를 분산시키는 범위(초)
+    private static final SecureRandom LOTTERY_RANDOM = new SecureRandom();
+    private static final int PRESENCE_EVICT_BATCH_SIZE = 500; // 스케줄당 1회 생존 기록 만료 대기자 정리 최대 인원
 
     private final JwtUtils jwtUtils;
-
-    @Qualifier("reservationWaitingRedis")
     private final WaitingCachePort waitingCachePort;
-
-    @Qualifier("reservationWaitingEmitterRepository")
     private final EmitterRepositoryPort emitterRepositoryPort;
-
-    @Qualifier("reservationRedisEventPublisher")
     private final WaitingEventPublisher waitingEventPublisher;
+    private final WaitingNotificationPort waitingNotificationPort;
+    private final ConnectionDirectoryPort connectionDirectoryPort;
+    private final Executor waitingAdmissionExecutor;
+    private final AdmissionMetricsPort admissionMetricsPort;
+    private final AdmissionRatePort admissionRatePort;
+    private final AdmissionPacerPort admissionPacerPort;
+    private final AdmissionOwnershipPort admissionOwnershipPort;
+    private final WaitingPresencePort waitingPresencePort;
+    private final WaitingPollRepositoryPort waitingPollRepositoryPort;
+    private final WaitingConnectionMonitorPort waitingConnectionMonitorPort;
+    private final WaitingLotteryPort waitingLotteryPort;
+
+    // 정기 입장 처리에서 스케줄 1건의 완료를 기다리는 최대 시간
+    @Value("${app.waiting.admission.schedule-timeout-ms:5000}")
+    private long scheduleTimeoutMillis = 5000L;
+
+    // 연결이 끊긴 뒤 대기열 항목을 제거하기까지의 유예 시간 (이 시간 안에 재연결하면 순번 유지, 0이면 즉시 제거)
+    @Value("${app.waiting.sse.release-grace-ms:30000}")
+    private long releaseGraceMillis = 30000L;
+
+    // 입장 속도 제한 사용 여부 (Permit 여유와 관계없이 설정된 속도로만 입장)
+    @Value("${app.waiting.admission.pacing.enabled:false}")
+    private boolean pacingEnabled = false;
+
+    // 생존 기록이 이 시간 동안 갱신되지 않은 대기자는 연결이 없는 것으로 보고 대기열에서 제거 (생존 기록 갱신 주기보다 충분히 길게)
+    @Value("${app.waiting.presence.grace-ms:120000}")
+    private long presenceGraceMillis = 120000L;
 
+    /**
+     * 포트 구현체는 프로필(waiting-inmemory)과 대기열 방식(app.waiting.queue-mode)에 따라 1개만 등록되므로 타입으로 주입한다.
+     * Executor는 용도별로 여러 개가 등록되어 있어 이름으로 지정한다.
+     */
+    public ReservationWaitingService(
+            JwtUtils jwtUtils,
+            WaitingCachePort waitingCachePort,
+            EmitterRepositoryPort emitterRepositoryPort,
+            WaitingEventPublisher waitingEventPublisher,
+            WaitingNotificationPort waitingNotificationPort,
+            ConnectionDirectoryPort connectionDirectoryPort,
+            @Qualifier("waitingAdmissionExecutor") Executor waitingAdmissionExecutor,
+            AdmissionMetricsPort admissionMetricsPort,
+            AdmissionRatePort admissionRatePort,
+            AdmissionPacerPort admissionPacerPort,
+            AdmissionOwnershipPort admissionOwnershipPort,
+            WaitingPresencePort waitingPresencePort,
+            WaitingPollRepositoryPort waitingPollRepositoryPort,
+            WaitingConnectionMonitorPort waitingConnectionMonitorPort,
+            WaitingLotteryPort waitingLotteryPort
+    ) {
+        this.jwtUtils = jwtUtils;
+        this.waitingCachePort = waitingCachePort;
+        this.emitterRepositoryPort = emitterRepositoryPort;
+        this.waitingEventPublisher = waitingEventPublisher;
+        this.waitingNotificationPort = waitingNotificationPort;
+        this.connectionDirectoryPort = connectionDirectoryPort;
+        this.waitingAdmissionExecutor = waitingAdmissionExecutor;
+        this.admissionMetricsPort = admissionMetricsPort;
+        this.admissionRatePort = admissionRatePort;
+        this.admissionPacerPort = admissionPacerPort;
+        this.admissionOwnershipPort = admissionOwnershipPort;
+        this.waitingPresencePort = waitingPresencePort;
+        this.waitingPollRepositoryPort = waitingPollRepositoryPort;
+        this.waitingConnectionMonitorPort = waitingConnectionMonitorPort;
+        this.waitingLotteryPort = waitingLotteryPort;
+    }
 
+    /**
+     * 대기열 진입 또는 즉시 입장
+     * - (userId, scheduleId)당 하나의 대기열 항목만 유지되며, 재진입 시 기존 userKey/순번 또는 발급된 입장 토큰을 반환
+     */
     @Override
     public EnterQueueResult enterOrWaitQueue(Long userId, Long scheduleId) {
-        // 대기열이 활성화된 스케줄인지 확인
-        boolean isActivate = waitingCachePort.hasActiveWaitingQueue(scheduleId);
+        // 사전 등록 스케줄은 추첨 전까지 등록만 받음 (순번 계산 없이 버퍼링되어 저장되므로 오픈 전 요청이 몰려도 부하가 작음)
+        // 추첨이 끝난 뒤에는 일반 진입과 같으며, 추첨된 사용자는 재진입으로 처리되어 등록한 userKey와 순번이 반환됨
+        LocalDateTime opensAt = waitingLotteryPort.getOpensAt(scheduleId);
+        if (opensAt != null) {
+            String lotteryUserKey = generateLotteryUserKey(userId, scheduleId);
+            if (waitingLotteryPort.register(scheduleId, userId, lotteryUserKey))
+                return lotteryRegisteredResult(lotteryUserKey, opensAt);
+        }
+
+        // 신규 진입일 때만 사용되는 userKey (재진입 시 기존 userKey가 반환됨)
+        String userKey = generateUserKey(userId);
 
-        // 대기열이 비활성화 상태일 때만 세마포어 획득 시도
-        if (!isActivate && waitingCachePort.tryAcquirePermit(scheduleId)) {
+        // 재진입 확인, 활성 대기열 확인, 세마포어 획득, 대기열 진입을 단일 왕복으로 처리
+        WaitingEntryResult entry = waitingCachePort.enterOrWait(scheduleId, userId, userKey);
+
+        if (entry.admitted()) {
+            // 이미 입장한 사용자라면 Permit을 추가로 사용하지 않고 기존 입장 토큰 반환
             // 세마포어 획득 시 즉시 입장 - 입장 토큰 발급
-            String admittedToken = issueAdmittedToken(userId, scheduleId);
+            String admittedToken = entry.admittedToken() != null
+                    ? entry.admittedToken()
+                    : issueAdmittedToken(userId, scheduleId, entry.userKey());
             return EnterQueueResult.builder()
                     .admitted(true)
                     .admittedToken(admittedToken)
@@ -56,56 +174,113 @@ public class ReservationWaitingService implements WaitingUseCase {
         }
 
         // 대기열 입장 (대기열 활성화 상태이거나 세마포어 획득 실패 시)
-        WaitingQueueStatus status = enterQueue(userId, scheduleId);
-        Integer rank = status.rank();
-        Integer totalWaiting = status.totalWaiting();
+        Integer rank = entry.rank();
+        Integer totalWaiting = entry.totalWaiting();
 
-        return EnterQueueResult.builder()
+        EnterQueueResult.EnterQueueResultBuilder result = EnterQueueResult.builder()
                 .admitted(false)
                 .rank(rank != null ? rank + 1 : null)  // ZRANK는 0부터 시작하므로 +1
                 .totalWaiting(totalWaiting)
-                .userKey(status.userKey())
-                .build();
+                .userKey(entry.userKey());
+
+        // 예상 대기 시간과 권장 갱신 간격 (뒤쪽 대기자일수록 재조회 간격을 늘려 재요청 부하 감소)
+        if (rank != null) {
+            WaitingEta eta = ETA_POLICY.estimate(rank + 1, admissionRatePort.getAdmissionsPerSecond(scheduleId));
+            result.estimatedWaitSeconds(eta.estimatedWaitSeconds())
+                    .nextUpdateSeconds(eta.nextUpdateSeconds());
+        }
+        return result.build();
     }
 
+    /**
+     * SSE 연결 수립
+     * - 같은 userKey로 다시 구독하면 새 연결로 교체하고 기존 연결은 종료 (대기열 항목은 유지)
+     */
     @Override
     public SseEmitter subscribeToQueue(Long userId, Long scheduleId, String userKey) {
         SseEmitter emitter = new SseEmitter(SSE_TIMOUT);
         validateUserKey(userId, userKey);
 
-        emitterRepositoryPort.saveEmitterByUserKey(userKey, emitter);
+        SseEmitterWaitingStream stream = new SseEmitterWaitingStream(emitter);
+        registerStream(scheduleId, userKey, stream);
 
-        // 이벤트 등록
+        // 이벤트 등록 - 교체된 이전 연결의 콜백이 새 연결이나 대기열 항목을 지우지 않도록 처리
         // 타임아웃 시
         emitter.onTimeout(() -> {
             log.info("SSE 타임아웃: {}", userKey);
-            waitingCachePort.removeWaitingQueue(scheduleId, userKey);
-            emitterRepositoryPort.removeEmitterByUserKey(userKey);
+            leaveQueue(scheduleId, userKey, stream);
         });
 
         // 정상 완료 시
+        // 타임아웃/에러 이후에도 호출되므로 연결 소유 기록은 여기서 정리
         emitter.onCompletion(() -> {
             log.info("SSE 정상 완료: {}", userKey);
-            emitterRepositoryPort.removeEmitterByUserKey(userKey);
+            closeStream(userKey, stream);
         });
 
         // 에러 발생 시
         emitter.onError(e -> {
             log.error("SSE 에러: {}: {}", userKey, e.getMessage());
-            waitingCachePort.removeWaitingQueue(scheduleId, userKey);
-            emitterRepositoryPort.removeEmitterByUserKey(userKey);
+            leaveQueue(scheduleId, userKey, stream);
         });
 
-        // 초기 연결 메시지 전송
-        try {
-            emitter.send(SseEmitter.event()
-                    .name("connected")
-                    .data("SSE connection established"));
-        } catch (Exception e) {
-            log.error("Failed to send initial SSE message", e);
+        sendConnectedMessage(stream);
+        return emitter;
+    }
+
+    /**
+     * 논블로킹 스트림 연결 수립
+     * - SSE 연결과 같은 저장소/전송 경로를 사용하며, 연결당 고정 크기 버퍼 하나만 유지
+     * - 클라이언트 연결 해제(cancel), 전송 실패(error), 최대 연결 시간 경과(complete) 모두 SSE 타임아웃/에러와 동일하게 대기열 이탈로 처리
+     */
+    @Override
+    public Flux<ServerSentEvent<Object>> streamQueue(Long userId, Long scheduleId, String userKey) {
+        validateUserKey(userId, userKey);
+
+        FluxSinkWaitingStream stream = new FluxSinkWaitingStream(STREAM_BUFFER_SIZE);
+        registerStream(scheduleId, userKey, stream);
+        sendConnectedMessage(stream);
+
+        return stream.asFlux()
+                .take(Duration.ofMillis(SSE_TIMOUT))
+                .doFinally(signal -> {
+                    log.info("스트림 종료: {}: {}", userKey, signal);
+                    leaveQueue(scheduleId, userKey, stream);
+                    closeStream(userKey, stream);
+                });
+    }
+
+    /**
+     * 대기 상태 폴링 조회
+     * - 첫 조회에서만 Redis로 순번을 확인해 등록하고, 이후에는 순번 갱신 주기마다 스케줄 단위로 계산된 상태를 응답
+     * - 알고 있는 버전과 같으면 상태가 바뀌거나 최대 대기 시간이 지날 때까지 응답을 미룸 (시간 초과 시 같은 버전으로 응답)
+     */
+    @Override
+    public CompletableFuture<WaitingStatusResult> getWaitingStatus(Long userId, Long scheduleId, String userKey, String knownVersion, Duration maxWait) {
+        validateUserKey(userId, userKey);
+
+        long nowMillis = System.currentTimeMillis();
+        WaitingPollStatus current = waitingPollRepositoryPort.touch(userKey, nowMillis);
+        if (current == null) {
+            current = loadPollStatus(scheduleId, userKey);
+            if (!current.waiting())
+                return CompletableFuture.completedFuture(toStatusResult(current));
+
+            waitingPollRepositoryPort.register(scheduleId, userKey, current, nowMillis);
+            // 입장 알림이 이 인스턴스로 전달되도록 소유 인스턴스 기록 (SSE 연결과 동일)
+            connectionDirectoryPort.registerConnection(userKey);
         }
 
-        return emitter;
+        Duration wait = maxWait.compareTo(MAX_POLL_WAIT) > 0 ? MAX_POLL_WAIT : maxWait;
+        if (!current.version().equals(knownVersion) || wait.isZero() || wait.isNegative())
+            return CompletableFuture.completedFuture(toStatusResult(current));
+
+        CompletableFuture<WaitingPollStatus> change = waitingPollRepositoryPort.awaitChange(userKey, knownVersion);
+        if (change == null) // 확인 직후 정리된 경우
+            return CompletableFuture.completedFuture(toStatusResult(current));
+
+        return change.completeOnTimeout(current, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApply(this::toStatusResult);
     }
 
     @Override
@@ -125,68 +300,86 @@ public class ReservationWaitingService implements WaitingUseCase {
 
     @Override
     public void notifyWaitingQueueStatus(Long scheduleId) {
-        // 해당 스케줄ID의 전체 대기자 목록 조회
-        Collection<String> userKeys = waitingCachePort.getActiveWaitingUserKeys(scheduleId);
-        if (userKeys.isEmpty()) {
-            log.debug("스케줄에 대기중인 사용자가 없음: scheduleId = {}", scheduleId);
-
-            // 대기자가 없는데 활성화된 스케줄이므로 활성화 목록에서 제거
-            waitingCachePort.removeActiveWaitingScheduleId(scheduleId);
+        // 현재 인스턴스에 연결된 해당 스케줄의 대기자와 폴링 대기자만 조회 (Redis 대기열 전체 조회 없이 로컬 인덱스 사용)
+        // 순회 중 연결/해제가 일어날 수 있으므로 스냅샷으로 복사
+        List<String> localUserKeys = List.copyOf(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId));
+        Set<String> pollingUserKeys = Set.copyOf(waitingPollRepositoryPort.getUserKeysByScheduleId(scheduleId));
+        if (localUserKeys.isEmpty() && pollingUserKeys.isEmpty()) {
+            log.debug("현재 인스턴스에 연결된 대기자가 없음: scheduleId = {}", scheduleId);
             return;
         }
 
-        // Local emitterRepository에만 존재하는 userKeys만 필터링
-        List<String> localUserKeys = filterUserKeys(userKeys);
-        if (localUserKeys.isEmpty()) {
-            log.debug("현재 인스턴스에 연결된 대기자가 없음: scheduleId = {}, userKey = {}", scheduleId, localUserKeys);
-            return;
+        List<String> targetUserKeys = localUserKeys;
+        Set<String> connectedUserKeys = null;
+        if (!pollingUserKeys.isEmpty()) {
+            Set<String> mergedUserKeys = new LinkedHashSet<>(localUserKeys);
+            mergedUserKeys.addAll(pollingUserKeys);
+            targetUserKeys = List.copyOf(mergedUserKeys);
+            connectedUserKeys = Set.copyOf(localUserKeys);
         }
 
-        log.debug("실시간 순번 알림 전송: scheduleId = {}, 대상자 수 = {}", scheduleId, localUserKeys.size());
+        log.debug("실시간 순번 알림 전송: scheduleId = {}, 대상자 수 = {}", scheduleId, targetUserKeys.size());
+
+        // 로컬 대기자들의 순번을 스케줄 단위로 한 번에 조회
+        List<WaitingQueueStatus> statuses = waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, targetUserKeys);
+
+        // 스케줄 입장 속도는 주기당 한 번만 조회하여 모든 대기자의 예상 대기 시간 계산에 사용
+        double admissionsPerSecond = admissionRatePort.getAdmissionsPerSecond(scheduleId);
+        long nowMillis = System.currentTimeMillis();
+
+        // 마지막으로 전송한 순번 구간이 바뀐 대기자만 전송 (앞쪽은 1단위, 뒤쪽은 구간 단위)
+        // 직전 전송 때 안내한 갱신 간격이 지나지 않은 대기자는 건너뜀 (예상 대기 시간이 긴 뒤쪽 대기자일수록 드물게 전송)
+        Map<String, WaitingStatusUpdate> changedPositions = new HashMap<>();
+        List<String> unrankedUserKeys = new ArrayList<>();
+        Integer totalWaiting = null;
+        for (WaitingQueueStatus status : statuses) {
+            String userKey = status.userKey();
+            Integer rank = status.rank();
+            totalWaiting = status.totalWaiting();
+
+            boolean polling = pollingUserKeys.contains(userKey);
+            boolean connected = connectedUserKeys == null || connectedUserKeys.contains(userKey);
+
+            if (rank == null) {
+                // 입장 처리 중(대기열에서 추출된 뒤 토큰 발급 전)일 수 있으므로 바로 이탈로 표시하지 않고 입장 토큰 확인
+                unrankedUserKeys.add(userKey);
+                if (connected)
+                    log.debug("사용자의 순번을 찾을 수 없음: scheduleId = {}, userKey = {}", scheduleId, userKey);
+                continue;
+            }
 
-        for (String userKey : localUserKeys) {
-            SseEmitter emitter = null;
-            try {
-                emitter = emitterRepositoryPort.getEmitterByUserKey(userKey);
-                if (emitter == null)
-                    continue;
+            int currentPosition = rank + 1; // ZRANK는 0부터 시작하므로 +1
+            int positionBucket = STATUS_POSITION_BUCKET.bucketOf(currentPosition);
+            WaitingEta eta = ETA_POLICY.estimate(currentPosition, admissionsPerSecond);
 
-                // 각 사용자별 대기 정보 조회
-                WaitingQueueStatus status = waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey);
-                Integer rank = status.rank();
-                Integer totalWaiting = status.totalWaiting();
+            // 폴링 조회용 상태는 갱신 주기마다 한 번 계산해 두고, 조회 요청은 이 값으로만 응답
+            if (polling)
+                waitingPollRepositoryPort.update(userKey, WaitingPollStatus.waiting(eta, status.totalWaiting(), positionBucket));
+            if (!connected)
+                continue;
 
-                if (rank == null) {
-                    log.warn("사용자의 순번을 찾을 수 없음 (ZRANK): scheduleId = {}, userKey = {}", userKey, scheduleId);
-                    continue;
-                }
-
-                int currentPosition = rank + 1; // ZRANK는 0부터 시작하므로 +1
-
-                // TODO: SSE 전송 시 DTO를 만들면 단일 사용에 많은 클래스 파일을 만들 것 같아 Map을 써봤는데 괜찮을까?
-                Map<String, Object> response = Map.of(
-                        "scheduleId", scheduleId,
-                        "rank", currentPosition,
-                        "totalWaiting", totalWaiting,
-                        "userKey", userKey,
-                        "timestamp", LocalDateTime.now()
-                );
-
-                emitter.send(
-                        SseEmitter.event()
-                                .name("reservation-waiting-status-update")
-                                .data(response)
-                );
-
-                log.debug("순번 알림 전송 완료: userKey = {}, position = {}/{}", userKey, currentPosition, totalWaiting);
-            } catch (IOException e) {
-                log.warn("SSE 전송 실패: userKey = {}", userKey, e);
-                emitterRepositoryPort.removeEmitterByUserKey(userKey);
-                emitter.completeWithError(e);
-            } catch (Exception e) {
-                log.error("순번 알림 처리 중 오류 발생: userKey = {}", userKey, e);
+            // 전송 상태는 writer 스레드에서 전송이 완료된 뒤에 기록됨 (outbox에서 폐기되면 다음 주기에 다시 전송)
+            if (emitterRepositoryPort.shouldSendPosition(userKey, positionBucket, nowMillis)) {
+                long nextUpdateAtMillis = nowMillis + TimeUnit.SECONDS.toMillis(eta.nextUpdateSeconds());
+                changedPositions.put(userKey, new WaitingStatusUpdate(eta, positionBucket, nextUpdateAtMillis));
             }
         }
+
+        if (!unrankedUserKeys.isEmpty())
+            resolveUnrankedUsers(scheduleId, unrankedUserKeys, pollingUserKeys);
+        if (!pollingUserKeys.isEmpty())
+            removeIdlePollers(scheduleId, nowMillis);
+
+        if (changedPositions.isEmpty()) {
+            log.debug("순번 구간이 바뀐 대기자가 없어 전송 생략: scheduleId = {}", scheduleId);
+            return;
+        }
+
+        // 공유 정보(스케줄ID, 전체 대기자 수, 시각)는 주기당 한 번만 직렬화
+        // 연결별 outbox에 적재만 하고 실제 전송은 writer 스레드에서 수행 (느린 클라이언트가 다른 대기자를 막지 않음)
+        WaitingStatusSnapshot snapshot = new WaitingStatusSnapshot(scheduleId, totalWaiting, LocalDateTime.now());
+        waitingNotificationPort.sendStatuses(snapshot, changedPositions);
+        log.debug("순번 알림 전송 요청: scheduleId = {}, 대상자 수 = {}/{}", scheduleId, changedPositions.size(), statuses.size());
     }
 
     @Override
@@ -195,25 +388,32 @@ public class ReservationWaitingService implements WaitingUseCase {
             String userKey = entry.getKey();
             String admitToken = entry.getValue();
 
-            SseEmitter emitter = emitterRepositoryPort.getEmitterByUserKey(userKey);
-            if (emitter != null) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("admit")
-                            .data(admitToken));
+            // 입장 이벤트는 폐기되지 않으며, 전송 완료 후 Local Emitter Map에서 제거됨
+            if (emitterRepositoryPort.containsEmitterByUserKey(userKey))
+                waitingNotificationPort.sendAdmit(userKey, admitToken);
 
-                    log.info("입장처리 SSE 알림 전송 완료: userKey = {}", userKey);
-                    emitterRepositoryPort.removeEmitterByUserKey(userKey);
-                } catch (Exception e) {
-                    log.error("입장처리 SSE 알림 전송 실패: userKey = {}", userKey, e);
-                    // 재시도 로직 구현 커스터마이징 필요
-                    // 우선 현재 로직은 재시도 로직 없이 바로 Local Emitter Map에서 삭제하도록 함
-                    emitterRepositoryPort.removeEmitterByUserKey(userKey);
-                }
-            }
+            // 폴링 대기자는 다음 조회(또는 대기 중인 long-poll)에 입장 토큰이 응답됨
+            if (waitingPollRepositoryPort.contains(userKey))
+                waitingPollRepositoryPort.update(userKey, WaitingPollStatus.admitted(admitToken));
         }
     }
 
+    @Override
+    public void notifyAdmittedUsers(Long scheduleId, Collection<String> userKeys) {
+        // 브로드캐스트 수신 시 대부분의 userKey는 다른 인스턴스 소속이므로 로컬 연결이 있는 대기자만 토큰 조회
+        List<String> localUserKeys = userKeys.stream()
+                .filter(userKey -> emitterRepositoryPort.containsEmitterByUserKey(userKey) || waitingPollRepositoryPort.contains(userKey))
+                .toList();
+        if (localUserKeys.isEmpty())
+            return;
+
+        Map<String, String> userKeyToAdmittedToken = waitingCachePort.getAdmittedTokens(scheduleId, localUserKeys);
+        if (userKeyToAdmittedToken.size() < localUserKeys.size())
+            log.warn("입장 토큰을 찾지 못한 입장 사용자 수: scheduleId = {}, count = {}", scheduleId, localUserKeys.size() - userKeyToAdmittedToken.size());
+
+        notifyAdmittedUsers(userKeyToAdmittedToken);
+    }
+
     @Override
     public void admitUsersInActiveWaitingSchedules() {
         Set<String> scheduleIds = waitingCachePort.getActiveWaitingScheduleIds();
@@ -222,128 +422,326 @@ public class ReservationWaitingService implements WaitingUseCase {
             return;
         }
 
+        // 담당 배정 사용 시 현재 인스턴스가 담당하는 스케줄만 처리 (다른 인스턴스와 같은 스케줄의 락을 경합하지 않음)
+        List<Long> ownedScheduleIds = scheduleIds.stream()
+                .map(Long::parseLong)
+                .filter(admissionOwnershipPort::isLocalOwner)
+                .toList();
+        if (ownedScheduleIds.isEmpty())
+            return;
+
+        long startedAt = System.nanoTime();
+
         // 분산락으로 다중 인스턴스 및 멀티스레드(병렬처리)에서 동시성 제어
-        scheduleIds.parallelStream().forEach(scheduleIdStr -> {
-            Long scheduleId = Long.parseLong(scheduleIdStr);
-            boolean admitLockAcquired = waitingCachePort.tryAcquireAdmitLock(scheduleId);
-            if (admitLockAcquired) {
-                Map<String, String> localUserToAdmittedToken = new HashMap<>();
-                Map<String, String> remoteUserToAdmittedToken = new HashMap<>();
+        // 분산락 대기와 토큰 서명으로 블로킹되므로 동시 실행 수가 제한된 입장 처리 전용 Executor에서 병렬 처리
+        CompletableFuture<?>[] admissions = ownedScheduleIds.stream()
+                .map(this::submitAdmission)
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(admissions).join();
 
-                try {
-                    // 가용 가능한 Permit 수 확인
-                    final int availablePermits = waitingCachePort.getAvailablePermits(scheduleId);
-                    if (availablePermits <= 0) {
-                        log.debug("해당 스케줄에 사용 가능한 Permit이 없음: scheduleId = {}", scheduleId);
-                        return;
-                    }
-
-                    // 해당 스케줄 대기자 수 조회
-                    final int waitingQueueSize = waitingCachePort.getWaitingQueueSize(scheduleId);
-                    if (waitingQueueSize <= 0) {
-                        log.debug("해당 스케줄에 대기자가 없음: scheduleId = {}", scheduleId);
-
-                        // 대기자가 존재하지 않으니 활성 대기열 목록에서 해당 스케줄ID를 제거
-                        waitingCachePort.removeActiveWaitingScheduleId(scheduleId);
-                        log.debug("스케줄에 실제 대기자가 없어 활성 대기열 목록에서 제거됨: scheduleId = {}", scheduleId);
-                        return;
-                    }
-
-                    // 입장 처리할 대기자 수 결정
-                    final int countToAdmit = Math.min(availablePermits, waitingQueueSize);
-
-                    // 결정된 수만큼 Permit 획득 (Atomic)
-                    boolean permitLockAcquired = waitingCachePort.tryAcquirePermits(scheduleId, countToAdmit);
-                    if (!permitLockAcquired) {
-                        log.debug("해당 스케줄 Permit 획득 실패({}개): scheduleId = {}", countToAdmit, scheduleId);
-                        return;
-                    }
-
-                    log.debug("해당 스케줄 Permit 획득 성공({}개): scheduleId = {}", countToAdmit, scheduleId);
-
-                    // 대기열에서 획득한 Permit 수만큼 사용자 추출(ZPOPMIN)
-                    // 입장 허용 처리 실패 시 다시 대기열에 넣어줘야 하므로 기존 score 정보도 함께 조회
-                    List<WaitingQueueEntry> admittedEntries = waitingCachePort.admitUsers(scheduleId, countToAdmit);
-
-                    // 보상 트랜잭션: 추출된 사용자 < 획득한 Permit 수 => 잔여 Permit 반환
-                    int admittedSize = admittedEntries.size();
-                    if (admittedSize < countToAdmit) {
-                        int countToRelease = countToAdmit - admittedSize;
-                        waitingCachePort.releasePermits(scheduleId, countToRelease);
-                        log.debug("추출된 대기자가 획득한 Permit 수보다 적어 잔여 Permit 반납: scheduleId = {}, permitsToReturn = {}", scheduleId, countToRelease);
-                    }
-
-                    if (admittedSize == 0) {
-                        // admittedSize < countToAdmit 뒤에 넣은 이유는 잔여 Permit 수만큼 락 해제를 먼저 수행하기 위해서다.
-                        log.debug("실제 입장 처리된 대기자가 없음: scheduleId = {}, admittedSize = {}", scheduleId, admittedSize);
-                    }
-
-                    // 입장 토큰 발급
-                    int failCount = 0;
-                    for (WaitingQueueEntry entry : admittedEntries) {
-                        String userKey = entry.userKey();
-                        double originalScore = entry.score();
-
-                        String[] parts = userKey.split(":");
-
-                        try {
-                            // Claims 구성
-                            Map<String, String> claims = new HashMap<>();
-                            claims.put("userKey", userKey);
-                            claims.put("scheduleId", scheduleIdStr);
-                            claims.put("type", "ADMITTED");
-
-                            String userIdStr = parts[0];
-                            String admittedToken = jwtUtils.generateToken(userIdStr, claims, Duration.ofMinutes(10).toMillis());
-
-                            // Redis에 입장 토큰 저장 (TTL: 10분)
-                            waitingCachePort.saveAdmittedToken(scheduleId, userKey, admittedToken);
-
-
-                            // 로컬 EmitterMap에 존재하는지 확인 (분산락 내부에서 확인만)
-                            if (emitterRepositoryPort.containsEmitterByUserKey(userKey))
-                                localUserToAdmittedToken.put(userKey, admittedToken);
-                            else
-                                remoteUserToAdmittedToken.put(userKey, admittedToken);
-
-                            log.debug("입장 토큰 발급 완료: userKey = {}", userKey);
-                        } catch (Exception e) {
-                            log.error("입장 토큰 발급 실패: userKey = {}", userKey, e);
-
-                            // 입장 토큰 발급 실패되면 Permit 반납을 위해 실패 횟수 카운팅
-                            failCount++;
-
-                            // 보상 트랜잭션: 입장 토큰 발급 실패 시 해당 사용자를 다시 대기열 맨 앞에 추가
-                            waitingCachePort.addUserToWaitingQueue(scheduleId, userKey, originalScore);
-                            log.info("입장 토큰 발급 실패로 대기열에 재추가: userKey = {}, originalScore = {}", userKey, originalScore);
+        admissionMetricsPort.recordRun(ownedScheduleIds.size(), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 스케줄 입장 처리를 제출하고, 제한 시간이 지나면 기다리지 않는다.
+     * 입장 처리 도중 중단하면 추출된 대기자의 토큰이 발급되지 않으므로 작업 자체는 취소하지 않는다. (분산락으로 중복 실행 방지)
+     */
+    private CompletableFuture<Void> submitAdmission(Long scheduleId) {
+        try {
+            return CompletableFuture.runAsync(() -> admitUsersInSchedule(scheduleId), waitingAdmissionExecutor)
+                    .orTimeout(scheduleTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                        if (cause instanceof TimeoutException) {
+                            admissionMetricsPort.recordTimeout();
+                            log.warn("스케줄 입장 처리 시간 초과: scheduleId = {}, timeoutMs = {}", scheduleId, scheduleTimeoutMillis);
+                        } else {
+                            log.error("스케줄 입장 처리 실패: scheduleId = {}", scheduleId, cause);
                         }
-                    }
-
-                    // 보상 트랜잭션: 토큰 발급 실패 건수만큼 Permit 반납
-                    if (failCount > 0) {
-                        waitingCachePort.releasePermits(scheduleId, failCount);
-                        log.info("입장 토큰 발급 실패로 Permit 반납: scheduleId = {}, failCount = {}", scheduleId, failCount);
-                    }
-                } finally {
-                    // 분산락 해제
-                    waitingCachePort.releaseAdmitLock(scheduleId);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            admissionMetricsPort.recordRejected();
+            log.warn("입장 처리 작업 한도 초과로 건너뜀: scheduleId = {}", scheduleId);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 스케줄 단위 입장 처리
+     * - Permit 차감, 대기자 추출, 입장 토큰 자리표시자 저장은 admitBatch 한 번으로 원자적으로 수행됨
+     * - 여기서는 추출된 대기자의 입장 토큰 발급과 알림만 담당
+     * - 입장 속도 제한 사용 시 채워진 토큰 수만큼만 추출하고, 대기자 또는 Permit이 부족해 남은 토큰은 되돌림
+     */
+    @Override
+    public void admitUsersInSchedule(Long scheduleId) {
+        // 입장 가능 신호는 모든 인스턴스에 전달되므로 담당 인스턴스에서만 처리
+        if (!admissionOwnershipPort.isLocalOwner(scheduleId))
+            return;
+
+        boolean admitLockAcquired = waitingCachePort.tryAcquireAdmitLock(scheduleId);
+        if (!admitLockAcquired) {
+            admissionMetricsPort.recordLockMiss();
+            return;
+        }
+
+        Map<String, String> localUserToAdmittedToken = new HashMap<>();
+        Map<String, String> remoteUserToAdmittedToken = new HashMap<>();
+
+        try {
+            int batchSize = pacingEnabled ? admissionPacerPort.acquire(scheduleId, ADMIT_BATCH_SIZE) : ADMIT_BATCH_SIZE;
+
+            // min(가용 Permit, 대기자 수)만큼 대기자 추출 및 Permit 차감 (Atomic)
+            List<WaitingQueueEntry> admittedEntries = batchSize > 0 ? waitingCachePort.admitBatch(scheduleId, batchSize) : List.of();
+
+            // 예상 대기 시간 계산용 입장 속도 기록 (입장 인원이 없어도 기록해야 정체 시 속도가 감소함)
+            admissionRatePort.recordAdmissions(scheduleId, admittedEntries.size());
+
+            if (pacingEnabled) {
+                admissionPacerPort.refund(scheduleId, batchSize - admittedEntries.size());
+                admissionMetricsPort.recordPacing(
+                        scheduleId, admissionPacerPort.getConfiguredAdmissionsPerSecond(), admissionRatePort.getAdmissionsPerSecond(scheduleId));
+            }
+
+            if (admittedEntries.isEmpty()) {
+                log.debug("입장 처리할 대기자 또는 사용 가능한 Permit이 없음: scheduleId = {}", scheduleId);
+                return;
+            }
+
+            log.debug("대기자 추출 완료: scheduleId = {}, admittedSize = {}", scheduleId, admittedEntries.size());
+
+            // 입장 토큰 발급
+            for (WaitingQueueEntry entry : admittedEntries) {
+                String userKey = entry.userKey();
+                String[] parts = userKey.split(":");
+
+                try {
+                    // Claims 구성
+                    Map<String, String> claims = new HashMap<>();
+                    claims.put("userKey", userKey);
+                    claims.put("scheduleId", String.valueOf(scheduleId));
+                    claims.put("type", "ADMITTED");
+
+                    String userIdStr = parts[0];
+                    String admittedToken = jwtUtils.generateToken(userIdStr, claims, Duration.ofMinutes(10).toMillis());
+
+                    // Redis에 입장 토큰 저장 (TTL: 10분) - admitBatch가 저장한 자리표시자를 덮어씀
+                    waitingCachePort.saveAdmittedToken(scheduleId, userKey, admittedToken);
+
+                    // 로컬 EmitterMap 또는 폴링 대기자에 존재하는지 확인 (분산락 내부에서 확인만)
+                    if (emitterRepositoryPort.containsEmitterByUserKey(userKey) || waitingPollRepositoryPort.contains(userKey))
+                        localUserToAdmittedToken.put(userKey, admittedToken);
+                    else
+                        remoteUserToAdmittedToken.put(userKey, admittedToken);
+
+                    log.debug("입장 토큰 발급 완료: userKey = {}", userKey);
+                } catch (Exception e) {
+                    log.error("입장 토큰 발급 실패: userKey = {}", userKey, e);
+
+                    // 보상 트랜잭션: 자리표시자 삭제 + 대기열 맨 앞 재추가 + Permit 반납
+                    waitingCachePort.requeueAdmittedUser(scheduleId, entry);
+                    log.info("입장 토큰 발급 실패로 대기열에 재추가: userKey = {}, originalScore = {}", userKey, entry.score());
                 }
+            }
+        } finally {
+            // 분산락 해제
+            waitingCachePort.releaseAdmitLock(scheduleId);
+        }
+
+        int admittedCount = localUserToAdmittedToken.size() + remoteUserToAdmittedToken.size();
+        if (admittedCount > 0)
+            admissionMetricsPort.recordAdmitted(admittedCount);
 
-                if (!localUserToAdmittedToken.isEmpty())
-                    notifyAdmittedUsers(localUserToAdmittedToken);
+        if (!localUserToAdmittedToken.isEmpty())
+            notifyAdmittedUsers(localUserToAdmittedToken);
 
-                if (!remoteUserToAdmittedToken.isEmpty())
-                    waitingEventPublisher.notifyAdmittedUsersEvent(remoteUserToAdmittedToken);
+        if (!remoteUserToAdmittedToken.isEmpty())
+            notifyRemoteAdmittedUsers(scheduleId, remoteUserToAdmittedToken);
+    }
+
+    /**
+     * 사전 등록 추첨
+     * - 등록자 추출은 Redis에서 한 번만 성공하므로 여러 인스턴스에서 실행되어도 대기열은 한 번만 생성됨
+     * - 무작위로 정한 순서대로 대기열에 일괄 진입시킨 뒤, 입장 처리와 순번 알림을 바로 시작
+     */
+    @Override
+    public void drawDueLotterySchedules() {
+        LocalDateTime now = LocalDateTime.now();
+        waitingLotteryPort.getLotterySchedules().opensAtByScheduleId().forEach((scheduleId, opensAt) -> {
+            if (now.isBefore(opensAt.plus(LOTTERY_DRAW_DELAY)) || now.isAfter(opensAt.plus(LOTTERY_DRAW_WINDOW)))
+                return;
+
+            List<String> userKeys = waitingLotteryPort.drawEntries(scheduleId);
+            if (userKeys == null)
+                return;
+
+            List<String> drawOrder = new ArrayList<>(userKeys);
+            Collections.shuffle(drawOrder, LOTTERY_RANDOM);
+            int entered = waitingCachePort.enterQueueInOrder(scheduleId, drawOrder);
+            log.info("사전 등록 추첨 완료: scheduleId = {}, 등록자 수 = {}, 대기열 진입 = {}", scheduleId, drawOrder.size(), entered);
+
+            if (entered > 0) {
+                waitingEventPublisher.notifyCapacityAvailableEvent(scheduleId);
+                waitingEventPublisher.notifyWaitingQueueStatusEvent(scheduleId);
             }
         });
     }
 
     /**
-     * 입장 토큰 발급
+     * 생존 기록 갱신
+     * - 연결 저장소/폴링 저장소의 로컬 인덱스만 사용하며, 스케줄당 스크립트 한 번(최대 1000명 단위)으로 갱신
+     * - 연결을 가진 인스턴스가 살아있는 동안에는 대기자의 생존 기록이 유예 시간 안에 계속 갱신됨
      */
-    private String issueAdmittedToken(Long userId, Long scheduleId) {
-        String userKey = generateUserKey(userId);
+    @Override
+    public void refreshLocalPresence() {
+        for (String scheduleIdStr : waitingCachePort.getActiveWaitingScheduleIds()) {
+            Long scheduleId = Long.parseLong(scheduleIdStr);
+            Set<String> localUserKeys = new LinkedHashSet<>(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId));
+            localUserKeys.addAll(waitingPollRepositoryPort.getUserKeysByScheduleId(scheduleId));
+            if (localUserKeys.isEmpty())
+                continue;
+
+            try {
+                waitingPresencePort.touch(scheduleId, localUserKeys);
+            } catch (Exception e) {
+                log.warn("대기자 생존 기록 갱신 실패: scheduleId = {}, count = {}", scheduleId, localUserKeys.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 연결이 사라진 대기자(유령 대기자) 정리
+     * - 연결 종료 콜백은 연결을 가진 인스턴스에서만 실행되므로, 인스턴스가 비정상 종료되면 대기열 항목이 남아 순번을 부풀리고 Permit을 소모함
+     * - 생존 기록이 유예 시간 동안 갱신되지 않은 대기자만 제거하며, 그 사이 다른 인스턴스로 재연결했다면 기록이 갱신되어 유지됨
+     * - 이미 입장했거나 대기열을 떠난 사용자는 대기열에 없으므로 기록만 정리됨
+     */
+    @Override
+    public void evictAbsentWaiters() {
+        Duration grace = Duration.ofMillis(presenceGraceMillis);
+        for (String scheduleIdStr : waitingCachePort.getActiveWaitingScheduleIds()) {
+            Long scheduleId = Long.parseLong(scheduleIdStr);
+            List<String> expiredUserKeys = waitingPresencePort.takeExpired(scheduleId, grace, PRESENCE_EVICT_BATCH_SIZE);
+
+            int evicted = 0;
+            for (String userKey : expiredUserKeys) {
+                // 이 인스턴스에 연결이 남아있다면 갱신 직전에 만료된 것이므로 유지
+                if (emitterRepositoryPort.containsEmitterByUserKey(userKey) || waitingPollRepositoryPort.contains(userKey)) {
+                    waitingPresencePort.touch(scheduleId, List.of(userKey));
+                    continue;
+                }
+                if (waitingCachePort.removeWaitingQueue(scheduleId, userKey))
+                    evicted++;
+            }
+
+            if (evicted > 0) {
+                log.info("연결이 없는 대기자 정리: scheduleId = {}, count = {}", scheduleId, evicted);
+                waitingEventPublisher.notifyWaitingQueueStatusEvent(scheduleId);
+            }
+        }
+    }
+
+    @Override
+    public void handleAdmittedTokenExpired(Long scheduleId, String userKey) {
+        // Permit 반환 및 사용자별 대기열 항목 인덱스 정리 (이후 재진입 시 신규 진입으로 처리)
+        // 만료 이벤트는 모든 인스턴스가 수신하므로 먼저 처리한 인스턴스만 반환하고 신호를 발행
+        if (!waitingCachePort.releaseExpiredAdmission(scheduleId, userKey)) {
+            log.debug("다른 인스턴스가 이미 처리한 입장 토큰 만료: scheduleId = {}, userKey = {}", scheduleId, userKey);
+            return;
+        }
+        log.info("입장 토큰 만료로 Permit 회수: scheduleId = {}, userKey = {}", scheduleId, userKey);
+
+        // 반환된 자리를 다음 정기 입장 처리(최대 3초)까지 비워두지 않도록 즉시 입장 처리 신호 발행
+        waitingEventPublisher.notifyCapacityAvailableEvent(scheduleId);
+    }
+
+    /**
+     * 다른 인스턴스에 연결된 입장 사용자 알림
+     * - 연결 소유 인스턴스별로 묶어 해당 인스턴스 전용 채널로만 발행
+     * - 연결 기록이 없는 사용자는 SSE 연결이 없으므로 발행하지 않음 (재진입 시 발급된 입장 토큰이 반환됨)
+     * - 소유 인스턴스가 수신하지 못한 경우(인스턴스 종료) 기록을 정리하고 전체 브로드캐스트로 보완
+     */
+    private void notifyRemoteAdmittedUsers(Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        Map<String, String> ownerByUserKey = connectionDirectoryPort.findOwnerInstances(userKeyToAdmittedToken.keySet());
+        if (ownerByUserKey.size() < userKeyToAdmittedToken.size())
+            log.debug("SSE 연결 기록이 없는 입장 사용자 수: {}", userKeyToAdmittedToken.size() - ownerByUserKey.size());
+
+        Map<String, Map<String, String>> tokensByInstance = new HashMap<>();
+        ownerByUserKey.forEach((userKey, instanceId) -> tokensByInstance
+                .computeIfAbsent(instanceId, id -> new HashMap<>())
+                .put(userKey, userKeyToAdmittedToken.get(userKey)));
+
+        Map<String, String> undelivered = new HashMap<>();
+        tokensByInstance.forEach((instanceId, userKeyToToken) -> {
+            if (!waitingEventPublisher.notifyAdmittedUsersEvent(instanceId, scheduleId, userKeyToToken))
+                undelivered.putAll(userKeyToToken);
+        });
+
+        if (!undelivered.isEmpty()) {
+            log.warn("연결 소유 인스턴스에 전달되지 않아 브로드캐스트로 재발행: userKeys = {}", undelivered.keySet());
+            connectionDirectoryPort.removeConnections(undelivered.keySet());
+            waitingEventPublisher.notifyAdmittedUsersEvent(scheduleId, undelivered);
+        }
+    }
+
+    /**
+     * 폴링 대기자의 첫 조회 시 Redis에서 순번을 확인하여 조회용 상태 생성
+     */
+    private WaitingPollStatus loadPollStatus(Long scheduleId, String userKey) {
+        WaitingQueueStatus status = waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey);
+        if (status == null || status.rank() == null)
+            return WaitingPollStatus.notWaiting();
+
+        int position = status.rank() + 1; // ZRANK는 0부터 시작하므로 +1
+        WaitingEta eta = ETA_POLICY.estimate(position, admissionRatePort.getAdmissionsPerSecond(scheduleId));
+        return WaitingPollStatus.waiting(eta, status.totalWaiting(), STATUS_POSITION_BUCKET.bucketOf(position));
+    }
+
+    /**
+     * 대기열에서 순번을 찾지 못한 로컬 대기자(폴링/스트림) 처리
+     * - 입장 토큰이 발급되어 있다면 폴링 대기자는 입장 상태로 갱신하고, 스트림에는 입장 이벤트 전송
+     *   (입장 이벤트가 유실되었거나, 입장 처리 중 재진입하여 토큰 발급 뒤에 새 스트림을 연결한 경우에도 다음 갱신 주기에 전달됨)
+     * - 토큰 발급 전(자리표시자)이거나 대기열을 떠난 경우는 상태를 유지하고, 입장 이벤트 또는 연결/미조회 정리로 처리됨
+     */
+    private void resolveUnrankedUsers(Long scheduleId, List<String> userKeys, Set<String> pollingUserKeys) {
+        Map<String, String> userKeyToAdmittedToken = waitingCachePort.getAdmittedTokens(scheduleId, userKeys);
+        userKeyToAdmittedToken.forEach((userKey, admittedToken) -> {
+            if (pollingUserKeys.contains(userKey))
+                waitingPollRepositoryPort.update(userKey, WaitingPollStatus.admitted(admittedToken));
+            if (emitterRepositoryPort.containsEmitterByUserKey(userKey))
+                waitingNotificationPort.sendAdmit(userKey, admittedToken);
+        });
+    }
+
+    /**
+     * 오래 조회하지 않은 폴링 대기자 정리
+     * - SSE 연결도 없다면 연결 소유 기록도 제거 (대기열 항목은 유지)
+     */
+    private void removeIdlePollers(Long scheduleId, long nowMillis) {
+        for (String userKey : waitingPollRepositoryPort.removeIdle(scheduleId, nowMillis - POLL_IDLE_TIMEOUT_MILLIS)) {
+            log.debug("폴링 조회가 중단된 대기자 정리: userKey = {}", userKey);
+            if (!emitterRepositoryPort.containsEmitterByUserKey(userKey))
+                connectionDirectoryPort.unregisterConnection(userKey);
+        }
+    }
 
+    private WaitingStatusResult toStatusResult(WaitingPollStatus status) {
+        WaitingEta eta = status.eta();
+        return WaitingStatusResult.builder()
+                .waiting(status.waiting())
+                .admitted(status.admitted())
+                .admittedToken(status.admittedToken())
+                .rank(eta != null ? eta.position() : null)
+                .totalWaiting(status.totalWaiting())
+                .estimatedWaitSeconds(eta != null ? eta.estimatedWaitSeconds() : null)
+                .nextUpdateSeconds(eta != null ? eta.nextUpdateSeconds() : null)
+                .version(status.version())
+                .build();
+    }
+
+    /**
+     * 입장 토큰 발급
+     */
+    private String issueAdmittedToken(Long userId, Long scheduleId, String userKey) {
         // Claims 구성
         Map<String, String> claims = new HashMap<>();
         claims.put("userKey", userKey);
@@ -357,18 +755,106 @@ public class ReservationWaitingService implements WaitingUseCase {
         return admittedToken;
     }
 
+    /**
+     * 연결 등록
+     * - 같은 userKey의 기존 연결은 종료하고, 입장 알림이 이 인스턴스로만 전달되도록 연결 소유 인스턴스 기록
+     * - heartbeat 감시를 시작하여 전송이 멈춘 연결(쓰기가 완료되지 않는 연결)은 타임아웃(10분)까지 기다리지 않고 정리
+     */
+    private void registerStream(Long scheduleId, String userKey, WaitingStream stream) {
+        WaitingStream previous = emitterRepositoryPort.saveEmitter(scheduleId, userKey, stream);
+        if (previous != null) {
+            log.info("SSE 재연결로 기존 연결 종료: {}", userKey);
+            previous.complete();
+        }
+
+        connectionDirectoryPort.registerConnection(userKey);
+        waitingConnectionMonitorPort.watch(userKey, stream, () -> evictStream(scheduleId, userKey, stream));
+    }
+
+    /**
+     * 전송이 멈춘 연결 정리
+     * - 연결 저장소에서 먼저 제거하여 메모리/소켓을 즉시 반환하고, 대기열 항목은 유예 정책에 따라 제거
+     */
+    private void evictStream(Long scheduleId, String userKey, WaitingStream stream) {
+        leaveQueue(scheduleId, userKey, stream);
+        closeStream(userKey, stream);
+        stream.completeWithError(new IOException("heartbeat 전송 지연"));
+    }
+
+    /**
+     * 초기 연결 메시지 전송
+     */
+    private void sendConnectedMessage(WaitingStream stream) {
+        try {
+            stream.send("connected", "SSE connection established", null);
+        } catch (Exception e) {
+            log.error("Failed to send initial SSE message", e);
+        }
+    }
+
+    /**
+     * 연결 종료로 인한 대기열 이탈 처리
+     * - 재연결로 새 연결이 이미 등록되어 있다면 대기열 항목은 유지
+     * - 유예 시간이 설정되어 있다면 그동안 재연결(다른 인스턴스 포함)이 없을 때만 제거
+     */
+    private void leaveQueue(Long scheduleId, String userKey, WaitingStream stream) {
+        emitterRepositoryPort.removeEmitter(userKey, stream);
+        if (emitterRepositoryPort.containsEmitterByUserKey(userKey))
+            return;
+
+        if (releaseGraceMillis <= 0) {
+            waitingCachePort.removeWaitingQueue(scheduleId, userKey);
+            return;
+        }
+
+        waitingConnectionMonitorPort.schedule(() -> releaseAfterGrace(scheduleId, userKey), Duration.ofMillis(releaseGraceMillis));
+    }
+
+    private void releaseAfterGrace(Long scheduleId, String userKey) {
+        // 이 인스턴스나 다른 인스턴스로 재연결(폴링 포함)되어 연결 소유 기록이 있다면 유지
+        if (emitterRepositoryPort.containsEmitterByUserKey(userKey)
+                || waitingPollRepositoryPort.contains(userKey)
+                || !connectionDirectoryPort.findOwnerInstances(List.of(userKey)).isEmpty())
+            return;
+
+        if (waitingCachePort.removeWaitingQueue(scheduleId, userKey))
+            log.info("재연결 유예 시간 경과로 대기열 이탈 처리: scheduleId = {}, userKey = {}", scheduleId, userKey);
+    }
+
+    /**
+     * 연결 정리
+     * - 재연결로 새 연결이 등록되어 있지 않을 때만 연결 소유 기록 제거
+     */
+    private void closeStream(String userKey, WaitingStream stream) {
+        emitterRepositoryPort.removeEmitter(userKey, stream);
+        if (!emitterRepositoryPort.containsEmitterByUserKey(userKey))
+            connectionDirectoryPort.unregisterConnection(userKey);
+    }
+
     private String generateUserKey(Long userId) {
         return userId + ":" + UUID.randomUUID();
     }
 
     /**
-     * 대기열 진입
+     * 사전 등록용 userKey는 (스케줄, 사용자)마다 고정 - 여러 인스턴스에서 중복 등록되어도 같은 항목으로 합쳐짐
      */
-    private WaitingQueueStatus enterQueue(Long userId, Long scheduleId) {
-        String userKey = generateUserKey(userId);
-        waitingCachePort.enterQueue(scheduleId, userKey);
+    private String generateLotteryUserKey(Long userId, Long scheduleId) {
+        String name = "lottery:" + scheduleId + ":" + userId;
+        return userId + ":" + UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+    }
 
-        return waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey);
+    /**
+     * 사전 등록 응답 - 추첨 직후 재조회가 한꺼번에 몰리지 않도록 권장 갱신 간격을 추첨 시각 이후로 분산
+     */
+    private EnterQueueResult lotteryRegisteredResult(String userKey, LocalDateTime opensAt) {
+        long secondsUntilDraw = Math.max(0L, Duration.between(LocalDateTime.now(), opensAt.plus(LOTTERY_DRAW_DELAY)).toSeconds());
+        long nextUpdateSeconds = secondsUntilDraw + 1 + ThreadLocalRandom.current().nextInt(LOTTERY_REFRESH_SPREAD_SECONDS);
+        return EnterQueueResult.builder()
+                .admitted(false)
+                .lotteryOpensAt(opensAt)
+                .nextUpdateSeconds((int) Math.min(Integer.MAX_VALUE, nextUpdateSeconds))
+                .userKey(userKey)
+                .build();
     }
 
     /**
@@ -387,13 +873,4 @@ public class ReservationWaitingService implements WaitingUseCase {
             throw new IllegalArgumentException("userId가 일치하지 않습니다.");
         }
     }
-
-    /**
-     * 현재 인스턴스 인메모리 emitterMap에 있는 userKey만 필터링
-     */
-    private List<String> filterUserKeys(Collection<String> userKeys) {
-        return userKeys.stream()
-                .filter(emitterRepositoryPort::containsEmitterByUserKey)
-                .toList();
-    }
 }
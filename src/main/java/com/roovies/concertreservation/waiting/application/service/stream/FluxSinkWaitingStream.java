@@ -0,0 +1,64 @@
+package com.roovies.concertreservation.waiting.application.service.stream;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.io.IOException;
+
+/**
+ * Flux 기반 대기열 연결.
+ * <p>
+ * 연결마다 고정 크기 버퍼를 가진 unicast sink 하나만 유지하며, 클라이언트 소켓이 요청(demand)한 만큼만 버퍼에서 꺼내 쓴다.
+ * 클라이언트가 읽지 않아 버퍼가 가득 차면 전송 실패(IOException)로 처리하여 연결을 정리한다.
+ * (순번 갱신 이벤트는 전송 전 outbox 단계에서 이미 최신 것만 남도록 정리됨)
+ */
+public class FluxSinkWaitingStream implements WaitingStream {
+
+    private final Sinks.Many<ServerSentEvent<Object>> sink;
+
+    public FluxSinkWaitingStream(int bufferSize) {
+        this.sink = Sinks.many().unicast().onBackpressureBuffer(Queues.<ServerSentEvent<Object>>get(bufferSize).get());
+    }
+
+    public Flux<ServerSentEvent<Object>> asFlux() {
+        return sink.asFlux();
+    }
+
+    /**
+     * sink는 동시 emit을 허용하지 않으므로 연결 단위로 직렬화한다.
+     * (writer 스레드 전송과 초기 연결 메시지 전송이 겹칠 수 있음)
+     */
+    @Override
+    public synchronized void send(String eventName, Object data, MediaType mediaType) throws IOException {
+        Sinks.EmitResult result = sink.tryEmitNext(ServerSentEvent.builder(data)
+                .event(eventName)
+                .build());
+
+        if (result.isFailure())
+            throw new IOException("스트림 전송 실패: " + result);
+    }
+
+    @Override
+    public synchronized void sendComment(String comment) throws IOException {
+        Sinks.EmitResult result = sink.tryEmitNext(ServerSentEvent.builder()
+                .comment(comment)
+                .build());
+
+        if (result.isFailure())
+            throw new IOException("스트림 전송 실패: " + result);
+    }
+
+    @Override
+    public synchronized void complete() {
+        sink.tryEmitComplete();
+    }
+
+    @Override
+    public synchronized void completeWithError(Throwable error) {
+        sink.tryEmitError(error);
+    }
+}
@@ -0,0 +1,45 @@
+package com.roovies.concertreservation.waiting.application.service.stream;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 서블릿 SseEmitter 기반 대기열 연결.
+ */
+public class SseEmitterWaitingStream implements WaitingStream {
+
+    private final SseEmitter emitter;
+
+    public SseEmitterWaitingStream(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+
+    public SseEmitter emitter() {
+        return emitter;
+    }
+
+    @Override
+    public void send(String eventName, Object data, MediaType mediaType) throws IOException {
+        emitter.send(SseEmitter.event()
+                .name(eventName)
+                .data(data, mediaType));
+    }
+
+    @Override
+    public void sendComment(String comment) throws IOException {
+        emitter.send(SseEmitter.event().comment(comment));
+    }
+
+    @Override
+    public void complete() {
+        emitter.complete();
+    }
+
+    @Override
+    public void completeWithError(Throwable error) {
+        emitter.completeWithError(error);
+    }
+}
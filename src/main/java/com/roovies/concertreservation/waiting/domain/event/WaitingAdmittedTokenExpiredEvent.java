@@ -0,0 +1,8 @@
+package com.roovies.concertreservation.waiting.domain.event;
+
+public record WaitingAdmittedTokenExpiredEvent(
+        Long scheduleId,
+        String userKey
+        // 입장 토큰(또는 자리표시자)이 만료되어 Permit을 반환해야 하는 대기자
+) {
+}
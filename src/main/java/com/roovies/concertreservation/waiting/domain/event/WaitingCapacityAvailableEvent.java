@@ -0,0 +1,7 @@
+package com.roovies.concertreservation.waiting.domain.event;
+
+public record WaitingCapacityAvailableEvent(
+        Long scheduleId
+        // Permit 반환으로 입장 가능한 자리가 생긴 스케줄
+) {
+}
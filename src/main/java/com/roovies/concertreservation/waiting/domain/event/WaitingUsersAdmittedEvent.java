@@ -0,0 +1,9 @@
+package com.roovies.concertreservation.waiting.domain.event;
+
+import java.util.Map;
+
+public record WaitingUsersAdmittedEvent(
+        Map<String, String> userKeyToAdmittedToken
+        // 입장 처리가 완료된 userKey → 입장 토큰
+) {
+}
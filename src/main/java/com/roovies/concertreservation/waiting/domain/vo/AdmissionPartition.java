@@ -0,0 +1,56 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 살아있는 인스턴스 사이의 스케줄 입장 처리 담당 배정 (rendezvous hashing).
+ * <p>
+ * 스케줄마다 (인스턴스, 스케줄) 점수가 가장 높은 인스턴스가 담당하므로, 모든 인스턴스가 같은 목록을 보고 있다면
+ * 조정 없이도 스케줄당 정확히 하나의 인스턴스가 선택된다.
+ * 인스턴스가 추가/제거되면 해당 인스턴스가 담당하던(또는 담당하게 될) 스케줄만 옮겨간다.
+ */
+public record AdmissionPartition(
+        List<String> instanceIds
+) {
+    public AdmissionPartition {
+        if (instanceIds == null || instanceIds.isEmpty())
+            throw new IllegalArgumentException("입장 처리 담당 인스턴스가 없습니다.");
+        instanceIds = List.copyOf(instanceIds);
+    }
+
+    public String ownerOf(Long scheduleId) {
+        long scheduleHash = mix(scheduleId);
+        String owner = null;
+        long ownerScore = 0L;
+        for (String instanceId : instanceIds) {
+            long score = mix(seedOf(instanceId) ^ scheduleHash);
+            // 점수가 같으면 식별자 순으로 결정하여 인스턴스마다 목록 순서가 달라도 같은 결과가 나오도록 함
+            if (owner == null || Long.compareUnsigned(score, ownerScore) > 0
+                    || (score == ownerScore && instanceId.compareTo(owner) < 0)) {
+                owner = instanceId;
+                ownerScore = score;
+            }
+        }
+        return owner;
+    }
+
+    public boolean isOwner(String instanceId, Long scheduleId) {
+        return instanceId.equals(ownerOf(scheduleId));
+    }
+
+    private static long seedOf(String instanceId) {
+        return UUID.nameUUIDFromBytes(instanceId.getBytes(StandardCharsets.UTF_8)).getMostSignificantBits();
+    }
+
+    /**
+     * SplitMix64 최종 혼합 함수 (입력의 작은 차이도 전체 비트에 고르게 퍼지도록)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,37 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 일정 구간 동안 수집된 스케줄별 하위 시스템 상태 지표.
+ * <p>
+ * 입장 허용량(Permit 한도) 조절 시 사용된다.
+ */
+public record AdmissionSignal(
+        long holdCount,             // 좌석 홀딩 처리 수
+        long holdFailures,          // 기술적 오류로 실패한 홀딩 수
+        long holdLatencySumMillis,  // 홀딩 처리 시간 합계(ms)
+        long paymentCount           // 결제 완료 수
+) {
+    public static AdmissionSignal empty() {
+        return new AdmissionSignal(0, 0, 0, 0);
+    }
+
+    public boolean hasHoldSamples() {
+        return holdCount > 0;
+    }
+
+    public double holdErrorRate() {
+        return holdCount == 0 ? 0.0 : (double) holdFailures / holdCount;
+    }
+
+    public double averageHoldLatencyMillis() {
+        return holdCount == 0 ? 0.0 : (double) holdLatencySumMillis / holdCount;
+    }
+
+    /**
+     * 성공한 홀딩 대비 결제 완료 비율. 입장한 사용자가 결제까지 빠져나가고 있는지를 나타낸다.
+     */
+    public double paymentCompletionRatio() {
+        long succeededHolds = holdCount - holdFailures;
+        return succeededHolds <= 0 ? 0.0 : (double) paymentCount / succeededHolds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+public record WaitingEntryResult(
+        boolean admitted,       // 즉시 입장 여부 (Permit 획득)
+        String userKey,         // 대기열 식별자 (재진입 시 기존 식별자)
+        String admittedToken,   // 이미 발급된 입장 토큰 (재진입한 입장 사용자만)
+        Integer rank,           // 대기 순번 (0부터 시작, 대기열 진입 시에만)
+        Integer totalWaiting    // 전체 대기자 수 (대기열 진입 시에만)
+) {
+    public static WaitingEntryResult admitted(String userKey) {
+        return new WaitingEntryResult(true, userKey, null, null, null);
+    }
+
+    public static WaitingEntryResult alreadyAdmitted(String userKey, String admittedToken) {
+        return new WaitingEntryResult(true, userKey, admittedToken, null, null);
+    }
+
+    public static WaitingEntryResult waiting(String userKey, Integer rank, Integer totalWaiting) {
+        return new WaitingEntryResult(false, userKey, null, rank, totalWaiting);
+    }
+}
@@ -0,0 +1,11 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 대기자 한 명의 순번과 예상 대기 시간, 다음 갱신까지의 권장 간격.
+ */
+public record WaitingEta(
+        int position,                   // 1부터 시작하는 대기 순번
+        Integer estimatedWaitSeconds,   // 예상 대기 시간(초), 입장 속도를 아직 모르면 null
+        int nextUpdateSeconds           // 클라이언트/서버가 다음 순번 갱신까지 기다릴 간격(초)
+) {
+}
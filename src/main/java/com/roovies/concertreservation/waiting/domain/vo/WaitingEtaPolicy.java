@@ -0,0 +1,32 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 스케줄의 입장 속도(초당 입장 인원 EWMA)로 대기자별 예상 대기 시간과 갱신 간격을 계산한다.
+ * <p>
+ * 갱신 간격은 예상 대기 시간의 1/refreshDivisor로 잡아 [minRefreshSeconds, maxRefreshSeconds] 범위로 제한한다.
+ * 곧 입장할 앞쪽 대기자는 자주, 한참 남은 뒤쪽 대기자는 드물게 갱신하여 재요청/알림 전송량을 줄인다.
+ * 입장 속도를 아직 모르면(측정 전, 입장 정체) 가장 짧은 간격을 권장한다.
+ */
+public record WaitingEtaPolicy(
+        int minRefreshSeconds,
+        int maxRefreshSeconds,
+        int refreshDivisor
+) {
+    public WaitingEtaPolicy {
+        if (minRefreshSeconds <= 0 || maxRefreshSeconds < minRefreshSeconds || refreshDivisor <= 0)
+            throw new IllegalArgumentException("예상 대기 시간 갱신 설정이 올바르지 않습니다.");
+    }
+
+    /**
+     * @param position            1부터 시작하는 대기 순번
+     * @param admissionsPerSecond 스케줄의 초당 입장 인원 (0 이하이면 알 수 없음)
+     */
+    public WaitingEta estimate(int position, double admissionsPerSecond) {
+        if (admissionsPerSecond <= 0)
+            return new WaitingEta(position, null, minRefreshSeconds);
+
+        int estimatedWaitSeconds = (int) Math.min(Integer.MAX_VALUE, Math.ceil(position / admissionsPerSecond));
+        int nextUpdateSeconds = Math.max(minRefreshSeconds, Math.min(maxRefreshSeconds, estimatedWaitSeconds / refreshDivisor));
+        return new WaitingEta(position, estimatedWaitSeconds, nextUpdateSeconds);
+    }
+}
@@ -0,0 +1,46 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사전 등록(추첨) 방식으로 대기열을 생성하는 스케줄과 오픈 시각.
+ * <p>
+ * 오픈 전에는 진입 요청을 사전 등록으로만 받고, 오픈 시각에 등록자 전체의 순서를 무작위로 정해 대기열을 한 번에 생성한다.
+ * 설정 형식: "scheduleId=오픈 시각(ISO-8601, 서버 시간대),..." (ex. 100=2026-11-01T20:00:00)
+ */
+public record WaitingLotterySchedules(
+        Map<Long, LocalDateTime> opensAtByScheduleId
+) {
+    public WaitingLotterySchedules {
+        opensAtByScheduleId = Map.copyOf(opensAtByScheduleId);
+    }
+
+    public static WaitingLotterySchedules parse(String lotterySchedules) {
+        Map<Long, LocalDateTime> opensAtByScheduleId = new HashMap<>();
+        if (lotterySchedules == null || lotterySchedules.isBlank())
+            return new WaitingLotterySchedules(opensAtByScheduleId);
+
+        for (String item : lotterySchedules.split(",")) {
+            String[] parts = item.trim().split("=");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("추첨 스케줄 설정 형식이 올바르지 않습니다: " + item);
+
+            try {
+                opensAtByScheduleId.put(Long.parseLong(parts[0].trim()), LocalDateTime.parse(parts[1].trim()));
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("추첨 스케줄 설정 형식이 올바르지 않습니다: " + item, e);
+            }
+        }
+        return new WaitingLotterySchedules(opensAtByScheduleId);
+    }
+
+    /**
+     * @return 오픈 시각 (추첨 대상 스케줄이 아니면 null)
+     */
+    public LocalDateTime opensAt(Long scheduleId) {
+        return opensAtByScheduleId.get(scheduleId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 폴링 조회용 대기 상태. 순번 갱신 주기마다 한 번 계산되어 인스턴스 메모리에 보관된다.
+ * <p>
+ * version은 응답 내용이 달라졌는지 판단하는 값(ETag)으로, 순번은 알림과 같은 순번 구간 단위로 비교한다.
+ * 같은 구간 안에서의 이동은 버전이 바뀌지 않으므로 조건부 조회(If-None-Match)는 304로 응답된다.
+ */
+public record WaitingPollStatus(
+        boolean waiting,        // 대기열에 남아 있는지 여부
+        String admittedToken,   // 입장 토큰 (입장 처리된 경우에만)
+        WaitingEta eta,         // 순번 및 예상 대기 시간 (대기 중인 경우에만)
+        Integer totalWaiting,   // 전체 대기자 수 (대기 중인 경우에만)
+        String version
+) {
+    public static WaitingPollStatus waiting(WaitingEta eta, int totalWaiting, int positionBucket) {
+        return new WaitingPollStatus(true, null, eta, totalWaiting, "w" + positionBucket);
+    }
+
+    public static WaitingPollStatus admitted(String admittedToken) {
+        return new WaitingPollStatus(false, admittedToken, null, null, "admitted");
+    }
+
+    /**
+     * 대기열에서 이탈했거나 찾을 수 없는 경우
+     */
+    public static WaitingPollStatus notWaiting() {
+        return new WaitingPollStatus(false, null, null, null, "none");
+    }
+
+    public boolean admitted() {
+        return admittedToken != null;
+    }
+}
@@ -0,0 +1,27 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 순번 갱신 알림 전송 여부를 판단하기 위한 순번 구간.
+ * <p>
+ * 대기열 앞쪽(exactRange 이내)은 순번이 1만 바뀌어도 알리고,
+ * 그 뒤쪽은 bucketSize 단위 구간이 바뀔 때만 알린다. (예: 350번 → 400번 구간, 301~400번 사이 이동은 알리지 않음)
+ */
+public record WaitingPositionBucket(
+        int exactRange,
+        int bucketSize
+) {
+    public WaitingPositionBucket {
+        if (exactRange < 0 || bucketSize <= 0)
+            throw new IllegalArgumentException("순번 구간 설정이 올바르지 않습니다.");
+    }
+
+    /**
+     * @param position 1부터 시작하는 대기 순번
+     * @return 같은 값이면 알림을 보내지 않아도 되는 구간 값
+     */
+    public int bucketOf(int position) {
+        if (position <= exactRange)
+            return position;
+        return (int) Math.ceil((double) position / bucketSize) * bucketSize;
+    }
+}
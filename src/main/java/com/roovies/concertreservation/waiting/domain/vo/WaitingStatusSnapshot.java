@@ -0,0 +1,14 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번의 순번 갱신 주기에서 같은 스케줄의 모든 대기자가 공유하는 정보.
+ * 전송 시 공유 부분은 주기당 한 번만 직렬화된다.
+ */
+public record WaitingStatusSnapshot(
+        Long scheduleId,
+        Integer totalWaiting,   // 전체 대기자 수
+        LocalDateTime timestamp // 순번 조회 시각
+) {
+}
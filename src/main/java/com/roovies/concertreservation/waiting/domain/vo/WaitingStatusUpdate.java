@@ -0,0 +1,11 @@
+package com.roovies.concertreservation.waiting.domain.vo;
+
+/**
+ * 대기자 한 명에게 전송할 순번 갱신 내용과, 전송이 완료되면 기록할 전송 상태.
+ */
+public record WaitingStatusUpdate(
+        WaitingEta eta,
+        int positionBucket,         // 전송 완료 시 마지막 전송 순번 구간으로 기록
+        long nextUpdateAtMillis     // 전송 완료 시 다음 전송 가능 시각으로 기록
+) {
+}
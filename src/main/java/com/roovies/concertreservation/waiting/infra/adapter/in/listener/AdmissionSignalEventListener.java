@@ -0,0 +1,50 @@
+package com.roovies.concertreservation.waiting.infra.adapter.in.listener;
+
+import com.roovies.concertreservation.shared.domain.event.ReservationCompletedKafkaEvent;
+import com.roovies.concertreservation.shared.domain.event.SeatHoldAttemptedEvent;
+import com.roovies.concertreservation.waiting.application.port.in.AdmissionControlUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌석 홀딩/결제 완료 인메모리 이벤트를 입장 허용량 조절 지표로 집계하는 리스너.
+ * <p>
+ * 지표 집계 실패가 홀딩/결제 요청 처리에 영향을 주지 않도록 예외는 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class AdmissionSignalEventListener {
+
+    private final AdmissionControlUseCase admissionControlUseCase;
+
+    public AdmissionSignalEventListener(
+            @Qualifier("admissionControlService") AdmissionControlUseCase admissionControlUseCase
+    ) {
+        this.admissionControlUseCase = admissionControlUseCase;
+    }
+
+    @EventListener
+    public void handleSeatHoldAttempted(SeatHoldAttemptedEvent event) {
+        try {
+            admissionControlUseCase.recordSeatHold(event.scheduleId(), event.latencyMillis(), event.failed());
+        } catch (Exception e) {
+            log.warn("좌석 홀딩 지표 집계 실패: scheduleId = {}", event.scheduleId(), e);
+        }
+    }
+
+    /**
+     * 결제 트랜잭션이 커밋된 경우에만 결제 완료로 집계한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationCompleted(ReservationCompletedKafkaEvent event) {
+        try {
+            admissionControlUseCase.recordPaymentCompleted(event.scheduleId());
+        } catch (Exception e) {
+            log.warn("결제 완료 지표 집계 실패: scheduleId = {}", event.scheduleId(), e);
+        }
+    }
+}
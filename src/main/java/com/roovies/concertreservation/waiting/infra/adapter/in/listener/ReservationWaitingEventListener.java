@@ -1,31 +1,41 @@
 package com.roovies.concertreservation.waiting.infra.adapter.in.listener;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
-import com.roovies.concertreservation.waiting.domain.event.WaitingQueueStatusUpdateEvent;
+import com.roovies.concertreservation.waiting.infra.adapter.in.scheduler.ReservationAdmissionTrigger;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.AdmittedUsersMessage;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.WaitingMessageCodecs;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import com.roovies.concertreservation.waiting.infra.instance.WaitingInstanceId;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RSemaphore;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.util.concurrent.Executor;
 
+/**
+ * 대기열 Redis Pub/Sub 이벤트 리스너.
+ * <p>
+ * 이벤트 처리는 Redis 호출과 SSE 전송 대기를 동반하므로 Redisson 리스너 스레드에서 직접 수행하지 않고
+ * 대기열 작업 Executor로 넘겨 다음 메시지 수신이 지연되지 않도록 한다.
+ * <p>
+ * 배포 중에는 JSON 문자열과 바이너리 메시지가 섞여 수신될 수 있으므로 Object로 구독하고 메시지 형식에 맞는 코덱으로 해석한다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@Profile("!waiting-inmemory")
 public class ReservationWaitingEventListener {
 
     private static final String CHANNEL_STATUS = "channel:status";
     private static final String CHANNEL_ADMIT = "channel:admit";
+    private static final String CHANNEL_ADMIT_INSTANCE_PREFIX = "channel:admit:";     // channel:admit:{instanceId}
+    private static final String CHANNEL_CAPACITY = "channel:capacity";
     public static final String KEY_EXPIRE_CHANNEL = "__keyevent@0__:expired";
 
-    private static final String SEMAPHORE_PREFIX = "semaphore:reservation:";        // ReservationWaitingRedisAdapter.SEMAPHORE_PREFIX
-    private static final String ADMITTED_TOKEN_PREFIX = "admitted:reservation:";    // ReservationWaitingRedisAdapter.ADMITTED_TOKEN_PREFIX
+    private static final String ADMITTED_TOKEN_PREFIX = WaitingRedisKey.ADMITTED_TOKEN.prefix("reservation");   // admitted:reservation:{scheduleId}:{userKey}
     /**
      * 키 만료 이벤트는 해당 DB에서만 발생한다.
      * Redis는 클라이언트 단위로 현재 선택된 DB를 기억한다.
@@ -34,20 +44,50 @@ public class ReservationWaitingEventListener {
      */
 
     private final WaitingUseCase waitingUseCase;
+    private final ReservationAdmissionTrigger admissionTrigger;
+    private final WaitingInstanceId instanceId;
 
     private final RedissonClient redisson;
-    private final ObjectMapper objectMapper;
+    private final WaitingMessageCodecs messageCodecs;
+    private final Executor waitingTaskExecutor;
+
+    public ReservationWaitingEventListener(
+            @Qualifier("reservationWaitingService") WaitingUseCase waitingUseCase,
+            ReservationAdmissionTrigger admissionTrigger,
+            WaitingInstanceId instanceId,
+            RedissonClient redisson,
+            WaitingMessageCodecs messageCodecs,
+            @Qualifier("waitingTaskExecutor") Executor waitingTaskExecutor
+    ) {
+        this.waitingUseCase = waitingUseCase;
+        this.admissionTrigger = admissionTrigger;
+        this.instanceId = instanceId;
+        this.redisson = redisson;
+        this.messageCodecs = messageCodecs;
+        this.waitingTaskExecutor = waitingTaskExecutor;
+    }
 
     @PostConstruct
     public void init() {
         RTopic statusTopic = redisson.getTopic(CHANNEL_STATUS);
-        statusTopic.addListener(String.class, (channel, message) -> {
-            handleNotifyWaitingQueueStatusEvent(message);
+        statusTopic.addListener(Object.class, (channel, message) -> {
+            waitingTaskExecutor.execute(() -> handleNotifyWaitingQueueStatusEvent(message));
         });
 
         RTopic admissionTopic = redisson.getTopic(CHANNEL_ADMIT);
-        admissionTopic.addListener(String.class, (channel, message) -> {
-            handleNotifyAdmittedUsersEvent(message);
+        admissionTopic.addListener(Object.class, (channel, message) -> {
+            waitingTaskExecutor.execute(() -> handleNotifyAdmittedUsersEvent(message));
+        });
+
+        // 현재 인스턴스가 SSE 연결을 보유한 대기자의 입장 처리 완료 이벤트만 수신
+        RTopic instanceAdmissionTopic = redisson.getTopic(CHANNEL_ADMIT_INSTANCE_PREFIX + instanceId.value());
+        instanceAdmissionTopic.addListener(Object.class, (channel, message) -> {
+            waitingTaskExecutor.execute(() -> handleNotifyAdmittedUsersEvent(message));
+        });
+
+        RTopic capacityTopic = redisson.getTopic(CHANNEL_CAPACITY);
+        capacityTopic.addListener(Object.class, (channel, message) -> {
+            waitingTaskExecutor.execute(() -> handleCapacityAvailableEvent(message));
         });
 
         // 입장 토큰 만료 이벤트 리스너
@@ -62,7 +102,7 @@ public class ReservationWaitingEventListener {
 
             // 입장 토큰 만료
             if (expiredKey.startsWith(ADMITTED_TOKEN_PREFIX)) {
-                handleAdmitTokenExpiration(expiredKey);
+                waitingTaskExecutor.execute(() -> handleAdmitTokenExpiration(expiredKey));
             }
         });
     }
@@ -70,12 +110,12 @@ public class ReservationWaitingEventListener {
     /**
      *  실시간 대기 순번 갱신 처리
      */
-    private void handleNotifyWaitingQueueStatusEvent(String message) {
+    private void handleNotifyWaitingQueueStatusEvent(Object message) {
         try {
-            WaitingQueueStatusUpdateEvent event = objectMapper.readValue(message, WaitingQueueStatusUpdateEvent.class);
-            log.info("대기자 실시간 순번 갱신 이벤트 수신: scheduleId = {}", event.scheduleId());
-            waitingUseCase.notifyWaitingQueueStatus(event.scheduleId());
-        } catch (JsonProcessingException e) {
+            Long scheduleId = messageCodecs.forPayload(message).decodeScheduleEvent(message);
+            log.info("대기자 실시간 순번 갱신 이벤트 수신: scheduleId = {}", scheduleId);
+            waitingUseCase.notifyWaitingQueueStatus(scheduleId);
+        } catch (IllegalArgumentException e) {
             log.error("대기자 실시간 순번 갱신 이벤트 처리 실패", e);
         }
     }
@@ -83,37 +123,51 @@ public class ReservationWaitingEventListener {
     /**
      * 입장 처리 완료 이벤트 처리
      */
-    private void handleNotifyAdmittedUsersEvent(String message) {
+    private void handleNotifyAdmittedUsersEvent(Object message) {
         try {
-            Map<String, String> admitTokenByUserKey = objectMapper.readValue(message, new TypeReference<>() {});
-            log.info("입장 처리 완료 이벤트 수신: userKeys = {}", admitTokenByUserKey.keySet());
-            waitingUseCase.notifyAdmittedUsers(admitTokenByUserKey);
-        } catch (JsonProcessingException e) {
+            AdmittedUsersMessage admitted = messageCodecs.forPayload(message).decodeAdmittedUsers(message);
+            log.info("입장 처리 완료 이벤트 수신: scheduleId = {}, userKeys = {}", admitted.scheduleId(), admitted.userKeys());
+
+            // JSON(이전 형식)은 토큰을 그대로 전달하고, 바이너리는 토큰 참조만 전달하므로 로컬 대기자의 토큰만 조회
+            if (admitted.hasTokens())
+                waitingUseCase.notifyAdmittedUsers(admitted.userKeyToAdmittedToken());
+            else
+                waitingUseCase.notifyAdmittedUsers(admitted.scheduleId(), admitted.userKeys());
+        } catch (IllegalArgumentException e) {
             log.error("입장 처리 완료 이벤트 처리 실패", e);
         }
     }
 
+    /**
+     * 입장 가능 신호 처리 - 디바운싱 후 해당 스케줄 입장 처리 즉시 수행
+     */
+    private void handleCapacityAvailableEvent(Object message) {
+        try {
+            Long scheduleId = messageCodecs.forPayload(message).decodeScheduleEvent(message);
+            log.debug("입장 가능 신호 수신: scheduleId = {}", scheduleId);
+            admissionTrigger.request(scheduleId);
+        } catch (IllegalArgumentException e) {
+            log.error("입장 가능 신호 처리 실패", e);
+        }
+    }
+
     /**
      * 입장 토큰 만료 시 해당 스케줄ID의 Permit 반환 처리
      */
     private void handleAdmitTokenExpiration(String expiredKey) {
-        String keyWithoutPrefix = expiredKey.replace(ADMITTED_TOKEN_PREFIX, "");
+        String keyWithoutPrefix = expiredKey.substring(ADMITTED_TOKEN_PREFIX.length());
 
-        // scheduleId, userKey(userId:uuid) 분리 (첫 번째 콜론 전까지)
-        String[] parts = keyWithoutPrefix.split(":", 2);
-        if (parts.length < 2) {
+        // 해시 태그({scheduleId})와 userKey(userId:uuid) 분리
+        String scheduleId = WaitingRedisKey.extractHashTag(keyWithoutPrefix);
+        int userKeyStart = scheduleId == null ? -1 : scheduleId.length() + 3;    // "{" + scheduleId + "}:"
+        if (userKeyStart < 0 || userKeyStart >= keyWithoutPrefix.length()) {
             log.warn("입장 토큰 키 형식이 올바르지 않음: {}", expiredKey);
             return;
         }
 
-        String scheduleId = parts[0];
-        String userKey = parts[1]; // {userId}:{uuid}
-
-        // Redis Semaphore Permit 반환
-        String semaphoreKey = SEMAPHORE_PREFIX + scheduleId;
-        RSemaphore semaphore = redisson.getSemaphore(semaphoreKey);
-        semaphore.release();
+        String userKey = keyWithoutPrefix.substring(userKeyStart); // {userId}:{uuid}
 
-        log.info("입장 토큰 만료로 Permit 회수: scheduleId = {}, userKey = {}", scheduleId, userKey);
+        // Permit 반환 및 입장 가능 신호 발행
+        waitingUseCase.handleAdmittedTokenExpired(Long.parseLong(scheduleId), userKey);
     }
 }
@@ -0,0 +1,64 @@
+package com.roovies.concertreservation.waiting.infra.adapter.in.listener;
+
+import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
+import com.roovies.concertreservation.waiting.domain.event.WaitingAdmittedTokenExpiredEvent;
+import com.roovies.concertreservation.waiting.domain.event.WaitingCapacityAvailableEvent;
+import com.roovies.concertreservation.waiting.domain.event.WaitingQueueStatusUpdateEvent;
+import com.roovies.concertreservation.waiting.domain.event.WaitingUsersAdmittedEvent;
+import com.roovies.concertreservation.waiting.infra.adapter.in.scheduler.ReservationAdmissionTrigger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 대기열 이벤트 리스너.
+ * <p>
+ * ReservationWaitingEventListener(Redis Pub/Sub)와 같은 처리를 애플리케이션 이벤트로 수행한다.
+ * Pub/Sub과 마찬가지로 발행한 스레드와 분리되도록 대기열 작업 Executor에서 처리한다.
+ */
+@Slf4j
+@Component
+@Profile("waiting-inmemory")
+public class ReservationWaitingLocalEventListener {
+
+    private final WaitingUseCase waitingUseCase;
+    private final ReservationAdmissionTrigger admissionTrigger;
+    private final Executor waitingTaskExecutor;
+
+    public ReservationWaitingLocalEventListener(
+            @Qualifier("reservationWaitingService") WaitingUseCase waitingUseCase,
+            ReservationAdmissionTrigger admissionTrigger,
+            @Qualifier("waitingTaskExecutor") Executor waitingTaskExecutor
+    ) {
+        this.waitingUseCase = waitingUseCase;
+        this.admissionTrigger = admissionTrigger;
+        this.waitingTaskExecutor = waitingTaskExecutor;
+    }
+
+    @EventListener
+    public void handleWaitingQueueStatusUpdate(WaitingQueueStatusUpdateEvent event) {
+        log.debug("대기자 실시간 순번 갱신 이벤트 수신: scheduleId = {}", event.scheduleId());
+        waitingTaskExecutor.execute(() -> waitingUseCase.notifyWaitingQueueStatus(event.scheduleId()));
+    }
+
+    @EventListener
+    public void handleUsersAdmitted(WaitingUsersAdmittedEvent event) {
+        log.debug("입장 처리 완료 이벤트 수신: userKeys = {}", event.userKeyToAdmittedToken().keySet());
+        waitingTaskExecutor.execute(() -> waitingUseCase.notifyAdmittedUsers(event.userKeyToAdmittedToken()));
+    }
+
+    @EventListener
+    public void handleCapacityAvailable(WaitingCapacityAvailableEvent event) {
+        log.debug("입장 가능 신호 수신: scheduleId = {}", event.scheduleId());
+        admissionTrigger.request(event.scheduleId());
+    }
+
+    @EventListener
+    public void handleAdmittedTokenExpired(WaitingAdmittedTokenExpiredEvent event) {
+        waitingTaskExecutor.execute(() -> waitingUseCase.handleAdmittedTokenExpired(event.scheduleId(), event.userKey()));
+    }
+}
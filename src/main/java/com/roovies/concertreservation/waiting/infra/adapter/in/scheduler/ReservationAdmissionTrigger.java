@@ -0,0 +1,77 @@
+package com.roovies.concertreservation.waiting.infra.adapter.in.scheduler;
+
+import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * 입장 가능 신호(Permit 반환)를 받아 스케줄별 입장 처리를 즉시 실행하는 트리거.
+ * <p>
+ * 짧은 시간에 여러 Permit이 반환되는 경우를 위해 스케줄 단위로 디바운싱한다.
+ * 첫 신호 수신 후 debounce 시간 동안 들어온 신호는 하나로 합쳐져 1회의 입장 처리로 실행된다.
+ * 3초 주기의 ReservationWaitingScheduler는 신호 유실에 대비한 안전망으로 유지된다.
+ */
+@Slf4j
+@Component
+public class ReservationAdmissionTrigger {
+
+    private final WaitingUseCase waitingUseCase;
+    private final long debounceMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Executor waitingAdmissionExecutor;
+
+    private final Map<Long, ScheduledFuture<?>> pendingTriggers = new ConcurrentHashMap<>();
+
+    public ReservationAdmissionTrigger(
+            @Qualifier("reservationWaitingService") WaitingUseCase waitingUseCase,
+            @Value("${app.waiting.admission.trigger-debounce-ms:200}") long debounceMillis,
+            @Qualifier("waitingAdmissionExecutor") Executor waitingAdmissionExecutor
+    ) {
+        this.waitingUseCase = waitingUseCase;
+        this.debounceMillis = debounceMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("waiting-admission-trigger-"));
+        this.waitingAdmissionExecutor = waitingAdmissionExecutor;
+    }
+
+    /**
+     * 해당 스케줄의 입장 처리를 예약한다. 이미 예약되어 있다면 기존 예약에 합쳐진다.
+     */
+    public void request(Long scheduleId) {
+        // 디바운싱 타이머 스레드는 예약만 담당하고, 입장 처리는 입장 처리 전용 Executor에서 수행
+        pendingTriggers.computeIfAbsent(scheduleId, id ->
+                scheduler.schedule(() -> submit(id), debounceMillis, TimeUnit.MILLISECONDS));
+    }
+
+    private void submit(Long scheduleId) {
+        try {
+            waitingAdmissionExecutor.execute(() -> run(scheduleId));
+        } catch (RejectedExecutionException e) {
+            // 입장 처리 작업이 밀려있다면 이번 신호는 버리고 다음 신호 또는 정기 입장 처리에 맡김
+            pendingTriggers.remove(scheduleId);
+            log.warn("입장 처리 작업 한도 초과로 입장 가능 신호 무시: scheduleId = {}", scheduleId);
+        }
+    }
+
+    private void run(Long scheduleId) {
+        // 실행 중 들어오는 신호는 다음 회차로 예약될 수 있도록 먼저 제거
+        pendingTriggers.remove(scheduleId);
+        try {
+            log.debug("입장 가능 신호로 입장 처리 수행: scheduleId = {}", scheduleId);
+            waitingUseCase.admitUsersInSchedule(scheduleId);
+        } catch (Exception e) {
+            log.error("입장 가능 신호 처리 중 오류 발생: scheduleId = {}", scheduleId, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
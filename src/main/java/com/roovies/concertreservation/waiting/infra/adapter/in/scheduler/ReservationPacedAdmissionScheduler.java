@@ -0,0 +1,34 @@
+package com.roovies.concertreservation.waiting.infra.adapter.in.scheduler;
+
+import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 속도 제한 입장 처리 스케줄러.
+ * <p>
+ * 3초 주기 입장 처리는 그동안 쌓인 Permit만큼 한 번에 입장시키므로, 입장한 사용자가 동시에 좌석 홀딩/결제로 몰린다.
+ * app.waiting.admission.pacing.enabled=true이면 토큰 채움 주기마다 입장 처리를 수행하여
+ * 스케줄별로 설정된 속도(주기당 토큰 수)만큼씩 고르게 입장시킨다.
+ * 모든 인스턴스에서 실행되지만 coordination=partitioned가 필수이므로 각 인스턴스는 자신이 담당하는 스케줄만 처리한다.
+ * (스케줄마다 한 인스턴스만 주기적으로 락을 시도하며, 토큰은 Redis에서 스케줄 단위로 공유되어 입장 속도는 설정값을 넘지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.waiting.admission.pacing.enabled", havingValue = "true")
+public class ReservationPacedAdmissionScheduler {
+
+    private final WaitingUseCase waitingUseCase;
+
+    public ReservationPacedAdmissionScheduler(@Qualifier("reservationWaitingService") WaitingUseCase waitingUseCase) {
+        this.waitingUseCase = waitingUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${app.waiting.admission.pacing.tick-ms:100}")
+    public void executePacedAdmission() {
+        waitingUseCase.admitUsersInActiveWaitingSchedules();
+    }
+}
@@ -1,18 +1,27 @@
 package com.roovies.concertreservation.waiting.infra.adapter.in.scheduler;
 
+import com.roovies.concertreservation.waiting.application.port.in.AdmissionControlUseCase;
 import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ReservationWaitingScheduler {
 
     private final WaitingUseCase waitingUseCase;
+    private final AdmissionControlUseCase admissionControlUseCase;
+
+    public ReservationWaitingScheduler(
+            @Qualifier("reservationWaitingService") WaitingUseCase waitingUseCase,
+            @Qualifier("admissionControlService") AdmissionControlUseCase admissionControlUseCase
+    ) {
+        this.waitingUseCase = waitingUseCase;
+        this.admissionControlUseCase = admissionControlUseCase;
+    }
 
     /**
      * 스케줄러1: 실시간 순번 정보 응답
@@ -31,7 +40,7 @@ public class ReservationWaitingScheduler {
     /**
      * 스케줄러2: 3초마다 대기자 입장 처리
      * - 모든 인스턴스에서 수행되도록 하되, 분산락을 통해 scheduleId 별로 thread-safe하게 처리되도록 함
-     * - 분산락을 적용했으므로 parallelStream을 활용하여 인스턴스 내에서도 병렬 쓰레드로 처리하도록 수행
+     * - 분산락을 적용했으므로 입장 처리 전용 Executor를 활용하여 인스턴스 내에서도 병렬 쓰레드로 처리하도록 수행
      */
     @Scheduled(fixedDelay = 3000)
     public void executeActiveWaitingAdmission() {
@@ -39,4 +48,49 @@ public class ReservationWaitingScheduler {
         waitingUseCase.admitUsersInActiveWaitingSchedules();
         log.debug("=== 대기열이 활성화된 스케줄별 대기자 입장 처리 완료 ===");
     }
+
+    /**
+     * 스케줄러3: 스케줄별 입장 허용량(Permit 한도) 조절
+     * - 직전 주기 동안 모든 인스턴스에서 수집된 홀딩 처리 시간/오류율, 결제 완료 비율을 기준으로 한도를 늘리거나 줄임
+     * - 지표를 꺼내가며 초기화하므로 Shed Lock을 적용하여 하나의 인스턴스에서만 실행되도록 수행
+     */
+    @Scheduled(fixedDelayString = "${app.waiting.admission.control-interval-ms:5000}")
+    @SchedulerLock(name = "adjustAdmissionPermitLimits", lockAtMostFor = "4s", lockAtLeastFor = "2s")
+    public void executeAdmissionPermitLimitAdjustment() {
+        log.debug("=== 대기열이 활성화된 스케줄별 입장 허용량 조절 수행 ===");
+        admissionControlUseCase.adjustPermitLimits();
+        log.debug("=== 대기열이 활성화된 스케줄별 입장 허용량 조절 완료 ===");
+    }
+
+    /**
+     * 스케줄러4: 사전 등록 추첨
+     * - 오픈 시각이 지난 사전 등록 스케줄의 등록자 순서를 무작위로 정해 대기열을 한 번에 생성
+     * - 추첨 자체는 Redis에서 한 번만 성공하므로, Shed Lock은 인스턴스마다 중복 확인하지 않도록 하는 용도
+     */
+    @Scheduled(fixedDelay = 1000)
+    @SchedulerLock(name = "drawLotterySchedules", lockAtMostFor = "30s")
+    public void executeLotteryDraw() {
+        waitingUseCase.drawDueLotterySchedules();
+    }
+
+    /**
+     * 스케줄러5: 대기자 생존 기록 갱신
+     * - 각 인스턴스가 자신에게 연결된 대기자만 갱신해야 하므로 모든 인스턴스에서 수행
+     */
+    @Scheduled(fixedDelayString = "${app.waiting.presence.refresh-interval-ms:15000}")
+    public void executePresenceRefresh() {
+        waitingUseCase.refreshLocalPresence();
+    }
+
+    /**
+     * 스케줄러6: 연결이 없는 대기자 정리
+     * - 생존 기록은 모든 인스턴스가 공유하므로 Shed Lock을 적용하여 하나의 인스턴스에서만 실행되도록 수행
+     */
+    @Scheduled(fixedDelay = 10000)
+    @SchedulerLock(name = "evictAbsentWaiters", lockAtMostFor = "30s", lockAtLeastFor = "5s")
+    public void executeAbsentWaiterEviction() {
+        log.debug("=== 연결이 없는 대기자 정리 수행 ===");
+        waitingUseCase.evictAbsentWaiters();
+        log.debug("=== 연결이 없는 대기자 정리 완료 ===");
+    }
 }
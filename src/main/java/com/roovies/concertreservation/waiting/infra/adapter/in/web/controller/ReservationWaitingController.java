@@ -1,18 +1,27 @@
 package com.roovies.concertreservation.waiting.infra.adapter.in.web.controller;
 
 import com.roovies.concertreservation.waiting.application.dto.result.EnterQueueResult;
+import com.roovies.concertreservation.waiting.application.dto.result.WaitingStatusResult;
 import com.roovies.concertreservation.waiting.application.port.in.WaitingUseCase;
 import com.roovies.concertreservation.waiting.infra.adapter.in.web.controller.response.ReservationEnterResponse;
+import com.roovies.concertreservation.waiting.infra.adapter.in.web.controller.response.ReservationWaitingStatusResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/waiting/reservation")
@@ -43,6 +52,9 @@ public class ReservationWaitingController {
                         .admittedToken(result.admittedToken())
                         .rank(result.rank())
                         .totalWaiting(result.totalWaiting())
+                        .estimatedWaitSeconds(result.estimatedWaitSeconds())
+                        .nextUpdateSeconds(result.nextUpdateSeconds())
+                        .lotteryOpensAt(result.lotteryOpensAt())
                         .userKey(result.userKey())
                         .build()
         );
@@ -63,4 +75,78 @@ public class ReservationWaitingController {
         SseEmitter emitter = waitingUseCase.subscribeToQueue(tmpUserId, scheduleId, userkey);
         return ResponseEntity.ok().body(emitter);
     }
+
+    /**
+     * 3. 논블로킹 스트림 연결 수립 (SSE 연결의 대안, 연결당 스레드/대기 상태를 점유하지 않음)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> stream(
+            @AuthenticationPrincipal UserDetails userDetails, // TODO: Custom UserDetails 구현 필요
+            @RequestParam String userkey,
+            @RequestParam Long scheduleId
+    ) {
+        // TODO: Security Context에서 가져오도록 해야함
+        Long tmpUserId = 1L;
+
+        return waitingUseCase.streamQueue(tmpUserId, scheduleId, userkey);
+    }
+
+    /**
+     * 4. 대기 상태 폴링 조회 (SSE 연결을 유지할 수 없는 클라이언트용)
+     * - 응답 ETag를 If-None-Match로 보내면 상태가 바뀌지 않은 경우 304로 응답
+     * - waitSeconds를 지정하면 상태가 바뀔 때까지 응답을 미룸 (long-poll, 최대 25초)
+     * - 대기열에 없는 userKey면 404 (입장 처리 후 토큰을 받지 못했다면 /enter 재호출 시 기존 입장 토큰이 반환됨)
+     */
+    @GetMapping("/status")
+    public CompletableFuture<ResponseEntity<ReservationWaitingStatusResponse>> getStatus(
+            @AuthenticationPrincipal UserDetails userDetails, // TODO: Custom UserDetails 구현 필요
+            @RequestParam String userkey,
+            @RequestParam Long scheduleId,
+            @RequestParam(defaultValue = "0") long waitSeconds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // TODO: Security Context에서 가져오도록 해야함
+        Long tmpUserId = 1L;
+
+        String knownVersion = parseETag(ifNoneMatch);
+        return waitingUseCase.getWaitingStatus(tmpUserId, scheduleId, userkey, knownVersion, Duration.ofSeconds(waitSeconds))
+                .thenApply(result -> toStatusResponse(result, knownVersion));
+    }
+
+    private ResponseEntity<ReservationWaitingStatusResponse> toStatusResponse(WaitingStatusResult result, String knownVersion) {
+        if (!result.waiting() && !result.admitted())
+            return ResponseEntity.notFound().build();
+
+        String eTag = "\"" + result.version() + "\"";
+        // 캐시는 허용하되 매번 ETag로 재검증하도록 지정 (사용자별 응답이므로 공유 캐시 저장 금지)
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (result.version().equals(knownVersion))
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(
+                ReservationWaitingStatusResponse.builder()
+                        .admitted(result.admitted())
+                        .admittedToken(result.admittedToken())
+                        .rank(result.rank())
+                        .totalWaiting(result.totalWaiting())
+                        .estimatedWaitSeconds(result.estimatedWaitSeconds())
+                        .nextUpdateSeconds(result.nextUpdateSeconds())
+                        .build()
+        );
+    }
+
+    /**
+     * If-None-Match 헤더에서 버전 값만 추출 (약한 ETag 접두사와 따옴표 제거)
+     */
+    private String parseETag(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank())
+            return null;
+
+        String eTag = ifNoneMatch.trim();
+        if (eTag.startsWith("W/"))
+            eTag = eTag.substring(2);
+        if (eTag.length() >= 2 && eTag.startsWith("\"") && eTag.endsWith("\""))
+            eTag = eTag.substring(1, eTag.length() - 1);
+        return eTag;
+    }
 }
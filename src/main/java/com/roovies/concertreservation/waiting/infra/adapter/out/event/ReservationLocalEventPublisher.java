@@ -0,0 +1,57 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
+import com.roovies.concertreservation.waiting.domain.event.WaitingCapacityAvailableEvent;
+import com.roovies.concertreservation.waiting.domain.event.WaitingQueueStatusUpdateEvent;
+import com.roovies.concertreservation.waiting.domain.event.WaitingUsersAdmittedEvent;
+import com.roovies.concertreservation.waiting.infra.instance.WaitingInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 이벤트 발행 어댑터.
+ * <p>
+ * Redis Pub/Sub 대신 애플리케이션 이벤트로 발행하며, ReservationWaitingLocalEventListener가 수신한다.
+ * 다른 인스턴스가 존재하지 않으므로 인스턴스 전용 발행은 현재 인스턴스일 때만 전달된다.
+ */
+@Slf4j
+@Component("reservationLocalEventPublisher")
+@Profile("waiting-inmemory")
+@RequiredArgsConstructor
+public class ReservationLocalEventPublisher implements WaitingEventPublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final WaitingInstanceId instanceId;
+
+    @Override
+    public void notifyWaitingQueueStatusEvent(Long scheduleId) {
+        eventPublisher.publishEvent(new WaitingQueueStatusUpdateEvent(scheduleId));
+        log.debug("대기자 순번 갱신 이벤트 발행 완료: scheduleId = {}", scheduleId);
+    }
+
+    @Override
+    public void notifyAdmittedUsersEvent(Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        eventPublisher.publishEvent(new WaitingUsersAdmittedEvent(Map.copyOf(userKeyToAdmittedToken)));
+        log.debug("입장 처리 완료 이벤트 발행 완료: userKeys = {}", userKeyToAdmittedToken.keySet());
+    }
+
+    @Override
+    public boolean notifyAdmittedUsersEvent(String instanceId, Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        if (!this.instanceId.value().equals(instanceId))
+            return false;
+
+        notifyAdmittedUsersEvent(scheduleId, userKeyToAdmittedToken);
+        return true;
+    }
+
+    @Override
+    public void notifyCapacityAvailableEvent(Long scheduleId) {
+        eventPublisher.publishEvent(new WaitingCapacityAvailableEvent(scheduleId));
+        log.debug("입장 가능 신호 발행 완료: scheduleId = {}", scheduleId);
+    }
+}
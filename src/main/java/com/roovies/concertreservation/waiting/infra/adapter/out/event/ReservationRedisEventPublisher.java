@@ -1,28 +1,34 @@
 package com.roovies.concertreservation.waiting.infra.adapter.out.event;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
-import com.roovies.concertreservation.waiting.domain.event.WaitingQueueStatusUpdateEvent;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.WaitingMessageCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 
+/**
+ * 대기열 Redis Pub/Sub 이벤트 발행 어댑터.
+ * <p>
+ * 메시지 형식은 WaitingMessageCodecs가 선택한 발행 코덱(기본 json)을 따른다.
+ */
 @Slf4j
 @Component("reservationRedisEventPublisher")
+@Profile("!waiting-inmemory")
 @RequiredArgsConstructor
 public class ReservationRedisEventPublisher implements WaitingEventPublisher {
 
     private static final String CHANNEL_STATUS = "channel:status";
     private static final String CHANNEL_ADMIT = "channel:admit";
+    private static final String CHANNEL_ADMIT_INSTANCE_PREFIX = "channel:admit:";     // channel:admit:{instanceId}
+    private static final String CHANNEL_CAPACITY = "channel:capacity";
 
     private final RedissonClient redisson;
-    private final ObjectMapper objectMapper;
+    private final WaitingMessageCodecs messageCodecs;
 
     /**
      * 실시간 순번 알림 이벤트를 채널을 구독(리스닝)하고 있는 모든 인스턴스에 브로드캐스트
@@ -30,13 +36,13 @@ public class ReservationRedisEventPublisher implements WaitingEventPublisher {
     public void notifyWaitingQueueStatusEvent(Long scheduleId) {
         try {
             // 발행할 메시지
-            String message = objectMapper.writeValueAsString(new WaitingQueueStatusUpdateEvent(scheduleId));
+            Object message = messageCodecs.forPublish().encodeScheduleEvent(scheduleId);
             // 발행할 채널
             RTopic topic = redisson.getTopic(CHANNEL_STATUS);
             // 해당 채널에 메시지 발행
             topic.publish(message);
             log.info("대기자 순번 갱신 이벤트 발행 완료: scheduleId = {}", scheduleId);
-        } catch (JsonProcessingException e) {
+        } catch (IllegalStateException e) {
             log.error("대기자 순번 갱신 이벤트 발행 실패: {}", e.getMessage());
         }
     }
@@ -45,17 +51,52 @@ public class ReservationRedisEventPublisher implements WaitingEventPublisher {
      * 현재 인스턴스에서 처리 불가한 입장 처리가 완료된 userKey와 입장토큰을 모든 인스턴스에 브로드캐스트
      */
     @Override
-    public void notifyAdmittedUsersEvent(Map<String, String> userKeyToAdmittedToken) {
+    public void notifyAdmittedUsersEvent(Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
         try {
-            // 발행할 메시지
-            String message = objectMapper.writeValueAsString(userKeyToAdmittedToken);
+            // 발행할 메시지 (binary 코덱은 토큰 본문 대신 userKey만 담음)
+            Object message = messageCodecs.forPublish().encodeAdmittedUsers(scheduleId, userKeyToAdmittedToken);
             // 발행할 채널
             RTopic topic = redisson.getTopic(CHANNEL_ADMIT);
             // 해당 채널에 메시지 발행
             topic.publish(message);
-            log.info("입장 처리 완료 이벤트 발행 완료: userKeys = {}", userKeyToAdmittedToken.keySet());
-        } catch (JsonProcessingException e) {
+            log.info("입장 처리 완료 이벤트 발행 완료: scheduleId = {}, userKeys = {}", scheduleId, userKeyToAdmittedToken.keySet());
+        } catch (IllegalStateException e) {
             log.error("입장 처리 완료 이벤트 발행 실패", e);
         }
     }
+
+    /**
+     * SSE 연결을 보유한 인스턴스 전용 채널로만 입장 처리 완료 userKey와 입장토큰을 발행
+     * - 다른 인스턴스는 메시지를 수신/역직렬화하지 않음
+     */
+    @Override
+    public boolean notifyAdmittedUsersEvent(String instanceId, Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        try {
+            Object message = messageCodecs.forPublish().encodeAdmittedUsers(scheduleId, userKeyToAdmittedToken);
+            RTopic topic = redisson.getTopic(CHANNEL_ADMIT_INSTANCE_PREFIX + instanceId);
+            long receivers = topic.publish(message);
+            log.info("입장 처리 완료 이벤트 발행 완료: instanceId = {}, scheduleId = {}, userKeys = {}, receivers = {}",
+                    instanceId, scheduleId, userKeyToAdmittedToken.keySet(), receivers);
+            return receivers > 0;
+        } catch (IllegalStateException e) {
+            log.error("입장 처리 완료 이벤트 발행 실패: instanceId = {}", instanceId, e);
+            return false;
+        }
+    }
+
+    /**
+     * Permit 반환으로 입장 가능한 자리가 생긴 스케줄을 모든 인스턴스에 브로드캐스트
+     * - 수신한 인스턴스는 디바운싱 후 해당 스케줄의 입장 처리를 즉시 수행 (분산락으로 1개 인스턴스만 처리)
+     */
+    @Override
+    public void notifyCapacityAvailableEvent(Long scheduleId) {
+        try {
+            Object message = messageCodecs.forPublish().encodeScheduleEvent(scheduleId);
+            RTopic topic = redisson.getTopic(CHANNEL_CAPACITY);
+            topic.publish(message);
+            log.debug("입장 가능 신호 발행 완료: scheduleId = {}", scheduleId);
+        } catch (IllegalStateException e) {
+            log.error("입장 가능 신호 발행 실패: scheduleId = {}", scheduleId, e);
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event.codec;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 수신한 입장 처리 완료 메시지.
+ * - JSON 형식은 입장 토큰을 그대로 전달하므로 userKeyToAdmittedToken만 채워진다.
+ * - 바이너리 형식은 토큰 대신 참조(스케줄ID + userKey = 입장 토큰 키)만 전달하므로 scheduleId와 userKeys만 채워진다.
+ */
+public record AdmittedUsersMessage(
+        Long scheduleId,
+        Collection<String> userKeys,
+        Map<String, String> userKeyToAdmittedToken
+) {
+    public static AdmittedUsersMessage withTokens(Map<String, String> userKeyToAdmittedToken) {
+        return new AdmittedUsersMessage(null, userKeyToAdmittedToken.keySet(), userKeyToAdmittedToken);
+    }
+
+    public static AdmittedUsersMessage withReferences(Long scheduleId, Collection<String> userKeys) {
+        return new AdmittedUsersMessage(scheduleId, userKeys, null);
+    }
+
+    public boolean hasTokens() {
+        return userKeyToAdmittedToken != null;
+    }
+}
@@ -0,0 +1,188 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 바이너리 형식 코덱 (기본값).
+ * <pre>
+ * [magic 1B][type 1B][scheduleId varint]                         - 스케줄 이벤트
+ * [magic 1B][type 1B][scheduleId varint][count varint][userKey]* - 입장 처리 완료
+ *
+ * userKey: [0][userId varint][uuid 16B]        - "{userId}:{uuid}" 정규 형식
+ *          [1][length varint][UTF-8 bytes]     - 그 외 형식
+ * </pre>
+ * 입장 토큰(JWT) 본문은 담지 않고, 스케줄ID와 userKey로 입장 토큰 키를 참조하게 한다.
+ * 수신 인스턴스는 로컬 연결이 있는 대기자의 토큰만 조회하므로, 메시지 크기와 연결이 없는 인스턴스의 처리 비용이 함께 줄어든다.
+ */
+@Component
+public class BinaryWaitingMessageCodec implements WaitingMessageCodec {
+
+    public static final String NAME = "binary";
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte TYPE_SCHEDULE_EVENT = 1;
+    private static final byte TYPE_ADMITTED_USERS = 2;
+    private static final byte USER_KEY_CANONICAL = 0;
+    private static final byte USER_KEY_RAW = 1;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(Object payload) {
+        return payload instanceof byte[] bytes && bytes.length > 0 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public Object encodeScheduleEvent(Long scheduleId) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(12);
+        out.write(MAGIC);
+        out.write(TYPE_SCHEDULE_EVENT);
+        writeVarLong(out, scheduleId);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Long decodeScheduleEvent(Object payload) {
+        ByteBuffer buffer = open(payload, TYPE_SCHEDULE_EVENT);
+        try {
+            return readVarLong(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("스케줄 이벤트 메시지가 잘려 있습니다.", e);
+        }
+    }
+
+    @Override
+    public Object encodeAdmittedUsers(Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + userKeyToAdmittedToken.size() * 26);
+        out.write(MAGIC);
+        out.write(TYPE_ADMITTED_USERS);
+        writeVarLong(out, scheduleId);
+        writeVarLong(out, userKeyToAdmittedToken.size());
+        for (String userKey : userKeyToAdmittedToken.keySet())
+            writeUserKey(out, userKey);
+        return out.toByteArray();
+    }
+
+    @Override
+    public AdmittedUsersMessage decodeAdmittedUsers(Object payload) {
+        ByteBuffer buffer = open(payload, TYPE_ADMITTED_USERS);
+        try {
+            long scheduleId = readVarLong(buffer);
+            long count = readVarLong(buffer);
+            // 사용자당 최소 2바이트이므로 남은 길이로 개수를 검증 (손상된 메시지로 큰 목록을 할당하지 않음)
+            if (count > buffer.remaining() / 2)
+                throw new IllegalArgumentException("입장 처리 완료 메시지의 사용자 수가 올바르지 않습니다.");
+
+            List<String> userKeys = new ArrayList<>((int) count);
+            for (int i = 0; i < count; i++)
+                userKeys.add(readUserKey(buffer));
+            return AdmittedUsersMessage.withReferences(scheduleId, userKeys);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("입장 처리 완료 메시지가 잘려 있습니다.", e);
+        }
+    }
+
+    private ByteBuffer open(Object payload, byte expectedType) {
+        if (!supports(payload))
+            throw new IllegalArgumentException("바이너리 대기열 메시지가 아닙니다.");
+
+        ByteBuffer buffer = ByteBuffer.wrap((byte[]) payload);
+        buffer.get();   // magic
+        if (!buffer.hasRemaining() || buffer.get() != expectedType)
+            throw new IllegalArgumentException("대기열 메시지 유형이 올바르지 않습니다.");
+        return buffer;
+    }
+
+    /**
+     * "{userId}:{uuid}" 형식이면 24바이트 내외로 압축하고, 아니면 문자열 그대로 기록
+     */
+    private void writeUserKey(ByteArrayOutputStream out, String userKey) {
+        UUID uuid = null;
+        long userId = -1;
+        int separator = userKey.indexOf(':');
+        if (separator > 0) {
+            try {
+                userId = Long.parseLong(userKey.substring(0, separator));
+                String uuidPart = userKey.substring(separator + 1);
+                UUID parsed = UUID.fromString(uuidPart);
+                // 대문자/축약 표기 등 원래 문자열로 복원되지 않는 형식은 그대로 기록
+                if (parsed.toString().equals(uuidPart) && Long.toString(userId).equals(userKey.substring(0, separator)))
+                    uuid = parsed;
+            } catch (IllegalArgumentException e) {
+                // 정규 형식이 아님
+            }
+        }
+
+        if (uuid != null && userId >= 0) {
+            out.write(USER_KEY_CANONICAL);
+            writeVarLong(out, userId);
+            writeLong(out, uuid.getMostSignificantBits());
+            writeLong(out, uuid.getLeastSignificantBits());
+            return;
+        }
+
+        byte[] raw = userKey.getBytes(StandardCharsets.UTF_8);
+        out.write(USER_KEY_RAW);
+        writeVarLong(out, raw.length);
+        out.write(raw, 0, raw.length);
+    }
+
+    private String readUserKey(ByteBuffer buffer) {
+        byte format = buffer.get();
+        if (format == USER_KEY_CANONICAL) {
+            long userId = readVarLong(buffer);
+            UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+            return userId + ":" + uuid;
+        }
+        if (format == USER_KEY_RAW) {
+            long length = readVarLong(buffer);
+            if (length > buffer.remaining())
+                throw new IllegalArgumentException("userKey 길이가 올바르지 않습니다.");
+            byte[] raw = new byte[(int) length];
+            buffer.get(raw);
+            return new String(raw, StandardCharsets.UTF_8);
+        }
+        throw new IllegalArgumentException("userKey 형식이 올바르지 않습니다: " + format);
+    }
+
+    /**
+     * 부호 없는 LEB128 varint (스케줄ID, userId는 음수가 아님)
+     */
+    private void writeVarLong(ByteArrayOutputStream out, long value) {
+        if (value < 0)
+            throw new IllegalStateException("음수는 varint로 인코딩할 수 없습니다: " + value);
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IllegalArgumentException("varint 형식이 올바르지 않습니다.");
+    }
+
+    private void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8)
+            out.write((int) (value >>> shift));
+    }
+}
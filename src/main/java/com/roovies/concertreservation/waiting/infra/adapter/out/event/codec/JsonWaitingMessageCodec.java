@@ -0,0 +1,78 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roovies.concertreservation.waiting.domain.event.WaitingQueueStatusUpdateEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기존 JSON 문자열 형식 코덱.
+ * - 스케줄 이벤트: {"scheduleId":1}
+ * - 입장 처리 완료: {"{userKey}":"{입장 토큰}", ...} (스케줄ID 없이 토큰 본문을 그대로 전달)
+ * <p>
+ * 이전 버전 인스턴스는 이 형식만 수신할 수 있으므로 배포가 끝날 때까지 발행 코덱으로 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonWaitingMessageCodec implements WaitingMessageCodec {
+
+    public static final String NAME = "json";
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(Object payload) {
+        return payload instanceof String;
+    }
+
+    @Override
+    public Object encodeScheduleEvent(Long scheduleId) {
+        // 순번 갱신/입장 가능 신호 이벤트는 같은 형식({"scheduleId":N})으로 직렬화됨
+        return write(new WaitingQueueStatusUpdateEvent(scheduleId));
+    }
+
+    @Override
+    public Long decodeScheduleEvent(Object payload) {
+        try {
+            JsonNode scheduleId = objectMapper.readTree((String) payload).get("scheduleId");
+            if (scheduleId == null || !scheduleId.canConvertToLong())
+                throw new IllegalArgumentException("스케줄 이벤트 메시지에 scheduleId가 없습니다.");
+            return scheduleId.asLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("스케줄 이벤트 메시지 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    @Override
+    public Object encodeAdmittedUsers(Long scheduleId, Map<String, String> userKeyToAdmittedToken) {
+        return write(userKeyToAdmittedToken);
+    }
+
+    @Override
+    public AdmittedUsersMessage decodeAdmittedUsers(Object payload) {
+        try {
+            Map<String, String> userKeyToAdmittedToken = objectMapper.readValue((String) payload, new TypeReference<>() {});
+            return AdmittedUsersMessage.withTokens(userKeyToAdmittedToken);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("입장 처리 완료 메시지 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기열 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event.codec;
+
+import java.util.Map;
+
+/**
+ * 대기열 Pub/Sub 채널(channel:status, channel:admit, channel:capacity) 메시지 코덱.
+ * <p>
+ * 발행은 설정(app.waiting.pubsub.codec)으로 선택된 코덱 하나로 수행하고, 수신은 메시지 형식을 보고 코덱을 고르므로
+ * 서로 다른 코덱으로 발행하는 인스턴스가 섞여 있어도 모두 처리할 수 있다.
+ * 인코딩 실패는 IllegalStateException, 형식이 맞지 않는 메시지는 IllegalArgumentException으로 알린다.
+ */
+public interface WaitingMessageCodec {
+
+    /**
+     * 설정값에서 사용하는 코덱 이름
+     */
+    String name();
+
+    /**
+     * 이 코덱으로 인코딩된 메시지인지 여부
+     */
+    boolean supports(Object payload);
+
+    /**
+     * 스케줄 단위 이벤트(순번 갱신, 입장 가능 신호) 인코딩
+     */
+    Object encodeScheduleEvent(Long scheduleId);
+
+    Long decodeScheduleEvent(Object payload);
+
+    /**
+     * 입장 처리 완료 이벤트 인코딩
+     */
+    Object encodeAdmittedUsers(Long scheduleId, Map<String, String> userKeyToAdmittedToken);
+
+    AdmittedUsersMessage decodeAdmittedUsers(Object payload);
+}
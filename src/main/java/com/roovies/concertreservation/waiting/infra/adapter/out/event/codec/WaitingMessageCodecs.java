@@ -0,0 +1,44 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.event.codec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 대기열 Pub/Sub 코덱 선택기.
+ * - 발행: app.waiting.pubsub.codec 설정의 코덱 (json(기본) | binary)
+ * - 수신: 메시지 형식을 지원하는 코덱 (배포 중 JSON/바이너리 메시지가 섞여도 모두 처리)
+ * 이전 버전 인스턴스는 JSON만 수신할 수 있으므로 기본값은 json이며,
+ * 모든 인스턴스가 이 버전으로 교체된 뒤에 설정으로 binary 발행을 켠다.
+ */
+@Component
+public class WaitingMessageCodecs {
+
+    private final List<WaitingMessageCodec> codecs;
+    private final WaitingMessageCodec publishCodec;
+
+    public WaitingMessageCodecs(
+            List<WaitingMessageCodec> codecs,
+            @Value("${app.waiting.pubsub.codec:json}") String publishCodecName
+    ) {
+        this.codecs = List.copyOf(codecs);
+        this.publishCodec = codecs.stream()
+                .filter(codec -> codec.name().equalsIgnoreCase(publishCodecName.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 대기열 메시지 코덱입니다: " + publishCodecName));
+    }
+
+    public WaitingMessageCodec forPublish() {
+        return publishCodec;
+    }
+
+    public WaitingMessageCodec forPayload(Object payload) {
+        for (WaitingMessageCodec codec : codecs) {
+            if (codec.supports(payload))
+                return codec;
+        }
+        throw new IllegalArgumentException("지원하지 않는 대기열 메시지 형식입니다: "
+                + (payload == null ? "null" : payload.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionOwnershipPort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 입장 처리 담당 판단 - 항상 현재 인스턴스가 담당한다.
+ */
+@Repository("admissionOwnershipInMemory")
+@Profile("waiting-inmemory")
+public class AdmissionOwnershipInMemoryAdapter implements AdmissionOwnershipPort {
+
+    @Override
+    public boolean isLocalOwner(Long scheduleId) {
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionPacerPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 입장 속도 제한 저장소.
+ * <p>
+ * Redis 스크립트(take_admission_pace.lua)와 같은 방식으로 토큰을 채우고 차감하며,
+ * 스케줄별 상태를 불변 값으로 교체하여 갱신한다.
+ */
+@Repository("admissionPacerInMemory")
+@Profile("waiting-inmemory")
+public class AdmissionPacerInMemoryAdapter implements AdmissionPacerPort {
+
+    private final int tokensPerTick;
+    private final long tickMillis;
+
+    private final Map<Long, PaceState> states = new ConcurrentHashMap<>();
+
+    public AdmissionPacerInMemoryAdapter(
+            @Value("${app.waiting.admission.pacing.tokens-per-tick:5}") int tokensPerTick,
+            @Value("${app.waiting.admission.pacing.tick-ms:100}") long tickMillis
+    ) {
+        if (tokensPerTick < 1 || tickMillis < 1)
+            throw new IllegalArgumentException("입장 속도 제한 설정이 올바르지 않습니다.");
+
+        this.tokensPerTick = tokensPerTick;
+        this.tickMillis = tickMillis;
+    }
+
+    @Override
+    public int acquire(Long scheduleId, int maxTokens) {
+        if (maxTokens <= 0)
+            return 0;
+
+        int[] taken = new int[1];
+        states.compute(scheduleId, (id, state) -> {
+            double tokens = refill(state);
+            taken[0] = (int) Math.min(Math.floor(tokens), maxTokens);
+            return new PaceState(tokens - taken[0], now());
+        });
+        return taken[0];
+    }
+
+    @Override
+    public void refund(Long scheduleId, int tokens) {
+        if (tokens <= 0)
+            return;
+
+        states.compute(scheduleId, (id, state) -> new PaceState(Math.min(tokensPerTick, refill(state) + tokens), now()));
+    }
+
+    @Override
+    public double getConfiguredAdmissionsPerSecond() {
+        return tokensPerTick * 1000d / tickMillis;
+    }
+
+    private double refill(PaceState state) {
+        if (state == null)
+            return tokensPerTick;
+
+        long elapsed = Math.max(0L, now() - state.lastMillis());
+        return Math.min(tokensPerTick, state.tokens() + (double) elapsed * tokensPerTick / tickMillis);
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private record PaceState(
+            double tokens,      // 남은 토큰 (최대 주기당 토큰 수)
+            long lastMillis     // 마지막 갱신 시각
+    ) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionRatePort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 입장 속도 저장소.
+ * <p>
+ * Redis 스크립트(record_admission_rate.lua)와 같은 방식으로 경과 시간 기반 EWMA를 계산하며,
+ * 스케줄별 상태를 불변 값으로 교체하여 갱신한다.
+ */
+@Repository("admissionRateInMemory")
+@Profile("waiting-inmemory")
+public class AdmissionRateInMemoryAdapter implements AdmissionRatePort {
+
+    private static final long RATE_TIME_CONSTANT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    private static final long MIN_SAMPLE_INTERVAL_MILLIS = 500L;
+
+    private final Map<Long, RateState> states = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordAdmissions(Long scheduleId, int admittedCount) {
+        long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        states.compute(scheduleId, (id, state) -> {
+            if (state == null)
+                return new RateState(0d, now, 0);
+
+            long count = state.pending() + admittedCount;
+            long elapsed = now - state.lastMillis();
+            if (elapsed < MIN_SAMPLE_INTERVAL_MILLIS)
+                return new RateState(state.rate(), state.lastMillis(), count);
+
+            double alpha = 1 - Math.exp(-(double) elapsed / RATE_TIME_CONSTANT_MILLIS);
+            double rate = state.rate() + alpha * (count * 1000d / elapsed - state.rate());
+            return new RateState(rate, now, 0);
+        });
+    }
+
+    @Override
+    public double getAdmissionsPerSecond(Long scheduleId) {
+        RateState state = states.get(scheduleId);
+        return state != null ? state.rate() : 0d;
+    }
+
+    private record RateState(
+            double rate,        // 초당 입장 인원 EWMA
+            long lastMillis,    // 마지막 측정 구간 종료 시각
+            long pending        // 최소 측정 구간이 지나지 않아 다음 구간에 합산할 입장 인원
+    ) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionSignalPort;
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionSignal;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 입장 허용량 조절 지표 저장소.
+ * <p>
+ * 스케줄별 누적 지표를 불변 값으로 병합하고, 꺼낼 때는 항목 자체를 제거하여 구간을 초기화한다.
+ */
+@Repository("admissionSignalInMemory")
+@Profile("waiting-inmemory")
+public class AdmissionSignalInMemoryAdapter implements AdmissionSignalPort {
+
+    private final Map<Long, AdmissionSignal> signals = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSeatHold(Long scheduleId, long latencyMillis, boolean failed) {
+        signals.merge(scheduleId, new AdmissionSignal(1, failed ? 1 : 0, latencyMillis, 0), this::sum);
+    }
+
+    @Override
+    public void recordPaymentCompleted(Long scheduleId) {
+        signals.merge(scheduleId, new AdmissionSignal(0, 0, 0, 1), this::sum);
+    }
+
+    @Override
+    public AdmissionSignal drainSignal(Long scheduleId) {
+        AdmissionSignal signal = signals.remove(scheduleId);
+        return signal != null ? signal : AdmissionSignal.empty();
+    }
+
+    private AdmissionSignal sum(AdmissionSignal a, AdmissionSignal b) {
+        return new AdmissionSignal(
+                a.holdCount() + b.holdCount(),
+                a.holdFailures() + b.holdFailures(),
+                a.holdLatencySumMillis() + b.holdLatencySumMillis(),
+                a.paymentCount() + b.paymentCount()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.ConnectionDirectoryPort;
+import com.roovies.concertreservation.waiting.infra.instance.WaitingInstanceId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 SSE 연결 소유 디렉터리.
+ * <p>
+ * 모든 연결의 소유자는 현재 인스턴스이므로 연결된 userKey 집합만 유지한다.
+ */
+@Repository("connectionDirectoryInMemory")
+@Profile("waiting-inmemory")
+@RequiredArgsConstructor
+public class ConnectionDirectoryInMemoryAdapter implements ConnectionDirectoryPort {
+
+    private final WaitingInstanceId instanceId;
+    private final Set<String> connectedUserKeys = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String getLocalInstanceId() {
+        return instanceId.value();
+    }
+
+    @Override
+    public void registerConnection(String userKey) {
+        connectedUserKeys.add(userKey);
+    }
+
+    @Override
+    public void unregisterConnection(String userKey) {
+        connectedUserKeys.remove(userKey);
+    }
+
+    @Override
+    public Map<String, String> findOwnerInstances(Collection<String> userKeys) {
+        Map<String, String> owners = new HashMap<>();
+        for (String userKey : userKeys) {
+            if (connectedUserKeys.contains(userKey))
+                owners.put(userKey, instanceId.value());
+        }
+        return owners;
+    }
+
+    @Override
+    public void removeConnections(Collection<String> userKeys) {
+        connectedUserKeys.removeAll(userKeys);
+    }
+}
@@ -1,39 +1,165 @@
 package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
 
 import com.roovies.concertreservation.waiting.application.port.out.EmitterRepositoryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 현재 인스턴스에 연결된 대기열 스트림(SseEmitter/Flux) 저장소.
+ * <p>
+ * userKey → 연결 정보와 함께 scheduleId → userKey 집합 인덱스를 유지한다.
+ * 순번 갱신 시 Redis 대기열 전체를 내려받아 로컬 연결을 걸러낼 필요 없이,
+ * 해당 스케줄에 로컬로 연결된 대기자만 바로 순회할 수 있다.
+ */
 @Slf4j
 @Repository("reservationWaitingEmitterRepository")
 @RequiredArgsConstructor
 public class ReservationWaitingEmitterRepositoryAdapter implements EmitterRepositoryPort {
 
-    private final Map<String, SseEmitter> emitterMap = new ConcurrentHashMap<>();
+    private final Map<String, Connection> connectionMap = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> userKeysByScheduleId = new ConcurrentHashMap<>();
 
     @Override
-    public void saveEmitterByUserKey(String userKey, SseEmitter emitter) {
-        emitterMap.put(userKey, emitter);
+    public WaitingStream saveEmitter(Long scheduleId, String userKey, WaitingStream stream) {
+        Connection previous = connectionMap.put(userKey, new Connection(scheduleId, stream, new SentStatus(), new AtomicLong(System.currentTimeMillis())));
+
+        // 동일 userKey가 다른 스케줄로 재연결된 경우 기존 인덱스 정리
+        if (previous != null && !previous.scheduleId().equals(scheduleId))
+            removeFromIndex(previous.scheduleId(), userKey);
+
+        addToIndex(scheduleId, userKey);
+
+        return previous != null ? previous.stream() : null;
     }
 
     @Override
     public void removeEmitterByUserKey(String userKey) {
-        emitterMap.remove(userKey);
+        Connection removed = connectionMap.remove(userKey);
+        if (removed != null)
+            removeFromIndex(removed.scheduleId(), userKey);
+    }
+
+    @Override
+    public boolean removeEmitter(String userKey, WaitingStream stream) {
+        Connection current = connectionMap.get(userKey);
+        if (current == null || current.stream() != stream)
+            return false;
+
+        // 확인 직후 재연결로 교체되었다면 제거하지 않음 (Connection 동등성 비교)
+        if (!connectionMap.remove(userKey, current))
+            return false;
+
+        removeFromIndex(current.scheduleId(), userKey);
+        return true;
     }
 
     @Override
     public boolean containsEmitterByUserKey(String userKey) {
-        return emitterMap.containsKey(userKey);
+        return connectionMap.containsKey(userKey);
     }
 
     @Override
-    public SseEmitter getEmitterByUserKey(String userKey) {
-        return emitterMap.get(userKey);
+    public WaitingStream getEmitterByUserKey(String userKey) {
+        Connection connection = connectionMap.get(userKey);
+        return connection != null ? connection.stream() : null;
+    }
+
+    @Override
+    public Set<String> getUserKeysByScheduleId(Long scheduleId) {
+        Set<String> userKeys = userKeysByScheduleId.get(scheduleId);
+        return userKeys != null ? Collections.unmodifiableSet(userKeys) : Set.of();
+    }
+
+    @Override
+    public int countByScheduleId(Long scheduleId) {
+        Set<String> userKeys = userKeysByScheduleId.get(scheduleId);
+        return userKeys != null ? userKeys.size() : 0;
+    }
+
+    @Override
+    public boolean shouldSendPosition(String userKey, int positionBucket, long nowMillis) {
+        Connection connection = connectionMap.get(userKey);
+        if (connection == null)
+            return false;
+        return connection.sentStatus().shouldSend(positionBucket, nowMillis);
+    }
+
+    @Override
+    public void recordSentPosition(String userKey, WaitingStream stream, int positionBucket, long nextUpdateAtMillis) {
+        Connection connection = connectionMap.get(userKey);
+        if (connection != null && connection.stream() == stream)
+            connection.sentStatus().record(positionBucket, nextUpdateAtMillis);
+    }
+
+    @Override
+    public void recordWrite(String userKey, WaitingStream stream, long nowMillis) {
+        Connection connection = connectionMap.get(userKey);
+        if (connection != null && connection.stream() == stream)
+            connection.lastWriteAtMillis().accumulateAndGet(nowMillis, Math::max);
+    }
+
+    @Override
+    public Long getLastWriteAt(String userKey, WaitingStream stream) {
+        Connection connection = connectionMap.get(userKey);
+        if (connection == null || connection.stream() != stream)
+            return null;
+        return connection.lastWriteAtMillis().get();
+    }
+
+    private void addToIndex(Long scheduleId, String userKey) {
+        // 추가도 같은 버킷 잠금 안에서 수행 (마지막 연결 제거로 인덱스가 삭제되는 것과 엇갈리면 삭제된 집합에 추가되어 유실됨)
+        userKeysByScheduleId.compute(scheduleId, (id, userKeys) -> {
+            Set<String> index = userKeys != null ? userKeys : ConcurrentHashMap.newKeySet();
+            index.add(userKey);
+            return index;
+        });
+    }
+
+    private void removeFromIndex(Long scheduleId, String userKey) {
+        // 마지막 연결이 제거되면 스케줄 인덱스 자체를 제거 (원자적으로 수행)
+        userKeysByScheduleId.computeIfPresent(scheduleId, (id, userKeys) -> {
+            userKeys.remove(userKey);
+            return userKeys.isEmpty() ? null : userKeys;
+        });
+    }
+
+    /**
+     * @param sentStatus        마지막으로 전송 완료된 순번 상태 (재연결 시 새 Connection으로 초기화되어 즉시 전송됨)
+     * @param lastWriteAtMillis 마지막 전송 완료 시각 (전송이 멈춘 연결 판단용)
+     */
+    private record Connection(
+            Long scheduleId,
+            WaitingStream stream,
+            SentStatus sentStatus,
+            AtomicLong lastWriteAtMillis
+    ) {
+    }
+
+    /**
+     * 연결별 마지막으로 전송 완료된 순번 구간과 다음 전송 가능 시각. 두 값은 함께 비교/갱신되어야 하므로 모니터로 보호한다.
+     * 전송 완료 후에만 기록하므로, outbox에서 폐기되거나 전송에 실패한 순번은 다음 주기에 다시 전송 대상이 된다.
+     */
+    private static class SentStatus {
+        private static final int NOT_SENT = -1;
+
+        private int lastSentPosition = NOT_SENT;
+        private long nextUpdateAtMillis;
+
+        synchronized boolean shouldSend(int positionBucket, long nowMillis) {
+            return nowMillis >= nextUpdateAtMillis && lastSentPosition != positionBucket;
+        }
+
+        synchronized void record(int positionBucket, long nextUpdateAtMillis) {
+            this.lastSentPosition = positionBucket;
+            this.nextUpdateAtMillis = nextUpdateAtMillis;
+        }
     }
 }
@@ -0,0 +1,487 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.shared.util.timer.HashedTimingWheel;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPresencePort;
+import com.roovies.concertreservation.waiting.domain.event.WaitingAdmittedTokenExpiredEvent;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JVM 내부 메모리 기반 대기열 어댑터 (단일 노드 실행 및 벤치마크용).
+ * <p>
+ * waiting-inmemory 프로파일에서 Redis 어댑터 대신 활성화되며, Redis 어댑터의 Lua 스크립트와 같은 규칙으로 동작한다.
+ * <ul>
+ *     <li>대기열: (진입 시각, 진입 순서) 순으로 정렬된 ConcurrentSkipListSet</li>
+ *     <li>Permit: 스케줄별 카운터 (최초 사용 시 Permit 한도로 초기화)</li>
+ *     <li>입장 토큰 TTL: 해시 타이밍 휠로 만료시키고, 만료 시 WaitingAdmittedTokenExpiredEvent 발행 (Redis 키 만료 이벤트 대응)</li>
+ *     <li>생존 기록: 대기열 진입 시 함께 기록 (진입 스크립트와 동일)</li>
+ * </ul>
+ * Lua 스크립트로 원자적으로 처리하던 복합 연산은 스케줄 단위 모니터로 직렬화한다.
+ * 순번 조회는 대기열을 앞에서부터 세므로 O(N)이며, 여러 대기자의 순번은 한 번의 순회로 계산한다.
+ */
+@Slf4j
+@Repository("reservationWaitingInMemory")
+@Profile("waiting-inmemory")
+public class ReservationWaitingInMemoryAdapter implements WaitingCachePort {
+
+    private static final Duration ADMITTED_TOKEN_TTL = Duration.ofMinutes(10);
+    private static final String ADMITTED_TOKEN_PLACEHOLDER = "PENDING";
+
+    private static final Comparator<QueuedUser> QUEUE_ORDER = Comparator
+            .comparingDouble(QueuedUser::score)
+            .thenComparingLong(QueuedUser::sequence);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final WaitingPresencePort waitingPresencePort;
+    private final int initialPermits;
+    private final HashedTimingWheel expiryWheel;
+
+    private final Map<Long, ScheduleState> states = new ConcurrentHashMap<>();
+    private final Set<String> activeScheduleIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ReservationWaitingInMemoryAdapter(
+            ApplicationEventPublisher eventPublisher,
+            WaitingPresencePort waitingPresencePort,
+            @Value("${app.waiting.admission.initial-permits:100}") int initialPermits
+    ) {
+        this.eventPublisher = eventPublisher;
+        this.waitingPresencePort = waitingPresencePort;
+        this.initialPermits = initialPermits;
+        this.expiryWheel = new HashedTimingWheel("waiting-token-expiry", Duration.ofMillis(100), 512);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expiryWheel.close();
+    }
+
+    @Override
+    public boolean tryAcquirePermit(Long scheduleId) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            if (state.permits() <= 0)
+                return false;
+            state.availablePermits--;
+            return true;
+        }
+    }
+
+    @Override
+    public int getAvailablePermits(Long scheduleId) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            return getAvailablePermitsOrZero(state);
+        }
+    }
+
+    @Override
+    public void releasePermits(Long scheduleId, int count) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            state.availablePermits = getAvailablePermitsOrZero(state) + count;
+        }
+    }
+
+    @Override
+    public int getPermitLimit(Long scheduleId) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            return state.permitLimit();
+        }
+    }
+
+    /**
+     * 한도 변경과 가용 Permit 증감(새 한도 - 기존 한도)을 함께 반영한다. (resize_permit_limit.lua와 동일)
+     */
+    @Override
+    public void updatePermitLimit(Long scheduleId, int permitLimit) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            int delta = permitLimit - state.permitLimit();
+            state.permitLimit = permitLimit;
+            if (delta != 0 && state.availablePermits != null)
+                state.availablePermits += delta;
+            log.debug("Permit 한도 변경: scheduleId = {}, permitLimit = {}, delta = {}", scheduleId, permitLimit, delta);
+        }
+    }
+
+    @Override
+    public boolean tryAcquireAdmitLock(Long scheduleId) {
+        return state(scheduleId).admitLock.tryLock();
+    }
+
+    @Override
+    public void releaseAdmitLock(Long scheduleId) {
+        ReentrantLock admitLock = state(scheduleId).admitLock;
+
+        // 현재 스레드가 락을 보유하고 있을 때만 해제
+        if (admitLock.isHeldByCurrentThread())
+            admitLock.unlock();
+    }
+
+    @Override
+    public void saveAdmittedToken(Long scheduleId, String userKey, String admittedToken) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            putAdmittedToken(scheduleId, state, userKey, admittedToken);
+        }
+    }
+
+    @Override
+    public Map<String, String> getAdmittedTokens(Long scheduleId, Collection<String> userKeys) {
+        ScheduleState state = states.get(scheduleId);
+        if (state == null)
+            return Map.of();
+
+        Map<String, String> result = new HashMap<>();
+        synchronized (state) {
+            for (String userKey : userKeys) {
+                AdmittedToken token = state.admittedTokens.get(userKey);
+                if (token != null && !ADMITTED_TOKEN_PLACEHOLDER.equals(token.value()))
+                    result.put(userKey, token.value());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 재진입 확인 → 활성 대기열 확인 → Permit 획득 → 대기열 진입 순으로 처리한다. (enter_or_wait.lua와 동일)
+     */
+    @Override
+    public WaitingEntryResult enterOrWait(Long scheduleId, Long userId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            // 동일 사용자의 재진입(새로고침 등)은 기존 항목을 그대로 반환
+            String existing = state.userKeyByUserId.get(userId);
+            if (existing != null) {
+                if (state.queuedByUserKey.containsKey(existing)) {
+                    waitingPresencePort.touch(scheduleId, List.of(existing));
+                    return WaitingEntryResult.waiting(existing, rankOf(state, existing), state.queue.size());
+                }
+
+                AdmittedToken token = state.admittedTokens.get(existing);
+                if (token != null) {
+                    // 입장 처리 중(토큰 발급 전)이라면 맨 앞 순번으로 응답
+                    if (ADMITTED_TOKEN_PLACEHOLDER.equals(token.value()))
+                        return WaitingEntryResult.waiting(existing, 0, state.queue.size());
+                    return WaitingEntryResult.alreadyAdmitted(existing, token.value());
+                }
+
+                // 대기열 이탈 또는 입장 토큰 만료로 남은 인덱스는 정리 후 신규 진입으로 처리
+                state.userKeyByUserId.remove(userId);
+            }
+
+            // 대기열이 비활성화 상태일 때만 Permit 획득 시도
+            if (!activeScheduleIds.contains(scheduleId.toString()) && state.permits() > 0) {
+                state.availablePermits--;
+                // 토큰 발급 전 재진입 시 Permit을 중복 획득하지 않도록 자리표시자 저장
+                putAdmittedToken(scheduleId, state, userKey, ADMITTED_TOKEN_PLACEHOLDER);
+                state.userKeyByUserId.put(userId, userKey);
+                log.debug("Permit 획득으로 즉시 입장: scheduleId = {}, userKey = {}", scheduleId, userKey);
+                return WaitingEntryResult.admitted(userKey);
+            }
+
+            addToQueue(scheduleId, state, userKey, System.currentTimeMillis(), sequence.incrementAndGet());
+            state.userKeyByUserId.put(userId, userKey);
+            return WaitingEntryResult.waiting(userKey, rankOf(state, userKey), state.queue.size());
+        }
+    }
+
+    @Override
+    public void enterQueue(Long scheduleId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            addToQueue(scheduleId, state, userKey, System.currentTimeMillis(), sequence.incrementAndGet());
+        }
+    }
+
+    @Override
+    public int enterQueueInOrder(Long scheduleId, List<String> userKeys) {
+        ScheduleState state = state(scheduleId);
+        int entered = 0;
+        synchronized (state) {
+            // 입장 처리가 바로 시작될 수 있도록 Permit 초기화 (enter_queue_in_order.lua와 동일)
+            state.permits();
+
+            double score = System.currentTimeMillis() - userKeys.size();
+            for (String userKey : userKeys) {
+                if (state.userKeyByUserId.putIfAbsent(userIdOf(userKey), userKey) != null)
+                    continue;
+
+                addToQueue(scheduleId, state, userKey, score + entered, sequence.incrementAndGet());
+                entered++;
+            }
+        }
+        return entered;
+    }
+
+    @Override
+    public WaitingQueueStatus getRankAndTotalWaitingCount(Long scheduleId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        return new WaitingQueueStatus(userKey, rankOf(state, userKey), state.queue.size());
+    }
+
+    /**
+     * 대기열을 한 번만 순회하며 요청한 대기자들의 순번을 계산한다.
+     */
+    @Override
+    public List<WaitingQueueStatus> getRankAndTotalWaitingCounts(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return List.of();
+
+        ScheduleState state = state(scheduleId);
+        Set<String> targets = new HashSet<>(userKeys);
+        Map<String, Integer> rankByUserKey = new HashMap<>(targets.size());
+        int rank = 0;
+        int totalWaiting = 0;
+        for (QueuedUser queuedUser : state.queue) {
+            if (targets.contains(queuedUser.userKey()))
+                rankByUserKey.put(queuedUser.userKey(), rank);
+            rank++;
+            totalWaiting++;
+        }
+
+        List<WaitingQueueStatus> statuses = new ArrayList<>(userKeys.size());
+        for (String userKey : userKeys) {
+            statuses.add(new WaitingQueueStatus(userKey, rankByUserKey.get(userKey), totalWaiting));
+        }
+        return statuses;
+    }
+
+    /**
+     * 대기열 제거, 사용자 인덱스 정리, 활성 대기열 정리를 함께 수행한다. (remove_waiting_entry.lua와 동일)
+     */
+    @Override
+    public boolean removeWaitingQueue(Long scheduleId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            QueuedUser removed = state.queuedByUserKey.remove(userKey);
+            if (removed == null)
+                return false;
+            state.queue.remove(removed);
+
+            // 인덱스가 같은 항목을 가리킬 때만 제거 (재진입으로 새 항목이 등록된 경우 유지)
+            state.userKeyByUserId.remove(userIdOf(userKey), userKey);
+
+            if (state.queue.isEmpty())
+                activeScheduleIds.remove(scheduleId.toString());
+
+            log.debug("대기열 큐에서 제거됨: scheduleId = {}, userKey = {}", scheduleId, userKey);
+            return true;
+        }
+    }
+
+    @Override
+    public void removeUserEntryIndex(Long scheduleId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            state.userKeyByUserId.remove(userIdOf(userKey), userKey);
+        }
+    }
+
+    /**
+     * 단일 노드에서는 만료 처리가 인스턴스 한 곳에서만 일어나므로 바로 반환한다.
+     */
+    @Override
+    public boolean releaseExpiredAdmission(Long scheduleId, String userKey) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            state.availablePermits = getAvailablePermitsOrZero(state) + 1;
+            state.userKeyByUserId.remove(userIdOf(userKey), userKey);
+        }
+        return true;
+    }
+
+    @Override
+    public Set<String> getActiveWaitingScheduleIds() {
+        return Set.copyOf(activeScheduleIds);
+    }
+
+    @Override
+    public boolean hasActiveWaitingQueue(Long scheduleId) {
+        return activeScheduleIds.contains(scheduleId.toString());
+    }
+
+    @Override
+    public Collection<String> getActiveWaitingUserKeys(Long scheduleId) {
+        return state(scheduleId).queue.stream()
+                .map(QueuedUser::userKey)
+                .toList();
+    }
+
+    @Override
+    public void removeActiveWaitingScheduleId(Long scheduleId) {
+        activeScheduleIds.remove(scheduleId.toString());
+    }
+
+    @Override
+    public int getWaitingQueueSize(Long scheduleId) {
+        return state(scheduleId).queue.size();
+    }
+
+    /**
+     * min(가용 Permit, 대기자 수, maxCount)만큼 앞에서부터 꺼내고 입장 토큰 자리표시자를 저장한다. (admit_batch.lua와 동일)
+     */
+    @Override
+    public List<WaitingQueueEntry> admitBatch(Long scheduleId, int maxCount) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            int size = state.queue.size();
+            if (size == 0) {
+                activeScheduleIds.remove(scheduleId.toString());
+                return List.of();
+            }
+
+            int count = Math.min(Math.min(getAvailablePermitsOrZero(state), size), maxCount);
+            if (count <= 0)
+                return List.of();
+
+            List<WaitingQueueEntry> entries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                QueuedUser queuedUser = state.queue.pollFirst();
+                state.queuedByUserKey.remove(queuedUser.userKey());
+                putAdmittedToken(scheduleId, state, queuedUser.userKey(), ADMITTED_TOKEN_PLACEHOLDER);
+                entries.add(new WaitingQueueEntry(queuedUser.userKey(), queuedUser.score()));
+            }
+            state.availablePermits -= count;
+
+            if (size == count)
+                activeScheduleIds.remove(scheduleId.toString());
+
+            return entries;
+        }
+    }
+
+    /**
+     * 보상 트랜잭션: 자리표시자를 삭제(만료 예약 취소)하고 기존 score로 대기열에 되돌린 뒤 Permit을 반환한다.
+     */
+    @Override
+    public void requeueAdmittedUser(Long scheduleId, WaitingQueueEntry entry) {
+        ScheduleState state = state(scheduleId);
+        synchronized (state) {
+            AdmittedToken token = state.admittedTokens.remove(entry.userKey());
+            if (token != null)
+                token.expiry().cancel();
+
+            // 같은 시각에 진입한 대기자보다 앞서도록 음수 순서 부여 (원래 맨 앞에서 추출된 대기자)
+            addToQueue(scheduleId, state, entry.userKey(), entry.score(), -sequence.incrementAndGet());
+            state.availablePermits = getAvailablePermitsOrZero(state) + 1;
+        }
+    }
+
+    private ScheduleState state(Long scheduleId) {
+        return states.computeIfAbsent(scheduleId, id -> new ScheduleState());
+    }
+
+    private int getAvailablePermitsOrZero(ScheduleState state) {
+        return state.availablePermits != null ? state.availablePermits : 0;
+    }
+
+    private void addToQueue(Long scheduleId, ScheduleState state, String userKey, double score, long order) {
+        // 같은 userKey가 이미 있다면 score 갱신 (ZADD와 동일)
+        QueuedUser previous = state.queuedByUserKey.remove(userKey);
+        if (previous != null)
+            state.queue.remove(previous);
+
+        QueuedUser queuedUser = new QueuedUser(userKey, score, order);
+        state.queuedByUserKey.put(userKey, queuedUser);
+        state.queue.add(queuedUser);
+        activeScheduleIds.add(scheduleId.toString());
+
+        // 연결이 한 번도 생기지 않은 대기자도 유예 시간 뒤 정리되도록 생존 기록 시작
+        waitingPresencePort.touch(scheduleId, List.of(userKey));
+    }
+
+    private Integer rankOf(ScheduleState state, String userKey) {
+        QueuedUser queuedUser = state.queuedByUserKey.get(userKey);
+        if (queuedUser == null)
+            return null;
+        return state.queue.headSet(queuedUser).size();
+    }
+
+    /**
+     * 입장 토큰 저장 (기존 토큰의 만료 예약은 취소하고 TTL을 새로 시작)
+     */
+    private void putAdmittedToken(Long scheduleId, ScheduleState state, String userKey, String value) {
+        AdmittedToken[] holder = new AdmittedToken[1];
+        HashedTimingWheel.Timeout expiry = expiryWheel.schedule(
+                () -> expireAdmittedToken(scheduleId, state, userKey, holder[0]), ADMITTED_TOKEN_TTL);
+        holder[0] = new AdmittedToken(value, expiry);
+
+        AdmittedToken previous = state.admittedTokens.put(userKey, holder[0]);
+        if (previous != null)
+            previous.expiry().cancel();
+    }
+
+    private void expireAdmittedToken(Long scheduleId, ScheduleState state, String userKey, AdmittedToken token) {
+        boolean expired;
+        synchronized (state) {
+            expired = state.admittedTokens.remove(userKey, token);
+        }
+
+        if (expired)
+            eventPublisher.publishEvent(new WaitingAdmittedTokenExpiredEvent(scheduleId, userKey));
+    }
+
+    /**
+     * userKey({userId}:{uuid})에서 userId 추출
+     */
+    private Long userIdOf(String userKey) {
+        return Long.parseLong(userKey.substring(0, userKey.indexOf(':')));
+    }
+
+    private record QueuedUser(
+            String userKey,
+            double score,       // 진입 시각
+            long sequence       // 같은 시각 진입 시 순서 보장
+    ) {
+    }
+
+    private record AdmittedToken(
+            String value,
+            HashedTimingWheel.Timeout expiry
+    ) {
+    }
+
+    /**
+     * 스케줄별 대기열 상태. 복합 연산은 인스턴스 모니터(synchronized)로 보호되며, 대기열 순회(순번 조회)는 잠금 없이 수행된다.
+     */
+    private final class ScheduleState {
+        private final ConcurrentSkipListSet<QueuedUser> queue = new ConcurrentSkipListSet<>(QUEUE_ORDER);
+        private final Map<String, QueuedUser> queuedByUserKey = new ConcurrentHashMap<>();
+        private final Map<Long, String> userKeyByUserId = new HashMap<>();
+        private final Map<String, AdmittedToken> admittedTokens = new HashMap<>();
+        private final ReentrantLock admitLock = new ReentrantLock();
+        private Integer availablePermits;   // null이면 미초기화 (최초 사용 시 Permit 한도로 초기화)
+        private Integer permitLimit;        // null이면 기본 한도 적용
+
+        private int permitLimit() {
+            return permitLimit != null ? permitLimit : initialPermits;
+        }
+
+        /**
+         * 가용 Permit 조회 (최초 1회 초기화)
+         */
+        private int permits() {
+            if (availablePermits == null)
+                availablePermits = permitLimit();
+            return availablePermits;
+        }
+    }
+}
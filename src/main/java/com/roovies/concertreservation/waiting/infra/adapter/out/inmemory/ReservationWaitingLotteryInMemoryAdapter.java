@@ -0,0 +1,79 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingLotteryPort;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingLotterySchedules;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 사전 등록 저장소.
+ * <p>
+ * 추첨 완료 표시와 등록자 추출은 스케줄 단위 compute로 원자적으로 수행한다. (draw_lottery_entries.lua와 동일)
+ */
+@Repository("reservationWaitingLotteryInMemory")
+@Profile("waiting-inmemory")
+public class ReservationWaitingLotteryInMemoryAdapter implements WaitingLotteryPort {
+
+    private static final Map<Long, String> DRAWN = Map.of();    // 추첨 완료 표시 (동일 객체 비교)
+
+    private final WaitingLotterySchedules lotterySchedules;
+    // 스케줄별 등록자 (userId → userKey), 추첨이 끝난 스케줄은 DRAWN으로 표시
+    private final Map<Long, Map<Long, String>> entries = new ConcurrentHashMap<>();
+
+    public ReservationWaitingLotteryInMemoryAdapter(@Value("${app.waiting.lottery.schedules:}") String lotterySchedules) {
+        this.lotterySchedules = WaitingLotterySchedules.parse(lotterySchedules);
+    }
+
+    @Override
+    public WaitingLotterySchedules getLotterySchedules() {
+        return lotterySchedules;
+    }
+
+    @Override
+    public LocalDateTime getOpensAt(Long scheduleId) {
+        return lotterySchedules.opensAt(scheduleId);
+    }
+
+    @Override
+    public boolean register(Long scheduleId, Long userId, String userKey) {
+        if (lotterySchedules.opensAt(scheduleId) == null)
+            return false;
+
+        boolean[] registered = new boolean[1];
+        entries.compute(scheduleId, (id, registeredEntries) -> {
+            if (registeredEntries == DRAWN)
+                return DRAWN;
+
+            Map<Long, String> updated = registeredEntries != null ? registeredEntries : new LinkedHashMap<>();
+            updated.put(userId, userKey);
+            registered[0] = true;
+            return updated;
+        });
+        return registered[0];
+    }
+
+    @Override
+    public List<String> drawEntries(Long scheduleId) {
+        List<String> drawn = new ArrayList<>();
+        boolean[] alreadyDrawn = new boolean[1];
+        entries.compute(scheduleId, (id, registeredEntries) -> {
+            if (registeredEntries == DRAWN) {
+                alreadyDrawn[0] = true;
+                return DRAWN;
+            }
+
+            if (registeredEntries != null)
+                drawn.addAll(registeredEntries.values());
+            return DRAWN;
+        });
+        return alreadyDrawn[0] ? null : drawn;
+    }
+}
@@ -0,0 +1,175 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPollRepositoryPort;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPollStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 현재 인스턴스에서 폴링 조회 중인 대기자의 상태 저장소.
+ * <p>
+ * 연결 저장소와 같이 userKey → 항목과 scheduleId → userKey 집합 인덱스를 유지하여,
+ * 순번 갱신 주기에 해당 스케줄의 폴링 대기자만 바로 순회할 수 있다.
+ */
+@Repository("reservationWaitingPollRepository")
+public class ReservationWaitingPollRepositoryAdapter implements WaitingPollRepositoryPort {
+
+    private final Map<String, PollEntry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> userKeysByScheduleId = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(Long scheduleId, String userKey, WaitingPollStatus status, long nowMillis) {
+        PollEntry previous = entries.put(userKey, new PollEntry(scheduleId, status, nowMillis));
+        if (previous != null) {
+            previous.close();
+            if (!previous.scheduleId.equals(scheduleId))
+                removeFromIndex(previous.scheduleId, userKey);
+        }
+
+        addToIndex(scheduleId, userKey);
+    }
+
+    @Override
+    public WaitingPollStatus touch(String userKey, long nowMillis) {
+        PollEntry entry = entries.get(userKey);
+        if (entry == null)
+            return null;
+
+        synchronized (entry) {
+            entry.lastPolledAtMillis = nowMillis;
+            return entry.status;
+        }
+    }
+
+    @Override
+    public void update(String userKey, WaitingPollStatus status) {
+        PollEntry entry = entries.get(userKey);
+        if (entry != null)
+            entry.update(status);
+    }
+
+    @Override
+    public CompletableFuture<WaitingPollStatus> awaitChange(String userKey, String knownVersion) {
+        PollEntry entry = entries.get(userKey);
+        return entry != null ? entry.awaitChange(knownVersion) : null;
+    }
+
+    @Override
+    public boolean contains(String userKey) {
+        return entries.containsKey(userKey);
+    }
+
+    @Override
+    public Set<String> getUserKeysByScheduleId(Long scheduleId) {
+        Set<String> userKeys = userKeysByScheduleId.get(scheduleId);
+        return userKeys != null ? Collections.unmodifiableSet(userKeys) : Set.of();
+    }
+
+    @Override
+    public Collection<String> removeIdle(Long scheduleId, long idleSinceMillis) {
+        List<String> removed = new ArrayList<>();
+        for (String userKey : getUserKeysByScheduleId(scheduleId)) {
+            PollEntry entry = entries.get(userKey);
+            if (entry == null || !entry.isIdleSince(idleSinceMillis))
+                continue;
+
+            // 확인 직후 다시 등록되었다면 제거하지 않음
+            if (entries.remove(userKey, entry)) {
+                entry.close();
+                removeFromIndex(scheduleId, userKey);
+                removed.add(userKey);
+            }
+        }
+        return removed;
+    }
+
+    private void addToIndex(Long scheduleId, String userKey) {
+        // 인덱스 제거(removeFromIndex)와 같은 버킷 잠금 안에서 추가하여, 삭제 중인 집합에 추가되어 유실되지 않도록 함
+        userKeysByScheduleId.compute(scheduleId, (id, userKeys) -> {
+            Set<String> index = userKeys != null ? userKeys : ConcurrentHashMap.newKeySet();
+            index.add(userKey);
+            return index;
+        });
+    }
+
+    private void removeFromIndex(Long scheduleId, String userKey) {
+        userKeysByScheduleId.computeIfPresent(scheduleId, (id, userKeys) -> {
+            userKeys.remove(userKey);
+            return userKeys.isEmpty() ? null : userKeys;
+        });
+    }
+
+    /**
+     * 폴링 대기자별 상태와 long-poll 대기 목록. 모든 필드는 항목 모니터(synchronized)로 보호된다.
+     */
+    private static class PollEntry {
+        private final Long scheduleId;
+        private final List<CompletableFuture<WaitingPollStatus>> waiters = new ArrayList<>(1);
+        private WaitingPollStatus status;
+        private long lastPolledAtMillis;
+
+        private PollEntry(Long scheduleId, WaitingPollStatus status, long lastPolledAtMillis) {
+            this.scheduleId = scheduleId;
+            this.status = status;
+            this.lastPolledAtMillis = lastPolledAtMillis;
+        }
+
+        private void update(WaitingPollStatus newStatus) {
+            List<CompletableFuture<WaitingPollStatus>> completed;
+            synchronized (this) {
+                if (status.admitted() || status.version().equals(newStatus.version())) {
+                    // 같은 구간 안의 순번/대기자 수 변화는 조회 응답에만 반영하고 long-poll은 깨우지 않음
+                    if (!status.admitted())
+                        status = newStatus;
+                    return;
+                }
+                status = newStatus;
+                completed = new ArrayList<>(waiters);
+                waiters.clear();
+            }
+            // 완료 콜백(응답 변환)이 모니터를 잡은 채 실행되지 않도록 밖에서 완료
+            completed.forEach(waiter -> waiter.complete(newStatus));
+        }
+
+        private CompletableFuture<WaitingPollStatus> awaitChange(String knownVersion) {
+            CompletableFuture<WaitingPollStatus> waiter;
+            synchronized (this) {
+                if (!status.version().equals(knownVersion))
+                    return CompletableFuture.completedFuture(status);
+
+                waiter = new CompletableFuture<>();
+                waiters.add(waiter);
+            }
+            // 시간 초과 등으로 먼저 완료된 요청은 대기 목록에서 제거
+            waiter.whenComplete((result, e) -> {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            });
+            return waiter;
+        }
+
+        private synchronized boolean isIdleSince(long idleSinceMillis) {
+            return lastPolledAtMillis < idleSinceMillis;
+        }
+
+        private void close() {
+            List<CompletableFuture<WaitingPollStatus>> pending;
+            WaitingPollStatus current;
+            synchronized (this) {
+                pending = new ArrayList<>(waiters);
+                waiters.clear();
+                current = status;
+            }
+            pending.forEach(waiter -> waiter.complete(current));
+        }
+    }
+}
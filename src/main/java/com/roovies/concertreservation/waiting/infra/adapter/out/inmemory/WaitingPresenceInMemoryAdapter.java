@@ -0,0 +1,58 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.inmemory;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPresencePort;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단일 노드(waiting-inmemory 프로파일)용 대기자 생존 기록 저장소.
+ */
+@Repository("waitingPresenceInMemory")
+@Profile("waiting-inmemory")
+public class WaitingPresenceInMemoryAdapter implements WaitingPresencePort {
+
+    // 스케줄별 userKey → 마지막 확인 시각
+    private final Map<Long, Map<String, Long>> lastSeenBySchedule = new ConcurrentHashMap<>();
+
+    @Override
+    public void touch(Long scheduleId, Collection<String> userKeys) {
+        long now = now();
+        Map<String, Long> lastSeen = lastSeenBySchedule.computeIfAbsent(scheduleId, id -> new ConcurrentHashMap<>());
+        userKeys.forEach(userKey -> lastSeen.put(userKey, now));
+    }
+
+    @Override
+    public List<String> takeExpired(Long scheduleId, Duration grace, int limit) {
+        Map<String, Long> lastSeen = lastSeenBySchedule.get(scheduleId);
+        if (lastSeen == null)
+            return List.of();
+
+        long threshold = now() - grace.toMillis();
+        List<Map.Entry<String, Long>> expired = lastSeen.entrySet().stream()
+                .filter(entry -> entry.getValue() <= threshold)
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .limit(limit)
+                .toList();
+
+        List<String> userKeys = new ArrayList<>(expired.size());
+        for (Map.Entry<String, Long> entry : expired) {
+            // 확인 이후 다시 갱신된 대기자는 제외
+            if (lastSeen.remove(entry.getKey(), entry.getValue()))
+                userKeys.add(entry.getKey());
+        }
+        return userKeys;
+    }
+
+    private long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+}
@@ -0,0 +1,107 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.metrics;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장 처리 지표 Micrometer 어댑터.
+ * <p>
+ * 스케줄 수가 많아질 수 있으므로 scheduleId 태그 없이 인스턴스 단위로만 집계한다.
+ * 속도 제한 입장의 실제 입장 속도는 최근 기록된 스케줄들의 평균으로 노출하여 스케줄당 설정 속도와 비교할 수 있게 한다.
+ */
+@Component("admissionMetricsMicrometer")
+public class AdmissionMetricsMicrometerAdapter implements AdmissionMetricsPort {
+
+    private static final long PACING_SAMPLE_MAX_AGE_MILLIS = TimeUnit.SECONDS.toMillis(10);    // 이보다 오래된 스케줄별 기록은 평균에서 제외
+
+    private final Timer runTimer;
+    private final DistributionSummary runSchedules;
+    private final Counter lockMissCounter;
+    private final Counter admittedCounter;
+    private final Counter timeoutCounter;
+    private final Counter rejectedCounter;
+
+    private volatile double configuredPacingRate;
+    private final Map<Long, PacingSample> pacingSamples = new ConcurrentHashMap<>();
+
+    public AdmissionMetricsMicrometerAdapter(MeterRegistry meterRegistry) {
+        this.runTimer = Timer.builder("waiting.admission.run.duration")
+                .description("정기 입장 처리 1회 소요 시간")
+                .register(meterRegistry);
+        this.runSchedules = DistributionSummary.builder("waiting.admission.run.schedules")
+                .description("정기 입장 처리 1회당 처리 대상 스케줄 수")
+                .register(meterRegistry);
+        this.lockMissCounter = Counter.builder("waiting.admission.lock.misses")
+                .description("분산락을 얻지 못해 건너뛴 스케줄 입장 처리 수")
+                .register(meterRegistry);
+        this.admittedCounter = Counter.builder("waiting.admission.admitted")
+                .description("입장 토큰 발급까지 완료된 인원")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("waiting.admission.timeouts")
+                .description("제한 시간 안에 끝나지 않은 스케줄 입장 처리 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("waiting.admission.rejected")
+                .description("작업 한도 초과로 실행하지 못한 스케줄 입장 처리 수")
+                .register(meterRegistry);
+        Gauge.builder("waiting.admission.pacing.configured.rate", this, adapter -> adapter.configuredPacingRate)
+                .description("속도 제한 입장의 스케줄당 설정 속도(초당 입장 인원)")
+                .register(meterRegistry);
+        Gauge.builder("waiting.admission.pacing.achieved.rate", this, AdmissionMetricsMicrometerAdapter::achievedPacingRate)
+                .description("속도 제한 입장의 스케줄당 실제 입장 속도(초당 입장 인원, 최근 스케줄 평균)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordRun(int scheduleCount, Duration duration) {
+        runSchedules.record(scheduleCount);
+        runTimer.record(duration);
+    }
+
+    @Override
+    public void recordLockMiss() {
+        lockMissCounter.increment();
+    }
+
+    @Override
+    public void recordAdmitted(int count) {
+        admittedCounter.increment(count);
+    }
+
+    @Override
+    public void recordTimeout() {
+        timeoutCounter.increment();
+    }
+
+    @Override
+    public void recordRejected() {
+        rejectedCounter.increment();
+    }
+
+    @Override
+    public void recordPacing(Long scheduleId, double configuredPerSecond, double achievedPerSecond) {
+        configuredPacingRate = configuredPerSecond;
+        pacingSamples.put(scheduleId, new PacingSample(achievedPerSecond, System.currentTimeMillis()));
+    }
+
+    private double achievedPacingRate() {
+        long threshold = System.currentTimeMillis() - PACING_SAMPLE_MAX_AGE_MILLIS;
+        pacingSamples.values().removeIf(sample -> sample.recordedAt() < threshold);
+        return pacingSamples.values().stream()
+                .mapToDouble(PacingSample::rate)
+                .average()
+                .orElse(0d);
+    }
+
+    private record PacingSample(double rate, long recordedAt) {
+    }
+}
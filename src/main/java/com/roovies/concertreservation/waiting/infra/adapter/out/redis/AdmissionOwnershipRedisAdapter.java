@@ -0,0 +1,125 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionOwnershipPort;
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionPartition;
+import com.roovies.concertreservation.waiting.infra.instance.WaitingInstanceId;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장 처리 담당 배정 Redis 어댑터.
+ * <p>
+ * app.waiting.admission.coordination=partitioned이면 인스턴스마다 주기적으로 생존 신호를 남기고(ZSET, score = Redis 서버 시각)
+ * 살아있는 인스턴스 목록을 받아와 {@link AdmissionPartition}으로 스케줄 담당을 나눈다.
+ * 담당 판단은 로컬 목록으로만 수행하므로 입장 처리 주기마다 추가되는 Redis 왕복이 없다.
+ * <p>
+ * 인스턴스가 추가/종료되는 동안에는 잠시 인스턴스마다 목록이 다를 수 있으므로, 입장 처리 자체의 분산락은 유지한다.
+ * (정상 상태에서는 담당 인스턴스만 락을 시도하므로 경합이 없음)
+ * coordination=lock(기본)이면 모든 인스턴스가 담당으로 판단되어 기존처럼 분산락으로만 동시 실행을 막는다.
+ * <p>
+ * 입장 속도 제한(pacing)은 짧은 주기로 입장 처리를 반복하므로, lock 방식에서는 모든 인스턴스가 주기마다 같은 락을 경합한다.
+ * 따라서 pacing은 partitioned 방식에서만 사용할 수 있으며, 그 외 조합은 시작 시 실패시킨다.
+ */
+@Slf4j
+@Repository("admissionOwnershipRedis")
+@Profile("!waiting-inmemory")
+public class AdmissionOwnershipRedisAdapter implements AdmissionOwnershipPort {
+
+    private static final String MEMBERS_KEY = WaitingRedisKey.ADMISSION_MEMBERS.generateKey("reservations");
+
+    private static final RedisLuaScript HEARTBEAT_SCRIPT = RedisLuaScript.load("scripts/waiting/heartbeat_admission_member.lua");
+
+    private final RedissonClient redisson;
+    private final String instanceId;
+    private final boolean partitioned;
+    private final long memberTtlMillis;
+    private final ScheduledExecutorService heartbeater;
+
+    private volatile AdmissionPartition partition;
+
+    public AdmissionOwnershipRedisAdapter(
+            RedissonClient redisson,
+            WaitingInstanceId instanceId,
+            @Value("${app.waiting.admission.coordination:lock}") String coordination,
+            @Value("${app.waiting.admission.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis,
+            @Value("${app.waiting.admission.member-ttl-ms:5000}") long memberTtlMillis,
+            @Value("${app.waiting.admission.pacing.enabled:false}") boolean pacingEnabled
+    ) {
+        if (!"lock".equals(coordination) && !"partitioned".equals(coordination))
+            throw new IllegalArgumentException("입장 처리 조정 방식이 올바르지 않습니다: " + coordination);
+        if (pacingEnabled && !"partitioned".equals(coordination))
+            throw new IllegalArgumentException("입장 속도 제한(pacing)은 coordination=partitioned에서만 사용할 수 있습니다: " + coordination);
+        if (memberTtlMillis <= heartbeatIntervalMillis)
+            throw new IllegalArgumentException("입장 처리 인스턴스 생존 판단 시간은 생존 신호 주기보다 길어야 합니다.");
+
+        this.redisson = redisson;
+        this.instanceId = instanceId.value();
+        this.partitioned = "partitioned".equals(coordination);
+        this.memberTtlMillis = memberTtlMillis;
+        // 첫 생존 신호 전까지는 현재 인스턴스가 모든 스케줄을 담당 (분산락으로 중복 실행 방지)
+        this.partition = new AdmissionPartition(List.of(this.instanceId));
+
+        if (partitioned) {
+            this.heartbeater = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("waiting-admission-heartbeat-"));
+            this.heartbeater.scheduleWithFixedDelay(this::heartbeat, 0L, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+            log.info("입장 처리 담당 배정 사용: instanceId = {}", this.instanceId);
+        } else {
+            this.heartbeater = null;
+        }
+    }
+
+    @Override
+    public boolean isLocalOwner(Long scheduleId) {
+        return !partitioned || partition.isOwner(instanceId, scheduleId);
+    }
+
+    private void heartbeat() {
+        try {
+            List<Object> members = HEARTBEAT_SCRIPT.execute(
+                    redisson,
+                    RScript.ReturnType.MULTI,
+                    List.of(MEMBERS_KEY),
+                    instanceId, memberTtlMillis
+            );
+            List<String> instanceIds = new ArrayList<>(members.size());
+            for (Object member : members)
+                instanceIds.add(String.valueOf(member));
+
+            if (!instanceIds.equals(partition.instanceIds()))
+                log.info("입장 처리 담당 인스턴스 변경: {} → {}", partition.instanceIds(), instanceIds);
+            partition = new AdmissionPartition(instanceIds);
+        } catch (Exception e) {
+            // 갱신에 실패해도 직전 목록으로 계속 판단 (다른 인스턴스에서 제외되면 해당 스케줄은 다른 인스턴스가 이어받음)
+            log.warn("입장 처리 인스턴스 생존 신호 갱신 실패: instanceId = {}", instanceId, e);
+        }
+    }
+
+    /**
+     * 종료 시 목록에서 바로 제외하여 담당 스케줄이 생존 판단 시간을 기다리지 않고 다른 인스턴스로 넘어가도록 함
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeater == null)
+            return;
+
+        heartbeater.shutdownNow();
+        try {
+            redisson.getScoredSortedSet(MEMBERS_KEY, StringCodec.INSTANCE).remove(instanceId);
+        } catch (Exception e) {
+            log.warn("입장 처리 인스턴스 목록에서 제외 실패: instanceId = {}", instanceId, e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionPacerPort;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 입장 속도 제한 Redis 어댑터.
+ * <p>
+ * 스케줄별 HASH 하나에 남은 토큰과 마지막 갱신 시각을 두고 Lua 스크립트로 채움/차감을 수행하므로,
+ * 몇 개의 인스턴스가 입장 처리를 수행하든 스케줄의 입장 속도는 설정값을 넘지 않는다.
+ */
+@Repository("admissionPacerRedis")
+@Profile("!waiting-inmemory")
+public class AdmissionPacerRedisAdapter implements AdmissionPacerPort {
+
+    private static final String DOMAIN = "reservation";
+
+    private static final Duration PACE_TTL = Duration.ofMinutes(10);    // 대기열이 비활성화된 스케줄의 상태 정리용
+
+    private static final RedisLuaScript TAKE_PACE_SCRIPT = RedisLuaScript.load("scripts/waiting/take_admission_pace.lua");
+
+    private final RedissonClient redisson;
+    private final int tokensPerTick;
+    private final long tickMillis;
+
+    public AdmissionPacerRedisAdapter(
+            RedissonClient redisson,
+            @Value("${app.waiting.admission.pacing.tokens-per-tick:5}") int tokensPerTick,
+            @Value("${app.waiting.admission.pacing.tick-ms:100}") long tickMillis
+    ) {
+        if (tokensPerTick < 1 || tickMillis < 1)
+            throw new IllegalArgumentException("입장 속도 제한 설정이 올바르지 않습니다.");
+
+        this.redisson = redisson;
+        this.tokensPerTick = tokensPerTick;
+        this.tickMillis = tickMillis;
+    }
+
+    @Override
+    public int acquire(Long scheduleId, int maxTokens) {
+        if (maxTokens <= 0)
+            return 0;
+
+        Long taken = execute(scheduleId, maxTokens);
+        return taken.intValue();
+    }
+
+    @Override
+    public void refund(Long scheduleId, int tokens) {
+        if (tokens > 0)
+            execute(scheduleId, -tokens);
+    }
+
+    @Override
+    public double getConfiguredAdmissionsPerSecond() {
+        return tokensPerTick * 1000d / tickMillis;
+    }
+
+    private Long execute(Long scheduleId, int requested) {
+        return TAKE_PACE_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(WaitingRedisKey.ADMISSION_PACE.generateKey(DOMAIN, scheduleId)),
+                tokensPerTick, tickMillis, requested, PACE_TTL.toMillis()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionRatePort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 입장 속도 Redis 어댑터.
+ * <p>
+ * 스케줄별 HASH 하나에 EWMA 상태를 두고 Lua 스크립트로 갱신하므로,
+ * 어느 인스턴스가 입장 처리를 수행하든(분산락으로 스케줄당 하나) 같은 입장 속도가 이어서 계산된다.
+ */
+@Slf4j
+@Repository("admissionRateRedis")
+@Profile("!waiting-inmemory")
+@RequiredArgsConstructor
+public class AdmissionRateRedisAdapter implements AdmissionRatePort {
+
+    private static final String DOMAIN = "reservation";
+
+    private static final Duration RATE_TIME_CONSTANT = Duration.ofSeconds(30);    // EWMA 시간 상수 (약 30초 이전 입장 속도의 영향이 1/e로 감소)
+    private static final Duration MIN_SAMPLE_INTERVAL = Duration.ofMillis(500);   // 이보다 짧은 간격의 기록은 다음 구간에 합산
+    private static final Duration RATE_TTL = Duration.ofMinutes(10);              // 대기열이 비활성화된 스케줄의 상태 정리용
+
+    private static final RedisLuaScript RECORD_RATE_SCRIPT = RedisLuaScript.load("scripts/waiting/record_admission_rate.lua");
+
+    private final RedissonClient redisson;
+
+    @Override
+    public void recordAdmissions(Long scheduleId, int admittedCount) {
+        RECORD_RATE_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(key(scheduleId)),
+                admittedCount, RATE_TIME_CONSTANT.toMillis(), MIN_SAMPLE_INTERVAL.toMillis(), RATE_TTL.toMillis()
+        );
+    }
+
+    @Override
+    public double getAdmissionsPerSecond(Long scheduleId) {
+        String rate = redisson.<String, String>getMap(key(scheduleId), StringCodec.INSTANCE).get("rate");
+        return rate == null ? 0d : Double.parseDouble(rate);
+    }
+
+    private String key(Long scheduleId) {
+        return WaitingRedisKey.ADMISSION_RATE.generateKey(DOMAIN, scheduleId);
+    }
+}
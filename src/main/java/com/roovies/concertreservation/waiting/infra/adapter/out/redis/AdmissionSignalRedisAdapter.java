@@ -0,0 +1,83 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionSignalPort;
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionSignal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 입장 허용량 조절 지표 Redis 어댑터.
+ * <p>
+ * 모든 인스턴스의 홀딩/결제 지표를 스케줄별 HASH 하나에 누적하여,
+ * 조절을 수행하는 인스턴스가 클러스터 전체 상태를 기준으로 판단할 수 있도록 한다.
+ */
+@Slf4j
+@Repository("admissionSignalRedis")
+@Profile("!waiting-inmemory")
+@RequiredArgsConstructor
+public class AdmissionSignalRedisAdapter implements AdmissionSignalPort {
+
+    private static final String DOMAIN = "reservation";
+
+    private static final Duration SIGNAL_TTL = Duration.ofMinutes(1);
+
+    private static final RedisLuaScript RECORD_SIGNAL_SCRIPT = RedisLuaScript.load("scripts/waiting/record_admission_signal.lua");
+
+    private final RedissonClient redisson;
+
+    @Override
+    public void recordSeatHold(Long scheduleId, long latencyMillis, boolean failed) {
+        record(scheduleId, 1, failed ? 1 : 0, latencyMillis, 0);
+    }
+
+    @Override
+    public void recordPaymentCompleted(Long scheduleId) {
+        record(scheduleId, 0, 0, 0, 1);
+    }
+
+    /**
+     * 조회와 삭제를 MULTI/EXEC로 묶어, 조회 직후 들어온 지표가 삭제로 유실되지 않도록 한다.
+     */
+    @Override
+    public AdmissionSignal drainSignal(Long scheduleId) {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        RMapAsync<String, String> signalMap = batch.getMap(WaitingRedisKey.ADMISSION_SIGNAL.generateKey(DOMAIN, scheduleId), StringCodec.INSTANCE);
+        RFuture<Map<String, String>> signalFuture = signalMap.readAllMapAsync();
+        signalMap.deleteAsync();
+        batch.execute();
+
+        Map<String, String> signal = signalFuture.toCompletableFuture().join();
+        if (signal.isEmpty())
+            return AdmissionSignal.empty();
+
+        return new AdmissionSignal(
+                parse(signal, "holdCount"),
+                parse(signal, "holdFailures"),
+                parse(signal, "holdLatencySumMillis"),
+                parse(signal, "paymentCount")
+        );
+    }
+
+    private void record(Long scheduleId, long holdCount, long holdFailures, long holdLatencyMillis, long paymentCount) {
+        RECORD_SIGNAL_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(WaitingRedisKey.ADMISSION_SIGNAL.generateKey(DOMAIN, scheduleId)),
+                holdCount, holdFailures, holdLatencyMillis, paymentCount, SIGNAL_TTL.toMillis()
+        );
+    }
+
+    private long parse(Map<String, String> signal, String field) {
+        String value = signal.get(field);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.ConnectionDirectoryPort;
+import com.roovies.concertreservation.waiting.infra.instance.WaitingInstanceId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * SSE 연결 소유 인스턴스 디렉터리 Redis 어댑터.
+ * <p>
+ * 단일 HASH(userKey → instanceId)에 기록한다.
+ * 인스턴스가 비정상 종료되면 기록이 남지만, 해당 사용자가 다른 인스턴스로 재연결하면 덮어써지고
+ * 전달 실패가 확인된 기록은 발행 측에서 제거한다.
+ */
+@Slf4j
+@Repository("connectionDirectoryRedis")
+@Profile("!waiting-inmemory")
+@RequiredArgsConstructor
+public class ConnectionDirectoryRedisAdapter implements ConnectionDirectoryPort {
+
+    private static final String CONNECTION_OWNER_KEY = "waiting:connection:owners";
+
+    private final RedissonClient redisson;
+    private final WaitingInstanceId instanceId;
+
+    @Override
+    public String getLocalInstanceId() {
+        return instanceId.value();
+    }
+
+    @Override
+    public void registerConnection(String userKey) {
+        owners().fastPut(userKey, instanceId.value());
+    }
+
+    @Override
+    public void unregisterConnection(String userKey) {
+        // 다른 인스턴스로 재연결된 경우 해당 기록은 유지 (값 비교 후 삭제)
+        owners().remove(userKey, instanceId.value());
+    }
+
+    @Override
+    public Map<String, String> findOwnerInstances(Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return Map.of();
+        return owners().getAll(new HashSet<>(userKeys));
+    }
+
+    @Override
+    public void removeConnections(Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return;
+        owners().fastRemove(userKeys.toArray(String[]::new));
+        log.debug("유효하지 않은 SSE 연결 소유 기록 제거: userKeys = {}", userKeys);
+    }
+
+    private RMap<String, String> owners() {
+        return redisson.getMap(CONNECTION_OWNER_KEY, StringCodec.INSTANCE);
+    }
+}
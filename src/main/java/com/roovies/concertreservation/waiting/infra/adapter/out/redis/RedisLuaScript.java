@@ -0,0 +1,86 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * classpath의 Lua 스크립트를 EVALSHA로 실행하는 헬퍼.
+ * <p>
+ * 최초 실행 시 SCRIPT LOAD로 SHA를 등록하고, 이후에는 SHA만 전송한다.
+ * Redis 재시작 등으로 스크립트 캐시가 비워져 NOSCRIPT 오류가 발생하면 다시 로드한 뒤 1회 재시도한다.
+ * 스크립트 인자와 반환값은 StringCodec으로 직렬화되므로, 스크립트가 다루는 키도 StringCodec으로 읽고 써야 한다.
+ * 시각을 기록/비교하는 스크립트는 여러 인스턴스의 시계 차이에 영향을 받지 않도록 Redis 서버 시각(TIME)을 사용한다.
+ */
+@Slf4j
+public class RedisLuaScript {
+
+    private final String path;
+    private final String source;
+    private volatile String sha;
+
+    private RedisLuaScript(String path, String source) {
+        this.path = path;
+        this.source = source;
+    }
+
+    public static RedisLuaScript load(String path) {
+        try {
+            String source = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+            return new RedisLuaScript(path, source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lua 스크립트를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    public <R> R execute(RedissonClient redisson, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+        RScript script = redisson.getScript(StringCodec.INSTANCE);
+        if (sha == null)
+            sha = script.scriptLoad(source);
+
+        try {
+            return script.evalSha(RScript.Mode.READ_WRITE, sha, returnType, keys, args);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("NOSCRIPT"))
+                throw e;
+
+            log.warn("Lua 스크립트 캐시 누락으로 재등록: path = {}", path);
+            sha = script.scriptLoad(source);
+            return script.evalSha(RScript.Mode.READ_WRITE, sha, returnType, keys, args);
+        }
+    }
+
+    /**
+     * 비동기 실행 (결과는 Redisson 이벤트 루프 스레드에서 완료되므로 후속 작업에서 블로킹 호출 금지)
+     */
+    public <R> CompletionStage<R> executeAsync(RedissonClient redisson, RScript.ReturnType returnType, List<Object> keys, Object... args) {
+        RScript script = redisson.getScript(StringCodec.INSTANCE);
+        if (sha == null)
+            sha = script.scriptLoad(source);
+
+        return script.<R>evalShaAsync(RScript.Mode.READ_WRITE, sha, returnType, keys, args)
+                .toCompletableFuture()
+                .exceptionallyCompose(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (!(cause instanceof RedisException) || cause.getMessage() == null || !cause.getMessage().contains("NOSCRIPT"))
+                        return CompletableFuture.failedFuture(cause);
+
+                    log.warn("Lua 스크립트 캐시 누락으로 재등록: path = {}", path);
+                    return script.scriptLoadAsync(source).thenCompose(loadedSha -> {
+                        sha = loadedSha;
+                        return script.<R>evalShaAsync(RScript.Mode.READ_WRITE, loadedSha, returnType, keys, args);
+                    });
+                });
+    }
+}
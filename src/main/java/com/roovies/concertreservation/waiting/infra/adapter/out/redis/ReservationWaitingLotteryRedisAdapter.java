@@ -0,0 +1,185 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingLotteryPort;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingLotterySchedules;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사전 등록 Redis 어댑터.
+ * <p>
+ * 오픈 전 등록은 순번 계산이 필요 없으므로 인스턴스 로컬 버퍼에 모았다가 flush 주기마다 스케줄당 HSET 한 번으로 저장한다.
+ * 등록 요청이 몰려도 Redis 명령 수는 (스케줄 수 × flush 횟수)로 제한된다.
+ * 오픈 이후 추첨 전까지 들어온 등록은 추첨 완료 여부를 확인해야 하므로 버퍼 없이 바로 저장한다.
+ * 추첨은 오픈 시각에서 flush 주기보다 충분히 지난 뒤 수행되어야 한다. (버퍼에 남은 등록이 추첨에서 빠지지 않도록)
+ */
+@Slf4j
+@Repository("reservationWaitingLotteryRedis")
+@Profile("!waiting-inmemory")
+public class ReservationWaitingLotteryRedisAdapter implements WaitingLotteryPort {
+
+    private static final String DOMAIN = "reservation";
+
+    private static final Duration LATE_REGISTRATION_WINDOW = Duration.ofHours(1);    // 오픈 이후 추첨 전 등록을 받는 최대 시간
+    private static final Duration DRAWN_MARKER_TTL = Duration.ofDays(1);
+
+    private static final RedisLuaScript REGISTER_SCRIPT = RedisLuaScript.load("scripts/waiting/register_lottery_entry.lua");
+    private static final RedisLuaScript DRAW_SCRIPT = RedisLuaScript.load("scripts/waiting/draw_lottery_entries.lua");
+
+    private final RedissonClient redisson;
+    private final WaitingLotterySchedules lotterySchedules;
+    private final ScheduledExecutorService flusher;
+
+    // 스케줄별 flush 대기 중인 등록 (userId → userKey)
+    private final Map<Long, Map<Long, String>> pendingEntries = new ConcurrentHashMap<>();
+    // 추첨 완료를 확인한 스케줄 (이후 등록 요청은 Redis 조회 없이 일반 진입으로 처리)
+    private final Set<Long> drawnScheduleIds = ConcurrentHashMap.newKeySet();
+
+    public ReservationWaitingLotteryRedisAdapter(
+            RedissonClient redisson,
+            @Value("${app.waiting.lottery.schedules:}") String lotterySchedules,
+            @Value("${app.waiting.lottery.flush-interval-ms:100}") long flushIntervalMillis
+    ) {
+        this.redisson = redisson;
+        this.lotterySchedules = WaitingLotterySchedules.parse(lotterySchedules);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("waiting-lottery-flush-"));
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+
+        if (!this.lotterySchedules.opensAtByScheduleId().isEmpty())
+            log.info("사전 등록 스케줄: {}", this.lotterySchedules.opensAtByScheduleId());
+    }
+
+    @Override
+    public WaitingLotterySchedules getLotterySchedules() {
+        return lotterySchedules;
+    }
+
+    @Override
+    public LocalDateTime getOpensAt(Long scheduleId) {
+        return lotterySchedules.opensAt(scheduleId);
+    }
+
+    @Override
+    public boolean register(Long scheduleId, Long userId, String userKey) {
+        LocalDateTime opensAt = lotterySchedules.opensAt(scheduleId);
+        if (opensAt == null || drawnScheduleIds.contains(scheduleId))
+            return false;
+
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(opensAt)) {
+            // compute는 해당 스케줄 버킷을 잠근 상태로 수행되므로 flush의 remove와 엇갈려 등록이 유실되지 않음
+            pendingEntries.compute(scheduleId, (id, entries) -> {
+                Map<Long, String> buffer = entries != null ? entries : new HashMap<>();
+                buffer.put(userId, userKey);
+                return buffer;
+            });
+            return true;
+        }
+
+        if (now.isAfter(opensAt.plus(LATE_REGISTRATION_WINDOW))) {
+            drawnScheduleIds.add(scheduleId);
+            return false;
+        }
+
+        Long registered = REGISTER_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(key(WaitingRedisKey.LOTTERY_DRAWN, scheduleId), key(WaitingRedisKey.LOTTERY_ENTRY, scheduleId)),
+                userId, userKey
+        );
+        if (registered == 0L) {
+            drawnScheduleIds.add(scheduleId);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public List<String> drawEntries(Long scheduleId) {
+        if (drawnScheduleIds.contains(scheduleId))
+            return null;
+
+        // 이 인스턴스의 버퍼가 남아있다면 추첨 전에 저장
+        flush();
+
+        List<Object> result = DRAW_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                List.of(key(WaitingRedisKey.LOTTERY_DRAWN, scheduleId), key(WaitingRedisKey.LOTTERY_ENTRY, scheduleId)),
+                DRAWN_MARKER_TTL.toMillis()
+        );
+        drawnScheduleIds.add(scheduleId);
+
+        if (((Number) result.get(0)).longValue() == 0L)
+            return null;
+
+        List<String> userKeys = new ArrayList<>(result.size() - 1);
+        for (int i = 1; i < result.size(); i++)
+            userKeys.add(String.valueOf(result.get(i)));
+        return userKeys;
+    }
+
+    /**
+     * 버퍼에 모인 등록을 스케줄당 HSET 한 번으로 저장 (모든 스케줄을 한 번의 파이프라인으로 전송)
+     */
+    private synchronized void flush() {
+        if (pendingEntries.isEmpty())
+            return;
+
+        Map<Long, Map<Long, String>> flushing = new HashMap<>();
+        for (Long scheduleId : List.copyOf(pendingEntries.keySet())) {
+            Map<Long, String> entries = pendingEntries.remove(scheduleId);
+            if (entries != null && !entries.isEmpty())
+                flushing.put(scheduleId, entries);
+        }
+        if (flushing.isEmpty())
+            return;
+
+        try {
+            RBatch batch = redisson.createBatch(BatchOptions.defaults());
+            flushing.forEach((scheduleId, entries) -> {
+                Map<String, String> values = new HashMap<>(entries.size());
+                entries.forEach((userId, userKey) -> values.put(userId.toString(), userKey));
+                batch.<String, String>getMap(key(WaitingRedisKey.LOTTERY_ENTRY, scheduleId), StringCodec.INSTANCE).putAllAsync(values);
+            });
+            batch.execute();
+            log.debug("사전 등록 저장 완료: {}", flushing.entrySet().stream()
+                    .map(entry -> entry.getKey() + "=" + entry.getValue().size())
+                    .toList());
+        } catch (Exception e) {
+            // 다음 flush에서 다시 저장 (그 사이 같은 사용자가 다시 등록했다면 새 값을 유지)
+            log.error("사전 등록 저장 실패, 다음 주기에 재시도: scheduleIds = {}", flushing.keySet(), e);
+            flushing.forEach((scheduleId, entries) -> pendingEntries.merge(scheduleId, entries, (current, failed) -> {
+                failed.putAll(current);
+                return failed;
+            }));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        flush();
+    }
+
+    private String key(WaitingRedisKey redisKey, Object... params) {
+        return redisKey.generateKey(DOMAIN, params);
+    }
+}
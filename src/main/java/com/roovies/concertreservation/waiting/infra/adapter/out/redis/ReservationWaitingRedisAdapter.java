@@ -1,73 +1,162 @@
 package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
 
 import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
-import org.redisson.client.protocol.ScoredEntry;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.redisson.client.RedisTimeoutException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
-
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sorted Set(ZSET) 기반 대기열 어댑터 (기본 모드).
+ * <p>
+ * score에 진입 시각을 저장하고, 순번은 ZRANK로 사용자마다 조회한다.
+ * app.waiting.queue-mode 값이 sorted-set 이거나 설정되지 않은 경우 활성화된다.
+ * <p>
+ * Lua 스크립트와 같은 키를 공유하므로 대기열/활성 목록/입장 토큰은 모두 StringCodec으로 저장한다.
+ * <p>
+ * 스케줄별 키는 {@link WaitingRedisKey}의 {scheduleId} 해시 태그로 같은 슬롯에 모이므로 Redis Cluster에서도 스크립트가 그대로 동작한다.
+ * 전역 활성 대기열 목록 등록은 단일 노드에서는 진입 스크립트 안에서 함께 수행하고,
+ * 슬롯이 다른 Cluster에서는 응답을 기다리지 않는 SADD로 보낸다. (어느 쪽이든 진입 요청의 추가 왕복 없음)
+ * 목록에서의 제거는 스크립트 결과(남은 대기자 수)를 보고 어댑터에서 수행한다.
+ * <p>
+ * app.waiting.sharding.schedules에 지정된 스케줄은 여러 하위 대기열로 나누어 저장한다. ({@link ShardedWaitingQueue})
+ * <p>
+ * app.waiting.enter-batch.max-wait-ms가 0보다 크면 샤딩되지 않은 스케줄의 진입 요청을 인스턴스 단위로 모아
+ * 스크립트 한 번으로 처리한다. ({@link WaitingEntryBatcher})
+ */
 @Slf4j
 @Repository("reservationWaitingRedis")
-@RequiredArgsConstructor
+@Profile("!waiting-inmemory")
+@ConditionalOnProperty(name = "app.waiting.queue-mode", havingValue = "sorted-set", matchIfMissing = true)
 public class ReservationWaitingRedisAdapter implements WaitingCachePort {
 
-    private static final String SEMAPHORE_PREFIX = "semaphore:reservation:";
-    private static final String WAITING_PREFIX = "waiting:reservation:";
-    private static final String ACTIVE_WAITING_PREFIX = "active:waiting:reservations";
-    private static final String ADMITTED_TOKEN_PREFIX = "admitted:reservation:";        // admitted:reservation:{scheduleId}:{userId}:{uuid}
-    private static final String ADMIT_LOCK_PREFIX = "admit:lock:reservation:";
+    private static final String DOMAIN = "reservation";
+    private static final String ACTIVE_WAITING_KEY = WaitingRedisKey.ACTIVE_WAITING_ITEMS.generateKey("reservations");
+
+    private static final Duration ADMITTED_TOKEN_TTL = Duration.ofMinutes(10);
+    private static final String ADMITTED_TOKEN_PLACEHOLDER = "PENDING";
+    private static final Duration ADMITTED_EXPIRY_CLAIM_TTL = Duration.ofMinutes(1);   // 만료 처리 선점 키 유지 시간
+
+    private static final RedisLuaScript ENTER_OR_WAIT_SCRIPT = RedisLuaScript.load("scripts/waiting/enter_or_wait.lua");
+    private static final RedisLuaScript ENTER_OR_WAIT_BATCH_SCRIPT = RedisLuaScript.load("scripts/waiting/enter_or_wait_batch.lua");
+    private static final RedisLuaScript RESIZE_PERMIT_LIMIT_SCRIPT = RedisLuaScript.load("scripts/waiting/resize_permit_limit.lua");
+    private static final RedisLuaScript REMOVE_WAITING_ENTRY_SCRIPT = RedisLuaScript.load("scripts/waiting/remove_waiting_entry.lua");
+    private static final RedisLuaScript REMOVE_USER_ENTRY_INDEX_SCRIPT = RedisLuaScript.load("scripts/waiting/remove_user_entry_index.lua");
+    private static final RedisLuaScript RELEASE_EXPIRED_ADMISSION_SCRIPT = RedisLuaScript.load("scripts/waiting/release_expired_admission.lua");
+    private static final RedisLuaScript ADMIT_BATCH_SCRIPT = RedisLuaScript.load("scripts/waiting/admit_batch.lua");
+    private static final RedisLuaScript ENTER_QUEUE_IN_ORDER_SCRIPT = RedisLuaScript.load("scripts/waiting/enter_queue_in_order.lua");
 
-    private static final int MAX_PERMITS = 100;
+    private static final int ENTER_IN_ORDER_CHUNK_SIZE = 1000;   // 일괄 진입 스크립트 1회당 최대 인원
 
     private final RedissonClient redisson;
+    private final int initialPermits;
+    private final ShardedWaitingQueue shardedQueue;
+    private final WaitingEntryBatcher entryBatcher;   // 진입 요청 버퍼 (비활성화 시 null)
+    private final long enterBatchTimeoutMillis;     // 버퍼 처리 결과를 기다리는 최대 시간
+    private final boolean activeKeyInScript;         // 전역 활성 대기열 목록을 진입 스크립트에서 갱신할 수 있는지 (단일 노드)
+
+    public ReservationWaitingRedisAdapter(
+            RedissonClient redisson,
+            @Value("${app.waiting.admission.initial-permits:100}") int initialPermits,
+            @Value("${app.waiting.sharding.schedules:}") String shardedSchedules,
+            @Value("${app.waiting.enter-batch.max-wait-ms:2}") long enterBatchMaxWaitMillis,
+            @Value("${app.waiting.enter-batch.max-size:200}") int enterBatchMaxSize,
+            @Value("${app.waiting.enter-batch.timeout-ms:3000}") long enterBatchTimeoutMillis
+    ) {
+        this.redisson = redisson;
+        this.initialPermits = initialPermits;
+        this.activeKeyInScript = !redisson.getConfig().isClusterConfig();
+        this.shardedQueue = new ShardedWaitingQueue(
+                redisson, DOMAIN, initialPermits, ADMITTED_TOKEN_TTL, ADMITTED_TOKEN_PLACEHOLDER, shardedSchedules);
+        this.enterBatchTimeoutMillis = enterBatchMaxWaitMillis + enterBatchTimeoutMillis;
+        this.entryBatcher = enterBatchMaxWaitMillis > 0
+                ? new WaitingEntryBatcher(this::enterOrWaitBatch, enterBatchMaxWaitMillis, enterBatchMaxSize)
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (entryBatcher != null)
+            entryBatcher.shutdown();
+    }
 
     @Override
     public boolean tryAcquirePermit(Long scheduleId) {
-        String key = SEMAPHORE_PREFIX + scheduleId;
+        String key = key(WaitingRedisKey.SEMAPHORE, scheduleId);
         RSemaphore semaphore = redisson.getSemaphore(key);
 
         // Semaphore 초기화 (최초 1회)
         if (!semaphore.isExists())
-            semaphore.trySetPermits(MAX_PERMITS);
+            semaphore.trySetPermits(getPermitLimit(scheduleId));
 
         // Permit 획득 시도
         return semaphore.tryAcquire();
     }
 
-    @Override
-    public boolean tryAcquirePermits(Long scheduleId, int count) {
-        String key = SEMAPHORE_PREFIX + scheduleId;
-        RSemaphore semaphore = redisson.getSemaphore(key);
-        return semaphore.tryAcquire(count);
-    }
-
     @Override
     public int getAvailablePermits(Long scheduleId) {
-        String key = SEMAPHORE_PREFIX + scheduleId;
+        String key = key(WaitingRedisKey.SEMAPHORE, scheduleId);
         RSemaphore semaphore = redisson.getSemaphore(key);
         return semaphore.availablePermits();
     }
 
     @Override
     public void releasePermits(Long scheduleId, int count) {
-        String key = SEMAPHORE_PREFIX + scheduleId;
+        String key = key(WaitingRedisKey.SEMAPHORE, scheduleId);
         RSemaphore semaphore = redisson.getSemaphore(key);
         semaphore.release(count);
     }
 
+    @Override
+    public int getPermitLimit(Long scheduleId) {
+        RBucket<String> bucket = redisson.getBucket(key(WaitingRedisKey.PERMIT_LIMIT, scheduleId), StringCodec.INSTANCE);
+        String permitLimit = bucket.get();
+        return permitLimit == null ? initialPermits : Integer.parseInt(permitLimit);
+    }
+
+    /**
+     * 한도 변경과 가용 Permit 증감(새 한도 - 기존 한도)을 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * 이미 입장한 사용자의 Permit은 회수하지 않으므로, 한도를 줄이면 토큰이 만료될 때까지 신규 입장만 줄어든다.
+     */
+    @Override
+    public void updatePermitLimit(Long scheduleId, int permitLimit) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                key(WaitingRedisKey.SEMAPHORE, scheduleId)
+        );
+        Long delta = RESIZE_PERMIT_LIMIT_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                permitLimit, initialPermits
+        );
+        log.debug("Permit 한도 변경: scheduleId = {}, permitLimit = {}, delta = {}", scheduleId, permitLimit, delta);
+    }
+
     @Override
     public boolean tryAcquireAdmitLock(Long scheduleId) {
-        String key = ADMIT_LOCK_PREFIX + scheduleId;
+        String key = key(WaitingRedisKey.ADMIT_LOCK, scheduleId);
         RLock lock = redisson.getLock(key);
 
         try {
@@ -81,7 +170,7 @@ public class ReservationWaitingRedisAdapter implements WaitingCachePort {
 
     @Override
     public void releaseAdmitLock(Long scheduleId) {
-        String key = ADMIT_LOCK_PREFIX + scheduleId;
+        String key = key(WaitingRedisKey.ADMIT_LOCK, scheduleId);
         RLock lock = redisson.getLock(key);
 
         // 현재 스레드가 락을 보유하고 있을 때만 해제
@@ -93,27 +182,215 @@ public class ReservationWaitingRedisAdapter implements WaitingCachePort {
 
     @Override
     public void saveAdmittedToken(Long scheduleId, String userKey, String admittedToken) {
-        String key = ADMITTED_TOKEN_PREFIX + scheduleId + ":" + userKey;
-        RBucket<String> bucket = redisson.getBucket(key);
-        bucket.set(admittedToken, Duration.ofMinutes(10));
+        String key = key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, userKey);
+        RBucket<String> bucket = redisson.getBucket(key, StringCodec.INSTANCE);
+        bucket.set(admittedToken, ADMITTED_TOKEN_TTL);
 
         log.debug("[ReservationWaitingRedisAdapter] 입장 토큰 발급 완료 - scheduleId: {}, userKey: {}", scheduleId, userKey);
     }
 
+    /**
+     * 입장 토큰 일괄 조회 (MGET 1회). 키가 모두 같은 해시 태그({scheduleId})를 가지므로 Cluster에서도 한 슬롯에서 조회된다.
+     */
+    @Override
+    public Map<String, String> getAdmittedTokens(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return Map.of();
+
+        Map<String, String> userKeyByKey = new HashMap<>();
+        for (String userKey : userKeys)
+            userKeyByKey.put(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, userKey), userKey);
+
+        Map<String, String> tokenByKey = redisson.getBuckets(StringCodec.INSTANCE).get(userKeyByKey.keySet().toArray(String[]::new));
+
+        Map<String, String> result = new HashMap<>();
+        tokenByKey.forEach((key, token) -> {
+            if (token != null && !ADMITTED_TOKEN_PLACEHOLDER.equals(token))
+                result.put(userKeyByKey.get(key), token);
+        });
+        return result;
+    }
+
+    /**
+     * 즉시 입장 여부 판단과 대기열 진입을 Lua 스크립트 한 번(EVALSHA)으로 처리한다.
+     * <p>
+     * 사용자별 인덱스 확인 → 활성 대기열 확인(ZCARD) → Permit 초기화/획득 → ZADD/HSET → ZRANK/ZCARD를
+     * 서버 측에서 원자적으로 수행하므로 최대 6번의 왕복이 1번으로 줄어든다.
+     * 전역 활성 대기열 목록 등록(SADD)도 같은 스크립트에서 수행한다. (Cluster와 샤딩된 스케줄에서는 응답을 기다리지 않고 별도 전송)
+     * 같은 사용자가 다시 진입하면 새 항목을 만들지 않고 기존 userKey와 순번(또는 발급된 입장 토큰)을 반환한다.
+     */
+    @Override
+    public WaitingEntryResult enterOrWait(Long scheduleId, Long userId, String userKey) {
+        if (shardedQueue.isSharded(scheduleId)) {
+            WaitingEntryResult result = shardedQueue.enterOrWait(scheduleId, userId, userKey);
+            if (!result.admitted())
+                addActiveQueueAsync(scheduleId);
+            return result;
+        }
+
+        if (entryBatcher != null)
+            return awaitBatchedEntry(entryBatcher, scheduleId, userId, userKey);
+
+        List<Object> keys = entryKeys(scheduleId);
+        List<Object> result = ENTER_OR_WAIT_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                keys,
+                userKey, System.currentTimeMillis(), initialPermits,
+                userId, admittedTokenPrefix(keys), ADMITTED_TOKEN_TTL.toMillis(), ADMITTED_TOKEN_PLACEHOLDER,
+                scheduleId.toString(), WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis()
+        );
+
+        if (toLong(result.get(0)) == 1L) {
+            String admittedUserKey = String.valueOf(result.get(1));
+            if (result.size() > 2)
+                return WaitingEntryResult.alreadyAdmitted(admittedUserKey, String.valueOf(result.get(2)));
+
+            log.debug("Permit 획득으로 즉시 입장: scheduleId = {}, userKey = {}", scheduleId, admittedUserKey);
+            return WaitingEntryResult.admitted(admittedUserKey);
+        }
+
+        if (!activeKeyInScript)
+            addActiveQueueAsync(scheduleId);
+        return WaitingEntryResult.waiting(
+                String.valueOf(result.get(3)),
+                (int) toLong(result.get(1)),
+                (int) toLong(result.get(2))
+        );
+    }
+
+    /**
+     * 버퍼에 모인 진입 요청을 enter_or_wait_batch.lua 한 번(EVALSHA)으로 처리한다.
+     * 요청별 판단은 도착 순서대로 enter_or_wait.lua와 같으며, 전역 활성 대기열 등록(SADD)도 배치당 한 번만 수행한다. (단일 노드에서는 스크립트 안에서)
+     * 결과는 Redisson 이벤트 루프에서 완료되므로 이 안에서는 동기 호출을 사용하지 않는다.
+     */
+    private CompletionStage<List<WaitingEntryResult>> enterOrWaitBatch(Long scheduleId, List<WaitingEntryBatcher.PendingEntry> entries) {
+        List<Object> keys = entryKeys(scheduleId);
+        List<Object> args = new ArrayList<>(6 + entries.size() * 3);
+        args.add(initialPermits);
+        args.add(admittedTokenPrefix(keys));
+        args.add(ADMITTED_TOKEN_TTL.toMillis());
+        args.add(ADMITTED_TOKEN_PLACEHOLDER);
+        args.add(scheduleId.toString());
+        args.add(WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis());
+        for (WaitingEntryBatcher.PendingEntry entry : entries) {
+            args.add(entry.userId());
+            args.add(entry.userKey());
+            args.add(entry.enteredAt());
+        }
+
+        return ENTER_OR_WAIT_BATCH_SCRIPT.<List<Object>>executeAsync(redisson, RScript.ReturnType.MULTI, keys, args.toArray())
+                .thenCompose(result -> {
+                    List<WaitingEntryResult> entryResults = new ArrayList<>(entries.size());
+                    boolean anyWaiting = false;
+                    for (int i = 0; i < result.size(); i += 5) {
+                        String entryUserKey = String.valueOf(result.get(i + 1));
+                        long resultType = toLong(result.get(i));
+                        if (resultType == 0L) {
+                            anyWaiting = true;
+                            entryResults.add(WaitingEntryResult.waiting(
+                                    entryUserKey, (int) toLong(result.get(i + 2)), (int) toLong(result.get(i + 3))));
+                        } else if (resultType == 1L) {
+                            entryResults.add(WaitingEntryResult.admitted(entryUserKey));
+                        } else {
+                            entryResults.add(WaitingEntryResult.alreadyAdmitted(entryUserKey, String.valueOf(result.get(i + 4))));
+                        }
+                    }
+
+                    if (!anyWaiting || activeKeyInScript)
+                        return CompletableFuture.completedFuture(entryResults);
+                    return redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE)
+                            .addAsync(scheduleId.toString())
+                            .thenApply(added -> entryResults);
+                });
+    }
+
+    /**
+     * 버퍼 처리 결과를 기다린다. (실패 시 원래 예외를 그대로 전달)
+     * 버퍼 대기 시간 + timeout-ms 안에 결과가 없으면 요청 스레드를 돌려주기 위해 RedisTimeoutException으로 실패 처리한다.
+     */
+    private WaitingEntryResult awaitBatchedEntry(WaitingEntryBatcher batcher, Long scheduleId, Long userId, String userKey) {
+        try {
+            return batcher.submit(scheduleId, userId, userKey)
+                    .orTimeout(enterBatchTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof TimeoutException)
+                throw new RedisTimeoutException(
+                        "대기열 일괄 진입 응답 대기 시간 초과: scheduleId = %d, 대기 시간 = %dms".formatted(scheduleId, enterBatchTimeoutMillis));
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
     @Override
     public void enterQueue(Long scheduleId, String userKey) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
+        if (shardedQueue.isSharded(scheduleId)) {
+            shardedQueue.enterQueue(scheduleId, userKey);
+            addActiveQueue(scheduleId);
+            return;
+        }
+
+        String key = key(WaitingRedisKey.WAITING, scheduleId);
+        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key, StringCodec.INSTANCE);
         long timestamp = System.currentTimeMillis();
         waitingQueue.add(timestamp, userKey);
 
         addActiveQueue(scheduleId);
     }
 
+    /**
+     * 추첨 순서대로 대기열에 일괄 진입시킨다. (스크립트 1회에 최대 ENTER_IN_ORDER_CHUNK_SIZE명)
+     * score는 (현재 시각 - 인원 수)부터 1씩 증가하므로, 이후 일반 진입한 대기자(score = 진입 시각)보다 항상 앞에 위치한다.
+     * 샤딩된 스케줄은 일반 진입과 같은 시계(스케줄 슬롯 노드의 서버 시각)를 기준으로 한다.
+     */
+    @Override
+    public int enterQueueInOrder(Long scheduleId, List<String> userKeys) {
+        if (userKeys.isEmpty())
+            return 0;
+
+        long now = shardedQueue.isSharded(scheduleId) ? shardedQueue.serverTimeMillis(scheduleId) : System.currentTimeMillis();
+        long baseScore = now - userKeys.size();
+        int entered = 0;
+        for (int from = 0; from < userKeys.size(); from += ENTER_IN_ORDER_CHUNK_SIZE) {
+            List<String> chunk = userKeys.subList(from, Math.min(from + ENTER_IN_ORDER_CHUNK_SIZE, userKeys.size()));
+            if (shardedQueue.isSharded(scheduleId)) {
+                entered += shardedQueue.enterQueueInOrder(scheduleId, chunk, baseScore + entered);
+                continue;
+            }
+
+            List<Object> keys = List.of(
+                    key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                    key(WaitingRedisKey.WAITING, scheduleId),
+                    key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                    key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                    key(WaitingRedisKey.TICKET_ISSUED, scheduleId),
+                    key(WaitingRedisKey.PRESENCE, scheduleId)
+            );
+            List<Object> args = new ArrayList<>(chunk.size() + 4);
+            args.add(initialPermits);
+            args.add("score");
+            args.add(baseScore + entered);
+            args.add(WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis());
+            args.addAll(chunk);
+            List<Object> chunkEntered = ENTER_QUEUE_IN_ORDER_SCRIPT.execute(redisson, RScript.ReturnType.MULTI, keys, args.toArray());
+            entered += chunkEntered.size();
+        }
+
+        if (entered > 0)
+            addActiveQueue(scheduleId);
+        log.debug("대기열 일괄 진입 완료: scheduleId = {}, entered = {}/{}", scheduleId, entered, userKeys.size());
+        return entered;
+    }
+
     @Override
     public WaitingQueueStatus getRankAndTotalWaitingCount(Long scheduleId, String userKey) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
+        if (shardedQueue.isSharded(scheduleId))
+            return shardedQueue.getRankAndTotalWaitingCounts(scheduleId, List.of(userKey)).get(0);
+
+        String key = key(WaitingRedisKey.WAITING, scheduleId);
+        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key, StringCodec.INSTANCE);
 
         Integer rank = waitingQueue.rank(userKey);
         Integer totalWaiting = waitingQueue.size();
@@ -121,84 +398,270 @@ public class ReservationWaitingRedisAdapter implements WaitingCachePort {
         return new WaitingQueueStatus(userKey, rank, totalWaiting);
     }
 
+    /**
+     * 여러 대기자의 순번을 한 번의 왕복(RBatch 파이프라인)으로 조회한다.
+     * ZRANK는 사용자 수만큼 실행되지만, 네트워크 왕복은 스케줄당 1회로 줄어든다.
+     */
+    @Override
+    public List<WaitingQueueStatus> getRankAndTotalWaitingCounts(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return List.of();
+        if (shardedQueue.isSharded(scheduleId))
+            return shardedQueue.getRankAndTotalWaitingCounts(scheduleId, userKeys);
+
+        String key = key(WaitingRedisKey.WAITING, scheduleId);
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        RScoredSortedSetAsync<String> waitingQueue = batch.getScoredSortedSet(key, StringCodec.INSTANCE);
+
+        List<String> orderedUserKeys = new ArrayList<>(userKeys);
+        List<RFuture<Integer>> rankFutures = new ArrayList<>(orderedUserKeys.size());
+        for (String userKey : orderedUserKeys) {
+            rankFutures.add(waitingQueue.rankAsync(userKey));
+        }
+        RFuture<Integer> sizeFuture = waitingQueue.sizeAsync();
+        batch.execute();
+
+        Integer totalWaiting = sizeFuture.toCompletableFuture().join();
+        List<WaitingQueueStatus> statuses = new ArrayList<>(orderedUserKeys.size());
+        for (int i = 0; i < orderedUserKeys.size(); i++) {
+            Integer rank = rankFutures.get(i).toCompletableFuture().join();
+            statuses.add(new WaitingQueueStatus(orderedUserKeys.get(i), rank, totalWaiting));
+        }
+        return statuses;
+    }
+
+    /**
+     * 대기열 제거와 사용자 인덱스 정리를 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * 대기열이 비었다면 전역 활성 대기열 목록에서도 제거한다.
+     */
     @Override
     public boolean removeWaitingQueue(Long scheduleId, String userKey) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
-        boolean result = waitingQueue.remove(userKey);
-        if (result) {
-            log.debug("대기열 큐에서 제거됨: scheduleId = {}, userKey = {}", scheduleId, userKey);
-
-            // 제거한 후 더이상 대기자가 없을 경우 활성화된 대기열 큐 목록에서 해당 스케줄 삭제
-            int remainingSize = waitingQueue.size();
-            if (remainingSize == 0) {
-                RSet<String> activeWaitingQueueScheduleIds = redisson.getSet(ACTIVE_WAITING_PREFIX);
-                boolean removedActiveWaitingQueue = activeWaitingQueueScheduleIds.remove(scheduleId.toString());
-                if (removedActiveWaitingQueue)
-                    log.debug("대기자가 없어 대기열 큐에서 제거됨: scheduleId = {}", scheduleId);
-            } else {
-                log.debug("대기자가 아직 존재하여 대기열 큐 유지: scheduleId = {}", scheduleId);
-            }
+        if (shardedQueue.isSharded(scheduleId)) {
+            boolean removed = shardedQueue.remove(scheduleId, userKey);
+            if (removed && shardedQueue.size(scheduleId) == 0)
+                deactivateIfEmpty(scheduleId);
+            return removed;
         }
 
-        return result;
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.WAITING, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId)
+        );
+        Long removed = REMOVE_WAITING_ENTRY_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                userKey, userIdOf(userKey)
+        );
+
+        if (removed == 0L)
+            return false;
+
+        log.debug("대기열 큐에서 제거됨: scheduleId = {}, userKey = {}", scheduleId, userKey);
+        if (removed == 2L)
+            deactivateIfEmpty(scheduleId);
+        return true;
+    }
+
+    @Override
+    public void removeUserEntryIndex(Long scheduleId, String userKey) {
+        REMOVE_USER_ENTRY_INDEX_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(key(WaitingRedisKey.USER_ENTRY, scheduleId)),
+                userIdOf(userKey), userKey
+        );
+    }
+
+    /**
+     * 만료 처리 선점 키(SET NX)를 만든 한 번의 호출만 Permit 반환(INCR)과 인덱스 정리를 수행한다. (release_expired_admission.lua)
+     * 선점 키는 모든 인스턴스가 같은 만료 이벤트를 받을 때까지만 필요하므로 짧은 TTL을 둔다.
+     */
+    @Override
+    public boolean releaseExpiredAdmission(Long scheduleId, String userKey) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                key(WaitingRedisKey.ADMITTED_EXPIRY, scheduleId, userKey)
+        );
+        Long released = RELEASE_EXPIRED_ADMISSION_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                userIdOf(userKey), userKey, ADMITTED_EXPIRY_CLAIM_TTL.toMillis()
+        );
+        return released == 1L;
     }
 
     @Override
     public Set<String> getActiveWaitingScheduleIds() {
-        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_PREFIX);
+        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
         return activeWaitingScheduleIds.readAll();
     }
 
     @Override
     public boolean hasActiveWaitingQueue(Long resourceId) {
-        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_PREFIX);
-        return activeWaitingScheduleIds.contains(resourceId.toString());
+        // 진입 스크립트와 같은 기준(대기자 존재 여부)으로 판단
+        return getWaitingQueueSize(resourceId) > 0;
     }
 
     @Override
     public Collection<String> getActiveWaitingUserKeys(Long scheduleId) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
+        if (shardedQueue.isSharded(scheduleId))
+            return shardedQueue.readAllUserKeys(scheduleId);
+
+        String key = key(WaitingRedisKey.WAITING, scheduleId);
+        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key, StringCodec.INSTANCE);
         return waitingQueue.readAll();
     }
 
     @Override
     public void removeActiveWaitingScheduleId(Long scheduleId) {
-        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_PREFIX);
-        activeWaitingScheduleIds.remove(scheduleId);
+        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        activeWaitingScheduleIds.remove(scheduleId.toString());
     }
 
     @Override
     public int getWaitingQueueSize(Long scheduleId) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
+        if (shardedQueue.isSharded(scheduleId))
+            return shardedQueue.size(scheduleId);
+
+        String key = key(WaitingRedisKey.WAITING, scheduleId);
+        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key, StringCodec.INSTANCE);
         return waitingQueue.size();
     }
 
+    /**
+     * 입장 처리 단계를 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * <p>
+     * min(가용 Permit, 대기자 수, maxCount)만큼 ZPOPMIN → 같은 수만큼 Permit 차감 → 입장 토큰 자리표시자 저장.
+     * 자리표시자는 입장 토큰과 같은 키/TTL을 사용하므로, 토큰 발급 전에 인스턴스가 죽더라도
+     * 만료 이벤트를 통해 Permit이 회수되어 누수가 발생하지 않는다.
+     * 남은 대기자가 없으면 전역 활성 대기열 목록에서 제거한다.
+     */
     @Override
-    public List<WaitingQueueEntry> admitUsers(Long scheduleId, int count) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
+    public List<WaitingQueueEntry> admitBatch(Long scheduleId, int maxCount) {
+        if (shardedQueue.isSharded(scheduleId)) {
+            ShardedWaitingQueue.AdmitResult result = shardedQueue.admitBatch(scheduleId, maxCount);
+            if (result.drained())
+                deactivateIfEmpty(scheduleId);
+            return result.admitted();
+        }
 
-        Collection<ScoredEntry<String>> entries = waitingQueue.pollFirstEntries(count);
-        return entries.stream()
-                .map(entry -> new WaitingQueueEntry(
-                        entry.getValue(),
-                        entry.getScore()
-                ))
-                .toList();
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.WAITING, scheduleId)
+        );
+        List<Object> result = ADMIT_BATCH_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                keys,
+                maxCount, admittedTokenPrefix(keys), ADMITTED_TOKEN_TTL.toMillis(), ADMITTED_TOKEN_PLACEHOLDER
+        );
+
+        if (toLong(result.get(0)) == 0L)
+            deactivateIfEmpty(scheduleId);
+        return toEntries(result.subList(1, result.size()));
     }
 
+    /**
+     * 보상 트랜잭션: 입장 토큰 발급에 실패한 사용자를 기존 score로 대기열에 되돌리고 Permit을 반환한다.
+     * 자리표시자를 먼저 삭제하므로 만료 이벤트로 인한 Permit 중복 반환은 발생하지 않는다.
+     */
     @Override
-    public void addUserToWaitingQueue(Long scheduleId, String userKey, double score) {
-        String key = WAITING_PREFIX + scheduleId;
-        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key);
-        waitingQueue.add(score, userKey);
+    public void requeueAdmittedUser(Long scheduleId, WaitingQueueEntry entry) {
+        if (shardedQueue.isSharded(scheduleId)) {
+            shardedQueue.requeue(scheduleId, entry);
+            addActiveQueue(scheduleId);
+            return;
+        }
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getBucket(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, entry.userKey()), StringCodec.INSTANCE).deleteAsync();
+        batch.<String>getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE).addAsync(entry.score(), entry.userKey());
+        batch.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId)).releaseAsync();
+        batch.execute();
+
+        addActiveQueue(scheduleId);
     }
 
     private void addActiveQueue(Long scheduleId) {
-        RSet<String> activeWaitingQueueSchedules = redisson.getSet(ACTIVE_WAITING_PREFIX);
+        RSet<String> activeWaitingQueueSchedules = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
         activeWaitingQueueSchedules.add(scheduleId.toString());
     }
+
+    /**
+     * 응답을 기다리지 않고 활성 대기열 목록에 등록한다. (Cluster에서 진입 요청마다 보내므로 한 번 실패해도 다음 진입에서 복구됨)
+     */
+    private void addActiveQueueAsync(Long scheduleId) {
+        redisson.<String>getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE)
+                .addAsync(scheduleId.toString())
+                .whenComplete((added, e) -> {
+                    if (e != null)
+                        log.warn("활성 대기열 목록 등록 실패: scheduleId = {}", scheduleId, e);
+                });
+    }
+
+    /**
+     * 진입 스크립트 키 목록. 단일 노드라면 전역 활성 대기열 목록 키를 함께 넘겨 스크립트 안에서 등록한다.
+     */
+    /**
+     * 스크립트가 실행 중에 접근하는 입장 토큰 키의 접두사 (KEYS[1]과 같은 해시 태그, WaitingRedisKey 참고)
+     */
+    private String admittedTokenPrefix(List<Object> keys) {
+        return WaitingRedisKey.ADMITTED_TOKEN.dynamicKeyPrefix(DOMAIN, keys.get(0));
+    }
+
+    private List<Object> entryKeys(Long scheduleId) {
+        List<Object> keys = new ArrayList<>(6);
+        keys.add(key(WaitingRedisKey.SEMAPHORE, scheduleId));
+        keys.add(key(WaitingRedisKey.WAITING, scheduleId));
+        keys.add(key(WaitingRedisKey.PERMIT_LIMIT, scheduleId));
+        keys.add(key(WaitingRedisKey.USER_ENTRY, scheduleId));
+        keys.add(key(WaitingRedisKey.PRESENCE, scheduleId));
+        if (activeKeyInScript)
+            keys.add(ACTIVE_WAITING_KEY);
+        return keys;
+    }
+
+    /**
+     * 전역 활성 대기열 목록에서 제거한다.
+     * 제거 직전에 다른 사용자가 진입했을 수 있으므로 제거 후 대기자가 있으면 다시 등록한다.
+     */
+    private void deactivateIfEmpty(Long scheduleId) {
+        RSet<String> activeWaitingQueueSchedules = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        activeWaitingQueueSchedules.remove(scheduleId.toString());
+        if (getWaitingQueueSize(scheduleId) > 0)
+            activeWaitingQueueSchedules.add(scheduleId.toString());
+    }
+
+    private String key(WaitingRedisKey redisKey, Object... params) {
+        return redisKey.generateKey(DOMAIN, params);
+    }
+
+    /**
+     * ZPOPMIN 결과({member, score, member, score, ...})를 WaitingQueueEntry 목록으로 변환
+     */
+    private List<WaitingQueueEntry> toEntries(List<Object> popped) {
+        List<WaitingQueueEntry> entries = new ArrayList<>(popped.size() / 2);
+        for (int i = 0; i + 1 < popped.size(); i += 2) {
+            entries.add(new WaitingQueueEntry(
+                    String.valueOf(popped.get(i)),
+                    Double.parseDouble(String.valueOf(popped.get(i + 1)))
+            ));
+        }
+        return entries;
+    }
+
+    /**
+     * userKey({userId}:{uuid})에서 userId 추출
+     */
+    private String userIdOf(String userKey) {
+        return userKey.substring(0, userKey.indexOf(':'));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
 }
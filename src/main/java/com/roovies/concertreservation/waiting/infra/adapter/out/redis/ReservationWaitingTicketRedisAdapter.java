@@ -0,0 +1,488 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번호표(Ticket) 기반 대기열 어댑터.
+ * <p>
+ * 진입 시 INCR로 단조 증가하는 번호표를 발급하고, 입장 처리 시 "현재 호출 번호(serving cursor)"를 전진시킨다.
+ * 대기자의 순번은 (내 번호표 - 현재 호출 번호)로 계산되므로,
+ * 순번 갱신 시 사용자마다 ZRANK를 호출하는 대신 스케줄당 커서 1회 조회로 처리할 수 있다.
+ * <p>
+ * 중도 이탈자가 생기면 번호표 사이에 빈 자리가 생기므로 순번은 실제보다 크게(보수적으로) 계산될 수 있다.
+ * 입장 순서 보장을 위해 score = 번호표인 ZSET은 그대로 유지한다.
+ * app.waiting.queue-mode=ticket 설정 시 활성화된다.
+ * <p>
+ * 스케줄별 키(번호표 카운터/호출 번호 포함)는 {@link WaitingRedisKey}의 {scheduleId} 해시 태그로 같은 슬롯에 모인다.
+ * 전역 활성 대기열 목록 등록은 단일 노드에서는 진입 스크립트 안에서, Cluster에서는 응답을 기다리지 않는 SADD로 수행한다.
+ */
+@Slf4j
+@Repository("reservationWaitingTicketRedis")
+@Profile("!waiting-inmemory")
+@ConditionalOnProperty(name = "app.waiting.queue-mode", havingValue = "ticket")
+public class ReservationWaitingTicketRedisAdapter implements WaitingCachePort {
+
+    private static final String DOMAIN = "reservation";
+    private static final String ACTIVE_WAITING_KEY = WaitingRedisKey.ACTIVE_WAITING_ITEMS.generateKey("reservations");
+
+    private static final Duration ADMITTED_TOKEN_TTL = Duration.ofMinutes(10);
+    private static final String ADMITTED_TOKEN_PLACEHOLDER = "PENDING";
+    private static final Duration ADMITTED_EXPIRY_CLAIM_TTL = Duration.ofMinutes(1);   // 만료 처리 선점 키 유지 시간
+
+    private static final RedisLuaScript ENTER_OR_WAIT_SCRIPT = RedisLuaScript.load("scripts/waiting/ticket_enter_or_wait.lua");
+    private static final RedisLuaScript RESIZE_PERMIT_LIMIT_SCRIPT = RedisLuaScript.load("scripts/waiting/resize_permit_limit.lua");
+    private static final RedisLuaScript REMOVE_WAITING_ENTRY_SCRIPT = RedisLuaScript.load("scripts/waiting/remove_waiting_entry.lua");
+    private static final RedisLuaScript REMOVE_USER_ENTRY_INDEX_SCRIPT = RedisLuaScript.load("scripts/waiting/remove_user_entry_index.lua");
+    private static final RedisLuaScript RELEASE_EXPIRED_ADMISSION_SCRIPT = RedisLuaScript.load("scripts/waiting/release_expired_admission.lua");
+    private static final RedisLuaScript ADMIT_BATCH_SCRIPT = RedisLuaScript.load("scripts/waiting/ticket_admit_batch.lua");
+    private static final RedisLuaScript ENTER_QUEUE_IN_ORDER_SCRIPT = RedisLuaScript.load("scripts/waiting/enter_queue_in_order.lua");
+
+    private static final int ENTER_IN_ORDER_CHUNK_SIZE = 1000;   // 일괄 진입 스크립트 1회당 최대 인원
+
+    private final RedissonClient redisson;
+    private final int initialPermits;
+    private final boolean activeKeyInScript;   // 전역 활성 대기열 목록을 진입 스크립트에서 갱신할 수 있는지 (단일 노드)
+
+    public ReservationWaitingTicketRedisAdapter(
+            RedissonClient redisson,
+            @Value("${app.waiting.admission.initial-permits:100}") int initialPermits
+    ) {
+        this.redisson = redisson;
+        this.initialPermits = initialPermits;
+        this.activeKeyInScript = !redisson.getConfig().isClusterConfig();
+    }
+
+    @Override
+    public boolean tryAcquirePermit(Long scheduleId) {
+        RSemaphore semaphore = redisson.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId));
+
+        // Semaphore 초기화 (최초 1회)
+        if (!semaphore.isExists())
+            semaphore.trySetPermits(getPermitLimit(scheduleId));
+
+        return semaphore.tryAcquire();
+    }
+
+    @Override
+    public int getAvailablePermits(Long scheduleId) {
+        return redisson.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId)).availablePermits();
+    }
+
+    @Override
+    public void releasePermits(Long scheduleId, int count) {
+        redisson.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId)).release(count);
+    }
+
+    @Override
+    public int getPermitLimit(Long scheduleId) {
+        RBucket<String> bucket = redisson.getBucket(key(WaitingRedisKey.PERMIT_LIMIT, scheduleId), StringCodec.INSTANCE);
+        String permitLimit = bucket.get();
+        return permitLimit == null ? initialPermits : Integer.parseInt(permitLimit);
+    }
+
+    /**
+     * 한도 변경과 가용 Permit 증감(새 한도 - 기존 한도)을 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * 이미 입장한 사용자의 Permit은 회수하지 않으므로, 한도를 줄이면 토큰이 만료될 때까지 신규 입장만 줄어든다.
+     */
+    @Override
+    public void updatePermitLimit(Long scheduleId, int permitLimit) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                key(WaitingRedisKey.SEMAPHORE, scheduleId)
+        );
+        Long delta = RESIZE_PERMIT_LIMIT_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                permitLimit, initialPermits
+        );
+        log.debug("Permit 한도 변경: scheduleId = {}, permitLimit = {}, delta = {}", scheduleId, permitLimit, delta);
+    }
+
+    @Override
+    public boolean tryAcquireAdmitLock(Long scheduleId) {
+        RLock lock = redisson.getLock(key(WaitingRedisKey.ADMIT_LOCK, scheduleId));
+        try {
+            return lock.tryLock(0, 10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("락 획득 중 인터럽트 발생: scheduleId = {}", scheduleId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void releaseAdmitLock(Long scheduleId) {
+        RLock lock = redisson.getLock(key(WaitingRedisKey.ADMIT_LOCK, scheduleId));
+        if (lock.isHeldByCurrentThread()) {
+            lock.unlock();
+            log.debug("분산락 해제: scheduleId = {}", scheduleId);
+        }
+    }
+
+    @Override
+    public void saveAdmittedToken(Long scheduleId, String userKey, String admittedToken) {
+        RBucket<String> bucket = redisson.getBucket(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, userKey), StringCodec.INSTANCE);
+        bucket.set(admittedToken, ADMITTED_TOKEN_TTL);
+        log.debug("[ReservationWaitingTicketRedisAdapter] 입장 토큰 발급 완료 - scheduleId: {}, userKey: {}", scheduleId, userKey);
+    }
+
+    /**
+     * 입장 토큰 일괄 조회 (MGET 1회). 키가 모두 같은 해시 태그({scheduleId})를 가지므로 Cluster에서도 한 슬롯에서 조회된다.
+     */
+    @Override
+    public Map<String, String> getAdmittedTokens(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return Map.of();
+
+        Map<String, String> userKeyByKey = new HashMap<>();
+        for (String userKey : userKeys)
+            userKeyByKey.put(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, userKey), userKey);
+
+        Map<String, String> tokenByKey = redisson.getBuckets(StringCodec.INSTANCE).get(userKeyByKey.keySet().toArray(String[]::new));
+
+        Map<String, String> result = new HashMap<>();
+        tokenByKey.forEach((key, token) -> {
+            if (token != null && !ADMITTED_TOKEN_PLACEHOLDER.equals(token))
+                result.put(userKeyByKey.get(key), token);
+        });
+        return result;
+    }
+
+    /**
+     * 즉시 입장 판단, 번호표 발급, 대기열 진입을 Lua 스크립트 한 번(EVALSHA)으로 처리한다.
+     * 같은 사용자가 다시 진입하면 새 번호표를 발급하지 않고 기존 userKey와 순번(또는 발급된 입장 토큰)을 반환한다.
+     * 단일 노드에서는 전역 활성 대기열 목록 등록(SADD)도 같은 스크립트에서 수행한다.
+     */
+    @Override
+    public WaitingEntryResult enterOrWait(Long scheduleId, Long userId, String userKey) {
+        List<Object> keys = new ArrayList<>(8);
+        keys.add(key(WaitingRedisKey.SEMAPHORE, scheduleId));
+        keys.add(key(WaitingRedisKey.WAITING, scheduleId));
+        keys.add(key(WaitingRedisKey.TICKET_ISSUED, scheduleId));
+        keys.add(key(WaitingRedisKey.TICKET_SERVING, scheduleId));
+        keys.add(key(WaitingRedisKey.PERMIT_LIMIT, scheduleId));
+        keys.add(key(WaitingRedisKey.USER_ENTRY, scheduleId));
+        keys.add(key(WaitingRedisKey.PRESENCE, scheduleId));
+        if (activeKeyInScript)
+            keys.add(ACTIVE_WAITING_KEY);
+
+        List<Object> result = ENTER_OR_WAIT_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                keys,
+                userKey, initialPermits,
+                userId, admittedTokenPrefix(keys), ADMITTED_TOKEN_TTL.toMillis(), ADMITTED_TOKEN_PLACEHOLDER,
+                scheduleId.toString(), WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis()
+        );
+
+        if (toLong(result.get(0)) == 1L) {
+            String admittedUserKey = String.valueOf(result.get(1));
+            if (result.size() > 2)
+                return WaitingEntryResult.alreadyAdmitted(admittedUserKey, String.valueOf(result.get(2)));
+            return WaitingEntryResult.admitted(admittedUserKey);
+        }
+
+        if (!activeKeyInScript)
+            addActiveQueueAsync(scheduleId);
+        return WaitingEntryResult.waiting(String.valueOf(result.get(3)), (int) toLong(result.get(1)), (int) toLong(result.get(2)));
+    }
+
+    /**
+     * 번호표 발급(INCR) 후 score = 번호표로 대기열에 추가한다.
+     */
+    @Override
+    public void enterQueue(Long scheduleId, String userKey) {
+        long ticket = redisson.getAtomicLong(key(WaitingRedisKey.TICKET_ISSUED, scheduleId)).incrementAndGet();
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        batch.<String>getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE).addAsync(ticket, userKey);
+        batch.<String>getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE).addAsync(scheduleId.toString());
+        batch.execute();
+
+        log.debug("번호표 발급: scheduleId = {}, userKey = {}, ticket = {}", scheduleId, userKey, ticket);
+    }
+
+    /**
+     * 추첨 순서대로 번호표를 연속 발급하여 대기열에 일괄 진입시킨다. (스크립트 1회에 최대 ENTER_IN_ORDER_CHUNK_SIZE명)
+     * 이미 대기열 항목이 있는 사용자는 번호표를 발급하지 않으므로 번호표 사이에 빈 번호가 생기지 않는다.
+     */
+    @Override
+    public int enterQueueInOrder(Long scheduleId, List<String> userKeys) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.WAITING, scheduleId),
+                key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                key(WaitingRedisKey.TICKET_ISSUED, scheduleId),
+                key(WaitingRedisKey.PRESENCE, scheduleId)
+        );
+
+        int entered = 0;
+        for (int from = 0; from < userKeys.size(); from += ENTER_IN_ORDER_CHUNK_SIZE) {
+            List<String> chunk = userKeys.subList(from, Math.min(from + ENTER_IN_ORDER_CHUNK_SIZE, userKeys.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 4);
+            args.add(initialPermits);
+            args.add("ticket");
+            args.add(0);
+            args.add(WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis());
+            args.addAll(chunk);
+            List<Object> chunkEntered = ENTER_QUEUE_IN_ORDER_SCRIPT.execute(redisson, RScript.ReturnType.MULTI, keys, args.toArray());
+            entered += chunkEntered.size();
+        }
+
+        if (entered > 0)
+            addActiveQueue(scheduleId);
+        log.debug("대기열 일괄 진입 완료: scheduleId = {}, entered = {}/{}", scheduleId, entered, userKeys.size());
+        return entered;
+    }
+
+    @Override
+    public WaitingQueueStatus getRankAndTotalWaitingCount(Long scheduleId, String userKey) {
+        return getRankAndTotalWaitingCounts(scheduleId, List.of(userKey)).get(0);
+    }
+
+    /**
+     * 현재 호출 번호, 대기자 수, 요청한 사용자들의 번호표(ZMSCORE)를 한 배치로 조회하고 순번은 (번호표 - 호출 번호)로 계산한다.
+     * 번호표를 로컬에 캐싱하지 않으므로 다른 인스턴스에서 입장/이탈/퇴출된 사용자도 같은 조회에서 대기열에 없음으로 확인된다.
+     */
+    @Override
+    public List<WaitingQueueStatus> getRankAndTotalWaitingCounts(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return List.of();
+
+        List<String> requestedUserKeys = new ArrayList<>(userKeys);
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        RScoredSortedSetAsync<String> waitingQueue = batch.getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE);
+        RFuture<Long> servingFuture = batch.getAtomicLong(key(WaitingRedisKey.TICKET_SERVING, scheduleId)).getAsync();
+        RFuture<Integer> sizeFuture = waitingQueue.sizeAsync();
+        RFuture<List<Double>> ticketsFuture = waitingQueue.getScoreAsync(requestedUserKeys);
+        batch.execute();
+
+        long serving = servingFuture.toCompletableFuture().join();
+        int totalWaiting = sizeFuture.toCompletableFuture().join();
+        List<Double> tickets = ticketsFuture.toCompletableFuture().join();
+
+        List<WaitingQueueStatus> statuses = new ArrayList<>(requestedUserKeys.size());
+        for (int i = 0; i < requestedUserKeys.size(); i++) {
+            String userKey = requestedUserKeys.get(i);
+            Double ticket = tickets.get(i);
+            if (ticket == null) {
+                // 대기열에 존재하지 않는 사용자 (입장 처리 또는 이탈/퇴출됨)
+                statuses.add(new WaitingQueueStatus(userKey, null, totalWaiting));
+                continue;
+            }
+
+            // 보상 트랜잭션으로 재추가된 대기자는 호출 번호가 이미 지나갔으므로 맨 앞 순번
+            // 이탈자로 인해 생긴 빈 번호만큼 실제 순번보다 클 수 있으므로 전체 대기자 수 범위로 보정
+            long rank = Math.min(ticket.longValue() - serving - 1, Math.max(totalWaiting - 1, 0));
+            statuses.add(new WaitingQueueStatus(userKey, (int) Math.max(rank, 0), totalWaiting));
+        }
+        return statuses;
+    }
+
+    /**
+     * 대기열 제거와 사용자 인덱스 정리를 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * 대기열이 비었다면 전역 활성 대기열 목록에서도 제거한다.
+     */
+    @Override
+    public boolean removeWaitingQueue(Long scheduleId, String userKey) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.WAITING, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId)
+        );
+        Long removed = REMOVE_WAITING_ENTRY_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                userKey, userIdOf(userKey)
+        );
+
+        if (removed == 0L)
+            return false;
+
+        log.debug("대기열 큐에서 제거됨: scheduleId = {}, userKey = {}", scheduleId, userKey);
+        if (removed == 2L)
+            deactivateIfEmpty(scheduleId);
+        return true;
+    }
+
+    @Override
+    public void removeUserEntryIndex(Long scheduleId, String userKey) {
+        REMOVE_USER_ENTRY_INDEX_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(key(WaitingRedisKey.USER_ENTRY, scheduleId)),
+                userIdOf(userKey), userKey
+        );
+    }
+
+    /**
+     * 만료 처리 선점 키(SET NX)를 만든 한 번의 호출만 Permit 반환(INCR)과 인덱스 정리를 수행한다. (release_expired_admission.lua)
+     * 선점 키는 모든 인스턴스가 같은 만료 이벤트를 받을 때까지만 필요하므로 짧은 TTL을 둔다.
+     */
+    @Override
+    public boolean releaseExpiredAdmission(Long scheduleId, String userKey) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                key(WaitingRedisKey.ADMITTED_EXPIRY, scheduleId, userKey)
+        );
+        Long released = RELEASE_EXPIRED_ADMISSION_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                keys,
+                userIdOf(userKey), userKey, ADMITTED_EXPIRY_CLAIM_TTL.toMillis()
+        );
+        return released == 1L;
+    }
+
+    @Override
+    public Set<String> getActiveWaitingScheduleIds() {
+        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        return activeWaitingScheduleIds.readAll();
+    }
+
+    @Override
+    public boolean hasActiveWaitingQueue(Long scheduleId) {
+        // 진입 스크립트와 같은 기준(대기자 존재 여부)으로 판단
+        return getWaitingQueueSize(scheduleId) > 0;
+    }
+
+    @Override
+    public Collection<String> getActiveWaitingUserKeys(Long scheduleId) {
+        RScoredSortedSet<String> waitingQueue = redisson.getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE);
+        return waitingQueue.readAll();
+    }
+
+    @Override
+    public void removeActiveWaitingScheduleId(Long scheduleId) {
+        RSet<String> activeWaitingScheduleIds = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        activeWaitingScheduleIds.remove(scheduleId.toString());
+    }
+
+    @Override
+    public int getWaitingQueueSize(Long scheduleId) {
+        return redisson.getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE).size();
+    }
+
+    /**
+     * 입장 처리 단계를 Lua 스크립트 한 번으로 원자적으로 수행한다.
+     * 번호표 순으로 추출한 뒤 현재 호출 번호를 마지막으로 추출된 번호표까지 전진시킨다.
+     * 남은 대기자가 없으면 전역 활성 대기열 목록에서 제거한다.
+     */
+    @Override
+    public List<WaitingQueueEntry> admitBatch(Long scheduleId, int maxCount) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.WAITING, scheduleId),
+                key(WaitingRedisKey.TICKET_SERVING, scheduleId)
+        );
+        List<Object> result = ADMIT_BATCH_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                keys,
+                maxCount, admittedTokenPrefix(keys), ADMITTED_TOKEN_TTL.toMillis(), ADMITTED_TOKEN_PLACEHOLDER
+        );
+
+        if (toLong(result.get(0)) == 0L)
+            deactivateIfEmpty(scheduleId);
+
+        return toEntries(result.subList(1, result.size()));
+    }
+
+    /**
+     * 보상 트랜잭션으로 재추가되는 사용자는 기존 번호표를 그대로 사용한다.
+     * 호출 번호가 이미 지나갔으므로 순번은 0(맨 앞)으로 계산된다.
+     */
+    @Override
+    public void requeueAdmittedUser(Long scheduleId, WaitingQueueEntry entry) {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        batch.getBucket(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, entry.userKey()), StringCodec.INSTANCE).deleteAsync();
+        batch.<String>getScoredSortedSet(key(WaitingRedisKey.WAITING, scheduleId), StringCodec.INSTANCE).addAsync(entry.score(), entry.userKey());
+        batch.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId)).releaseAsync();
+        batch.execute();
+
+        addActiveQueue(scheduleId);
+    }
+
+    private void addActiveQueue(Long scheduleId) {
+        RSet<String> activeWaitingQueueSchedules = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        activeWaitingQueueSchedules.add(scheduleId.toString());
+    }
+
+    /**
+     * 응답을 기다리지 않고 활성 대기열 목록에 등록한다. (Cluster에서 진입 요청마다 보내므로 한 번 실패해도 다음 진입에서 복구됨)
+     */
+    private void addActiveQueueAsync(Long scheduleId) {
+        redisson.<String>getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE)
+                .addAsync(scheduleId.toString())
+                .whenComplete((added, e) -> {
+                    if (e != null)
+                        log.warn("활성 대기열 목록 등록 실패: scheduleId = {}", scheduleId, e);
+                });
+    }
+
+    /**
+     * 전역 활성 대기열 목록에서 제거한다.
+     * 제거 직전에 다른 사용자가 진입했을 수 있으므로 제거 후 대기자가 있으면 다시 등록한다.
+     */
+    private void deactivateIfEmpty(Long scheduleId) {
+        RSet<String> activeWaitingQueueSchedules = redisson.getSet(ACTIVE_WAITING_KEY, StringCodec.INSTANCE);
+        activeWaitingQueueSchedules.remove(scheduleId.toString());
+        if (getWaitingQueueSize(scheduleId) > 0)
+            activeWaitingQueueSchedules.add(scheduleId.toString());
+    }
+
+    /**
+     * 스크립트가 실행 중에 접근하는 입장 토큰 키의 접두사 (KEYS[1]과 같은 해시 태그, WaitingRedisKey 참고)
+     */
+    private String admittedTokenPrefix(List<Object> keys) {
+        return WaitingRedisKey.ADMITTED_TOKEN.dynamicKeyPrefix(DOMAIN, keys.get(0));
+    }
+
+    private String key(WaitingRedisKey redisKey, Object... params) {
+        return redisKey.generateKey(DOMAIN, params);
+    }
+
+    /**
+     * ZPOPMIN 결과({member, score, member, score, ...})를 WaitingQueueEntry 목록으로 변환
+     */
+    private List<WaitingQueueEntry> toEntries(List<Object> popped) {
+        List<WaitingQueueEntry> entries = new ArrayList<>(popped.size() / 2);
+        for (int i = 0; i + 1 < popped.size(); i += 2) {
+            entries.add(new WaitingQueueEntry(
+                    String.valueOf(popped.get(i)),
+                    Double.parseDouble(String.valueOf(popped.get(i + 1)))
+            ));
+        }
+        return entries;
+    }
+
+    /**
+     * userKey({userId}:{uuid})에서 userId 추출
+     */
+    private String userIdOf(String userKey) {
+        return userKey.substring(0, userKey.indexOf(':'));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
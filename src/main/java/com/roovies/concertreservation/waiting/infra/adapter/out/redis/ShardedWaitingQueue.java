@@ -0,0 +1,472 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 대기자가 몰리는 스케줄의 대기열을 여러 하위 대기열(ZSET)로 나누어 저장한다.
+ * <p>
+ * 사용자는 userId 해시로 하위 대기열 하나에 배정되며, 하위 대기열마다 해시 태그가 달라({scheduleId:shard})
+ * Redis Cluster의 여러 노드(코어)로 진입 부하가 분산된다.
+ * <p>
+ * score는 (진입 시각(ms) × SHARD_SCORE_SCALE + 하위 대기열 번호)이다.
+ * <ul>
+ *     <li>진입 시각은 스케줄 슬롯 노드의 서버 시각(TIME)이므로 인스턴스 간 시각 차이로 순서가 바뀌지 않음</li>
+ *     <li>하위 대기열 번호가 score에 포함되므로 다른 하위 대기열과 score가 겹치지 않음 (같은 하위 대기열 안에서는 ZSET의 userKey 순)</li>
+ * </ul>
+ * 따라서 전체 순서는 (진입 시각, 하위 대기열 번호, userKey)로 정해지며, 순번 계산과 입장 처리가 같은 순서를 따른다.
+ * <ul>
+ *     <li>순번: 내 하위 대기열의 ZRANK + 다른 하위 대기열에서 내 score보다 앞선 대기자 수(ZCOUNT)</li>
+ *     <li>입장 처리: 하위 대기열 앞부분을 병합해 score 순(전역 FIFO)으로 후보를 고른 뒤 Permit 예약 → 하위 대기열에서 제거</li>
+ * </ul>
+ * 세마포어, 사용자 인덱스, 입장 토큰은 스케줄 슬롯({scheduleId})에 그대로 두므로 하위 대기열과는 별도 왕복으로 처리된다.
+ * 동시 입장 처리는 스케줄 단위 분산락으로 막고 있으므로 병합 추출은 단일 실행을 전제로 한다.
+ */
+@Slf4j
+class ShardedWaitingQueue {
+
+    private static final RedisLuaScript ENTER_OR_WAIT_SCRIPT = RedisLuaScript.load("scripts/waiting/sharded_enter_or_wait.lua");
+    private static final RedisLuaScript RESERVE_ADMISSION_SCRIPT = RedisLuaScript.load("scripts/waiting/reserve_admission.lua");
+    private static final RedisLuaScript REMOVE_USER_ENTRY_INDEX_SCRIPT = RedisLuaScript.load("scripts/waiting/remove_user_entry_index.lua");
+    private static final RedisLuaScript ENTER_QUEUE_IN_ORDER_SCRIPT = RedisLuaScript.load("scripts/waiting/enter_queue_in_order.lua");
+    private static final RedisLuaScript SERVER_TIME_SCRIPT = RedisLuaScript.load("scripts/waiting/server_time.lua");
+
+    // score = 진입 시각(ms) × SHARD_SCORE_SCALE + 하위 대기열 번호 (double로 정확히 표현되는 범위: 2^53 > 현재 시각(ms) × 1024)
+    static final int SHARD_SCORE_SCALE = 1024;
+
+    private final RedissonClient redisson;
+    private final String domain;
+    private final int initialPermits;
+    private final Duration admittedTokenTtl;
+    private final String admittedTokenPlaceholder;
+    private final Map<Long, Integer> shardCounts;
+
+    ShardedWaitingQueue(
+            RedissonClient redisson,
+            String domain,
+            int initialPermits,
+            Duration admittedTokenTtl,
+            String admittedTokenPlaceholder,
+            String shardedSchedules
+    ) {
+        this.redisson = redisson;
+        this.domain = domain;
+        this.initialPermits = initialPermits;
+        this.admittedTokenTtl = admittedTokenTtl;
+        this.admittedTokenPlaceholder = admittedTokenPlaceholder;
+        this.shardCounts = parseShardCounts(shardedSchedules);
+
+        if (!shardCounts.isEmpty())
+            log.info("샤딩 대기열 스케줄: {}", shardCounts);
+    }
+
+    boolean isSharded(Long scheduleId) {
+        return shardCount(scheduleId) > 1;
+    }
+
+    /**
+     * 재진입/즉시 입장 판단은 스케줄 슬롯에서, 하위 대기열 진입과 순번 계산은 하위 대기열 슬롯에서 수행한다.
+     * 신규 대기자는 3번의 왕복으로 처리된다. (하위 대기열 크기 → 스케줄 슬롯 스크립트 → 하위 대기열 추가 + 순번 계산)
+     */
+    WaitingEntryResult enterOrWait(Long scheduleId, Long userId, String userKey) {
+        boolean queueEmpty = size(scheduleId) == 0;
+
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                key(WaitingRedisKey.PRESENCE, scheduleId)
+        );
+        List<Object> result = ENTER_OR_WAIT_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                keys,
+                userKey, initialPermits, userId,
+                admittedTokenPrefix(keys), admittedTokenTtl.toMillis(), admittedTokenPlaceholder, queueEmpty ? 1 : 0,
+                WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis()
+        );
+
+        long status = toLong(result.get(0));
+        String entryUserKey = String.valueOf(result.get(1));
+        if (status == 1L) {
+            return result.size() > 3
+                    ? WaitingEntryResult.alreadyAdmitted(entryUserKey, String.valueOf(result.get(3)))
+                    : WaitingEntryResult.admitted(entryUserKey);
+        }
+        if (status == 2L)
+            return WaitingEntryResult.waiting(entryUserKey, 0, size(scheduleId));
+
+        return enqueue(scheduleId, entryUserKey, toLong(result.get(2)));
+    }
+
+    /**
+     * 하위 대기열 추가(ZADD NX)와 순번 계산(ZRANK, 다른 하위 대기열의 ZCOUNT, ZCARD)을 한 번의 파이프라인으로 수행한다.
+     * ZCOUNT는 이번에 부여한 score 기준이므로, 이미 대기 중이어서 기존 score가 유지된 경우에만 기존 score로 다시 계산한다.
+     */
+    private WaitingEntryResult enqueue(Long scheduleId, String userKey, long serverTimeMillis) {
+        int shardCount = shardCount(scheduleId);
+        int ownShard = shardOf(scheduleId, userIdOf(userKey));
+        double score = score(serverTimeMillis, ownShard);
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        RScoredSortedSetAsync<String> ownQueue = shardAsync(batch, scheduleId, ownShard);
+        ownQueue.addIfAbsentAsync(score, userKey);
+        RFuture<Double> storedScoreFuture = ownQueue.getScoreAsync(userKey);
+        RFuture<Integer> ownRankFuture = ownQueue.rankAsync(userKey);
+        List<RFuture<Integer>> sizeFutures = new ArrayList<>(shardCount);
+        List<RFuture<Integer>> aheadFutures = new ArrayList<>(shardCount - 1);
+        for (int shard = 0; shard < shardCount; shard++) {
+            RScoredSortedSetAsync<String> queue = shardAsync(batch, scheduleId, shard);
+            sizeFutures.add(queue.sizeAsync());
+            if (shard != ownShard)
+                aheadFutures.add(queue.countAsync(Double.NEGATIVE_INFINITY, true, score, false));
+        }
+        batch.execute();
+
+        Double storedScore = storedScoreFuture.toCompletableFuture().join();
+        if (storedScore == null || storedScore != score) {
+            // 이미 대기 중이면 기존 score 유지
+            WaitingQueueStatus entryStatus = getRankAndTotalWaitingCounts(scheduleId, List.of(userKey)).get(0);
+            return WaitingEntryResult.waiting(userKey, entryStatus.rank(), entryStatus.totalWaiting());
+        }
+
+        int rank = ownRankFuture.toCompletableFuture().join() + sum(aheadFutures);
+        return WaitingEntryResult.waiting(userKey, rank, sum(sizeFutures));
+    }
+
+    void enterQueue(Long scheduleId, String userKey) {
+        int shard = shardOf(scheduleId, userIdOf(userKey));
+        shard(scheduleId, shard).add(score(serverTimeMillis(scheduleId), shard), userKey);
+    }
+
+    /**
+     * 스케줄 슬롯 노드의 서버 시각. 진입 스크립트가 score에 사용하는 시계와 같다.
+     */
+    long serverTimeMillis(Long scheduleId) {
+        Long now = SERVER_TIME_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                List.of(key(WaitingRedisKey.SEMAPHORE, scheduleId))
+        );
+        return now;
+    }
+
+    /**
+     * 주어진 순서대로 일괄 진입시킨다.
+     * 스케줄 슬롯에서 세마포어 초기화와 사용자 인덱스 등록을 먼저 수행하고, 등록된 사용자만 하위 대기열별로 묶어 ZADD한다.
+     * 진입 시각은 하위 대기열이 달라도 전역 순서가 유지되도록 baseTimeMillis부터 진입 순서대로 1씩 증가한다.
+     * (baseTimeMillis는 serverTimeMillis 기준이어야 이후 일반 진입자보다 앞에 위치함)
+     */
+    int enterQueueInOrder(Long scheduleId, List<String> userKeys, long baseTimeMillis) {
+        List<Object> keys = List.of(
+                key(WaitingRedisKey.SEMAPHORE, scheduleId),
+                key(WaitingRedisKey.WAITING, scheduleId),
+                key(WaitingRedisKey.PERMIT_LIMIT, scheduleId),
+                key(WaitingRedisKey.USER_ENTRY, scheduleId),
+                key(WaitingRedisKey.TICKET_ISSUED, scheduleId),
+                key(WaitingRedisKey.PRESENCE, scheduleId)
+        );
+        List<Object> args = new ArrayList<>(userKeys.size() + 4);
+        args.add(initialPermits);
+        args.add("index");
+        args.add(baseTimeMillis);
+        args.add(WaitingPresenceRedisAdapter.PRESENCE_TTL.toMillis());
+        args.addAll(userKeys);
+        List<Object> indexed = ENTER_QUEUE_IN_ORDER_SCRIPT.execute(redisson, RScript.ReturnType.MULTI, keys, args.toArray());
+        if (indexed.isEmpty())
+            return 0;
+
+        Map<Integer, Map<String, Double>> entriesByShard = new HashMap<>();
+        for (int i = 0; i < indexed.size(); i++) {
+            String userKey = String.valueOf(indexed.get(i));
+            int shard = shardOf(scheduleId, userIdOf(userKey));
+            entriesByShard.computeIfAbsent(shard, ignored -> new HashMap<>())
+                    .put(userKey, score(baseTimeMillis + i, shard));
+        }
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        entriesByShard.forEach((shard, entries) -> shardAsync(batch, scheduleId, shard).addAllAsync(entries));
+        batch.execute();
+        return indexed.size();
+    }
+
+    /**
+     * 2번의 왕복으로 순번을 계산한다.
+     * 1) 내 하위 대기열의 score/ZRANK와 모든 하위 대기열 크기 2) 다른 하위 대기열에서 내 score보다 앞선 대기자 수
+     * 하위 대기열 사이에는 score가 겹치지 않으므로 ZCOUNT(미포함)로 센 앞선 대기자 수가 정확하며, 순번이 중복되지 않는다.
+     */
+    List<WaitingQueueStatus> getRankAndTotalWaitingCounts(Long scheduleId, Collection<String> userKeys) {
+        if (userKeys.isEmpty())
+            return List.of();
+
+        int shardCount = shardCount(scheduleId);
+        List<String> orderedUserKeys = new ArrayList<>(userKeys);
+
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        List<RFuture<Integer>> sizeFutures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            sizeFutures.add(shardAsync(batch, scheduleId, shard).sizeAsync());
+        }
+        List<RFuture<Double>> scoreFutures = new ArrayList<>(orderedUserKeys.size());
+        List<RFuture<Integer>> rankFutures = new ArrayList<>(orderedUserKeys.size());
+        for (String userKey : orderedUserKeys) {
+            RScoredSortedSetAsync<String> ownShard = shardAsync(batch, scheduleId, shardOf(scheduleId, userIdOf(userKey)));
+            scoreFutures.add(ownShard.getScoreAsync(userKey));
+            rankFutures.add(ownShard.rankAsync(userKey));
+        }
+        batch.execute();
+
+        int totalWaiting = sum(sizeFutures);
+
+        RBatch countBatch = redisson.createBatch(BatchOptions.defaults());
+        Map<String, List<RFuture<Integer>>> aheadFutures = new HashMap<>();
+        for (int i = 0; i < orderedUserKeys.size(); i++) {
+            Double score = scoreFutures.get(i).toCompletableFuture().join();
+            if (score == null)
+                continue;
+
+            String userKey = orderedUserKeys.get(i);
+            int ownShard = shardOf(scheduleId, userIdOf(userKey));
+            List<RFuture<Integer>> futures = new ArrayList<>(shardCount - 1);
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (shard != ownShard)
+                    futures.add(shardAsync(countBatch, scheduleId, shard).countAsync(Double.NEGATIVE_INFINITY, true, score, false));
+            }
+            aheadFutures.put(userKey, futures);
+        }
+        if (!aheadFutures.isEmpty())
+            countBatch.execute();
+
+        List<WaitingQueueStatus> statuses = new ArrayList<>(orderedUserKeys.size());
+        for (int i = 0; i < orderedUserKeys.size(); i++) {
+            String userKey = orderedUserKeys.get(i);
+            Integer ownRank = rankFutures.get(i).toCompletableFuture().join();
+            List<RFuture<Integer>> futures = aheadFutures.get(userKey);
+            if (ownRank == null || futures == null) {
+                statuses.add(new WaitingQueueStatus(userKey, null, totalWaiting));
+                continue;
+            }
+
+            int rank = ownRank + sum(futures);
+            statuses.add(new WaitingQueueStatus(userKey, rank, totalWaiting));
+        }
+        return statuses;
+    }
+
+    /**
+     * 하위 대기열 제거 후 사용자 인덱스를 정리한다.
+     * @return 제거 여부
+     */
+    boolean remove(Long scheduleId, String userKey) {
+        boolean removed = shard(scheduleId, shardOf(scheduleId, userIdOf(userKey))).remove(userKey);
+        if (removed) {
+            REMOVE_USER_ENTRY_INDEX_SCRIPT.execute(
+                    redisson,
+                    RScript.ReturnType.INTEGER,
+                    List.of(key(WaitingRedisKey.USER_ENTRY, scheduleId)),
+                    userIdOf(userKey), userKey
+            );
+        }
+        return removed;
+    }
+
+    Collection<String> readAllUserKeys(Long scheduleId) {
+        int shardCount = shardCount(scheduleId);
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        List<RFuture<Collection<String>>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            futures.add(shardAsync(batch, scheduleId, shard).readAllAsync());
+        }
+        batch.execute();
+
+        List<String> userKeys = new ArrayList<>();
+        futures.forEach(future -> userKeys.addAll(future.toCompletableFuture().join()));
+        return userKeys;
+    }
+
+    int size(Long scheduleId) {
+        int shardCount = shardCount(scheduleId);
+        RBatch batch = redisson.createBatch(BatchOptions.defaults());
+        List<RFuture<Integer>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            futures.add(shardAsync(batch, scheduleId, shard).sizeAsync());
+        }
+        batch.execute();
+
+        return sum(futures);
+    }
+
+    /**
+     * 하위 대기열을 병합하여 score 순으로 입장시킨다.
+     * <ol>
+     *     <li>하위 대기열마다 앞에서 maxCount명씩 조회 후 score 순으로 병합하여 후보 선정</li>
+     *     <li>스케줄 슬롯에서 Permit 예약 + 후보 입장 토큰 자리표시자 저장 (Lua)</li>
+     *     <li>예약된 후보를 하위 대기열에서 제거, 그 사이 이탈한 후보의 자리표시자/Permit은 되돌림</li>
+     * </ol>
+     */
+    AdmitResult admitBatch(Long scheduleId, int maxCount) {
+        int shardCount = shardCount(scheduleId);
+
+        RBatch peekBatch = redisson.createBatch(BatchOptions.defaults());
+        List<RFuture<Collection<ScoredEntry<String>>>> peekFutures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            peekFutures.add(shardAsync(peekBatch, scheduleId, shard).entryRangeAsync(0, maxCount - 1));
+        }
+        peekBatch.execute();
+
+        boolean peekedAll = true;
+        List<WaitingQueueEntry> candidates = new ArrayList<>();
+        for (RFuture<Collection<ScoredEntry<String>>> future : peekFutures) {
+            Collection<ScoredEntry<String>> entries = future.toCompletableFuture().join();
+            if (entries.size() >= maxCount)
+                peekedAll = false;
+            entries.forEach(entry -> candidates.add(new WaitingQueueEntry(entry.getValue(), entry.getScore())));
+        }
+        if (candidates.isEmpty())
+            return new AdmitResult(List.of(), true);
+
+        candidates.sort(Comparator.comparingDouble(WaitingQueueEntry::score).thenComparing(WaitingQueueEntry::userKey));
+        List<WaitingQueueEntry> selected = candidates.subList(0, Math.min(maxCount, candidates.size()));
+
+        List<Object> reserveKeys = new ArrayList<>(1 + selected.size());
+        reserveKeys.add(key(WaitingRedisKey.SEMAPHORE, scheduleId));
+        for (WaitingQueueEntry entry : selected) {
+            reserveKeys.add(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, entry.userKey()));
+        }
+        Long reserved = RESERVE_ADMISSION_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.INTEGER,
+                reserveKeys,
+                admittedTokenTtl.toMillis(), admittedTokenPlaceholder
+        );
+        if (reserved == 0L)
+            return new AdmitResult(List.of(), false);
+
+        List<WaitingQueueEntry> reservedEntries = selected.subList(0, reserved.intValue());
+        RBatch removeBatch = redisson.createBatch(BatchOptions.defaults());
+        List<RFuture<Boolean>> removeFutures = new ArrayList<>(reservedEntries.size());
+        for (WaitingQueueEntry entry : reservedEntries) {
+            removeFutures.add(shardAsync(removeBatch, scheduleId, shardOf(scheduleId, userIdOf(entry.userKey()))).removeAsync(entry.userKey()));
+        }
+        removeBatch.execute();
+
+        List<WaitingQueueEntry> admitted = new ArrayList<>(reservedEntries.size());
+        List<WaitingQueueEntry> missed = new ArrayList<>();
+        for (int i = 0; i < reservedEntries.size(); i++) {
+            if (removeFutures.get(i).toCompletableFuture().join())
+                admitted.add(reservedEntries.get(i));
+            else
+                missed.add(reservedEntries.get(i));
+        }
+        if (!missed.isEmpty())
+            rollbackReservations(scheduleId, missed);
+
+        boolean drained = peekedAll && reservedEntries.size() == candidates.size();
+        return new AdmitResult(admitted, drained);
+    }
+
+    /**
+     * 보상 트랜잭션: 하위 대기열에 먼저 되돌린 뒤 자리표시자 삭제와 Permit 반환을 원자적으로 수행한다.
+     * 그 사이 장애가 나더라도 자리표시자 만료로 Permit이 회수된다.
+     */
+    void requeue(Long scheduleId, WaitingQueueEntry entry) {
+        shard(scheduleId, shardOf(scheduleId, userIdOf(entry.userKey()))).add(entry.score(), entry.userKey());
+        rollbackReservations(scheduleId, List.of(entry));
+    }
+
+    private void rollbackReservations(Long scheduleId, List<WaitingQueueEntry> entries) {
+        RBatch batch = redisson.createBatch(BatchOptions.defaults()
+                .executionMode(BatchOptions.ExecutionMode.IN_MEMORY_ATOMIC));
+        for (WaitingQueueEntry entry : entries) {
+            batch.getBucket(key(WaitingRedisKey.ADMITTED_TOKEN, scheduleId, entry.userKey()), StringCodec.INSTANCE).deleteAsync();
+        }
+        batch.getSemaphore(key(WaitingRedisKey.SEMAPHORE, scheduleId)).releaseAsync(entries.size());
+        batch.execute();
+    }
+
+    /**
+     * 하위 대기열 번호를 하위 자릿수로 붙인 score. 같은 시각이라도 하위 대기열마다 score가 달라 전체 순서가 결정적이다.
+     */
+    private double score(long timeMillis, int shard) {
+        return (double) (timeMillis * SHARD_SCORE_SCALE + shard);
+    }
+
+    private int sum(List<RFuture<Integer>> futures) {
+        return futures.stream()
+                .mapToInt(future -> future.toCompletableFuture().join())
+                .sum();
+    }
+
+    private int shardCount(Long scheduleId) {
+        return shardCounts.getOrDefault(scheduleId, 1);
+    }
+
+    private int shardOf(Long scheduleId, String userId) {
+        return Math.floorMod(userId.hashCode(), shardCount(scheduleId));
+    }
+
+    private RScoredSortedSet<String> shard(Long scheduleId, int shard) {
+        return redisson.getScoredSortedSet(key(WaitingRedisKey.WAITING_SHARD, scheduleId + ":" + shard), StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSetAsync<String> shardAsync(RBatch batch, Long scheduleId, int shard) {
+        return batch.getScoredSortedSet(key(WaitingRedisKey.WAITING_SHARD, scheduleId + ":" + shard), StringCodec.INSTANCE);
+    }
+
+    /**
+     * 스크립트가 실행 중에 접근하는 입장 토큰 키의 접두사 (KEYS[1]과 같은 해시 태그, WaitingRedisKey 참고)
+     */
+    private String admittedTokenPrefix(List<Object> keys) {
+        return WaitingRedisKey.ADMITTED_TOKEN.dynamicKeyPrefix(domain, keys.get(0));
+    }
+
+    private String key(WaitingRedisKey redisKey, Object... params) {
+        return redisKey.generateKey(domain, params);
+    }
+
+    /**
+     * userKey({userId}:{uuid})에서 userId 추출
+     */
+    private String userIdOf(String userKey) {
+        return userKey.substring(0, userKey.indexOf(':'));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * "scheduleId:shardCount,scheduleId:shardCount" 형식의 설정을 파싱한다.
+     */
+    private static Map<Long, Integer> parseShardCounts(String shardedSchedules) {
+        Map<Long, Integer> shardCounts = new HashMap<>();
+        if (shardedSchedules == null || shardedSchedules.isBlank())
+            return shardCounts;
+
+        for (String item : shardedSchedules.split(",")) {
+            String[] parts = item.trim().split(":");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("샤딩 대기열 설정 형식이 올바르지 않습니다: " + item);
+
+            int shardCount = Integer.parseInt(parts[1].trim());
+            if (shardCount < 1 || shardCount > SHARD_SCORE_SCALE)
+                throw new IllegalArgumentException("하위 대기열 수는 1 이상 " + SHARD_SCORE_SCALE + " 이하여야 합니다: " + item);
+            shardCounts.put(Long.parseLong(parts[0].trim()), shardCount);
+        }
+        return Map.copyOf(shardCounts);
+    }
+
+    /**
+     * @param drained 입장 처리 후 남은 대기자가 없는지 여부
+     */
+    record AdmitResult(List<WaitingQueueEntry> admitted, boolean drained) {
+    }
+}
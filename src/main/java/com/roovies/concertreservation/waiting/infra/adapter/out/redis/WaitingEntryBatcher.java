@@ -0,0 +1,136 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스 단위 대기열 진입 버퍼.
+ * <p>
+ * 짧은 시간(maxWaitMillis) 안에 같은 스케줄로 들어온 진입 요청을 모아 스크립트 한 번으로 처리하고,
+ * 결과를 요청별 Future로 돌려준다. 오픈 직후처럼 요청이 몰릴 때 Redis 명령 수가 (요청 수)에서 (스케줄 수 × 버퍼 주기 수)로 줄어든다.
+ * <ul>
+ *     <li>첫 요청이 버퍼에 들어온 시점부터 maxWaitMillis 후 전송 (추가 지연은 최대 maxWaitMillis + 스크립트 실행 시간)</li>
+ *     <li>버퍼가 maxBatchSize에 도달하면 기다리지 않고 바로 전송</li>
+ * </ul>
+ * 전송은 비동기로 수행되므로 느린 스케줄이 다른 스케줄의 전송을 막지 않는다.
+ */
+@Slf4j
+class WaitingEntryBatcher {
+
+    record PendingEntry(Long userId, String userKey, long enteredAt, CompletableFuture<WaitingEntryResult> result) {
+    }
+
+    @FunctionalInterface
+    interface BatchWriter {
+        /**
+         * @return 요청 순서와 같은 순서의 진입 결과
+         */
+        CompletionStage<List<WaitingEntryResult>> write(Long scheduleId, List<PendingEntry> entries);
+    }
+
+    private final BatchWriter writer;
+    private final long maxWaitMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService flusher;
+
+    // 스케줄별 전송 대기 중인 진입 요청 (도착 순서)
+    private final Map<Long, List<PendingEntry>> buffers = new ConcurrentHashMap<>();
+
+    WaitingEntryBatcher(BatchWriter writer, long maxWaitMillis, int maxBatchSize) {
+        if (maxWaitMillis <= 0 || maxBatchSize < 1)
+            throw new IllegalArgumentException("대기열 진입 버퍼 설정이 올바르지 않습니다.");
+
+        this.writer = writer;
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("waiting-enter-batch-"));
+    }
+
+    CompletableFuture<WaitingEntryResult> submit(Long scheduleId, Long userId, String userKey) {
+        PendingEntry entry = new PendingEntry(userId, userKey, System.currentTimeMillis(), new CompletableFuture<>());
+
+        // compute는 스케줄 버퍼를 잠근 상태로 수행되므로 전송(remove)과 엇갈려 요청이 유실되지 않음
+        boolean[] firstInBuffer = new boolean[1];
+        List<List<PendingEntry>> full = new ArrayList<>(1);
+        buffers.compute(scheduleId, (id, entries) -> {
+            List<PendingEntry> buffer = entries != null ? entries : new ArrayList<>();
+            firstInBuffer[0] = entries == null;
+            buffer.add(entry);
+            if (buffer.size() < maxBatchSize)
+                return buffer;
+
+            full.add(buffer);
+            return null;
+        });
+
+        if (!full.isEmpty())
+            write(scheduleId, full.get(0));
+        else if (firstInBuffer[0])
+            flusher.schedule(() -> flush(scheduleId), maxWaitMillis, TimeUnit.MILLISECONDS);
+
+        return entry.result();
+    }
+
+    private void flush(Long scheduleId) {
+        List<PendingEntry> entries = buffers.remove(scheduleId);
+        if (entries != null)
+            write(scheduleId, entries);
+    }
+
+    private void write(Long scheduleId, List<PendingEntry> entries) {
+        CompletionStage<List<WaitingEntryResult>> written;
+        try {
+            written = writer.write(scheduleId, entries);
+        } catch (RuntimeException e) {
+            written = CompletableFuture.failedFuture(e);
+        }
+
+        written.whenComplete((results, e) -> {
+            if (e != null) {
+                fail(scheduleId, entries, e);
+                return;
+            }
+
+            // 결과 수가 요청 수와 다르면 순서 대응을 신뢰할 수 없으므로 전체 실패 처리
+            if (results == null || results.size() != entries.size()) {
+                fail(scheduleId, entries, new IllegalStateException(
+                        "대기열 일괄 진입 결과 수가 요청 수와 다릅니다: 요청 수 = %d, 결과 수 = %s"
+                                .formatted(entries.size(), results == null ? "null" : results.size())));
+                return;
+            }
+
+            try {
+                for (int i = 0; i < entries.size(); i++)
+                    entries.get(i).result().complete(results.get(i));
+                log.debug("대기열 일괄 진입: scheduleId = {}, 요청 수 = {}", scheduleId, entries.size());
+            } catch (RuntimeException completeError) {
+                // 완료되지 않은 요청이 무기한 대기하지 않도록 남은 요청을 모두 실패 처리 (이미 완료된 요청은 영향 없음)
+                fail(scheduleId, entries, completeError);
+            }
+        });
+    }
+
+    private void fail(Long scheduleId, List<PendingEntry> entries, Throwable e) {
+        log.error("대기열 일괄 진입 실패: scheduleId = {}, 요청 수 = {}", scheduleId, entries.size(), e);
+        entries.forEach(entry -> entry.result().completeExceptionally(e));
+    }
+
+    /**
+     * 버퍼에 남은 요청을 모두 전송한 뒤 종료
+     */
+    void shutdown() {
+        flusher.shutdown();
+        List.copyOf(buffers.keySet()).forEach(this::flush);
+    }
+}
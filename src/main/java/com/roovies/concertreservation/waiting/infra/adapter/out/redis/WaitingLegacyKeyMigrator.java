@@ -0,0 +1,118 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.options.KeysScanOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 해시 태그({scheduleId}) 도입 이전 형식의 대기열 키를 새 형식으로 옮긴다.
+ * <p>
+ * 이전 버전은 스케줄 ID를 그대로 붙인 키(ex. waiting:reservation:1)를 사용했으므로,
+ * 배포 시점에 진행 중이던 대기열/Permit/입장 토큰이 새 버전에서 보이지 않게 된다.
+ * 인스턴스가 요청을 받기 전에(빈 초기화 시) 기존 키를 찾아 RENAME하며, 여러 번 실행되어도 안전하다.
+ * <ul>
+ *     <li>이전 버전은 단일 노드에서만 동작했으므로 Cluster 구성에서는 실행하지 않음 (슬롯이 다른 키 간 RENAME 불가)</li>
+ *     <li>롤링 배포 중 이전 버전 인스턴스가 기존 키에 계속 기록하면 새 키와 나뉘므로, 이후 시작되는 인스턴스가 다시 옮긴다.
+ *     양쪽 키가 모두 있으면 덮어쓰지 않고 경고만 남긴다. (진입을 멈춘 상태에서 일괄 교체하는 것을 권장)</li>
+ *     <li>이전이 끝난 뒤에는 app.waiting.legacy-key-migration.enabled=false로 시작 시 키 탐색(SCAN)을 생략할 수 있음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile("!waiting-inmemory")
+public class WaitingLegacyKeyMigrator {
+
+    private static final String DOMAIN = "reservation";
+    private static final int MIGRATE_CHUNK_SIZE = 500;   // 스크립트 1회당 최대 키 수
+
+    private static final RedisLuaScript MIGRATE_SCRIPT = RedisLuaScript.load("scripts/waiting/migrate_legacy_keys.lua");
+
+    /**
+     * 이전 버전 키 접두사와 새 키 규칙. 기존 키는 "접두사 + 스케줄 ID(+ ':' + 나머지)" 형식이다.
+     * 입장 허용 락과 입장 가능 신호는 수 초 안에 만료되는 키이므로 옮기지 않는다.
+     */
+    private static final List<LegacyKey> LEGACY_KEYS = List.of(
+            new LegacyKey("semaphore:reservation:", WaitingRedisKey.SEMAPHORE),
+            new LegacyKey("semaphore:limit:reservation:", WaitingRedisKey.PERMIT_LIMIT),
+            new LegacyKey("waiting:reservation:", WaitingRedisKey.WAITING),
+            new LegacyKey("waiting:user:reservation:", WaitingRedisKey.USER_ENTRY),
+            new LegacyKey("waiting:ticket:issued:", WaitingRedisKey.TICKET_ISSUED),
+            new LegacyKey("waiting:ticket:serving:", WaitingRedisKey.TICKET_SERVING),
+            new LegacyKey("admitted:reservation:", WaitingRedisKey.ADMITTED_TOKEN)
+    );
+
+    private final RedissonClient redisson;
+    private final boolean enabled;
+
+    public WaitingLegacyKeyMigrator(
+            RedissonClient redisson,
+            @Value("${app.waiting.legacy-key-migration.enabled:true}") boolean enabled
+    ) {
+        this.redisson = redisson;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!enabled || redisson.getConfig().isClusterConfig())
+            return;
+
+        long migrated = 0;
+        long conflicts = 0;
+        for (LegacyKey legacyKey : LEGACY_KEYS) {
+            // 새 키는 접두사 바로 뒤가 '{'이므로 숫자로 시작하는 키만 기존 형식
+            KeysScanOptions options = KeysScanOptions.defaults()
+                    .pattern(legacyKey.prefix() + "[0-9]*")
+                    .chunkSize(MIGRATE_CHUNK_SIZE);
+
+            List<Object> pairs = new ArrayList<>(MIGRATE_CHUNK_SIZE * 2);
+            for (String key : redisson.getKeys().getKeys(options)) {
+                pairs.add(key);
+                pairs.add(legacyKey.migratedKey(key));
+                if (pairs.size() >= MIGRATE_CHUNK_SIZE * 2) {
+                    long[] result = migrateChunk(pairs);
+                    migrated += result[0];
+                    conflicts += result[1];
+                    pairs.clear();
+                }
+            }
+            if (!pairs.isEmpty()) {
+                long[] result = migrateChunk(pairs);
+                migrated += result[0];
+                conflicts += result[1];
+            }
+        }
+
+        if (migrated > 0)
+            log.info("이전 형식 대기열 키 이전 완료: migrated = {}", migrated);
+        if (conflicts > 0)
+            log.warn("새 형식 키가 이미 있어 이전하지 않은 대기열 키 수: {} (이전 버전 인스턴스가 남아 있는지 확인 필요)", conflicts);
+    }
+
+    private long[] migrateChunk(List<Object> pairs) {
+        List<Object> result = MIGRATE_SCRIPT.execute(redisson, RScript.ReturnType.MULTI, pairs);
+        return new long[]{((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()};
+    }
+
+    private record LegacyKey(String prefix, WaitingRedisKey redisKey) {
+
+        /**
+         * ex. admitted:reservation:1:2:uuid → admitted:reservation:{1}:2:uuid
+         */
+        String migratedKey(String legacyKey) {
+            String rest = legacyKey.substring(prefix.length());
+            int separator = rest.indexOf(':');
+            if (separator < 0)
+                return redisKey.generateKey(DOMAIN, rest);
+            return redisKey.generateKey(DOMAIN, rest.substring(0, separator)) + rest.substring(separator);
+        }
+    }
+}
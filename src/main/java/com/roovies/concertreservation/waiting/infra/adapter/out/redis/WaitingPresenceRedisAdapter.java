@@ -0,0 +1,67 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
+
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPresencePort;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대기자 생존 기록 Redis 어댑터.
+ * <p>
+ * 스케줄별 ZSET(score = Redis 서버 시각) 하나에 기록하며, 갱신은 스크립트 1회에 최대 TOUCH_CHUNK_SIZE명씩 묶어서 수행한다.
+ * 키는 대기열과 같은 {scheduleId} 해시 태그를 사용하며, 최초 기록은 대기열 진입 스크립트가 같은 슬롯에서 남긴다.
+ */
+@Repository("waitingPresenceRedis")
+@Profile("!waiting-inmemory")
+@RequiredArgsConstructor
+public class WaitingPresenceRedisAdapter implements WaitingPresencePort {
+
+    private static final String DOMAIN = "reservation";
+
+    private static final int TOUCH_CHUNK_SIZE = 1000;                   // 갱신 스크립트 1회당 최대 인원
+    static final Duration PRESENCE_TTL = Duration.ofDays(1);            // 대기열이 사라진 스케줄의 기록 정리용 (진입 스크립트도 같은 TTL로 기록)
+
+    private static final RedisLuaScript TOUCH_SCRIPT = RedisLuaScript.load("scripts/waiting/touch_presence.lua");
+    private static final RedisLuaScript TAKE_EXPIRED_SCRIPT = RedisLuaScript.load("scripts/waiting/take_expired_presence.lua");
+
+    private final RedissonClient redisson;
+
+    @Override
+    public void touch(Long scheduleId, Collection<String> userKeys) {
+        List<String> targets = List.copyOf(userKeys);
+        for (int from = 0; from < targets.size(); from += TOUCH_CHUNK_SIZE) {
+            List<String> chunk = targets.subList(from, Math.min(from + TOUCH_CHUNK_SIZE, targets.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            args.add(PRESENCE_TTL.toMillis());
+            args.addAll(chunk);
+
+            TOUCH_SCRIPT.execute(redisson, RScript.ReturnType.INTEGER, List.of(key(scheduleId)), args.toArray());
+        }
+    }
+
+    @Override
+    public List<String> takeExpired(Long scheduleId, Duration grace, int limit) {
+        List<Object> expired = TAKE_EXPIRED_SCRIPT.execute(
+                redisson,
+                RScript.ReturnType.MULTI,
+                List.of(key(scheduleId)),
+                grace.toMillis(), limit
+        );
+
+        List<String> userKeys = new ArrayList<>(expired.size());
+        for (Object userKey : expired)
+            userKeys.add(String.valueOf(userKey));
+        return userKeys;
+    }
+
+    private String key(Long scheduleId) {
+        return WaitingRedisKey.PRESENCE.generateKey(DOMAIN, scheduleId);
+    }
+}
@@ -3,12 +3,42 @@ package com.roovies.concertreservation.waiting.infra.adapter.out.redis;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
+/**
+ * 대기열 Redis 키 규칙.
+ * <p>
+ * 첫 번째 파라미터(스케줄 ID)는 해시 태그({scheduleId})로 감싸므로, 한 스케줄의 대기열 상태는
+ * Redis Cluster에서 모두 같은 슬롯에 배치되어 Lua 스크립트/MULTI로 함께 다룰 수 있다.
+ * 활성 대기열 목록처럼 스케줄에 속하지 않는 키는 파라미터 없이 생성한다.
+ * <p>
+ * 입장 토큰 키(ADMITTED_TOKEN)는 사용자마다 TTL을 두고 만료 이벤트로 Permit을 회수하므로 사용자별 키로 유지한다.
+ * 진입/입장 처리 스크립트는 실행 중에 알게 되는 userKey(기존 항목, 꺼낸 대기자)의 토큰 키를
+ * KEYS로 선언하지 못하고 "접두사({prefix}{scheduleId}:) .. userKey"로 만들어 접근한다.
+ * 이 키가 같은 슬롯에 있다는 보장은 해시 태그뿐이므로 다음을 지켜야 한다.
+ * <ul>
+ *     <li>토큰 키 접두사는 dynamicKeyPrefix로 스크립트 KEYS의 해시 태그에서 만들어 넘긴다.</li>
+ *     <li>키 패턴 ACL을 사용한다면 admitted:* 접근을 허용해야 한다.</li>
+ *     <li>선언되지 않은 키 접근을 거부하는 Cluster 프록시 뒤에서는 사용할 수 없다.</li>
+ * </ul>
+ */
 public enum WaitingRedisKey {
-    SEMAPHORE("semaphore:%s:"),                 // ex. semaphore:reservation:
-    WAITING("waiting:%s:"),                     // ex. waiting:reservation:
-    ACTIVE_WAITING_ITEMS("active:waiting:%s"),  // ex. active:waiting:{schedules}
-    ADMITTED_TOKEN("admitted:%s:"),             // ex. admitted:reservation:
-    ADMIT_LOCK("lock:admit:%s");
+    SEMAPHORE("semaphore:%s:"),                     // ex. semaphore:reservation:{1}
+    PERMIT_LIMIT("semaphore:limit:%s:"),            // ex. semaphore:limit:reservation:{1}
+    WAITING("waiting:%s:"),                         // ex. waiting:reservation:{1}
+    WAITING_SHARD("waiting:shard:%s:"),             // ex. waiting:shard:reservation:{1:0} (샤드마다 다른 슬롯)
+    USER_ENTRY("waiting:user:%s:"),                 // ex. waiting:user:reservation:{1} (userId → userKey)
+    PRESENCE("waiting:presence:%s:"),               // ex. waiting:presence:reservation:{1} (userKey → 마지막 확인 시각)
+    TICKET_ISSUED("waiting:ticket:issued:%s:"),     // ex. waiting:ticket:issued:reservation:{1}
+    TICKET_SERVING("waiting:ticket:serving:%s:"),   // ex. waiting:ticket:serving:reservation:{1}
+    ACTIVE_WAITING_ITEMS("active:waiting:%s"),      // ex. active:waiting:reservations (전역 목록)
+    ADMISSION_MEMBERS("admission:members:%s"),      // ex. admission:members:reservations (전역 목록, 입장 처리 담당 인스턴스)
+    ADMITTED_TOKEN("admitted:%s:"),                 // ex. admitted:reservation:{1}:{userId}:{uuid}
+    ADMITTED_EXPIRY("expired:admitted:%s:"),        // ex. expired:admitted:reservation:{1}:{userId}:{uuid} (만료 처리 선점 표시)
+    ADMIT_LOCK("lock:admit:%s:"),                   // ex. lock:admit:reservation:{1}
+    ADMISSION_SIGNAL("admission:signal:%s:"),       // ex. admission:signal:reservation:{1}
+    ADMISSION_RATE("admission:rate:%s:"),           // ex. admission:rate:reservation:{1}
+    ADMISSION_PACE("admission:pace:%s:"),           // ex. admission:pace:reservation:{1}
+    LOTTERY_ENTRY("lottery:entry:%s:"),             // ex. lottery:entry:reservation:{1} (userId → userKey)
+    LOTTERY_DRAWN("lottery:drawn:%s:");             // ex. lottery:drawn:reservation:{1}
 
     private final String pattern;
 
@@ -17,12 +47,43 @@ public enum WaitingRedisKey {
     }
 
     public String generateKey(String domain, Object... params) {
-        String keyWithDomain = String.format(pattern, domain);
+        String keyWithDomain = prefix(domain);
         if (params.length > 0) {
-            return keyWithDomain + Arrays.stream(params)
-                    .map(Object::toString)
-                    .collect(Collectors.joining(":"));
+            return keyWithDomain + "{" + params[0] + "}" + Arrays.stream(params, 1, params.length)
+                    .map(param -> ":" + param)
+                    .collect(Collectors.joining());
         }
         return keyWithDomain;
     }
+
+    /**
+     * 해시 태그 앞부분까지의 키 접두사 (키 만료 이벤트 구분 등에 사용)
+     */
+    public String prefix(String domain) {
+        return String.format(pattern, domain);
+    }
+
+    /**
+     * Lua 스크립트가 실행 중에 "접두사 .. userKey"로 만들어 접근하는 동적 키의 접두사({prefix}{scheduleId}:)를 만든다.
+     * 해시 태그를 스크립트 KEYS의 키(slotKey)에서 그대로 가져오므로 동적 키가 스크립트와 다른 슬롯을 가리킬 수 없다.
+     */
+    public String dynamicKeyPrefix(String domain, Object slotKey) {
+        String key = slotKey.toString();
+        int open = key.indexOf('{');
+        int close = key.indexOf('}', open + 1);
+        if (open < 0 || close < 0)
+            throw new IllegalArgumentException("해시 태그가 없는 키로 동적 키 접두사를 만들 수 없습니다: " + key);
+        return prefix(domain) + key.substring(open, close + 1) + ":";
+    }
+
+    /**
+     * 해시 태그로 시작하는 키 나머지 부분({scheduleId}:...)에서 스케줄 ID를 추출한다.
+     * 형식이 맞지 않으면 null을 반환한다.
+     */
+    public static String extractHashTag(String keyWithoutPrefix) {
+        int close = keyWithoutPrefix.indexOf('}');
+        if (!keyWithoutPrefix.startsWith("{") || close < 0)
+            return null;
+        return keyWithoutPrefix.substring(1, close);
+    }
 }
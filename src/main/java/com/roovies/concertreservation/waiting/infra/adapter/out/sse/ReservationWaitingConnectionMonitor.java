@@ -0,0 +1,119 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.sse;
+
+import com.roovies.concertreservation.shared.util.timer.HashedTimingWheel;
+import com.roovies.concertreservation.waiting.application.port.out.EmitterRepositoryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingConnectionMonitorPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingNotificationPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 해시 타이밍 휠 기반 heartbeat 전송 및 전송이 멈춘 연결 정리 어댑터.
+ * <p>
+ * 연결마다 heartbeat 주기의 만료 작업 하나만 휠에 예약하고, 만료 시 다음 주기를 다시 예약한다.
+ * 연결 수가 많아도 스레드 하나가 tick마다 해당 슬롯만 확인하므로 예약/취소 비용이 연결 수에 비례하지 않는다.
+ * <p>
+ * heartbeat는 SSE 전송 어댑터의 outbox를 거쳐 writer 스레드에서 전송되며, 마지막 전송 완료 시각이 dead-after보다 오래되면
+ * (느린 클라이언트로 소켓 버퍼가 차서 쓰기가 끝나지 않는 연결 등) 전송이 멈춘 연결로 판단한다.
+ * 휠 스레드에서는 확인과 outbox 적재만 수행하고, 정리 작업은 블로킹 작업용 Executor로 넘긴다.
+ * <p>
+ * 한계: 전송 완료는 커널 송신 버퍼에 적재되었다는 뜻일 뿐 상대가 받았다는 뜻이 아니다.
+ * 상대가 사라진 half-open 연결도 작은 heartbeat는 송신 버퍼가 찰 때까지 계속 완료되므로,
+ * 이 감시로는 잡히지 않고 TCP 재전송 한도(Linux 기본 tcp_retries2, 약 15분) 또는 SSE 타임아웃으로만 정리된다.
+ * (heartbeat가 확인 응답을 기다리는 동안에는 TCP keepalive도 동작하지 않으며, SSE 클라이언트는 응답을 보내지 않음)
+ * 그동안 생존 기록도 계속 갱신되므로 대기열 항목이 남는다. 정리 시간을 줄이려면 호스트의 재전송 한도를 낮춘다. (README 배포 설정 참고)
+ */
+@Slf4j
+@Component("reservationWaitingConnectionMonitor")
+public class ReservationWaitingConnectionMonitor implements WaitingConnectionMonitorPort {
+
+    private final EmitterRepositoryPort emitterRepositoryPort;
+    private final WaitingNotificationPort waitingNotificationPort;
+    private final Executor waitingTaskExecutor;
+    private final Duration heartbeatInterval;
+    private final long deadAfterMillis;
+    private final HashedTimingWheel wheel;
+
+    private final Counter heartbeatCounter;
+    private final Counter reapedCounter;
+
+    public ReservationWaitingConnectionMonitor(
+            EmitterRepositoryPort emitterRepositoryPort,
+            @Qualifier("reservationWaitingSseDispatcher") WaitingNotificationPort waitingNotificationPort,
+            @Qualifier("waitingTaskExecutor") Executor waitingTaskExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${app.waiting.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis,
+            @Value("${app.waiting.sse.dead-after-ms:45000}") long deadAfterMillis
+    ) {
+        if (heartbeatIntervalMillis <= 0 || deadAfterMillis < heartbeatIntervalMillis)
+            throw new IllegalArgumentException("연결 heartbeat 설정이 올바르지 않습니다.");
+
+        this.emitterRepositoryPort = emitterRepositoryPort;
+        this.waitingNotificationPort = waitingNotificationPort;
+        this.waitingTaskExecutor = waitingTaskExecutor;
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMillis);
+        this.deadAfterMillis = deadAfterMillis;
+        // 200ms tick, 256 슬롯 (한 바퀴 약 51초) - heartbeat 주기와 유예 시간 대부분이 한 바퀴 안에 들어옴
+        this.wheel = new HashedTimingWheel("waiting-connection-monitor", Duration.ofMillis(200), 256);
+
+        this.heartbeatCounter = Counter.builder("waiting.sse.heartbeats")
+                .description("전송 요청한 heartbeat 수")
+                .register(meterRegistry);
+        this.reapedCounter = Counter.builder("waiting.sse.reaped.connections")
+                .description("전송이 완료되지 않아 정리된 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void watch(String userKey, WaitingStream stream, Runnable onStalled) {
+        wheel.schedule(() -> check(userKey, stream, onStalled), heartbeatInterval);
+    }
+
+    @Override
+    public void schedule(Runnable task, Duration delay) {
+        wheel.schedule(() -> execute(task), delay);
+    }
+
+    /**
+     * 휠 스레드에서 실행되므로 블로킹 없이 확인과 outbox 적재만 수행한다.
+     */
+    private void check(String userKey, WaitingStream stream, Runnable onStalled) {
+        Long lastWriteAt = emitterRepositoryPort.getLastWriteAt(userKey, stream);
+        if (lastWriteAt == null)
+            return; // 종료되었거나 새 연결로 교체됨
+
+        if (System.currentTimeMillis() - lastWriteAt > deadAfterMillis) {
+            reapedCounter.increment();
+            log.info("전송이 멈춘 연결 정리: userKey = {}, lastWriteAt = {}", userKey, lastWriteAt);
+            execute(onStalled);
+            return;
+        }
+
+        waitingNotificationPort.sendHeartbeat(userKey);
+        heartbeatCounter.increment();
+        wheel.schedule(() -> check(userKey, stream, onStalled), heartbeatInterval);
+    }
+
+    private void execute(Runnable task) {
+        try {
+            waitingTaskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("연결 정리 작업 실행 거부", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+    }
+}
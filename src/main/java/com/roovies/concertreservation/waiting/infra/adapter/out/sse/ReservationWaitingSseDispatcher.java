@@ -0,0 +1,273 @@
+package com.roovies.concertreservation.waiting.infra.adapter.out.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roovies.concertreservation.waiting.application.port.out.EmitterRepositoryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingNotificationPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEta;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusSnapshot;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusUpdate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 비동기 전송(fan-out) 어댑터.
+ * <p>
+ * 연결마다 작은 크기의 outbox를 두고, 전용 writer Executor(플랫폼 스레드 풀 또는 가상 스레드)에서 outbox를 비워가며 연결(SseEmitter/Flux)에 전송한다.
+ * 호출 스레드(Redisson pub/sub 리스너, 스케줄러)는 outbox에 넣기만 하므로 느린 클라이언트가 다른 대기자의 알림을 막지 않는다.
+ * <ul>
+ *     <li>순번 갱신(status) 이벤트: outbox가 가득 차면 가장 오래된 이벤트부터 폐기 (최신 순번만 의미가 있음)</li>
+ *     <li>입장(admit) 이벤트: 절대 폐기하지 않으며, 대기 중인 status 이벤트보다 먼저 전송</li>
+ *     <li>heartbeat: 전송 대기 중인 이벤트가 없을 때만 주석 라인으로 전송 (status 이벤트와 같이 폐기 가능)</li>
+ * </ul>
+ * 전송이 완료될 때마다 연결 저장소에 완료 시각을 기록하여, 전송이 멈춘 연결을 판단할 수 있도록 한다.
+ * 순번 갱신 이벤트는 전송이 완료된 뒤에만 마지막 전송 순번으로 기록하므로, 폐기되거나 전송에 실패한 순번은 다음 주기에 다시 전송된다.
+ * 입장 이벤트를 전송한 연결은 더 보낼 이벤트가 없으므로 저장소에서 제거하고 종료(complete)한다.
+ * 한 연결의 outbox는 동시에 하나의 writer 스레드만 비우므로 연결 단위 전송 순서가 보장된다.
+ * <p>
+ * 순번 갱신 이벤트는 스케줄 공유 정보를 한 번만 직렬화한 JSON 앞부분에 대기자별 순번/예상 대기 시간/userKey만 이어 붙여 만든다.
+ */
+@Slf4j
+@Component("reservationWaitingSseDispatcher")
+public class ReservationWaitingSseDispatcher implements WaitingNotificationPort {
+
+    private static final String STATUS_EVENT_NAME = "reservation-waiting-status-update";
+    private static final String ADMIT_EVENT_NAME = "admit";
+    private static final OutboundEvent HEARTBEAT_EVENT = new OutboundEvent(null, "ping", null, false, null);
+    private static final JsonStringEncoder JSON_STRING_ENCODER = JsonStringEncoder.getInstance();
+
+    private final EmitterRepositoryPort emitterRepositoryPort;
+    private final ObjectMapper objectMapper;
+    private final int outboxCapacity;
+    private final ExecutorService writerPool;
+
+    private final Map<String, Outbox> outboxes = new ConcurrentHashMap<>();
+
+    private final Counter droppedCounter;
+
+    public ReservationWaitingSseDispatcher(
+            EmitterRepositoryPort emitterRepositoryPort,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Qualifier("waitingSseWriterExecutor") ExecutorService writerPool,
+            @Value("${app.waiting.sse.outbox-capacity:4}") int outboxCapacity
+    ) {
+        this.emitterRepositoryPort = emitterRepositoryPort;
+        this.objectMapper = objectMapper;
+        this.outboxCapacity = outboxCapacity;
+        this.writerPool = writerPool;
+
+        this.droppedCounter = Counter.builder("waiting.sse.dropped.events")
+                .description("outbox가 가득 차 폐기된 순번 갱신 이벤트 수 (다음 주기에 최신 순번으로 다시 전송)")
+                .register(meterRegistry);
+        Gauge.builder("waiting.sse.lagging.connections", outboxes, this::countLaggingConnections)
+                .description("outbox가 가득 찬(전송이 밀리고 있는) 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("waiting.sse.pending.connections", outboxes, Map::size)
+                .description("전송 대기 중인 이벤트가 있는 연결 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void sendStatuses(WaitingStatusSnapshot snapshot, Map<String, WaitingStatusUpdate> updateByUserKey) {
+        String sharedJsonPrefix;
+        try {
+            sharedJsonPrefix = toSharedJsonPrefix(snapshot);
+        } catch (JsonProcessingException e) {
+            log.error("순번 갱신 이벤트 직렬화 실패: scheduleId = {}", snapshot.scheduleId(), e);
+            return;
+        }
+
+        updateByUserKey.forEach((userKey, update) -> {
+            WaitingEta eta = update.eta();
+            String payload = sharedJsonPrefix
+                    + ",\"rank\":" + eta.position()
+                    + ",\"estimatedWaitSeconds\":" + eta.estimatedWaitSeconds()
+                    + ",\"nextUpdateSeconds\":" + eta.nextUpdateSeconds()
+                    + ",\"userKey\":\"" + new String(JSON_STRING_ENCODER.quoteAsString(userKey)) + "\"}";
+            enqueue(userKey, new OutboundEvent(STATUS_EVENT_NAME, payload, MediaType.APPLICATION_JSON, false, update));
+        });
+    }
+
+    @Override
+    public void sendAdmit(String userKey, String admittedToken) {
+        enqueue(userKey, new OutboundEvent(ADMIT_EVENT_NAME, admittedToken, null, true, null));
+    }
+
+    @Override
+    public void sendHeartbeat(String userKey) {
+        // 전송 대기 중인 이벤트가 있으면 그 전송 결과로 연결 상태가 확인되므로 생략
+        if (outboxes.containsKey(userKey))
+            return;
+        enqueue(userKey, HEARTBEAT_EVENT);
+    }
+
+    private void enqueue(String userKey, OutboundEvent event) {
+        while (true) {
+            Outbox outbox = outboxes.computeIfAbsent(userKey, key -> new Outbox());
+            boolean shouldSchedule;
+
+            synchronized (outbox) {
+                // drain 완료로 정리된 outbox라면 새 outbox로 다시 시도
+                if (outbox.closed)
+                    continue;
+
+                if (event.admit()) {
+                    outbox.admitEvents.addLast(event);
+                } else {
+                    if (outbox.statusEvents.size() >= outboxCapacity) {
+                        outbox.statusEvents.pollFirst();
+                        droppedCounter.increment();
+                    }
+                    outbox.statusEvents.addLast(event);
+                    outbox.statusDepth.set(outbox.statusEvents.size());
+                }
+
+                shouldSchedule = !outbox.scheduled;
+                outbox.scheduled = true;
+            }
+
+            if (shouldSchedule)
+                writerPool.execute(() -> drain(userKey, outbox));
+            return;
+        }
+    }
+
+    /**
+     * outbox가 빌 때까지 이벤트를 꺼내 전송한다.
+     * 비워지면 outbox를 닫고 맵에서 제거하여 유휴 연결이 메모리를 점유하지 않도록 한다.
+     */
+    private void drain(String userKey, Outbox outbox) {
+        while (true) {
+            OutboundEvent event;
+            synchronized (outbox) {
+                event = outbox.admitEvents.isEmpty()
+                        ? outbox.statusEvents.pollFirst()
+                        : outbox.admitEvents.pollFirst();
+                outbox.statusDepth.set(outbox.statusEvents.size());
+
+                if (event == null) {
+                    outbox.scheduled = false;
+                    outbox.closed = true;
+                    outboxes.remove(userKey, outbox);
+                    return;
+                }
+            }
+
+            if (!write(userKey, event)) {
+                discard(userKey, outbox);
+                return;
+            }
+        }
+    }
+
+    private boolean write(String userKey, OutboundEvent event) {
+        WaitingStream stream = emitterRepositoryPort.getEmitterByUserKey(userKey);
+        if (stream == null) {
+            log.debug("연결이 종료되어 전송 대기 이벤트 폐기: userKey = {}", userKey);
+            return false;
+        }
+
+        try {
+            if (event.heartbeat())
+                stream.sendComment((String) event.data());
+            else
+                stream.send(event.name(), event.data(), event.mediaType());
+            emitterRepositoryPort.recordWrite(userKey, stream, System.currentTimeMillis());
+
+            WaitingStatusUpdate status = event.status();
+            if (status != null)
+                emitterRepositoryPort.recordSentPosition(userKey, stream, status.positionBucket(), status.nextUpdateAtMillis());
+
+            if (event.admit()) {
+                log.info("입장처리 SSE 알림 전송 완료: userKey = {}", userKey);
+                emitterRepositoryPort.removeEmitter(userKey, stream);
+                stream.complete();
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("SSE 전송 실패: userKey = {}", userKey, e);
+            emitterRepositoryPort.removeEmitter(userKey, stream);
+            stream.completeWithError(e);
+            return false;
+        } catch (Exception e) {
+            log.error("SSE 전송 처리 중 오류 발생: userKey = {}, event = {}", userKey, event.name(), e);
+            // 재시도 로직 없이 Local Emitter Map에서 삭제 (입장 이벤트 전송 실패 시에도 동일)
+            if (event.admit())
+                emitterRepositoryPort.removeEmitter(userKey, stream);
+            return !event.admit();
+        }
+    }
+
+    private void discard(String userKey, Outbox outbox) {
+        synchronized (outbox) {
+            outbox.admitEvents.clear();
+            outbox.statusEvents.clear();
+            outbox.statusDepth.set(0);
+            outbox.scheduled = false;
+            outbox.closed = true;
+            outboxes.remove(userKey, outbox);
+        }
+    }
+
+    /**
+     * 스냅샷을 닫는 중괄호를 제외한 JSON으로 직렬화한다. ({"scheduleId":1,"totalWaiting":50,"timestamp":"..."
+     */
+    private String toSharedJsonPrefix(WaitingStatusSnapshot snapshot) throws JsonProcessingException {
+        Map<String, Object> shared = new LinkedHashMap<>();
+        shared.put("scheduleId", snapshot.scheduleId());
+        shared.put("totalWaiting", snapshot.totalWaiting());
+        shared.put("timestamp", snapshot.timestamp());
+        String json = objectMapper.writeValueAsString(shared);
+        return json.substring(0, json.length() - 1);
+    }
+
+    /**
+     * 게이지 수집 스레드에서 호출되므로 outbox 잠금 없이 읽을 수 있는 statusDepth를 사용한다.
+     */
+    private double countLaggingConnections(Map<String, Outbox> outboxes) {
+        return outboxes.values().stream()
+                .filter(outbox -> outbox.statusDepth.get() >= outboxCapacity)
+                .count();
+    }
+
+    private record OutboundEvent(
+            String name,            // null이면 heartbeat 주석 라인
+            Object data,
+            MediaType mediaType,    // null이면 기본 변환 사용
+            boolean admit,
+            WaitingStatusUpdate status  // 순번 갱신 이벤트일 때만 (전송 완료 시 기록)
+    ) {
+        boolean heartbeat() {
+            return name == null;
+        }
+    }
+
+    /**
+     * 연결별 전송 대기열. statusDepth를 제외한 모든 필드는 outbox 모니터(synchronized)로 보호된다.
+     */
+    private static class Outbox {
+        private final Deque<OutboundEvent> admitEvents = new ArrayDeque<>(1);
+        private final Deque<OutboundEvent> statusEvents = new ArrayDeque<>();
+        private final AtomicInteger statusDepth = new AtomicInteger(); // statusEvents 크기 (모니터 안에서 갱신, 게이지는 잠금 없이 읽음)
+        private boolean scheduled;
+        private boolean closed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.roovies.concertreservation.waiting.infra.instance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 현재 애플리케이션 인스턴스 식별자.
+ * <p>
+ * SSE 연결 소유 인스턴스 기록과 인스턴스 전용 Pub/Sub 채널 이름에 사용된다.
+ * app.waiting.instance-id가 지정되지 않으면 기동 시마다 임의로 생성한다.
+ */
+@Slf4j
+@Component
+public class WaitingInstanceId {
+
+    private final String value;
+
+    public WaitingInstanceId(@Value("${app.waiting.instance-id:}") String configuredId) {
+        this.value = configuredId == null || configuredId.isBlank()
+                ? UUID.randomUUID().toString()
+                : configuredId;
+        log.info("대기열 인스턴스 식별자: {}", value);
+    }
+
+    public String value() {
+        return value;
+    }
+}
@@ -0,0 +1,31 @@
+-- 입장 처리 단계 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키
+-- ARGV[1] = 최대 입장 인원, ARGV[2] = 입장 토큰 키 접두사({prefix}{scheduleId}:)
+-- ARGV[3] = 입장 토큰 자리표시자 TTL(ms), ARGV[4] = 자리표시자 값
+-- 반환: {남은 대기자 수, userKey1, score1, userKey2, score2, ...}
+-- 전역 활성 대기열 목록은 슬롯이 다르므로 남은 대기자 수를 보고 어댑터에서 정리한다.
+-- 입장 토큰 키(ARGV[2] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+local size = redis.call('ZCARD', KEYS[2])
+if size == 0 then
+    return {0}
+end
+
+local permits = tonumber(redis.call('GET', KEYS[1]) or '0')
+local count = math.min(permits, size, tonumber(ARGV[1]))
+if count <= 0 then
+    return {size}
+end
+
+-- min(permits, size)만큼 추출하고 같은 수만큼 Permit 차감
+local popped = redis.call('ZPOPMIN', KEYS[2], count)
+redis.call('DECRBY', KEYS[1], count)
+
+-- 입장 토큰 자리표시자 저장 (실제 토큰은 애플리케이션에서 발급 후 덮어씀)
+-- 발급 전 장애가 나더라도 자리표시자 만료 이벤트로 Permit이 회수된다.
+for i = 1, #popped, 2 do
+    redis.call('SET', ARGV[2] .. popped[i], ARGV[4], 'PX', ARGV[3])
+end
+
+table.insert(popped, 1, size - count)
+return popped
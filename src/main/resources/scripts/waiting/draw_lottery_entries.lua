@@ -0,0 +1,15 @@
+-- 추첨 대상자 추출 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 추첨 완료 표시 키, KEYS[2] = 사전 등록 HASH 키 (userId → userKey)
+-- ARGV[1] = 추첨 완료 표시 TTL(ms)
+-- 반환: {0} = 이미 추첨 완료, {1, userKey1, userKey2, ...} = 추출된 등록자 (순서는 무작위로 다시 정해야 함)
+-- 추첨 완료 표시와 등록자 삭제를 함께 수행하므로 여러 인스턴스가 동시에 실행해도 한 번만 추출된다.
+
+if not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[1]) then
+    return {0}
+end
+
+local entries = redis.call('HVALS', KEYS[2])
+redis.call('DEL', KEYS[2])
+
+table.insert(entries, 1, 1)
+return entries
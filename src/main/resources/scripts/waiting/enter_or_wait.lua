@@ -0,0 +1,77 @@
+-- 대기열 진입 또는 즉시 입장 판단 (단일 왕복)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키, KEYS[3] = Permit 한도 키
+-- KEYS[4] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey)
+-- KEYS[5] = 스케줄별 생존 기록 ZSET 키, KEYS[6] = 전역 활성 대기열 목록 SET 키 (선택, 단일 노드에서만 전달)
+-- ARGV[1] = 신규 userKey, ARGV[2] = score(진입 시각), ARGV[3] = 기본 Permit 한도
+-- ARGV[4] = userId, ARGV[5] = 입장 토큰 키 접두사({prefix}{scheduleId}:), ARGV[6] = 자리표시자 TTL(ms), ARGV[7] = 자리표시자 값
+-- ARGV[8] = 스케줄 ID (활성 대기열 목록 멤버), ARGV[9] = 생존 기록 보관 TTL(ms)
+-- 전역 활성 대기열 목록은 슬롯이 다르므로 Cluster에서는 KEYS[6]을 넘기지 않고 어댑터에서 갱신한다.
+-- 반환: {1, userKey} = 즉시 입장(Permit 1개 차감), {1, userKey, token} = 이미 입장한 사용자
+--       {0, rank, total, userKey} = 대기열 진입 (이미 대기 중이면 기존 순번)
+-- 입장 토큰 키(ARGV[5] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+-- 대기열에 남은 사용자를 응답하기 전에 활성 대기열 목록에 등록 (단일 노드에서 별도 왕복 없이 처리)
+local function activate()
+    if KEYS[6] then
+        redis.call('SADD', KEYS[6], ARGV[8])
+    end
+end
+
+-- 생존 기록 시작 (연결이 한 번도 생기지 않은 대기자도 유예 시간 뒤 정리되도록, touch_presence.lua와 같은 서버 시각)
+local function seedPresence(userKey)
+    local time = redis.call('TIME')
+    redis.call('ZADD', KEYS[5], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), userKey)
+    redis.call('PEXPIRE', KEYS[5], ARGV[9])
+end
+
+-- 동일 사용자의 재진입(새로고침 등)은 기존 항목을 그대로 반환
+local existing = redis.call('HGET', KEYS[4], ARGV[4])
+if existing then
+    local rank = redis.call('ZRANK', KEYS[2], existing)
+    if rank then
+        seedPresence(existing)
+        activate()
+        return {0, rank, redis.call('ZCARD', KEYS[2]), existing}
+    end
+
+    local token = redis.call('GET', ARGV[5] .. existing)
+    if token then
+        -- 입장 처리 중(토큰 발급 전)이라면 맨 앞 순번으로 응답
+        if token == ARGV[7] then
+            return {0, 0, redis.call('ZCARD', KEYS[2]), existing}
+        end
+        return {1, existing, token}
+    end
+
+    -- 대기열 이탈 또는 입장 토큰 만료로 남은 인덱스는 정리 후 신규 진입으로 처리
+    redis.call('HDEL', KEYS[4], ARGV[4])
+end
+
+-- 대기자가 남아있으면 활성 대기열 (대기열 ZSET과 같은 슬롯에서 판단)
+local isActive = redis.call('ZCARD', KEYS[2]) > 0
+
+-- 대기열이 비활성화 상태일 때만 Permit 획득 시도
+if not isActive then
+    -- Semaphore 초기화 (최초 1회) - RSemaphore.trySetPermits와 동일한 저장 형식
+    -- 입장 허용량 조절로 변경된 한도가 있다면 해당 한도로 초기화
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('SET', KEYS[1], redis.call('GET', KEYS[3]) or ARGV[3])
+    end
+
+    local permits = tonumber(redis.call('GET', KEYS[1]))
+    if permits ~= nil and permits > 0 then
+        redis.call('DECR', KEYS[1])
+        -- 토큰 발급 전 재진입 시 Permit을 중복 획득하지 않도록 자리표시자 저장 (발급 전 장애 시 만료로 Permit 회수)
+        redis.call('SET', ARGV[5] .. ARGV[1], ARGV[7], 'PX', ARGV[6])
+        redis.call('HSET', KEYS[4], ARGV[4], ARGV[1])
+        return {1, ARGV[1]}
+    end
+end
+
+-- 대기열 진입
+redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+redis.call('HSET', KEYS[4], ARGV[4], ARGV[1])
+seedPresence(ARGV[1])
+activate()
+
+return {0, redis.call('ZRANK', KEYS[2], ARGV[1]), redis.call('ZCARD', KEYS[2]), ARGV[1]}
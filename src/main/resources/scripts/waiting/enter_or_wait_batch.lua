@@ -0,0 +1,114 @@
+-- 대기열 진입 또는 즉시 입장 판단 (여러 사용자를 한 번에, 요청 순서대로 enter_or_wait.lua와 동일하게 처리)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키, KEYS[3] = Permit 한도 키
+-- KEYS[4] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey)
+-- KEYS[5] = 스케줄별 생존 기록 ZSET 키
+-- KEYS[6] = 전역 활성 대기열 목록 SET 키 (선택, 단일 노드에서만 전달 - Cluster에서는 슬롯이 달라 어댑터에서 갱신)
+-- ARGV[1] = 기본 Permit 한도, ARGV[2] = 입장 토큰 키 접두사({prefix}{scheduleId}:), ARGV[3] = 자리표시자 TTL(ms), ARGV[4] = 자리표시자 값
+-- ARGV[5] = 스케줄 ID (활성 대기열 목록 멤버), ARGV[6] = 생존 기록 보관 TTL(ms)
+-- ARGV[7..] = (userId, 신규 userKey, score(진입 시각)) 반복
+-- 반환: 사용자마다 {결과 유형, userKey, rank, total, token} 5개씩 이어붙인 목록
+--       결과 유형 0 = 대기열 진입(이미 대기 중이면 기존 순번), 1 = 즉시 입장(Permit 1개 차감), 2 = 이미 입장한 사용자(token 포함)
+-- 대기 순번은 배치 전체를 반영한 뒤 계산하므로, 같은 진입 시각(score)의 항목이 함께 들어와도 배치 안에서 순번이 겹치지 않는다.
+-- 입장 토큰 키(ARGV[2] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+-- 생존 기록 시작 시각 (연결이 한 번도 생기지 않은 대기자도 유예 시간 뒤 정리되도록, touch_presence.lua와 같은 서버 시각)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local presence = {}
+
+local results = {}
+local waitingPositions = {}    -- 순번을 채울 결과 위치 (대기열에 있는 사용자만)
+
+local function waiting(userKey, queued)
+    table.insert(results, 0)
+    table.insert(results, userKey)
+    table.insert(results, 0)
+    table.insert(results, 0)
+    table.insert(results, '')
+    if queued then
+        table.insert(waitingPositions, #results - 3)
+        table.insert(presence, now)
+        table.insert(presence, userKey)
+    end
+end
+
+local function admitted(resultType, userKey, token)
+    table.insert(results, resultType)
+    table.insert(results, userKey)
+    table.insert(results, 0)
+    table.insert(results, 0)
+    table.insert(results, token)
+end
+
+for i = 7, #ARGV, 3 do
+    local userId, userKey, score = ARGV[i], ARGV[i + 1], ARGV[i + 2]
+    local handled = false
+
+    -- 동일 사용자의 재진입(새로고침, 같은 배치 안의 중복 요청 등)은 기존 항목을 그대로 반환
+    local existing = redis.call('HGET', KEYS[4], userId)
+    if existing then
+        local rank = redis.call('ZRANK', KEYS[2], existing)
+        if rank then
+            waiting(existing, true)
+            handled = true
+        else
+            local token = redis.call('GET', ARGV[2] .. existing)
+            if token then
+                -- 입장 처리 중(토큰 발급 전)이라면 맨 앞 순번으로 응답
+                if token == ARGV[4] then
+                    waiting(existing, false)
+                else
+                    admitted(2, existing, token)
+                end
+                handled = true
+            else
+                -- 대기열 이탈 또는 입장 토큰 만료로 남은 인덱스는 정리 후 신규 진입으로 처리
+                redis.call('HDEL', KEYS[4], userId)
+            end
+        end
+    end
+
+    if not handled and redis.call('ZCARD', KEYS[2]) == 0 then
+        -- Semaphore 초기화 (최초 1회) - RSemaphore.trySetPermits와 동일한 저장 형식
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            redis.call('SET', KEYS[1], redis.call('GET', KEYS[3]) or ARGV[1])
+        end
+
+        local permits = tonumber(redis.call('GET', KEYS[1]))
+        if permits ~= nil and permits > 0 then
+            redis.call('DECR', KEYS[1])
+            redis.call('SET', ARGV[2] .. userKey, ARGV[4], 'PX', ARGV[3])
+            redis.call('HSET', KEYS[4], userId, userKey)
+            admitted(1, userKey, '')
+            handled = true
+        end
+    end
+
+    if not handled then
+        redis.call('ZADD', KEYS[2], score, userKey)
+        redis.call('HSET', KEYS[4], userId, userKey)
+        waiting(userKey, true)
+    end
+end
+
+local total = redis.call('ZCARD', KEYS[2])
+for i = 1, #results, 5 do
+    if results[i] == 0 then
+        results[i + 3] = total
+    end
+end
+for _, position in ipairs(waitingPositions) do
+    results[position + 1] = redis.call('ZRANK', KEYS[2], results[position])
+end
+
+if #presence > 0 then
+    redis.call('ZADD', KEYS[5], unpack(presence))
+    redis.call('PEXPIRE', KEYS[5], ARGV[6])
+end
+
+-- 대기열에 남은 사용자가 있으면 배치당 한 번 활성 대기열 목록에 등록
+if KEYS[6] and #waitingPositions > 0 then
+    redis.call('SADD', KEYS[6], ARGV[5])
+end
+
+return results
@@ -0,0 +1,45 @@
+-- 추첨 결과 대기열 일괄 진입 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키, KEYS[3] = Permit 한도 키
+-- KEYS[4] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey), KEYS[5] = 발급 번호표 카운터 키
+-- KEYS[6] = 스케줄별 생존 기록 ZSET 키
+-- ARGV[1] = 기본 Permit 한도, ARGV[2] = score 부여 방식, ARGV[3] = 첫 번째 사용자의 score
+--   score: ARGV[3]부터 1씩 증가, ticket: 번호표 발급(INCR) 값, index: 인덱스만 등록 (하위 대기열 추가는 어댑터에서 수행)
+-- ARGV[4] = 생존 기록 보관 TTL(ms), ARGV[5..] = 진입 순서대로 정렬된 userKey
+-- 모든 키는 같은 {scheduleId} 해시 태그를 사용하므로 Redis Cluster에서도 한 슬롯에서 실행된다.
+-- 반환: 대기열 항목이 등록된 userKey 목록 (이미 대기열 항목이 있는 사용자는 건너뜀)
+
+-- 입장 처리가 바로 시작될 수 있도록 세마포어 초기화 (enter_or_wait.lua와 동일)
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    redis.call('SET', KEYS[1], redis.call('GET', KEYS[3]) or ARGV[1])
+end
+
+local mode = ARGV[2]
+local score = tonumber(ARGV[3])
+local entered = {}
+local presence = {}
+
+-- 생존 기록 시작 시각 (연결이 한 번도 생기지 않은 당첨자도 유예 시간 뒤 정리되도록, touch_presence.lua와 같은 서버 시각)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+for i = 5, #ARGV do
+    local userKey = ARGV[i]
+    local userId = string.match(userKey, '^([^:]+):')
+    if userId and redis.call('HSETNX', KEYS[4], userId, userKey) == 1 then
+        if mode == 'ticket' then
+            redis.call('ZADD', KEYS[2], redis.call('INCR', KEYS[5]), userKey)
+        elseif mode == 'score' then
+            redis.call('ZADD', KEYS[2], score + #entered, userKey)
+        end
+        table.insert(entered, userKey)
+        table.insert(presence, now)
+        table.insert(presence, userKey)
+    end
+end
+
+if #presence > 0 then
+    redis.call('ZADD', KEYS[6], unpack(presence))
+    redis.call('PEXPIRE', KEYS[6], ARGV[4])
+end
+
+return entered
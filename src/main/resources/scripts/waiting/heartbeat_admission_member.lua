@@ -0,0 +1,13 @@
+-- 입장 처리 담당 인스턴스 생존 신호 갱신 및 살아있는 인스턴스 조회 (단일 왕복)
+-- KEYS[1] = 인스턴스 목록 ZSET 키 (instanceId → 마지막 생존 신호 시각)
+-- ARGV[1] = 현재 인스턴스 식별자, ARGV[2] = 생존 신호가 없으면 제외하는 시간(ms)
+-- 반환: 살아있는 인스턴스 식별자 목록 (현재 인스턴스 포함)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+redis.call('ZADD', KEYS[1], now, ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - tonumber(ARGV[2]))
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+
+return redis.call('ZRANGE', KEYS[1], 0, -1)
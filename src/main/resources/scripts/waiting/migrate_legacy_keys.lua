@@ -0,0 +1,21 @@
+-- 해시 태그 도입 이전 키 이전 (단일 노드 전용, 기존 키 → 새 키 RENAME)
+-- KEYS = (기존 키, 새 키) 반복
+-- 새 키가 이미 있다면(이전 중 새 버전 인스턴스가 먼저 기록한 경우) 덮어쓰지 않고 충돌로 집계한다.
+-- RENAME은 남은 TTL을 유지하므로 입장 토큰은 원래 만료 시각에 새 키 형식으로 만료된다.
+-- 반환: {이전한 키 수, 충돌한 키 수}
+
+local migrated = 0
+local conflicts = 0
+
+for i = 1, #KEYS, 2 do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        if redis.call('EXISTS', KEYS[i + 1]) == 0 then
+            redis.call('RENAME', KEYS[i], KEYS[i + 1])
+            migrated = migrated + 1
+        else
+            conflicts = conflicts + 1
+        end
+    end
+end
+
+return {migrated, conflicts}
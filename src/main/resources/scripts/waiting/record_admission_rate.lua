@@ -0,0 +1,29 @@
+-- 스케줄별 입장 속도(초당 입장 인원) EWMA 갱신 (단일 왕복)
+-- KEYS[1] = 스케줄별 입장 속도 HASH 키 (rate, lastMillis, pending)
+-- ARGV[1] = 이번 입장 처리의 입장 인원, ARGV[2] = EWMA 시간 상수(ms)
+-- ARGV[3] = 최소 측정 구간(ms), ARGV[4] = 보관 TTL(ms)
+-- 입장 처리 간격이 일정하지 않으므로 가중치는 경과 시간에 따라 alpha = 1 - exp(-dt / tau)로 계산한다.
+-- 최소 측정 구간보다 짧은 간격의 기록(즉시 입장 처리 신호 등)은 pending에 합산했다가 다음 구간에 반영한다.
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'rate', 'lastMillis', 'pending')
+local rate = tonumber(state[1]) or 0
+local lastMillis = tonumber(state[2])
+local count = tonumber(ARGV[1]) + (tonumber(state[3]) or 0)
+
+if lastMillis == nil then
+    -- 첫 기록: 측정 구간의 시작만 남김
+    redis.call('HSET', KEYS[1], 'rate', tostring(rate), 'lastMillis', now, 'pending', 0)
+elseif now - lastMillis < tonumber(ARGV[3]) then
+    redis.call('HSET', KEYS[1], 'pending', count)
+else
+    local elapsed = now - lastMillis
+    local alpha = 1 - math.exp(-elapsed / tonumber(ARGV[2]))
+    rate = rate + alpha * (count * 1000 / elapsed - rate)
+    redis.call('HSET', KEYS[1], 'rate', tostring(rate), 'lastMillis', now, 'pending', 0)
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return 1
@@ -0,0 +1,16 @@
+-- 입장 허용량 조절 지표 누적 (단일 왕복)
+-- KEYS[1] = 스케줄별 지표 HASH 키
+-- ARGV[1] = 홀딩 처리 수 증가량, ARGV[2] = 홀딩 실패 수 증가량, ARGV[3] = 홀딩 처리 시간(ms) 증가량
+-- ARGV[4] = 결제 완료 수 증가량, ARGV[5] = 지표 보관 TTL(ms)
+-- 조절 주기마다 지표를 꺼내가므로 TTL은 조절이 멈춘 스케줄(대기열 비활성화)의 지표 정리용이다.
+
+local fields = {'holdCount', 'holdFailures', 'holdLatencySumMillis', 'paymentCount'}
+for i = 1, #fields do
+    local increment = tonumber(ARGV[i])
+    if increment ~= 0 then
+        redis.call('HINCRBY', KEYS[1], fields[i], increment)
+    end
+end
+
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+return 1
@@ -0,0 +1,11 @@
+-- 오픈 이후(추첨 직전) 사전 등록 (단일 왕복)
+-- KEYS[1] = 추첨 완료 표시 키, KEYS[2] = 사전 등록 HASH 키 (userId → userKey)
+-- ARGV[1] = userId, ARGV[2] = userKey
+-- 반환: 1 = 등록, 0 = 이미 추첨 완료 (일반 진입으로 처리해야 함)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+return 1
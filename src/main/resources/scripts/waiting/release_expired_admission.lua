@@ -0,0 +1,17 @@
+-- 입장 토큰 만료 처리 (스케줄 슬롯에서 실행, 단일 왕복)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey), KEYS[3] = 만료 처리 선점 키
+-- ARGV[1] = userId, ARGV[2] = userKey, ARGV[3] = 선점 키 TTL(ms)
+-- 키 만료 이벤트는 모든 인스턴스가 수신하므로, 선점 키를 먼저 만든 한 번의 호출만 Permit을 반환하고 인덱스를 정리한다.
+-- 반환: 1 = 이번 호출에서 처리함, 0 = 다른 인스턴스가 이미 처리함
+
+if not redis.call('SET', KEYS[3], '1', 'NX', 'PX', ARGV[3]) then
+    return 0
+end
+
+redis.call('INCR', KEYS[1])
+
+-- 인덱스가 같은 항목을 가리킬 때만 제거 (이미 새 항목으로 재진입한 경우 유지)
+if redis.call('HGET', KEYS[2], ARGV[1]) == ARGV[2] then
+    redis.call('HDEL', KEYS[2], ARGV[1])
+end
+return 1
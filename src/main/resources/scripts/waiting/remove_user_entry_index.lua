@@ -0,0 +1,9 @@
+-- 사용자별 대기열 항목 인덱스 정리 (입장 토큰 만료 시)
+-- KEYS[1] = 사용자별 대기열 항목 인덱스 HASH 키
+-- ARGV[1] = userId, ARGV[2] = userKey
+-- 인덱스가 같은 항목을 가리킬 때만 제거한다. (이미 새 항목으로 재진입한 경우 유지)
+
+if redis.call('HGET', KEYS[1], ARGV[1]) == ARGV[2] then
+    return redis.call('HDEL', KEYS[1], ARGV[1])
+end
+return 0
@@ -0,0 +1,20 @@
+-- 대기열 이탈 처리 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 대기열 ZSET 키, KEYS[2] = 사용자별 대기열 항목 인덱스 HASH 키
+-- ARGV[1] = userKey, ARGV[2] = userId
+-- 반환: 0 = 대기열에 없음, 1 = 제거됨, 2 = 제거 후 대기열이 비었음
+-- 전역 활성 대기열 목록은 슬롯이 다르므로 반환값을 보고 어댑터에서 정리한다.
+
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+-- 인덱스가 같은 항목을 가리킬 때만 제거 (재진입으로 새 항목이 등록된 경우 유지)
+if redis.call('HGET', KEYS[2], ARGV[2]) == ARGV[1] then
+    redis.call('HDEL', KEYS[2], ARGV[2])
+end
+
+if redis.call('ZCARD', KEYS[1]) == 0 then
+    return 2
+end
+
+return 1
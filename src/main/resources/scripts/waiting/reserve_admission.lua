@@ -0,0 +1,20 @@
+-- 샤딩된 대기열 입장 처리 중 Permit 예약 단계 (스케줄 슬롯에서 실행, 단일 왕복)
+-- KEYS[1] = 세마포어 키
+-- KEYS[2...] = 하위 대기열 앞부분을 병합한 입장 후보의 입장 토큰 키 (전역 FIFO 순서)
+-- ARGV[1] = 자리표시자 TTL(ms), ARGV[2] = 자리표시자 값
+-- 반환: 예약된 인원 수 (앞에서부터 해당 수만큼의 후보에 자리표시자가 저장됨)
+-- 하위 대기열에서 제거하기 전에 자리표시자를 먼저 저장하므로, 제거 전 장애가 나더라도 자리표시자 만료로 Permit이 회수된다.
+-- 후보가 실행 전에 정해지므로 입장 토큰 키를 모두 KEYS로 선언한다. (WaitingRedisKey 참고)
+
+local permits = tonumber(redis.call('GET', KEYS[1]) or '0')
+local count = math.min(permits, #KEYS - 1)
+if count <= 0 then
+    return 0
+end
+
+redis.call('DECRBY', KEYS[1], count)
+for i = 2, 1 + count do
+    redis.call('SET', KEYS[i], ARGV[2], 'PX', ARGV[1])
+end
+
+return count
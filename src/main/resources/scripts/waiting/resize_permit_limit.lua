@@ -0,0 +1,19 @@
+-- Permit 한도 변경 (단일 왕복, 원자적 수행)
+-- KEYS[1] = Permit 한도 키, KEYS[2] = 세마포어 키
+-- ARGV[1] = 새 한도, ARGV[2] = 기본 한도(한도 키가 없을 때 적용 중인 값)
+-- 반환: 적용된 증감량
+-- 한도를 줄일 때 이미 입장한 사용자 수가 새 한도보다 많으면 가용 Permit이 음수가 될 수 있으며,
+-- 입장 토큰이 만료되어 Permit이 반환될 때까지 신규 입장이 중단된다.
+
+local current = tonumber(redis.call('GET', KEYS[1]) or ARGV[2])
+local target = tonumber(ARGV[1])
+local delta = target - current
+
+redis.call('SET', KEYS[1], target)
+
+-- 세마포어가 아직 초기화되지 않았다면 최초 진입 시 새 한도로 초기화된다.
+if delta ~= 0 and redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('INCRBY', KEYS[2], delta)
+end
+
+return delta
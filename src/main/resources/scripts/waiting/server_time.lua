@@ -0,0 +1,6 @@
+-- Redis 서버 시각 조회 (ms)
+-- KEYS[1] = 실행할 노드를 정하기 위한 스케줄 슬롯 키 (읽거나 쓰지 않음)
+-- 샤딩 대기열의 score를 진입 스크립트(sharded_enter_or_wait.lua)와 같은 시계로 부여하기 위해 사용한다.
+
+local time = redis.call('TIME')
+return tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
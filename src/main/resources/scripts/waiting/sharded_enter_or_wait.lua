@@ -0,0 +1,53 @@
+-- 샤딩된 대기열 진입 전 단계 (스케줄 슬롯에서 실행, 단일 왕복)
+-- KEYS[1] = 세마포어 키, KEYS[2] = Permit 한도 키, KEYS[3] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey)
+-- KEYS[4] = 스케줄별 생존 기록 ZSET 키
+-- ARGV[1] = 신규 userKey, ARGV[2] = 기본 Permit 한도, ARGV[3] = userId
+-- ARGV[4] = 입장 토큰 키 접두사({prefix}{scheduleId}:), ARGV[5] = 자리표시자 TTL(ms), ARGV[6] = 자리표시자 값
+-- ARGV[7] = 모든 하위 대기열이 비어있는지 여부 (1 = 비어있음, 어댑터가 직전에 조회), ARGV[8] = 생존 기록 보관 TTL(ms)
+-- 하위 대기열은 슬롯이 다르므로 대기열 추가와 순번 계산은 어댑터에서 이어서 수행한다.
+-- 반환: {1, userKey, now} = 즉시 입장(Permit 1개 차감), {1, userKey, now, token} = 이미 입장한 사용자
+--       {2, userKey, now} = 입장 처리 중(토큰 발급 전)인 사용자, {0, userKey, now} = 하위 대기열에 진입해야 하는 사용자
+-- now는 스케줄 슬롯 노드의 서버 시각(ms)이다. 스케줄의 모든 진입자가 같은 시계로 score를 받으므로 인스턴스 간 시각 차이로 순서가 바뀌지 않는다.
+-- 입장 토큰 키(ARGV[4] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 하위 대기열에 진입할 사용자의 생존 기록 시작 (연결이 한 번도 생기지 않은 대기자도 유예 시간 뒤 정리되도록)
+local function seedPresence(userKey)
+    redis.call('ZADD', KEYS[4], now, userKey)
+    redis.call('PEXPIRE', KEYS[4], ARGV[8])
+end
+
+-- 동일 사용자의 재진입(새로고침 등)은 기존 userKey를 그대로 사용
+local existing = redis.call('HGET', KEYS[3], ARGV[3])
+if existing then
+    local token = redis.call('GET', ARGV[4] .. existing)
+    if token then
+        if token == ARGV[6] then
+            return {2, existing, now}
+        end
+        return {1, existing, now, token}
+    end
+    seedPresence(existing)
+    return {0, existing, now}
+end
+
+-- 대기자가 없을 때만 Permit 획득 시도
+if ARGV[7] == '1' then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('SET', KEYS[1], redis.call('GET', KEYS[2]) or ARGV[2])
+    end
+
+    local permits = tonumber(redis.call('GET', KEYS[1]))
+    if permits ~= nil and permits > 0 then
+        redis.call('DECR', KEYS[1])
+        redis.call('SET', ARGV[4] .. ARGV[1], ARGV[6], 'PX', ARGV[5])
+        redis.call('HSET', KEYS[3], ARGV[3], ARGV[1])
+        return {1, ARGV[1], now}
+    end
+end
+
+redis.call('HSET', KEYS[3], ARGV[3], ARGV[1])
+seedPresence(ARGV[1])
+return {0, ARGV[1], now}
@@ -0,0 +1,33 @@
+-- 스케줄별 입장 속도 제한 토큰 차감/반환 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 스케줄별 입장 속도 제한 HASH 키 (tokens, lastMillis)
+-- ARGV[1] = 주기당 토큰 수(= 버킷 용량), ARGV[2] = 주기(ms), ARGV[3] = 요청 토큰 수(음수면 반환), ARGV[4] = 보관 TTL(ms)
+-- 버킷 용량을 한 주기 분량으로 제한하므로, 한동안 입장 처리가 없었더라도 한 번에 몰아서 입장시키지 않는다.
+-- 반환: 차감된 토큰 수 (반환 시 0)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local capacity = tonumber(ARGV[1])
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'lastMillis')
+local tokens = tonumber(state[1])
+local lastMillis = tonumber(state[2])
+
+if tokens == nil or lastMillis == nil then
+    tokens = capacity
+else
+    local elapsed = math.max(0, now - lastMillis)
+    tokens = math.min(capacity, tokens + elapsed * capacity / tonumber(ARGV[2]))
+end
+
+local requested = tonumber(ARGV[3])
+local taken = 0
+if requested >= 0 then
+    taken = math.min(math.floor(tokens), requested)
+    tokens = tokens - taken
+else
+    tokens = math.min(capacity, tokens - requested)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'lastMillis', now)
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return taken
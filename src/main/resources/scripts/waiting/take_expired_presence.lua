@@ -0,0 +1,14 @@
+-- 생존 기록이 만료된 대기자 추출 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 스케줄별 생존 기록 ZSET 키 (userKey → 마지막 확인 시각)
+-- ARGV[1] = 유예 시간(ms), ARGV[2] = 최대 추출 인원
+-- 반환: 유예 시간 동안 갱신되지 않은 userKey 목록 (생존 기록에서 제거됨)
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now - tonumber(ARGV[1]), 'LIMIT', 0, tonumber(ARGV[2]))
+if #expired > 0 then
+    redis.call('ZREM', KEYS[1], unpack(expired))
+end
+
+return expired
@@ -0,0 +1,34 @@
+-- 번호표 대기열 입장 처리 단계 (단일 왕복, 원자적 수행)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키, KEYS[3] = 현재 호출 번호 키
+-- ARGV[1] = 최대 입장 인원, ARGV[2] = 입장 토큰 키 접두사({prefix}{scheduleId}:)
+-- ARGV[3] = 입장 토큰 자리표시자 TTL(ms), ARGV[4] = 자리표시자 값
+-- 반환: {남은 대기자 수, userKey1, ticket1, userKey2, ticket2, ...}
+-- 입장 토큰 키(ARGV[2] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+local size = redis.call('ZCARD', KEYS[2])
+if size == 0 then
+    return {0}
+end
+
+local permits = tonumber(redis.call('GET', KEYS[1]) or '0')
+local count = math.min(permits, size, tonumber(ARGV[1]))
+if count <= 0 then
+    return {size}
+end
+
+local popped = redis.call('ZPOPMIN', KEYS[2], count)
+redis.call('DECRBY', KEYS[1], count)
+
+for i = 1, #popped, 2 do
+    redis.call('SET', ARGV[2] .. popped[i], ARGV[4], 'PX', ARGV[3])
+end
+
+-- 마지막으로 추출된 번호표까지 호출 번호 전진
+local lastTicket = tonumber(popped[#popped])
+local serving = tonumber(redis.call('GET', KEYS[3]) or '0')
+if lastTicket > serving then
+    redis.call('SET', KEYS[3], lastTicket)
+end
+
+table.insert(popped, 1, size - count)
+return popped
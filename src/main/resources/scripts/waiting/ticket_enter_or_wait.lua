@@ -0,0 +1,81 @@
+-- 번호표 대기열 진입 또는 즉시 입장 판단 (단일 왕복)
+-- KEYS[1] = 세마포어 키, KEYS[2] = 대기열 ZSET 키, KEYS[3] = 발급 번호표 카운터 키, KEYS[4] = 현재 호출 번호 키
+-- KEYS[5] = Permit 한도 키, KEYS[6] = 사용자별 대기열 항목 인덱스 HASH 키 (userId → userKey)
+-- ARGV[1] = 신규 userKey, ARGV[2] = 기본 Permit 한도, ARGV[3] = userId
+-- KEYS[7] = 스케줄별 생존 기록 ZSET 키, KEYS[8] = 전역 활성 대기열 목록 SET 키 (선택, 단일 노드에서만 전달)
+-- ARGV[4] = 입장 토큰 키 접두사({prefix}{scheduleId}:), ARGV[5] = 자리표시자 TTL(ms), ARGV[6] = 자리표시자 값
+-- ARGV[7] = 스케줄 ID (활성 대기열 목록 멤버), ARGV[8] = 생존 기록 보관 TTL(ms)
+-- 전역 활성 대기열 목록은 슬롯이 다르므로 Cluster에서는 KEYS[8]을 넘기지 않고 어댑터에서 갱신한다.
+-- 반환: {1, userKey} = 즉시 입장(Permit 1개 차감), {1, userKey, token} = 이미 입장한 사용자
+--       {0, rank, total, userKey, ticket} = 대기열 진입 (이미 대기 중이면 기존 번호표 기준 순번)
+--       {0, 0, total, userKey} = 입장 처리 중(토큰 발급 전)인 사용자
+-- 입장 토큰 키(ARGV[4] .. userKey)는 KEYS로 선언하지 않는 동적 키다. (같은 슬롯 보장은 WaitingRedisKey 참고)
+
+local function activate()
+    if KEYS[8] then
+        redis.call('SADD', KEYS[8], ARGV[7])
+    end
+end
+
+-- 생존 기록 시작 (연결이 한 번도 생기지 않은 대기자도 유예 시간 뒤 정리되도록, touch_presence.lua와 같은 서버 시각)
+local function seedPresence(userKey)
+    local time = redis.call('TIME')
+    redis.call('ZADD', KEYS[7], tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000), userKey)
+    redis.call('PEXPIRE', KEYS[7], ARGV[8])
+end
+
+local serving = tonumber(redis.call('GET', KEYS[4]) or '0')
+
+-- 동일 사용자의 재진입(새로고침 등)은 기존 항목을 그대로 반환
+local existing = redis.call('HGET', KEYS[6], ARGV[3])
+if existing then
+    local score = redis.call('ZSCORE', KEYS[2], existing)
+    if score then
+        local ticket = tonumber(score)
+        local total = redis.call('ZCARD', KEYS[2])
+        -- 보상 트랜잭션으로 재추가된 대기자는 호출 번호가 이미 지나갔으므로 맨 앞 순번
+        local rank = math.max(math.min(ticket - serving - 1, total - 1), 0)
+        seedPresence(existing)
+        activate()
+        return {0, rank, total, existing, ticket}
+    end
+
+    local token = redis.call('GET', ARGV[4] .. existing)
+    if token then
+        if token == ARGV[6] then
+            return {0, 0, redis.call('ZCARD', KEYS[2]), existing}
+        end
+        return {1, existing, token}
+    end
+
+    redis.call('HDEL', KEYS[6], ARGV[3])
+end
+
+-- 대기자가 남아있으면 활성 대기열 (대기열 ZSET과 같은 슬롯에서 판단)
+local isActive = redis.call('ZCARD', KEYS[2]) > 0
+
+if not isActive then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('SET', KEYS[1], redis.call('GET', KEYS[5]) or ARGV[2])
+    end
+
+    local permits = tonumber(redis.call('GET', KEYS[1]))
+    if permits ~= nil and permits > 0 then
+        redis.call('DECR', KEYS[1])
+        redis.call('SET', ARGV[4] .. ARGV[1], ARGV[6], 'PX', ARGV[5])
+        redis.call('HSET', KEYS[6], ARGV[3], ARGV[1])
+        return {1, ARGV[1]}
+    end
+end
+
+-- 번호표 발급 후 score = 번호표로 대기열 진입
+local ticket = redis.call('INCR', KEYS[3])
+redis.call('ZADD', KEYS[2], ticket, ARGV[1])
+redis.call('HSET', KEYS[6], ARGV[3], ARGV[1])
+seedPresence(ARGV[1])
+activate()
+
+local total = redis.call('ZCARD', KEYS[2])
+local rank = math.min(ticket - serving - 1, total - 1)
+
+return {0, rank, total, ARGV[1], ticket}
@@ -0,0 +1,20 @@
+-- 대기자 생존 기록 일괄 갱신 (단일 왕복)
+-- KEYS[1] = 스케줄별 생존 기록 ZSET 키 (userKey → 마지막 확인 시각)
+-- ARGV[1] = 보관 TTL(ms), ARGV[2..] = userKey 목록
+-- 반환: 갱신한 대기자 수
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local args = {}
+for i = 2, #ARGV do
+    table.insert(args, now)
+    table.insert(args, ARGV[i])
+end
+
+if #args > 0 then
+    redis.call('ZADD', KEYS[1], unpack(args))
+end
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+return #ARGV - 1
@@ -0,0 +1,56 @@
+package com.roovies.concertreservation.shared.util;
+
+import com.roovies.concertreservation.shared.util.timer.HashedTimingWheel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class HashedTimingWheelTest {
+
+    private final HashedTimingWheel wheel = new HashedTimingWheel("test-timing-wheel", Duration.ofMillis(10), 8);
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void 예약한_작업은_지연시간이_지난_뒤_실행되어야_한다() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(latch::countDown, Duration.ofMillis(50));
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void 휠_한_바퀴보다_긴_지연시간도_실행되어야_한다() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // tick 10ms * 8칸 = 80ms 한 바퀴
+        wheel.schedule(latch::countDown, Duration.ofMillis(200));
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 취소한_작업은_실행되지_않아야_한다() throws InterruptedException {
+        AtomicInteger executed = new AtomicInteger();
+        CountDownLatch after = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(executed::incrementAndGet, Duration.ofMillis(30));
+        wheel.schedule(after::countDown, Duration.ofMillis(100));
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(after.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed.get()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package com.roovies.concertreservation.waiting.application.unit;
+
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionSignalPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
+import com.roovies.concertreservation.waiting.application.service.AdmissionControlService;
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionSignal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionControlService 단위 테스트")
+public class AdmissionControlServiceUnitTest {
+
+    @Mock
+    private WaitingCachePort waitingCachePort;
+
+    @Mock
+    private AdmissionSignalPort admissionSignalPort;
+
+    @Mock
+    private WaitingEventPublisher waitingEventPublisher;
+
+    private AdmissionControlService admissionControlService;
+
+    private final Long scheduleId = 100L;
+
+    @BeforeEach
+    void setUp() {
+        // min 20, max 500, +10, x0.7, 목표 지연 500ms, 오류율 5%, 결제 완료 비율 10%
+        admissionControlService = new AdmissionControlService(
+                waitingCachePort, admissionSignalPort, waitingEventPublisher,
+                20, 500, 10, 0.7, 500L, 0.05, 0.1
+        );
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of(scheduleId.toString()));
+    }
+
+    @Test
+    @DisplayName("하위 시스템이 정상이고 결제가 이어지면 한도를 늘리고 입장 가능 신호를 발행해야 한다")
+    void adjustPermitLimits_정상_증가() {
+        // given
+        given(admissionSignalPort.drainSignal(scheduleId)).willReturn(new AdmissionSignal(100, 0, 100 * 80, 30));
+        given(waitingCachePort.getPermitLimit(scheduleId)).willReturn(100);
+
+        // when
+        admissionControlService.adjustPermitLimits();
+
+        // then
+        verify(waitingCachePort).updatePermitLimit(scheduleId, 110);
+        verify(waitingEventPublisher).notifyCapacityAvailableEvent(scheduleId);
+    }
+
+    @Test
+    @DisplayName("홀딩 처리 시간이 목표치를 넘으면 한도를 비율만큼 줄여야 한다")
+    void adjustPermitLimits_지연초과_감소() {
+        // given
+        given(admissionSignalPort.drainSignal(scheduleId)).willReturn(new AdmissionSignal(100, 0, 100 * 900, 30));
+        given(waitingCachePort.getPermitLimit(scheduleId)).willReturn(100);
+
+        // when
+        admissionControlService.adjustPermitLimits();
+
+        // then
+        verify(waitingCachePort).updatePermitLimit(scheduleId, 70);
+        verify(waitingEventPublisher, never()).notifyCapacityAvailableEvent(anyLong());
+    }
+
+    @Test
+    @DisplayName("홀딩 오류율이 허용치를 넘으면 최소 한도 아래로는 줄이지 않아야 한다")
+    void adjustPermitLimits_오류율초과_최소한도() {
+        // given
+        given(admissionSignalPort.drainSignal(scheduleId)).willReturn(new AdmissionSignal(100, 20, 100 * 50, 30));
+        given(waitingCachePort.getPermitLimit(scheduleId)).willReturn(25);
+
+        // when
+        admissionControlService.adjustPermitLimits();
+
+        // then
+        verify(waitingCachePort).updatePermitLimit(scheduleId, 20);
+    }
+
+    @Test
+    @DisplayName("결제 완료 비율이 낮거나 수집된 홀딩 지표가 없으면 한도를 유지해야 한다")
+    void adjustPermitLimits_유지() {
+        // given
+        given(admissionSignalPort.drainSignal(scheduleId))
+                .willReturn(new AdmissionSignal(100, 0, 100 * 80, 1))
+                .willReturn(AdmissionSignal.empty());
+        given(waitingCachePort.getPermitLimit(scheduleId)).willReturn(100);
+
+        // when
+        admissionControlService.adjustPermitLimits();
+        admissionControlService.adjustPermitLimits();
+
+        // then
+        verify(waitingCachePort, never()).updatePermitLimit(anyLong(), anyInt());
+        verify(waitingEventPublisher, never()).notifyCapacityAvailableEvent(anyLong());
+    }
+}
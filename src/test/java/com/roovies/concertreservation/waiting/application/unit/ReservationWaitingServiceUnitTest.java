@@ -2,23 +2,56 @@ package com.roovies.concertreservation.waiting.application.unit;
 
 import com.roovies.concertreservation.shared.util.security.JwtUtils;
 import com.roovies.concertreservation.waiting.application.dto.result.EnterQueueResult;
+import com.roovies.concertreservation.waiting.application.dto.result.WaitingStatusResult;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionMetricsPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionOwnershipPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionPacerPort;
+import com.roovies.concertreservation.waiting.application.port.out.AdmissionRatePort;
+import com.roovies.concertreservation.waiting.application.port.out.ConnectionDirectoryPort;
 import com.roovies.concertreservation.waiting.application.port.out.EmitterRepositoryPort;
 import com.roovies.concertreservation.waiting.application.port.out.WaitingCachePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingConnectionMonitorPort;
 import com.roovies.concertreservation.waiting.application.port.out.WaitingEventPublisher;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingLotteryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingNotificationPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPollRepositoryPort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingPresencePort;
+import com.roovies.concertreservation.waiting.application.port.out.WaitingStream;
 import com.roovies.concertreservation.waiting.application.service.ReservationWaitingService;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEta;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingStatusUpdate;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingLotterySchedules;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPollStatus;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
 import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
 
-import java.util.Collection;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -40,19 +73,60 @@ public class ReservationWaitingServiceUnitTest {
     @Mock
     private WaitingEventPublisher waitingEventPublisher;
 
+    @Mock
+    private WaitingNotificationPort waitingNotificationPort;
+
+    @Mock
+    private ConnectionDirectoryPort connectionDirectoryPort;
+
+    @Spy
+    private Executor waitingAdmissionExecutor = new SyncTaskExecutor(); // 입장 처리를 호출 스레드에서 바로 실행
+
+    @Mock
+    private AdmissionMetricsPort admissionMetricsPort;
+
+    @Mock
+    private AdmissionRatePort admissionRatePort;
+
+    @Mock
+    private AdmissionPacerPort admissionPacerPort;
+
+    @Mock
+    private AdmissionOwnershipPort admissionOwnershipPort;
+
+    @Mock
+    private WaitingPresencePort waitingPresencePort;
+
+    @Mock
+    private WaitingPollRepositoryPort waitingPollRepositoryPort;
+
+    @Mock
+    private WaitingConnectionMonitorPort waitingConnectionMonitorPort;
+
+    @Mock
+    private WaitingLotteryPort waitingLotteryPort;
+
     @InjectMocks
     private ReservationWaitingService reservationWaitingService;
 
+    @BeforeEach
+    void setUp() {
+        // 담당 배정을 사용하지 않는 기본 동작 (모든 스케줄을 현재 인스턴스가 담당)
+        lenient().when(admissionOwnershipPort.isLocalOwner(anyLong())).thenReturn(true);
+        // 재연결 유예 없이 연결 해제 즉시 이탈 (유예 동작은 개별 테스트에서 설정)
+        ReflectionTestUtils.setField(reservationWaitingService, "releaseGraceMillis", 0L);
+    }
+
     @Test
-    @DisplayName("대기열이 비활성화 상태이고 세마포어 획득 성공 시 즉시 입장해야 한다")
+    @DisplayName("세마포어 획득 성공 시 즉시 입장해야 한다")
     void enterOrWaitQueue_즉시입장_성공() {
         // given
         Long userId = 1L;
         Long scheduleId = 100L;
         String expectedToken = "test-admit-token";
 
-        given(waitingCachePort.hasActiveWaitingQueue(scheduleId)).willReturn(false); // 대기열 큐 존재X 상태 반환
-        given(waitingCachePort.tryAcquirePermit(scheduleId)).willReturn(true); // 세마포어 획득 성공 상태 반환
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willAnswer(invocation -> WaitingEntryResult.admitted(invocation.getArgument(2))); // 세마포어 획득 성공 상태 반환
         given(jwtUtils.generateToken(anyString(), anyMap(), anyLong())).willReturn(expectedToken); // 입장 토큰 발급
 
         // when
@@ -67,22 +141,21 @@ public class ReservationWaitingServiceUnitTest {
 
         // 중요한 부수 효과만 행위 검증 수행
         // 입장 토큰 저장 (중요한 비즈니스 규칙)
-        verify(waitingCachePort).saveAdmittedToken(eq(scheduleId), anyString(), eq(expectedToken));
-        // 대기열에 들어가지 않았음을 확인 (중요한 비즈니스 규칙)
+        verify(waitingCachePort).saveAdmittedToken(eq(scheduleId), startsWith(userId + ":"), eq(expectedToken));
+        // 진입 판단은 단일 호출로 끝나야 함 (중요한 비즈니스 규칙)
         verify(waitingCachePort, never()).enterQueue(anyLong(), anyString());
+        verify(waitingCachePort, never()).tryAcquirePermit(anyLong());
     }
 
     @Test
-    @DisplayName("대기열이 활성화 상태이면 대기열에 진입해야 한다")
-    void enterOrWaitQueue_대기열진입_활성화상태() {
+    @DisplayName("대기열이 활성화 상태이거나 세마포어 획득 실패 시 대기열에 진입해야 한다")
+    void enterOrWaitQueue_대기열진입() {
         // given
         Long userId = 1L;
         Long scheduleId = 100L;
-        String userKey = "1:test-uuid";
-        WaitingQueueStatus status = new WaitingQueueStatus(userKey, 9, 50); // rank는 0-indexed
 
-        given(waitingCachePort.hasActiveWaitingQueue(scheduleId)).willReturn(true);
-        given(waitingCachePort.getRankAndTotalWaitingCount(eq(scheduleId), anyString())).willReturn(status);
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willAnswer(invocation -> WaitingEntryResult.waiting(invocation.getArgument(2), 9, 50)); // rank는 0-indexed
 
         // when
         EnterQueueResult result = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
@@ -92,36 +165,159 @@ public class ReservationWaitingServiceUnitTest {
         assertThat(result.admittedToken()).isNull();
         assertThat(result.rank()).isEqualTo(10); // ZRANK는 0부터 시작하므로 +1
         assertThat(result.totalWaiting()).isEqualTo(50);
-        assertThat(result.userKey()).isEqualTo(userKey);
+        assertThat(result.userKey()).startsWith(userId + ":");
+        // 입장 속도 측정 전에는 예상 대기 시간 없이 최소 갱신 간격을 안내
+        assertThat(result.estimatedWaitSeconds()).isNull();
+        assertThat(result.nextUpdateSeconds()).isEqualTo(5);
+
+        verify(waitingCachePort).enterOrWait(eq(scheduleId), eq(userId), anyString());
+        verify(waitingCachePort, never()).saveAdmittedToken(anyLong(), anyString(), anyString());
+        verify(jwtUtils, never()).generateToken(anyString(), anyMap(), anyLong());
+    }
 
-        verify(waitingCachePort).hasActiveWaitingQueue(scheduleId);
-        verify(waitingCachePort, never()).tryAcquirePermit(scheduleId);
-        verify(waitingCachePort).enterQueue(eq(scheduleId), anyString());
+    @Test
+    @DisplayName("대기열 진입 시 입장 속도로 예상 대기 시간과 권장 갱신 간격을 계산해야 한다")
+    void enterOrWaitQueue_예상대기시간() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willAnswer(invocation -> WaitingEntryResult.waiting(invocation.getArgument(2), 1199, 5000));
+        given(admissionRatePort.getAdmissionsPerSecond(scheduleId)).willReturn(2.0);
+
+        // when
+        EnterQueueResult result = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
+
+        // then
+        assertThat(result.rank()).isEqualTo(1200);
+        assertThat(result.estimatedWaitSeconds()).isEqualTo(600);  // 1200명 / 초당 2명
+        assertThat(result.nextUpdateSeconds()).isEqualTo(60);      // 600초 / 10
     }
 
     @Test
-    @DisplayName("세마포어 획득 실패 시 대기열에 진입해야 한다")
-    void enterOrWaitQueue_대기열진입_세마포어실패() {
+    @DisplayName("이미 대기 중인 사용자가 재진입하면 기존 userKey와 순번을 반환해야 한다")
+    void enterOrWaitQueue_재진입_기존순번반환() {
         // given
         Long userId = 1L;
         Long scheduleId = 100L;
-        String userKey = "1:test-uuid";
-        WaitingQueueStatus status = new WaitingQueueStatus(userKey, 0, 1);
+        String existingUserKey = "1:existing-uuid";
 
-        given(waitingCachePort.hasActiveWaitingQueue(scheduleId)).willReturn(false);
-        given(waitingCachePort.tryAcquirePermit(scheduleId)).willReturn(false);
-        given(waitingCachePort.getRankAndTotalWaitingCount(eq(scheduleId), anyString())).willReturn(status);
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willReturn(WaitingEntryResult.waiting(existingUserKey, 4, 50));
 
         // when
         EnterQueueResult result = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
 
         // then
         assertThat(result.admitted()).isFalse();
-        assertThat(result.rank()).isEqualTo(1);
-        assertThat(result.totalWaiting()).isEqualTo(1);
+        assertThat(result.userKey()).isEqualTo(existingUserKey);
+        assertThat(result.rank()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("이미 입장한 사용자가 재진입하면 새 토큰을 발급하지 않고 기존 입장 토큰을 반환해야 한다")
+    void enterOrWaitQueue_재진입_기존토큰반환() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willReturn(WaitingEntryResult.alreadyAdmitted("1:existing-uuid", "existing-token"));
+
+        // when
+        EnterQueueResult result = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
+
+        // then
+        assertThat(result.admitted()).isTrue();
+        assertThat(result.admittedToken()).isEqualTo("existing-token");
+        verify(jwtUtils, never()).generateToken(anyString(), anyMap(), anyLong());
+        verify(waitingCachePort, never()).saveAdmittedToken(anyLong(), anyString(), anyString());
+    }
 
-        verify(waitingCachePort).tryAcquirePermit(scheduleId);
-        verify(waitingCachePort).enterQueue(eq(scheduleId), anyString());
+    @Test
+    @DisplayName("첫 폴링 조회는 Redis에서 순번을 확인하여 폴링 대기자로 등록해야 한다")
+    void getWaitingStatus_첫조회_등록() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+
+        given(waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey)).willReturn(new WaitingQueueStatus(userKey, 349, 500));
+
+        // when
+        WaitingStatusResult result = reservationWaitingService.getWaitingStatus(userId, scheduleId, userKey, null, Duration.ZERO).join();
+
+        // then
+        assertThat(result.waiting()).isTrue();
+        assertThat(result.rank()).isEqualTo(350);
+        assertThat(result.totalWaiting()).isEqualTo(500);
+        assertThat(result.version()).isEqualTo("w400"); // 순번 알림과 같은 구간 단위 버전
+        verify(waitingPollRepositoryPort).register(eq(scheduleId), eq(userKey), argThat(status -> status.version().equals("w400")), anyLong());
+        // 입장 알림이 이 인스턴스로 전달되도록 연결 소유 기록
+        verify(connectionDirectoryPort).registerConnection(userKey);
+    }
+
+    @Test
+    @DisplayName("등록된 폴링 대기자는 Redis를 조회하지 않고 갱신 주기에 계산된 상태로 응답해야 한다")
+    void getWaitingStatus_등록된대기자_Redis조회생략() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        WaitingPollStatus status = WaitingPollStatus.waiting(new WaitingEta(10, 20, 5), 50, 10);
+
+        given(waitingPollRepositoryPort.touch(eq(userKey), anyLong())).willReturn(status);
+
+        // when
+        WaitingStatusResult result = reservationWaitingService.getWaitingStatus(userId, scheduleId, userKey, "w10", Duration.ZERO).join();
+
+        // then
+        assertThat(result.version()).isEqualTo("w10");
+        assertThat(result.estimatedWaitSeconds()).isEqualTo(20);
+        verify(waitingCachePort, never()).getRankAndTotalWaitingCount(anyLong(), anyString());
+        verify(waitingPollRepositoryPort, never()).awaitChange(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("알고 있는 버전과 같으면 상태가 바뀔 때까지 응답을 미뤄야 한다 (long-poll)")
+    void getWaitingStatus_같은버전_변경대기() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        CompletableFuture<WaitingPollStatus> change = new CompletableFuture<>();
+
+        given(waitingPollRepositoryPort.touch(eq(userKey), anyLong())).willReturn(WaitingPollStatus.waiting(new WaitingEta(10, null, 5), 50, 10));
+        given(waitingPollRepositoryPort.awaitChange(userKey, "w10")).willReturn(change);
+
+        // when
+        CompletableFuture<WaitingStatusResult> result = reservationWaitingService.getWaitingStatus(userId, scheduleId, userKey, "w10", Duration.ofSeconds(10));
+
+        // then
+        assertThat(result).isNotDone();
+        change.complete(WaitingPollStatus.admitted("admit-token"));
+        assertThat(result.join().admittedToken()).isEqualTo("admit-token");
+    }
+
+    @Test
+    @DisplayName("대기열에 없는 userKey는 폴링 대기자로 등록하지 않아야 한다")
+    void getWaitingStatus_대기열없음_등록생략() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+
+        given(waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey)).willReturn(new WaitingQueueStatus(userKey, null, 10));
+
+        // when
+        WaitingStatusResult result = reservationWaitingService.getWaitingStatus(userId, scheduleId, userKey, null, Duration.ofSeconds(10)).join();
+
+        // then
+        assertThat(result.waiting()).isFalse();
+        assertThat(result.admitted()).isFalse();
+        verify(waitingPollRepositoryPort, never()).register(anyLong(), anyString(), any(), anyLong());
+        verify(connectionDirectoryPort, never()).registerConnection(anyString());
     }
 
     @Test
@@ -139,7 +335,124 @@ public class ReservationWaitingServiceUnitTest {
         assertThat(emitter).isNotNull();
         assertThat(emitter.getTimeout()).isEqualTo(600000L); // 10분
 
-        verify(emitterRepositoryPort).saveEmitterByUserKey(eq(userKey), any(SseEmitter.class));
+        verify(emitterRepositoryPort).saveEmitter(eq(scheduleId), eq(userKey), any(WaitingStream.class));
+    }
+
+    @Test
+    @DisplayName("같은 userKey로 다시 구독하면 기존 연결을 종료하고 새 연결로 교체해야 한다")
+    void subscribeToQueue_재구독_기존연결교체() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        WaitingStream previous = mock(WaitingStream.class);
+
+        given(emitterRepositoryPort.saveEmitter(eq(scheduleId), eq(userKey), any(WaitingStream.class))).willReturn(previous);
+
+        // when
+        SseEmitter emitter = reservationWaitingService.subscribeToQueue(userId, scheduleId, userKey);
+
+        // then
+        assertThat(emitter).isNotNull();
+        verify(previous).complete();
+        verify(waitingCachePort, never()).removeWaitingQueue(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("스트림 연결 시 초기 연결 이벤트를 전달하고 연결 해제 시 대기열에서 이탈해야 한다")
+    void streamQueue_연결해제_대기열이탈() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        List<ServerSentEvent<Object>> received = new ArrayList<>();
+
+        // when
+        Disposable subscription = reservationWaitingService.streamQueue(userId, scheduleId, userKey)
+                .subscribe(received::add);
+        subscription.dispose(); // 클라이언트 연결 해제
+
+        // then
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).event()).isEqualTo("connected");
+
+        verify(emitterRepositoryPort).saveEmitter(eq(scheduleId), eq(userKey), any(WaitingStream.class));
+        verify(connectionDirectoryPort).registerConnection(userKey);
+        verify(waitingCachePort).removeWaitingQueue(scheduleId, userKey);
+        verify(connectionDirectoryPort).unregisterConnection(userKey);
+    }
+
+    @Test
+    @DisplayName("heartbeat 응답이 없는 연결은 연결 저장소에서 제거하고 대기열에서 이탈시켜야 한다")
+    void streamQueue_응답없는연결_정리() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        List<Throwable> errors = new ArrayList<>();
+        ArgumentCaptor<Runnable> onStalled = ArgumentCaptor.forClass(Runnable.class);
+
+        reservationWaitingService.streamQueue(userId, scheduleId, userKey)
+                .subscribe(event -> {}, errors::add);
+        verify(waitingConnectionMonitorPort).watch(eq(userKey), any(WaitingStream.class), onStalled.capture());
+
+        // when
+        onStalled.getValue().run();
+
+        // then
+        verify(emitterRepositoryPort, atLeastOnce()).removeEmitter(eq(userKey), any(WaitingStream.class));
+        verify(waitingCachePort, atLeastOnce()).removeWaitingQueue(scheduleId, userKey);
+        verify(connectionDirectoryPort, atLeastOnce()).unregisterConnection(userKey);
+        assertThat(errors).singleElement().isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("재연결 유예 시간이 설정되어 있으면 유예 시간 동안 재연결이 없을 때만 대기열에서 이탈시켜야 한다")
+    void streamQueue_재연결유예_이탈() {
+        // given
+        ReflectionTestUtils.setField(reservationWaitingService, "releaseGraceMillis", 30000L);
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        ArgumentCaptor<Runnable> release = ArgumentCaptor.forClass(Runnable.class);
+
+        given(connectionDirectoryPort.findOwnerInstances(List.of(userKey))).willReturn(Map.of());
+
+        // when
+        reservationWaitingService.streamQueue(userId, scheduleId, userKey)
+                .subscribe()
+                .dispose(); // 클라이언트 연결 해제
+
+        // then
+        // 연결 해제 즉시 이탈하지 않고 유예 후 제거를 예약
+        verify(waitingCachePort, never()).removeWaitingQueue(anyLong(), anyString());
+        verify(waitingConnectionMonitorPort).schedule(release.capture(), eq(Duration.ofMillis(30000L)));
+
+        release.getValue().run();
+        verify(waitingCachePort).removeWaitingQueue(scheduleId, userKey);
+    }
+
+    @Test
+    @DisplayName("재연결 유예 시간 안에 다른 인스턴스로 재연결했다면 대기열 항목을 유지해야 한다")
+    void streamQueue_재연결유예_다른인스턴스재연결() {
+        // given
+        ReflectionTestUtils.setField(reservationWaitingService, "releaseGraceMillis", 30000L);
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+        ArgumentCaptor<Runnable> release = ArgumentCaptor.forClass(Runnable.class);
+
+        given(connectionDirectoryPort.findOwnerInstances(List.of(userKey))).willReturn(Map.of(userKey, "instance-b"));
+
+        // when
+        reservationWaitingService.streamQueue(userId, scheduleId, userKey)
+                .subscribe()
+                .dispose();
+        verify(waitingConnectionMonitorPort).schedule(release.capture(), any(Duration.class));
+        release.getValue().run();
+
+        // then
+        verify(waitingCachePort, never()).removeWaitingQueue(anyLong(), anyString());
     }
 
     @Test
@@ -155,7 +468,7 @@ public class ReservationWaitingServiceUnitTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("userId가 일치하지 않습니다.");
 
-        verify(emitterRepositoryPort, never()).saveEmitterByUserKey(anyString(), any());
+        verify(emitterRepositoryPort, never()).saveEmitter(anyLong(), anyString(), any());
     }
 
     @Test
@@ -199,8 +512,10 @@ public class ReservationWaitingServiceUnitTest {
         // then
         verify(waitingCachePort).getActiveWaitingScheduleIds();
         verify(waitingCachePort).tryAcquireAdmitLock(100L);
-        verify(waitingCachePort, never()).getAvailablePermits(anyLong());
+        verify(waitingCachePort, never()).admitBatch(anyLong(), anyInt());
         verify(waitingCachePort, never()).releaseAdmitLock(anyLong());
+        verify(admissionMetricsPort).recordLockMiss();
+        verify(admissionMetricsPort).recordRun(eq(1), any(Duration.class));
     }
 
     @Test
@@ -209,14 +524,10 @@ public class ReservationWaitingServiceUnitTest {
         // given
         Long scheduleId = 100L;
         WaitingQueueEntry entry = new WaitingQueueEntry("1:uuid-1", 1000.0);
-        List<WaitingQueueEntry> admittedEntries = List.of(entry);
 
         given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100"));
         given(waitingCachePort.tryAcquireAdmitLock(scheduleId)).willReturn(true);
-        given(waitingCachePort.getAvailablePermits(scheduleId)).willReturn(50);
-        given(waitingCachePort.getWaitingQueueSize(scheduleId)).willReturn(1);
-        given(waitingCachePort.tryAcquirePermits(scheduleId, 1)).willReturn(true);
-        given(waitingCachePort.admitUsers(scheduleId, 1)).willReturn(admittedEntries);
+        given(waitingCachePort.admitBatch(eq(scheduleId), anyInt())).willReturn(List.of(entry));
 
         // JWT 생성 실패 시뮬레이션
         given(jwtUtils.generateToken(anyString(), anyMap(), anyLong()))
@@ -226,65 +537,245 @@ public class ReservationWaitingServiceUnitTest {
         reservationWaitingService.admitUsersInActiveWaitingSchedules();
 
         // then
-        verify(waitingCachePort).addUserToWaitingQueue(scheduleId, "1:uuid-1", 1000.0);
-        verify(waitingCachePort).releasePermits(scheduleId, 1);
+        verify(waitingCachePort).requeueAdmittedUser(scheduleId, entry);
+        verify(waitingCachePort, never()).saveAdmittedToken(anyLong(), anyString(), anyString());
         verify(waitingCachePort).releaseAdmitLock(scheduleId);
     }
 
     @Test
-    @DisplayName("입장 처리 수가 가용 Permit과 대기자 수 중 작은 값으로 결정되어야 한다")
-    void admitUsers_입장처리수_결정로직() {
-        // given - 가용 Permit 10개, 대기자 5명
+    @DisplayName("admitBatch로 추출된 대기자마다 입장 토큰을 발급하고 알림을 보내야 한다")
+    void admitUsers_추출된대기자_토큰발급() {
+        // given
         Long scheduleId = 100L;
         List<WaitingQueueEntry> admittedEntries = List.of(
                 new WaitingQueueEntry("1:uuid-1", 1000.0),
                 new WaitingQueueEntry("2:uuid-2", 1001.0),
-                new WaitingQueueEntry("3:uuid-3", 1002.0),
-                new WaitingQueueEntry("4:uuid-4", 1003.0),
-                new WaitingQueueEntry("5:uuid-5", 1004.0)
+                new WaitingQueueEntry("3:uuid-3", 1002.0)
         );
 
         given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100"));
         given(waitingCachePort.tryAcquireAdmitLock(scheduleId)).willReturn(true);
-        given(waitingCachePort.getAvailablePermits(scheduleId)).willReturn(10);
-        given(waitingCachePort.getWaitingQueueSize(scheduleId)).willReturn(5);
-        given(waitingCachePort.tryAcquirePermits(scheduleId, 5)).willReturn(true);
-        given(waitingCachePort.admitUsers(scheduleId, 5)).willReturn(admittedEntries);
+        given(waitingCachePort.admitBatch(eq(scheduleId), anyInt())).willReturn(admittedEntries);
         given(jwtUtils.generateToken(anyString(), anyMap(), anyLong())).willReturn("test-token");
-        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(true);
+        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(false);
+        given(connectionDirectoryPort.findOwnerInstances(anyCollection())).willReturn(Map.of(
+                "1:uuid-1", "instance-a",
+                "2:uuid-2", "instance-b",
+                "3:uuid-3", "instance-b"
+        ));
+        given(waitingEventPublisher.notifyAdmittedUsersEvent(anyString(), eq(scheduleId), anyMap())).willReturn(true);
 
         // when
         reservationWaitingService.admitUsersInActiveWaitingSchedules();
 
         // then
-        verify(waitingCachePort).tryAcquirePermits(scheduleId, 5); // Math.min(10, 5) = 5
-        verify(waitingCachePort).admitUsers(scheduleId, 5);
-        verify(waitingCachePort, never()).releasePermits(eq(scheduleId), anyInt());
+        verify(waitingCachePort).saveAdmittedToken(scheduleId, "1:uuid-1", "test-token");
+        verify(waitingCachePort).saveAdmittedToken(scheduleId, "2:uuid-2", "test-token");
+        verify(waitingCachePort).saveAdmittedToken(scheduleId, "3:uuid-3", "test-token");
+        verify(waitingCachePort, never()).requeueAdmittedUser(anyLong(), any());
         verify(waitingCachePort).releaseAdmitLock(scheduleId);
+        // 로컬에 연결이 없는 대기자는 연결을 보유한 인스턴스 전용 채널로만 발행
+        verify(waitingEventPublisher).notifyAdmittedUsersEvent("instance-a", scheduleId, Map.of("1:uuid-1", "test-token"));
+        verify(waitingEventPublisher).notifyAdmittedUsersEvent("instance-b", scheduleId, Map.of("2:uuid-2", "test-token", "3:uuid-3", "test-token"));
+        verify(waitingEventPublisher, never()).notifyAdmittedUsersEvent(anyLong(), anyMap());
+        verify(admissionMetricsPort).recordAdmitted(3);
+        // 예상 대기 시간 계산용 입장 속도 기록
+        verify(admissionRatePort).recordAdmissions(scheduleId, 3);
+    }
+
+    @Test
+    @DisplayName("입장 속도 제한 사용 시 채워진 토큰 수만큼만 추출하고, 남은 토큰은 되돌려야 한다")
+    void admitUsersInSchedule_속도제한_토큰만큼추출() {
+        // given
+        Long scheduleId = 100L;
+        ReflectionTestUtils.setField(reservationWaitingService, "pacingEnabled", true);
+        given(waitingCachePort.tryAcquireAdmitLock(scheduleId)).willReturn(true);
+        given(admissionPacerPort.acquire(eq(scheduleId), anyInt())).willReturn(5);
+        given(waitingCachePort.admitBatch(scheduleId, 5)).willReturn(List.of(
+                new WaitingQueueEntry("1:uuid-1", 1000.0),
+                new WaitingQueueEntry("2:uuid-2", 1001.0)
+        ));
+        given(jwtUtils.generateToken(anyString(), anyMap(), anyLong())).willReturn("test-token");
+        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(true);
+        given(admissionPacerPort.getConfiguredAdmissionsPerSecond()).willReturn(50d);
+        given(admissionRatePort.getAdmissionsPerSecond(scheduleId)).willReturn(48d);
+
+        // when
+        reservationWaitingService.admitUsersInSchedule(scheduleId);
+
+        // then
+        verify(waitingCachePort).admitBatch(scheduleId, 5);
+        // 대기자가 2명뿐이라 사용하지 못한 토큰 3개는 되돌림
+        verify(admissionPacerPort).refund(scheduleId, 3);
+        verify(admissionMetricsPort).recordPacing(scheduleId, 50d, 48d);
+        verify(admissionMetricsPort).recordAdmitted(2);
     }
 
     @Test
-    @DisplayName("parallelStream으로 여러 스케줄을 동시에 처리해야 한다")
+    @DisplayName("입장 속도 제한 사용 시 채워진 토큰이 없으면 대기자를 추출하지 않아야 한다")
+    void admitUsersInSchedule_속도제한_토큰없음() {
+        // given
+        Long scheduleId = 100L;
+        ReflectionTestUtils.setField(reservationWaitingService, "pacingEnabled", true);
+        given(waitingCachePort.tryAcquireAdmitLock(scheduleId)).willReturn(true);
+        given(admissionPacerPort.acquire(eq(scheduleId), anyInt())).willReturn(0);
+
+        // when
+        reservationWaitingService.admitUsersInSchedule(scheduleId);
+
+        // then
+        verify(waitingCachePort, never()).admitBatch(anyLong(), anyInt());
+        verify(waitingCachePort).releaseAdmitLock(scheduleId);
+        verify(admissionRatePort).recordAdmissions(scheduleId, 0);
+    }
+
+    @Test
+    @DisplayName("담당 배정 사용 시 현재 인스턴스가 담당하는 스케줄만 입장 처리해야 한다")
+    void admitUsers_담당스케줄만_처리() {
+        // given
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100", "200"));
+        given(admissionOwnershipPort.isLocalOwner(100L)).willReturn(true);
+        given(admissionOwnershipPort.isLocalOwner(200L)).willReturn(false);
+        given(waitingCachePort.tryAcquireAdmitLock(100L)).willReturn(true);
+        given(waitingCachePort.admitBatch(eq(100L), anyInt())).willReturn(List.of());
+
+        // when
+        reservationWaitingService.admitUsersInActiveWaitingSchedules();
+
+        // then
+        verify(waitingCachePort).admitBatch(eq(100L), anyInt());
+        // 다른 인스턴스가 담당하는 스케줄은 분산락도 시도하지 않음
+        verify(waitingCachePort, never()).tryAcquireAdmitLock(200L);
+        verify(admissionMetricsPort).recordRun(eq(1), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("담당하지 않는 스케줄의 입장 가능 신호는 무시해야 한다")
+    void admitUsersInSchedule_담당아님_무시() {
+        // given
+        given(admissionOwnershipPort.isLocalOwner(100L)).willReturn(false);
+
+        // when
+        reservationWaitingService.admitUsersInSchedule(100L);
+
+        // then
+        verify(waitingCachePort, never()).tryAcquireAdmitLock(anyLong());
+        verify(admissionMetricsPort, never()).recordLockMiss();
+    }
+
+    @Test
+    @DisplayName("대기열 전용 Executor로 여러 스케줄을 동시에 처리해야 한다")
     void admitUsers_병렬처리() {
         // given
         Set<String> scheduleIds = Set.of("100", "200", "300");
         given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(scheduleIds);
         given(waitingCachePort.tryAcquireAdmitLock(anyLong())).willReturn(true);
-        given(waitingCachePort.getAvailablePermits(anyLong())).willReturn(10);
-        given(waitingCachePort.getWaitingQueueSize(anyLong())).willReturn(5);
-        given(waitingCachePort.tryAcquirePermits(anyLong(), anyInt())).willReturn(true);
-        given(waitingCachePort.admitUsers(anyLong(), anyInt())).willReturn(List.of());
+        given(waitingCachePort.admitBatch(anyLong(), anyInt())).willReturn(List.of());
 
         // when
         reservationWaitingService.admitUsersInActiveWaitingSchedules();
 
         // then
+        verify(waitingAdmissionExecutor, times(3)).execute(any(Runnable.class));
         verify(waitingCachePort).tryAcquireAdmitLock(100L);
         verify(waitingCachePort).tryAcquireAdmitLock(200L);
         verify(waitingCachePort).tryAcquireAdmitLock(300L);
         verify(waitingCachePort, times(3)).releaseAdmitLock(anyLong());
     }
 
+    @Test
+    @DisplayName("한 스케줄의 입장 처리가 실패해도 다른 스케줄의 입장 처리는 수행되어야 한다")
+    void admitUsers_스케줄별_실패격리() {
+        // given
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100", "200"));
+        given(waitingCachePort.tryAcquireAdmitLock(100L)).willThrow(new RuntimeException("Redis 연결 실패"));
+        given(waitingCachePort.tryAcquireAdmitLock(200L)).willReturn(true);
+        given(waitingCachePort.admitBatch(anyLong(), anyInt())).willReturn(List.of());
+
+        // when
+        assertThatCode(() -> reservationWaitingService.admitUsersInActiveWaitingSchedules())
+                .doesNotThrowAnyException();
+
+        // then
+        verify(waitingCachePort).admitBatch(eq(200L), anyInt());
+        verify(waitingCachePort).releaseAdmitLock(200L);
+    }
+
+    @Test
+    @DisplayName("입장 처리 작업 한도를 넘으면 해당 스케줄을 건너뛰고 나머지 스케줄은 처리해야 한다")
+    void admitUsers_작업한도초과_건너뜀() {
+        // given
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(new LinkedHashSet<>(List.of("100", "200")));
+        given(waitingCachePort.tryAcquireAdmitLock(200L)).willReturn(true);
+        given(waitingCachePort.admitBatch(anyLong(), anyInt())).willReturn(List.of());
+        willThrow(new RejectedExecutionException("작업 한도 초과"))
+                .willCallRealMethod()
+                .given(waitingAdmissionExecutor).execute(any(Runnable.class));
+
+        // when
+        assertThatCode(() -> reservationWaitingService.admitUsersInActiveWaitingSchedules())
+                .doesNotThrowAnyException();
+
+        // then
+        verify(waitingCachePort, never()).tryAcquireAdmitLock(100L);
+        verify(waitingCachePort).releaseAdmitLock(200L);
+        verify(admissionMetricsPort).recordRejected();
+        verify(admissionMetricsPort).recordRun(eq(2), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("연결 소유 인스턴스가 수신하지 못하면 기록을 정리하고 브로드캐스트로 재발행해야 한다")
+    void admitUsers_소유인스턴스_전달실패_브로드캐스트() {
+        // given
+        Long scheduleId = 100L;
+        WaitingQueueEntry entry = new WaitingQueueEntry("1:uuid-1", 1000.0);
+
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100"));
+        given(waitingCachePort.tryAcquireAdmitLock(scheduleId)).willReturn(true);
+        given(waitingCachePort.admitBatch(eq(scheduleId), anyInt())).willReturn(List.of(entry));
+        given(jwtUtils.generateToken(anyString(), anyMap(), anyLong())).willReturn("test-token");
+        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(false);
+        given(connectionDirectoryPort.findOwnerInstances(anyCollection())).willReturn(Map.of("1:uuid-1", "dead-instance"));
+        given(waitingEventPublisher.notifyAdmittedUsersEvent(eq("dead-instance"), eq(scheduleId), anyMap())).willReturn(false);
+
+        // when
+        reservationWaitingService.admitUsersInActiveWaitingSchedules();
+
+        // then
+        verify(connectionDirectoryPort).removeConnections(Set.of("1:uuid-1"));
+        verify(waitingEventPublisher).notifyAdmittedUsersEvent(scheduleId, Map.of("1:uuid-1", "test-token"));
+    }
+
+    @Test
+    @DisplayName("입장 토큰 만료 시 Permit을 반환하고 입장 가능 신호를 발행해야 한다")
+    void handleAdmittedTokenExpired_Permit반환_신호발행() {
+        // given
+        Long scheduleId = 100L;
+        given(waitingCachePort.releaseExpiredAdmission(scheduleId, "1:uuid-1")).willReturn(true);
+
+        // when
+        reservationWaitingService.handleAdmittedTokenExpired(scheduleId, "1:uuid-1");
+
+        // then
+        verify(waitingCachePort).releaseExpiredAdmission(scheduleId, "1:uuid-1");
+        verify(waitingEventPublisher).notifyCapacityAvailableEvent(scheduleId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 이미 처리한 입장 토큰 만료는 입장 가능 신호를 발행하지 않아야 한다")
+    void handleAdmittedTokenExpired_중복처리_신호생략() {
+        // given
+        Long scheduleId = 100L;
+        given(waitingCachePort.releaseExpiredAdmission(scheduleId, "1:uuid-1")).willReturn(false);
+
+        // when
+        reservationWaitingService.handleAdmittedTokenExpired(scheduleId, "1:uuid-1");
+
+        // then
+        verify(waitingCachePort, never()).releasePermits(anyLong(), anyInt());
+        verify(waitingEventPublisher, never()).notifyCapacityAvailableEvent(anyLong());
+    }
+
     @Test
     @DisplayName("활성 대기열이 있으면 각 스케줄별로 이벤트를 발행해야 한다")
     void publishActiveWaitingScheduleStatus_이벤트발행() {
@@ -303,47 +794,75 @@ public class ReservationWaitingServiceUnitTest {
     }
 
     @Test
-    @DisplayName("대기자가 없는 스케줄은 활성 목록에서 제거되어야 한다")
-    void notifyWaitingQueueStatus_대기자없음_활성목록제거() {
+    @DisplayName("현재 인스턴스에 연결된 대기자가 없으면 Redis를 조회하지 않아야 한다")
+    void notifyWaitingQueueStatus_로컬대기자없음_조회생략() {
         // given
         Long scheduleId = 100L;
-        given(waitingCachePort.getActiveWaitingUserKeys(scheduleId)).willReturn(List.of());
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of());
 
         // when
         reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
 
         // then
-        verify(waitingCachePort).getActiveWaitingUserKeys(scheduleId);
-        verify(waitingCachePort).removeActiveWaitingScheduleId(scheduleId);
-        verify(emitterRepositoryPort, never()).getEmitterByUserKey(anyString());
+        verify(waitingCachePort, never()).getActiveWaitingUserKeys(anyLong());
+        verify(waitingCachePort, never()).getRankAndTotalWaitingCounts(anyLong(), any());
+        verify(waitingNotificationPort, never()).sendStatuses(any(), anyMap());
     }
 
     @Test
-    @DisplayName("로컬 인스턴스에 연결된 대기자만 SSE 알림을 받아야 한다")
+    @DisplayName("스케줄 인덱스에 있는 로컬 대기자만 SSE 알림을 받아야 한다")
     void notifyWaitingQueueStatus_로컬대기자만_알림전송() throws Exception {
         // given
         Long scheduleId = 100L;
         String localUserKey = "1:local-uuid";
-        String remoteUserKey = "2:remote-uuid";
-        Collection<String> allUserKeys = List.of(localUserKey, remoteUserKey);
 
-        SseEmitter localEmitter = new SseEmitter();
         WaitingQueueStatus localStatus = new WaitingQueueStatus(localUserKey, 0, 2);
 
-        given(waitingCachePort.getActiveWaitingUserKeys(scheduleId)).willReturn(allUserKeys);
-        given(emitterRepositoryPort.containsEmitterByUserKey(localUserKey)).willReturn(true);
-        given(emitterRepositoryPort.containsEmitterByUserKey(remoteUserKey)).willReturn(false);
-        given(emitterRepositoryPort.getEmitterByUserKey(localUserKey)).willReturn(localEmitter);
-        given(waitingCachePort.getRankAndTotalWaitingCount(scheduleId, localUserKey)).willReturn(localStatus);
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(localUserKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, List.of(localUserKey))).willReturn(List.of(localStatus));
+        given(emitterRepositoryPort.shouldSendPosition(eq(localUserKey), eq(1), anyLong())).willReturn(true);
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        // 직접 전송하지 않고 연결별 outbox에 적재해야 한다
+        verify(waitingNotificationPort).sendStatuses(
+                argThat(snapshot -> snapshot.scheduleId().equals(scheduleId) && snapshot.totalWaiting() == 2),
+                argThat(updates -> etasOf(updates).equals(Map.of(localUserKey, new WaitingEta(1, null, 5))))
+        );
+        // Redis 대기열 전체를 내려받지 않고, 로컬 대기자만 담아 스케줄 단위로 한 번에 조회해야 한다
+        verify(waitingCachePort, never()).getActiveWaitingUserKeys(anyLong());
+        verify(waitingCachePort).getRankAndTotalWaitingCounts(scheduleId, List.of(localUserKey));
+        verify(waitingCachePort, never()).getRankAndTotalWaitingCount(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("폴링 대기자의 조회용 상태는 SSE 연결 대기자와 함께 한 번에 조회하여 갱신해야 한다")
+    void notifyWaitingQueueStatus_폴링대기자_상태갱신() {
+        // given
+        Long scheduleId = 100L;
+        String connectedUserKey = "1:sse-uuid";
+        String pollingUserKey = "2:poll-uuid";
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(connectedUserKey));
+        given(waitingPollRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(pollingUserKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, List.of(connectedUserKey, pollingUserKey))).willReturn(List.of(
+                new WaitingQueueStatus(connectedUserKey, 0, 2),
+                new WaitingQueueStatus(pollingUserKey, 1, 2)
+        ));
+        given(emitterRepositoryPort.shouldSendPosition(eq(connectedUserKey), eq(1), anyLong())).willReturn(true);
+        given(waitingPollRepositoryPort.removeIdle(eq(scheduleId), anyLong())).willReturn(List.of());
 
         // when
         reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
 
         // then
-        verify(emitterRepositoryPort).getEmitterByUserKey(localUserKey);
-        verify(emitterRepositoryPort, never()).getEmitterByUserKey(remoteUserKey);
-        verify(waitingCachePort).getRankAndTotalWaitingCount(scheduleId, localUserKey);
-        verify(waitingCachePort, never()).getRankAndTotalWaitingCount(scheduleId, remoteUserKey);
+        verify(waitingPollRepositoryPort).update(pollingUserKey, WaitingPollStatus.waiting(new WaitingEta(2, null, 5), 2, 2));
+        verify(waitingPollRepositoryPort, never()).update(eq(connectedUserKey), any());
+        // 폴링 대기자에게는 SSE 전송을 시도하지 않음
+        verify(emitterRepositoryPort, never()).shouldSendPosition(eq(pollingUserKey), anyInt(), anyLong());
+        verify(waitingNotificationPort).sendStatuses(any(), argThat(updates -> etasOf(updates).equals(Map.of(connectedUserKey, new WaitingEta(1, null, 5)))));
     }
 
     @Test
@@ -352,19 +871,333 @@ public class ReservationWaitingServiceUnitTest {
         // given
         Long scheduleId = 100L;
         String userKey = "1:test-uuid";
-        SseEmitter emitter = new SseEmitter();
         WaitingQueueStatus statusWithNullRank = new WaitingQueueStatus(userKey, null, 10);
 
-        given(waitingCachePort.getActiveWaitingUserKeys(scheduleId)).willReturn(List.of(userKey));
-        given(emitterRepositoryPort.containsEmitterByUserKey(userKey)).willReturn(true);
-        given(emitterRepositoryPort.getEmitterByUserKey(userKey)).willReturn(emitter);
-        given(waitingCachePort.getRankAndTotalWaitingCount(scheduleId, userKey)).willReturn(statusWithNullRank);
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(userKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, List.of(userKey))).willReturn(List.of(statusWithNullRank));
 
         // when
         reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
 
         // then
-        verify(waitingCachePort).getRankAndTotalWaitingCount(scheduleId, userKey);
+        verify(waitingCachePort).getRankAndTotalWaitingCounts(scheduleId, List.of(userKey));
         // SSE 전송이 시도되지 않아야 함 (rank가 null이므로)
+        verify(waitingNotificationPort, never()).sendStatuses(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("순번이 없는 스트림 대기자에게 입장 토큰이 발급되어 있다면 입장 이벤트를 전송해야 한다")
+    void notifyWaitingQueueStatus_스트림대기자_입장토큰발급_입장전송() {
+        // given
+        // 입장 처리 중 재진입하여 토큰 발급 뒤에 새 스트림을 연결한 경우 (기존 입장 이벤트는 이전 연결로 전송됨)
+        Long scheduleId = 100L;
+        String userKey = "1:reentered-uuid";
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(userKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, List.of(userKey)))
+                .willReturn(List.of(new WaitingQueueStatus(userKey, null, 0)));
+        given(waitingCachePort.getAdmittedTokens(scheduleId, List.of(userKey))).willReturn(Map.of(userKey, "admitted-token"));
+        given(emitterRepositoryPort.containsEmitterByUserKey(userKey)).willReturn(true);
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        verify(waitingNotificationPort).sendAdmit(userKey, "admitted-token");
+        verify(waitingNotificationPort, never()).sendStatuses(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("순번이 없는 폴링 대기자는 입장 토큰이 발급된 경우에만 입장으로 갱신하고, 발급 전이라면 이탈로 표시하지 않아야 한다")
+    void notifyWaitingQueueStatus_폴링대기자_입장처리중_상태유지() {
+        // given
+        Long scheduleId = 100L;
+        String admittedUserKey = "1:admitted-uuid";
+        String pendingUserKey = "2:pending-uuid";
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of());
+        given(waitingPollRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(new LinkedHashSet<>(List.of(admittedUserKey, pendingUserKey)));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(eq(scheduleId), anyCollection())).willReturn(List.of(
+                new WaitingQueueStatus(admittedUserKey, null, 0),
+                new WaitingQueueStatus(pendingUserKey, null, 0)
+        ));
+        // 토큰 발급 전(자리표시자)인 사용자는 조회 결과에서 제외됨
+        given(waitingCachePort.getAdmittedTokens(scheduleId, List.of(admittedUserKey, pendingUserKey)))
+                .willReturn(Map.of(admittedUserKey, "admitted-token"));
+        given(waitingPollRepositoryPort.removeIdle(eq(scheduleId), anyLong())).willReturn(List.of());
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        verify(waitingPollRepositoryPort).update(admittedUserKey, WaitingPollStatus.admitted("admitted-token"));
+        verify(waitingPollRepositoryPort, never()).update(eq(pendingUserKey), any());
+        verify(waitingPollRepositoryPort, never()).update(anyString(), eq(WaitingPollStatus.notWaiting()));
+    }
+
+    @Test
+    @DisplayName("순번 구간이 바뀐 대기자에게만 순번 알림을 전송해야 한다")
+    void notifyWaitingQueueStatus_순번구간변경_대기자만전송() {
+        // given
+        Long scheduleId = 100L;
+        String frontUserKey = "1:front-uuid";   // 앞쪽 대기자: 순번 1단위
+        String backUserKey = "2:back-uuid";     // 뒤쪽 대기자: 100단위 구간
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(frontUserKey, backUserKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(eq(scheduleId), anyList())).willReturn(List.of(
+                new WaitingQueueStatus(frontUserKey, 9, 500),
+                new WaitingQueueStatus(backUserKey, 349, 500)
+        ));
+        given(emitterRepositoryPort.shouldSendPosition(eq(frontUserKey), eq(10), anyLong())).willReturn(true);
+        given(emitterRepositoryPort.shouldSendPosition(eq(backUserKey), eq(400), anyLong())).willReturn(false);  // 이미 같은 구간 전송됨
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        verify(waitingNotificationPort).sendStatuses(any(), argThat(updates -> etasOf(updates).equals(Map.of(frontUserKey, new WaitingEta(10, null, 5)))));
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간이 긴 뒤쪽 대기자일수록 다음 순번 알림까지의 간격이 길어야 한다")
+    void notifyWaitingQueueStatus_뒤쪽대기자_갱신간격증가() {
+        // given
+        Long scheduleId = 100L;
+        String frontUserKey = "1:front-uuid";
+        String backUserKey = "2:back-uuid";
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(frontUserKey, backUserKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(eq(scheduleId), anyList())).willReturn(List.of(
+                new WaitingQueueStatus(frontUserKey, 9, 500),
+                new WaitingQueueStatus(backUserKey, 349, 500)
+        ));
+        given(admissionRatePort.getAdmissionsPerSecond(scheduleId)).willReturn(1.0);
+        given(emitterRepositoryPort.shouldSendPosition(anyString(), anyInt(), anyLong())).willReturn(true);
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        // 앞쪽(10초 남음)은 최소 간격 5초, 뒤쪽(350초 남음)은 35초 뒤에야 다시 전송 가능 (전송 완료 시 기록됨)
+        ArgumentCaptor<Map<String, WaitingStatusUpdate>> updates = ArgumentCaptor.forClass(Map.class);
+        verify(waitingNotificationPort).sendStatuses(any(), updates.capture());
+        assertThat(etasOf(updates.getValue())).isEqualTo(Map.of(
+                frontUserKey, new WaitingEta(10, 10, 5),
+                backUserKey, new WaitingEta(350, 350, 35)
+        ));
+        WaitingStatusUpdate front = updates.getValue().get(frontUserKey);
+        WaitingStatusUpdate back = updates.getValue().get(backUserKey);
+        assertThat(front.positionBucket()).isEqualTo(10);
+        assertThat(front.nextUpdateAtMillis() - System.currentTimeMillis()).isLessThanOrEqualTo(5_000);
+        assertThat(back.positionBucket()).isEqualTo(400);
+        assertThat(back.nextUpdateAtMillis() - System.currentTimeMillis()).isGreaterThan(30_000);
+    }
+
+    @Test
+    @DisplayName("순번 구간이 바뀐 대기자가 없으면 전송하지 않아야 한다")
+    void notifyWaitingQueueStatus_변경없음_전송생략() {
+        // given
+        Long scheduleId = 100L;
+        String userKey = "1:test-uuid";
+
+        given(emitterRepositoryPort.getUserKeysByScheduleId(scheduleId)).willReturn(Set.of(userKey));
+        given(waitingCachePort.getRankAndTotalWaitingCounts(scheduleId, List.of(userKey)))
+                .willReturn(List.of(new WaitingQueueStatus(userKey, 4, 10)));
+        given(emitterRepositoryPort.shouldSendPosition(eq(userKey), eq(5), anyLong())).willReturn(false);
+
+        // when
+        reservationWaitingService.notifyWaitingQueueStatus(scheduleId);
+
+        // then
+        verify(waitingNotificationPort, never()).sendStatuses(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("입장 처리된 로컬 대기자에게는 입장 이벤트를 전송해야 한다")
+    void notifyAdmittedUsers_로컬대기자_입장이벤트() {
+        // given
+        given(emitterRepositoryPort.containsEmitterByUserKey("1:local-uuid")).willReturn(true);
+        given(emitterRepositoryPort.containsEmitterByUserKey("2:remote-uuid")).willReturn(false);
+
+        // when
+        reservationWaitingService.notifyAdmittedUsers(Map.of(
+                "1:local-uuid", "token-1",
+                "2:remote-uuid", "token-2"
+        ));
+
+        // then
+        verify(waitingNotificationPort).sendAdmit("1:local-uuid", "token-1");
+        verify(waitingNotificationPort, never()).sendAdmit(eq("2:remote-uuid"), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 참조로 전달된 입장 이벤트는 로컬 대기자의 토큰만 조회하여 전송해야 한다")
+    void notifyAdmittedUsers_토큰참조_로컬대기자만_조회() {
+        // given
+        Long scheduleId = 100L;
+        given(emitterRepositoryPort.containsEmitterByUserKey("1:local-uuid")).willReturn(true);
+        given(emitterRepositoryPort.containsEmitterByUserKey("2:remote-uuid")).willReturn(false);
+        given(waitingCachePort.getAdmittedTokens(scheduleId, List.of("1:local-uuid"))).willReturn(Map.of("1:local-uuid", "token-1"));
+
+        // when
+        reservationWaitingService.notifyAdmittedUsers(scheduleId, List.of("1:local-uuid", "2:remote-uuid"));
+
+        // then
+        verify(waitingNotificationPort).sendAdmit("1:local-uuid", "token-1");
+        verify(waitingNotificationPort, never()).sendAdmit(eq("2:remote-uuid"), anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 참조로 전달된 입장 이벤트에 로컬 대기자가 없으면 토큰을 조회하지 않아야 한다")
+    void notifyAdmittedUsers_토큰참조_로컬대기자없음() {
+        // given
+        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(false);
+
+        // when
+        reservationWaitingService.notifyAdmittedUsers(100L, List.of("2:remote-uuid"));
+
+        // then
+        verify(waitingCachePort, never()).getAdmittedTokens(anyLong(), anyCollection());
+        verify(waitingNotificationPort, never()).sendAdmit(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("사전 등록 스케줄은 오픈 전 진입 요청을 대기열 대신 사전 등록으로 처리해야 한다")
+    void enterOrWaitQueue_사전등록() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        LocalDateTime opensAt = LocalDateTime.now().plusMinutes(10);
+        given(waitingLotteryPort.getOpensAt(scheduleId)).willReturn(opensAt);
+        given(waitingLotteryPort.register(eq(scheduleId), eq(userId), anyString())).willReturn(true);
+
+        // when
+        EnterQueueResult first = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
+        EnterQueueResult second = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
+
+        // then
+        assertThat(first.admitted()).isFalse();
+        assertThat(first.rank()).isNull();
+        assertThat(first.lotteryOpensAt()).isEqualTo(opensAt);
+        // 추첨 이후로 재조회 시점을 안내
+        assertThat(first.nextUpdateSeconds()).isGreaterThanOrEqualTo(599);
+        // 여러 번 등록해도 같은 항목으로 합쳐지도록 userKey는 (스케줄, 사용자)마다 고정
+        assertThat(first.userKey()).startsWith(userId + ":").isEqualTo(second.userKey());
+
+        verify(waitingCachePort, never()).enterOrWait(anyLong(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("추첨이 끝난 사전 등록 스케줄은 일반 대기열 진입으로 처리해야 한다")
+    void enterOrWaitQueue_추첨후_일반진입() {
+        // given
+        Long userId = 1L;
+        Long scheduleId = 100L;
+        given(waitingLotteryPort.getOpensAt(scheduleId)).willReturn(LocalDateTime.now().minusMinutes(1));
+        given(waitingLotteryPort.register(eq(scheduleId), eq(userId), anyString())).willReturn(false);
+        given(waitingCachePort.enterOrWait(eq(scheduleId), eq(userId), anyString()))
+                .willAnswer(invocation -> WaitingEntryResult.waiting(invocation.getArgument(2), 0, 1));
+
+        // when
+        EnterQueueResult result = reservationWaitingService.enterOrWaitQueue(userId, scheduleId);
+
+        // then
+        assertThat(result.lotteryOpensAt()).isNull();
+        assertThat(result.rank()).isEqualTo(1);
+        verify(waitingCachePort).enterOrWait(eq(scheduleId), eq(userId), anyString());
+    }
+
+    @Test
+    @DisplayName("오픈 시각이 지난 사전 등록 스케줄은 등록자 전체를 한 번에 대기열에 진입시키고 입장 처리를 시작해야 한다")
+    void drawDueLotterySchedules_추첨후_일괄진입() {
+        // given
+        Long scheduleId = 100L;
+        Long notYetOpenedScheduleId = 200L;
+        List<String> registered = List.of("1:a", "2:b", "3:c");
+        given(waitingLotteryPort.getLotterySchedules()).willReturn(new WaitingLotterySchedules(Map.of(
+                scheduleId, LocalDateTime.now().minusSeconds(5),
+                notYetOpenedScheduleId, LocalDateTime.now().plusMinutes(5)
+        )));
+        given(waitingLotteryPort.drawEntries(scheduleId)).willReturn(registered);
+        given(waitingCachePort.enterQueueInOrder(eq(scheduleId), anyList())).willReturn(registered.size());
+
+        // when
+        reservationWaitingService.drawDueLotterySchedules();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+        verify(waitingCachePort).enterQueueInOrder(eq(scheduleId), captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrderElementsOf(registered);
+        verify(waitingEventPublisher).notifyCapacityAvailableEvent(scheduleId);
+        verify(waitingEventPublisher).notifyWaitingQueueStatusEvent(scheduleId);
+        // 오픈 전 스케줄은 추첨하지 않음
+        verify(waitingLotteryPort, never()).drawEntries(notYetOpenedScheduleId);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 이미 추첨한 스케줄은 대기열을 다시 생성하지 않아야 한다")
+    void drawDueLotterySchedules_이미추첨됨() {
+        // given
+        Long scheduleId = 100L;
+        given(waitingLotteryPort.getLotterySchedules())
+                .willReturn(new WaitingLotterySchedules(Map.of(scheduleId, LocalDateTime.now().minusSeconds(5))));
+        given(waitingLotteryPort.drawEntries(scheduleId)).willReturn(null);
+
+        // when
+        reservationWaitingService.drawDueLotterySchedules();
+
+        // then
+        verify(waitingCachePort, never()).enterQueueInOrder(anyLong(), anyList());
+        verify(waitingEventPublisher, never()).notifyCapacityAvailableEvent(anyLong());
+    }
+
+    @Test
+    @DisplayName("생존 기록 갱신은 현재 인스턴스에 연결된 대기자와 폴링 대기자를 스케줄별로 한 번에 갱신해야 한다")
+    void refreshLocalPresence_스케줄별_일괄갱신() {
+        // given
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100", "200"));
+        given(emitterRepositoryPort.getUserKeysByScheduleId(100L)).willReturn(Set.of("1:sse"));
+        given(waitingPollRepositoryPort.getUserKeysByScheduleId(100L)).willReturn(Set.of("2:poll"));
+        given(emitterRepositoryPort.getUserKeysByScheduleId(200L)).willReturn(Set.of());
+        given(waitingPollRepositoryPort.getUserKeysByScheduleId(200L)).willReturn(Set.of());
+
+        // when
+        reservationWaitingService.refreshLocalPresence();
+
+        // then
+        verify(waitingPresencePort).touch(100L, Set.of("1:sse", "2:poll"));
+        // 로컬 대기자가 없는 스케줄은 갱신하지 않음
+        verify(waitingPresencePort, never()).touch(eq(200L), anyCollection());
+    }
+
+    @Test
+    @DisplayName("생존 기록이 만료된 대기자는 대기열에서 제거하고, 로컬 연결이 남아있는 대기자는 유지해야 한다")
+    void evictAbsentWaiters_만료대기자_제거() {
+        // given
+        Long scheduleId = 100L;
+        given(waitingCachePort.getActiveWaitingScheduleIds()).willReturn(Set.of("100"));
+        given(waitingPresencePort.takeExpired(eq(scheduleId), any(Duration.class), anyInt()))
+                .willReturn(List.of("1:ghost", "2:admitted", "3:local"));
+        given(emitterRepositoryPort.containsEmitterByUserKey(anyString())).willReturn(false);
+        given(emitterRepositoryPort.containsEmitterByUserKey("3:local")).willReturn(true);
+        given(waitingPollRepositoryPort.contains(anyString())).willReturn(false);
+        given(waitingCachePort.removeWaitingQueue(scheduleId, "1:ghost")).willReturn(true);
+        given(waitingCachePort.removeWaitingQueue(scheduleId, "2:admitted")).willReturn(false); // 이미 입장하여 대기열에 없음
+
+        // when
+        reservationWaitingService.evictAbsentWaiters();
+
+        // then
+        verify(waitingCachePort).removeWaitingQueue(scheduleId, "1:ghost");
+        verify(waitingCachePort, never()).removeWaitingQueue(scheduleId, "3:local");
+        verify(waitingPresencePort).touch(scheduleId, List.of("3:local"));
+        // 제거된 대기자가 있으면 남은 대기자의 순번 갱신
+        verify(waitingEventPublisher).notifyWaitingQueueStatusEvent(scheduleId);
+    }
+
+    private static Map<String, WaitingEta> etasOf(Map<String, WaitingStatusUpdate> updates) {
+        return updates.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().eta()));
     }
 }
@@ -0,0 +1,56 @@
+package com.roovies.concertreservation.waiting.domain;
+
+import com.roovies.concertreservation.waiting.domain.vo.AdmissionPartition;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class AdmissionPartitionTest {
+
+    private static final List<Long> SCHEDULE_IDS = LongStream.rangeClosed(1, 1000).boxed().toList();
+
+    @Test
+    void 인스턴스_목록_순서와_관계없이_같은_담당자가_선택되어야_한다() {
+        AdmissionPartition partition = new AdmissionPartition(List.of("a", "b", "c"));
+        AdmissionPartition reordered = new AdmissionPartition(List.of("c", "a", "b"));
+
+        for (Long scheduleId : SCHEDULE_IDS)
+            assertThat(reordered.ownerOf(scheduleId)).isEqualTo(partition.ownerOf(scheduleId));
+    }
+
+    @Test
+    void 스케줄은_인스턴스마다_고르게_나뉘어야_한다() {
+        AdmissionPartition partition = new AdmissionPartition(List.of("a", "b", "c", "d"));
+
+        Map<String, Long> countByOwner = SCHEDULE_IDS.stream()
+                .collect(Collectors.groupingBy(partition::ownerOf, Collectors.counting()));
+
+        assertThat(countByOwner).hasSize(4);
+        assertThat(countByOwner.values()).allSatisfy(count -> assertThat(count).isBetween(180L, 320L));
+    }
+
+    @Test
+    void 인스턴스가_제거되면_해당_인스턴스가_담당하던_스케줄만_옮겨가야_한다() {
+        AdmissionPartition before = new AdmissionPartition(List.of("a", "b", "c"));
+        AdmissionPartition after = new AdmissionPartition(List.of("a", "b"));
+
+        Map<Long, String> ownerBefore = SCHEDULE_IDS.stream().collect(Collectors.toMap(Function.identity(), before::ownerOf));
+        for (Long scheduleId : SCHEDULE_IDS) {
+            if (!ownerBefore.get(scheduleId).equals("c"))
+                assertThat(after.ownerOf(scheduleId)).isEqualTo(ownerBefore.get(scheduleId));
+        }
+    }
+
+    @Test
+    void 인스턴스가_없으면_예외가_발생해야_한다() {
+        assertThatThrownBy(() -> new AdmissionPartition(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("입장 처리 담당 인스턴스가 없습니다.");
+    }
+}
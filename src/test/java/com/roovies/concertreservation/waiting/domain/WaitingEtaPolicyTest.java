@@ -0,0 +1,37 @@
+package com.roovies.concertreservation.waiting.domain;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEta;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEtaPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class WaitingEtaPolicyTest {
+
+    private final WaitingEtaPolicy policy = new WaitingEtaPolicy(5, 60, 10);
+
+    @Test
+    void 입장_속도를_모르면_예상_대기_시간_없이_최소_간격을_권장해야_한다() {
+        assertThat(policy.estimate(100, 0)).isEqualTo(new WaitingEta(100, null, 5));
+    }
+
+    @Test
+    void 예상_대기_시간은_순번을_입장_속도로_나눈_값이어야_한다() {
+        assertThat(policy.estimate(100, 4.0).estimatedWaitSeconds()).isEqualTo(25);
+        assertThat(policy.estimate(101, 4.0).estimatedWaitSeconds()).isEqualTo(26);  // 올림
+    }
+
+    @Test
+    void 갱신_간격은_예상_대기_시간에_비례하고_범위로_제한되어야_한다() {
+        assertThat(policy.estimate(10, 1.0).nextUpdateSeconds()).isEqualTo(5);     // 10초 → 최소 5초
+        assertThat(policy.estimate(300, 1.0).nextUpdateSeconds()).isEqualTo(30);   // 300초 → 30초
+        assertThat(policy.estimate(5000, 1.0).nextUpdateSeconds()).isEqualTo(60);  // 5000초 → 최대 60초
+    }
+
+    @Test
+    void 갱신_간격_범위가_올바르지_않으면_예외가_발생해야_한다() {
+        assertThatThrownBy(() -> new WaitingEtaPolicy(10, 5, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("예상 대기 시간 갱신 설정이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,33 @@
+package com.roovies.concertreservation.waiting.domain;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingLotterySchedules;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class WaitingLotterySchedulesTest {
+
+    @Test
+    void 설정에서_스케줄별_오픈_시각을_읽어야_한다() {
+        WaitingLotterySchedules schedules = WaitingLotterySchedules.parse("100=2026-11-01T20:00:00, 200=2026-11-02T12:30:00");
+
+        assertThat(schedules.opensAt(100L)).isEqualTo(LocalDateTime.of(2026, 11, 1, 20, 0));
+        assertThat(schedules.opensAt(200L)).isEqualTo(LocalDateTime.of(2026, 11, 2, 12, 30));
+        assertThat(schedules.opensAt(300L)).isNull();
+    }
+
+    @Test
+    void 빈_설정이면_사전_등록_스케줄이_없어야_한다() {
+        assertThat(WaitingLotterySchedules.parse("").opensAtByScheduleId()).isEmpty();
+        assertThat(WaitingLotterySchedules.parse(null).opensAtByScheduleId()).isEmpty();
+    }
+
+    @Test
+    void 형식이_올바르지_않으면_예외가_발생해야_한다() {
+        assertThatThrownBy(() -> WaitingLotterySchedules.parse("100=tomorrow"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("추첨 스케줄 설정 형식이 올바르지 않습니다");
+    }
+}
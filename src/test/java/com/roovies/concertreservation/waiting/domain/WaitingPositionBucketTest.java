@@ -0,0 +1,33 @@
+package com.roovies.concertreservation.waiting.domain;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPositionBucket;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+public class WaitingPositionBucketTest {
+
+    private final WaitingPositionBucket bucket = new WaitingPositionBucket(100, 100);
+
+    @Test
+    void 앞쪽_순번은_1단위로_구분되어야_한다() {
+        assertThat(bucket.bucketOf(1)).isEqualTo(1);
+        assertThat(bucket.bucketOf(99)).isEqualTo(99);
+        assertThat(bucket.bucketOf(100)).isEqualTo(100);
+    }
+
+    @Test
+    void 뒤쪽_순번은_구간_단위로_묶여야_한다() {
+        assertThat(bucket.bucketOf(101)).isEqualTo(200);
+        assertThat(bucket.bucketOf(200)).isEqualTo(200);
+        assertThat(bucket.bucketOf(301)).isEqualTo(400);
+        assertThat(bucket.bucketOf(400)).isEqualTo(400);
+    }
+
+    @Test
+    void 구간_크기는_1_이상이어야_한다() {
+        assertThatThrownBy(() -> new WaitingPositionBucket(100, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("순번 구간 설정이 올바르지 않습니다.");
+    }
+}
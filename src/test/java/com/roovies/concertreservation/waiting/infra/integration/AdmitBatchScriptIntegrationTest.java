@@ -0,0 +1,106 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("admit_batch.lua 통합 테스트")
+public class AdmitBatchScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 781L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        adapter = new ReservationWaitingRedisAdapter(redisson, 1, "", 0, 1, 3000);
+
+        // Permit 0개로 시작하여 세 명 모두 대기열에 진입
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 0);
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+    }
+
+    @Test
+    @DisplayName("가용 Permit만큼만 진입 순서대로 추출하고, 같은 수만큼 Permit을 차감하며 자리표시자를 저장해야 한다")
+    void Permit만큼_순서대로추출() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 2);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 10);
+
+        assertThat(admitted).extracting(WaitingQueueEntry::userKey).containsExactly("1:a", "2:b");
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(1);
+        assertThat(admittedTokenValue("1:a")).isEqualTo("PENDING");
+        assertThat(admittedTokenValue("3:c")).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 인원이 가용 Permit보다 작으면 최대 인원만 추출하고 남은 Permit은 유지해야 한다")
+    void 최대인원제한_남은Permit유지() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 5);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 2);
+
+        assertThat(admitted).hasSize(2);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Permit이 없으면 아무도 추출하지 않고 대기열을 유지해야 한다")
+    void Permit없음_추출없음() {
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 10);
+
+        assertThat(admitted).isEmpty();
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(3);
+        assertThat(adapter.getActiveWaitingScheduleIds()).contains(TEST_SCHEDULE_ID.toString());
+    }
+
+    @Test
+    @DisplayName("대기자가 모두 추출되면 Permit은 대기자 수만큼만 차감되고 활성 대기열 목록에서 제거되어야 한다")
+    void 대기자소진_활성대기열제거() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 10);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 10);
+
+        assertThat(admitted).hasSize(3);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(7);
+        assertThat(adapter.getActiveWaitingScheduleIds()).doesNotContain(TEST_SCHEDULE_ID.toString());
+    }
+
+    @Test
+    @DisplayName("보상 트랜잭션으로 재추가된 사용자는 기존 score로 맨 앞에 서고 Permit이 반환되어야 한다")
+    void 보상트랜잭션_맨앞재추가_Permit반환() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 1);
+        WaitingQueueEntry admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 10).get(0);
+
+        adapter.requeueAdmittedUser(TEST_SCHEDULE_ID, admitted);
+
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(1);
+        assertThat(adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, "1:a").rank()).isZero();
+        assertThat(admittedTokenValue("1:a")).isNull();
+    }
+
+    private String admittedTokenValue(String userKey) {
+        return redisson.<String>getBucket(
+                WaitingRedisKey.ADMITTED_TOKEN.generateKey("reservation", TEST_SCHEDULE_ID, userKey), StringCodec.INSTANCE).get();
+    }
+}
@@ -0,0 +1,75 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("입장 토큰 만료 처리 통합 테스트")
+public class AdmittedTokenExpiryIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 779L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    // 같은 만료 이벤트를 수신하는 두 인스턴스
+    private ReservationWaitingRedisAdapter instanceA;
+    private ReservationWaitingRedisAdapter instanceB;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        instanceA = new ReservationWaitingRedisAdapter(redisson, 1, "", 0, 1, 3000);
+        instanceB = new ReservationWaitingRedisAdapter(redisson, 1, "", 0, 1, 3000);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 만료 이벤트를 처리해도 Permit은 한 번만 반환되어야 한다")
+    void 만료이벤트_중복수신_Permit1회반환() {
+        // given
+        String userKey = "1:expired-uuid";
+        WaitingEntryResult entry = instanceA.enterOrWait(TEST_SCHEDULE_ID, 1L, userKey);
+        assertThat(entry.admitted()).isTrue();
+        assertThat(instanceA.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+
+        // when - 두 인스턴스의 리스너가 같은 만료 이벤트를 동시에 처리
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Boolean>> releases = List.of(instanceA, instanceB).stream()
+                .map(instance -> CompletableFuture.supplyAsync(() -> {
+                    awaitQuietly(start);
+                    return instance.releaseExpiredAdmission(TEST_SCHEDULE_ID, userKey);
+                }))
+                .toList();
+        start.countDown();
+        List<Boolean> released = releases.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(released).containsExactlyInAnyOrder(true, false);
+        assertThat(instanceA.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(1);
+        // 인덱스가 정리되어 재진입 시 신규 진입으로 처리
+        WaitingEntryResult reentered = instanceB.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:new-uuid");
+        assertThat(reentered.admitted()).isTrue();
+        assertThat(reentered.userKey()).isEqualTo("1:new-uuid");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingLotteryRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("draw_lottery_entries.lua / enter_queue_in_order.lua 통합 테스트")
+public class DrawLotteryEntriesScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 786L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private final List<ReservationWaitingLotteryRedisAdapter> lotteryAdapters = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        redisson.<String, String>getMap(WaitingRedisKey.LOTTERY_ENTRY.generateKey("reservation", TEST_SCHEDULE_ID), StringCodec.INSTANCE)
+                .putAll(Map.of("1", "1:a", "2", "2:b", "3", "3:c"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        lotteryAdapters.forEach(ReservationWaitingLotteryRedisAdapter::shutdown);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 추첨해도 등록자는 한 번만 추출되고 사전 등록은 삭제되어야 한다")
+    void 동시추첨_한번만추출() throws Exception {
+        int instanceCount = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(instanceCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < instanceCount; i++) {
+            ReservationWaitingLotteryRedisAdapter instance = newLotteryAdapter();    // 인스턴스마다 추첨 완료 기록이 따로 있음
+            futures.add(executor.submit(() -> {
+                start.await();
+                return instance.drawEntries(TEST_SCHEDULE_ID);
+            }));
+        }
+        start.countDown();
+
+        List<List<String>> drawn = new ArrayList<>();
+        for (Future<List<String>> future : futures) {
+            List<String> result = future.get();
+            if (result != null)
+                drawn.add(result);
+        }
+        executor.shutdown();
+
+        assertThat(drawn).hasSize(1);
+        assertThat(drawn.get(0)).containsExactlyInAnyOrder("1:a", "2:b", "3:c");
+        assertThat(redisson.getMap(WaitingRedisKey.LOTTERY_ENTRY.generateKey("reservation", TEST_SCHEDULE_ID)).isExists()).isFalse();
+    }
+
+    @Test
+    @DisplayName("추첨 결과는 정해진 순서대로 대기열에 진입하고, 이미 대기 중인 사용자는 건너뛰어야 한다")
+    void 추첨순서대로진입_기존대기자건너뜀() {
+        ReservationWaitingRedisAdapter queue = new ReservationWaitingRedisAdapter(redisson, 1, "", 0, 1, 3000);
+        queue.updatePermitLimit(TEST_SCHEDULE_ID, 0);
+        queue.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:old");
+
+        List<String> drawn = new ArrayList<>(newLotteryAdapter().drawEntries(TEST_SCHEDULE_ID));
+        Collections.shuffle(drawn);
+        int entered = queue.enterQueueInOrder(TEST_SCHEDULE_ID, drawn);
+
+        List<String> expectedOrder = new ArrayList<>(drawn);
+        expectedOrder.remove("2:b");
+        assertThat(entered).isEqualTo(2);
+        assertThat(queue.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(3);
+        // 당첨자끼리는 추첨 순서를 유지
+        assertThat(queue.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, expectedOrder.get(0)).rank())
+                .isLessThan(queue.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, expectedOrder.get(1)).rank());
+        assertThat(queue.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, "2:b").rank()).isNull();
+    }
+
+    private ReservationWaitingLotteryRedisAdapter newLotteryAdapter() {
+        ReservationWaitingLotteryRedisAdapter adapter = new ReservationWaitingLotteryRedisAdapter(redisson, "", 100);
+        lotteryAdapters.add(adapter);
+        return adapter;
+    }
+}
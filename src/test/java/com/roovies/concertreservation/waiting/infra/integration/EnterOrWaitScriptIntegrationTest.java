@@ -0,0 +1,125 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("enter_or_wait.lua 통합 테스트")
+public class EnterOrWaitScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 780L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        // Permit 1개, 진입 버퍼 미사용 (요청마다 enter_or_wait.lua 실행)
+        adapter = new ReservationWaitingRedisAdapter(redisson, 1, "", 0, 1, 3000);
+    }
+
+    @Test
+    @DisplayName("Permit이 남아있으면 자리표시자를 저장하고 즉시 입장하며, 소진되면 대기열에 진입해야 한다")
+    void 즉시입장_Permit소진후_대기열진입() {
+        WaitingEntryResult first = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        WaitingEntryResult second = adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+
+        assertThat(first.admitted()).isTrue();
+        assertThat(first.admittedToken()).isNull();
+        assertThat(admittedTokenValue("1:a")).isEqualTo("PENDING");
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+
+        assertThat(second.admitted()).isFalse();
+        assertThat(second.rank()).isZero();
+        assertThat(second.totalWaiting()).isEqualTo(1);
+        assertThat(adapter.getActiveWaitingScheduleIds()).contains(TEST_SCHEDULE_ID.toString());
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 Permit이 반환되어도 신규 진입자는 대기열 뒤에 서야 한다")
+    void 대기자존재_Permit반환_신규진입대기() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        adapter.releasePermits(TEST_SCHEDULE_ID, 1);
+
+        WaitingEntryResult third = adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+
+        assertThat(third.admitted()).isFalse();
+        assertThat(third.rank()).isEqualTo(1);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자가 다시 진입하면 새 항목 없이 기존 userKey와 순번을 반환해야 한다")
+    void 재진입_대기중_기존항목반환() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:new");
+
+        assertThat(reentered.admitted()).isFalse();
+        assertThat(reentered.userKey()).isEqualTo("2:b");
+        assertThat(reentered.rank()).isZero();
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입장 처리 중(토큰 발급 전)에 다시 진입하면 Permit을 추가로 쓰지 않고 맨 앞 순번으로 응답해야 한다")
+    void 재진입_입장처리중_맨앞순번() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 2);
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:new");
+
+        assertThat(reentered.admitted()).isFalse();
+        assertThat(reentered.userKey()).isEqualTo("1:a");
+        assertThat(reentered.rank()).isZero();
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(1);
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("입장 토큰이 발급된 사용자가 다시 진입하면 기존 토큰을 반환해야 한다")
+    void 재진입_토큰발급후_기존토큰반환() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.saveAdmittedToken(TEST_SCHEDULE_ID, "1:a", "admitted-token");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:new");
+
+        assertThat(reentered.admitted()).isTrue();
+        assertThat(reentered.userKey()).isEqualTo("1:a");
+        assertThat(reentered.admittedToken()).isEqualTo("admitted-token");
+    }
+
+    @Test
+    @DisplayName("대기열에 진입한 사용자만 생존 기록이 시작되어야 한다")
+    void 대기열진입_생존기록시작() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+
+        List<String> present = List.copyOf(redisson.<String>getScoredSortedSet(
+                WaitingRedisKey.PRESENCE.generateKey("reservation", TEST_SCHEDULE_ID), StringCodec.INSTANCE).readAll());
+        assertThat(present).containsExactly("2:b");
+    }
+
+    private String admittedTokenValue(String userKey) {
+        return redisson.<String>getBucket(
+                WaitingRedisKey.ADMITTED_TOKEN.generateKey("reservation", TEST_SCHEDULE_ID, userKey), StringCodec.INSTANCE).get();
+    }
+}
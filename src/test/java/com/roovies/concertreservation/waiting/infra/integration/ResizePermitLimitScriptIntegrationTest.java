@@ -0,0 +1,73 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("resize_permit_limit.lua 통합 테스트")
+public class ResizePermitLimitScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 784L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        adapter = new ReservationWaitingRedisAdapter(redisson, 3, "", 0, 1, 3000);
+    }
+
+    @Test
+    @DisplayName("세마포어가 초기화되기 전에 한도를 바꾸면 최초 진입 시 새 한도로 초기화되어야 한다")
+    void 세마포어초기화전_새한도적용() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 1);
+
+        WaitingEntryResult first = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        WaitingEntryResult second = adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+
+        assertThat(adapter.getPermitLimit(TEST_SCHEDULE_ID)).isEqualTo(1);
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isFalse();
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도를 늘리면 증가분만큼, 줄이면 감소분만큼 가용 Permit이 바뀌어야 한다")
+    void 한도변경_증감량반영() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");    // 기본 한도 3 중 1개 사용
+
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 5);
+        int afterGrow = adapter.getAvailablePermits(TEST_SCHEDULE_ID);
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 4);
+        int afterShrink = adapter.getAvailablePermits(TEST_SCHEDULE_ID);
+
+        assertThat(afterGrow).isEqualTo(4);
+        assertThat(afterShrink).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("입장한 사용자 수보다 작게 줄이면 가용 Permit이 음수가 되어 신규 입장이 중단되어야 한다")
+    void 입장인원보다작게축소_Permit음수() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 1);
+        WaitingEntryResult next = adapter.enterOrWait(TEST_SCHEDULE_ID, 4L, "4:d");
+
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(-2);
+        assertThat(next.admitted()).isFalse();
+    }
+}
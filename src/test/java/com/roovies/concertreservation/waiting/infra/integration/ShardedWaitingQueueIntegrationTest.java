@@ -0,0 +1,102 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("샤딩 대기열 통합 테스트")
+public class ShardedWaitingQueueIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 777L;
+    private static final int USER_COUNT = 10;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        // Permit 0개로 시작하여 모든 사용자가 4개의 하위 대기열에 나뉘어 대기
+        adapter = new ReservationWaitingRedisAdapter(redisson, 0, TEST_SCHEDULE_ID + ":4", 0, 1, 3000);
+    }
+
+    @Test
+    @DisplayName("하위 대기열로 나뉘어도 순번은 전체 진입 순서대로 계산되어야 한다")
+    void 샤딩_대기열_전역순번() throws InterruptedException {
+        enterUsers();
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            WaitingQueueStatus status = adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, userKey(i));
+            assertThat(status.rank()).isEqualTo(i);
+            assertThat(status.totalWaiting()).isEqualTo(USER_COUNT);
+        }
+    }
+
+    @Test
+    @DisplayName("입장 처리는 하위 대기열을 병합하여 진입 순서대로 수행되어야 한다")
+    void 샤딩_대기열_병합입장() throws InterruptedException {
+        enterUsers();
+        adapter.releasePermits(TEST_SCHEDULE_ID, 3);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, USER_COUNT);
+
+        assertThat(admitted).extracting(WaitingQueueEntry::userKey)
+                .containsExactly(userKey(0), userKey(1), userKey(2));
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(USER_COUNT - 3);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+        assertThat(adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, userKey(3)).rank()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 시각에 진입해도 하위 대기열 사이 순번이 겹치지 않고 입장 순서와 일치해야 한다")
+    void 샤딩_대기열_동시각_순번() {
+        // 진입 간격 없이 진입하여 하위 대기열 사이에 같은 진입 시각이 생기도록 함
+        for (int i = 0; i < USER_COUNT; i++) {
+            assertThat(adapter.enterOrWait(TEST_SCHEDULE_ID, (long) i, userKey(i)).admitted()).isFalse();
+        }
+
+        List<WaitingQueueStatus> statuses = adapter.getRankAndTotalWaitingCounts(
+                TEST_SCHEDULE_ID, IntStream.range(0, USER_COUNT).mapToObj(this::userKey).toList());
+        assertThat(statuses).extracting(WaitingQueueStatus::rank)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, USER_COUNT).boxed().toList());
+
+        adapter.releasePermits(TEST_SCHEDULE_ID, USER_COUNT);
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, USER_COUNT);
+
+        List<String> userKeysByRank = statuses.stream()
+                .sorted(Comparator.comparing(WaitingQueueStatus::rank))
+                .map(WaitingQueueStatus::userKey)
+                .toList();
+        assertThat(admitted).extracting(WaitingQueueEntry::userKey).containsExactlyElementsOf(userKeysByRank);
+    }
+
+    private void enterUsers() throws InterruptedException {
+        for (int i = 0; i < USER_COUNT; i++) {
+            WaitingEntryResult result = adapter.enterOrWait(TEST_SCHEDULE_ID, (long) i, userKey(i));
+            assertThat(result.admitted()).isFalse();
+            // 진입 시각(score)이 겹치지 않도록 간격을 둠
+            Thread.sleep(2);
+        }
+    }
+
+    private String userKey(int userId) {
+        return userId + ":user-" + userId;
+    }
+}
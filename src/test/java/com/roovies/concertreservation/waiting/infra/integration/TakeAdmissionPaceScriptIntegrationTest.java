@@ -0,0 +1,69 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.AdmissionPacerRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("take_admission_pace.lua 통합 테스트")
+public class TakeAdmissionPaceScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 785L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private AdmissionPacerRedisAdapter pacer;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        // 1초에 5명 (주기를 길게 두어 테스트 중 보충되는 토큰이 1개 미만이 되도록 함)
+        pacer = new AdmissionPacerRedisAdapter(redisson, 5, 1000);
+    }
+
+    @Test
+    @DisplayName("버킷은 가득 찬 상태로 시작하고, 소진되면 더 이상 토큰을 차감하지 않아야 한다")
+    void 가득찬버킷_소진후차감불가() {
+        int first = pacer.acquire(TEST_SCHEDULE_ID, 10);
+        int second = pacer.acquire(TEST_SCHEDULE_ID, 10);
+
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isZero();
+    }
+
+    @Test
+    @DisplayName("사용하지 못한 토큰을 반환하면 다음 요청에서 다시 차감할 수 있어야 한다")
+    void 토큰반환_재사용() {
+        pacer.acquire(TEST_SCHEDULE_ID, 5);
+
+        pacer.refund(TEST_SCHEDULE_ID, 3);
+
+        assertThat(pacer.acquire(TEST_SCHEDULE_ID, 10)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반환된 토큰은 버킷 용량을 넘지 않아야 한다")
+    void 토큰반환_용량제한() {
+        pacer.refund(TEST_SCHEDULE_ID, 10);
+
+        assertThat(pacer.acquire(TEST_SCHEDULE_ID, 10)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 한 주기 분량까지만 보충되어 한 번에 몰아서 입장시키지 않아야 한다")
+    void 장시간유휴_한주기분량만보충() throws InterruptedException {
+        pacer.acquire(TEST_SCHEDULE_ID, 5);
+
+        Thread.sleep(2_100);
+
+        assertThat(pacer.acquire(TEST_SCHEDULE_ID, 20)).isEqualTo(5);
+    }
+}
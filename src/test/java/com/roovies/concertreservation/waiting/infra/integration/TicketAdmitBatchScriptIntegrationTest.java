@@ -0,0 +1,85 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingTicketRedisAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("ticket_admit_batch.lua 통합 테스트")
+public class TicketAdmitBatchScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 783L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingTicketRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        adapter = new ReservationWaitingTicketRedisAdapter(redisson, 1);
+
+        // Permit 0개로 시작하여 네 명 모두 번호표(1~4)를 받고 대기
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 0);
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 4L, "4:d");
+    }
+
+    @Test
+    @DisplayName("번호표 순으로 추출하고 호출 번호가 전진하여 남은 대기자의 순번이 줄어야 한다")
+    void 번호표순추출_호출번호전진() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 2);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(TEST_SCHEDULE_ID, 10);
+        List<WaitingQueueStatus> statuses = adapter.getRankAndTotalWaitingCounts(TEST_SCHEDULE_ID, List.of("1:a", "3:c", "4:d"));
+
+        assertThat(admitted).extracting(WaitingQueueEntry::userKey).containsExactly("1:a", "2:b");
+        assertThat(admitted).extracting(WaitingQueueEntry::score).containsExactly(1d, 2d);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isZero();
+        // 입장한 사용자는 대기열에 없음
+        assertThat(statuses.get(0).rank()).isNull();
+        assertThat(statuses.get(1).rank()).isZero();
+        assertThat(statuses.get(2).rank()).isEqualTo(1);
+        assertThat(statuses).allSatisfy(status -> assertThat(status.totalWaiting()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("중도 이탈로 번호표 사이에 빈 자리가 생겨도 순번은 전체 대기자 수 범위 안이어야 한다")
+    void 중도이탈_순번보정() {
+        adapter.removeWaitingQueue(TEST_SCHEDULE_ID, "2:b");
+        adapter.removeWaitingQueue(TEST_SCHEDULE_ID, "3:c");
+
+        WaitingQueueStatus status = adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, "4:d");
+
+        assertThat(status.totalWaiting()).isEqualTo(2);
+        assertThat(status.rank()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("보상 트랜잭션으로 재추가된 사용자는 호출 번호가 지나간 번호표를 유지하고 맨 앞 순번이어야 한다")
+    void 보상트랜잭션_맨앞순번() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 2);
+        WaitingQueueEntry first = adapter.admitBatch(TEST_SCHEDULE_ID, 10).get(0);
+
+        adapter.requeueAdmittedUser(TEST_SCHEDULE_ID, first);
+
+        assertThat(adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, "1:a").rank()).isZero();
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(1);
+        // 다음 입장 처리에서 가장 먼저 추출됨
+        assertThat(adapter.admitBatch(TEST_SCHEDULE_ID, 1)).extracting(WaitingQueueEntry::userKey).containsExactly("1:a");
+    }
+}
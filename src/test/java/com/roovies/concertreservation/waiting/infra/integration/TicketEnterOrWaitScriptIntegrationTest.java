@@ -0,0 +1,98 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingTicketRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("ticket_enter_or_wait.lua 통합 테스트")
+public class TicketEnterOrWaitScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 782L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingTicketRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        adapter = new ReservationWaitingTicketRedisAdapter(redisson, 1);
+    }
+
+    @Test
+    @DisplayName("Permit이 남아있으면 번호표 없이 즉시 입장하고, 소진되면 번호표를 발급받아 순서대로 대기해야 한다")
+    void 즉시입장_Permit소진후_번호표발급() {
+        WaitingEntryResult first = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        WaitingEntryResult second = adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        WaitingEntryResult third = adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.rank()).isZero();
+        assertThat(third.rank()).isEqualTo(1);
+        assertThat(third.totalWaiting()).isEqualTo(2);
+        assertThat(issuedTickets()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 중인 사용자가 다시 진입하면 번호표를 새로 발급하지 않고 기존 userKey와 순번을 반환해야 한다")
+    void 재진입_대기중_번호표재발급없음() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:c");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(TEST_SCHEDULE_ID, 3L, "3:new");
+
+        assertThat(reentered.userKey()).isEqualTo("3:c");
+        assertThat(reentered.rank()).isEqualTo(1);
+        assertThat(issuedTickets()).isEqualTo(2);
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("입장 처리 중(토큰 발급 전)에 다시 진입하면 맨 앞 순번으로, 토큰 발급 후라면 기존 토큰으로 응답해야 한다")
+    void 재진입_입장처리중_토큰발급후() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+
+        WaitingEntryResult pending = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:new");
+        adapter.saveAdmittedToken(TEST_SCHEDULE_ID, "1:a", "admitted-token");
+        WaitingEntryResult admitted = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:newer");
+
+        assertThat(pending.admitted()).isFalse();
+        assertThat(pending.userKey()).isEqualTo("1:a");
+        assertThat(pending.rank()).isZero();
+        assertThat(admitted.admitted()).isTrue();
+        assertThat(admitted.admittedToken()).isEqualTo("admitted-token");
+        assertThat(issuedTickets()).isZero();
+    }
+
+    @Test
+    @DisplayName("번호표를 받은 사용자만 생존 기록이 시작되어야 한다")
+    void 번호표발급_생존기록시작() {
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 2L, "2:b");
+
+        List<String> present = List.copyOf(redisson.<String>getScoredSortedSet(
+                WaitingRedisKey.PRESENCE.generateKey("reservation", TEST_SCHEDULE_ID), StringCodec.INSTANCE).readAll());
+        assertThat(present).containsExactly("2:b");
+    }
+
+    private long issuedTickets() {
+        String issued = redisson.<String>getBucket(
+                WaitingRedisKey.TICKET_ISSUED.generateKey("reservation", TEST_SCHEDULE_ID), StringCodec.INSTANCE).get();
+        return issued == null ? 0 : Long.parseLong(issued);
+    }
+}
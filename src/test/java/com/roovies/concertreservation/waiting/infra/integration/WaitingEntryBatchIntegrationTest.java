@@ -0,0 +1,85 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("대기열 진입 버퍼 통합 테스트")
+public class WaitingEntryBatchIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 778L;
+    private static final int USER_COUNT = 50;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        // Permit 3개, 최대 5ms 동안 진입 요청을 모아서 처리
+        adapter = new ReservationWaitingRedisAdapter(redisson, 3, "", 5, 200, 3000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 진입 요청을 모아 처리해도 Permit만큼만 즉시 입장하고 나머지는 대기열에 진입해야 한다")
+    void 동시진입_일괄처리() {
+        ExecutorService executor = Executors.newFixedThreadPool(USER_COUNT);
+        try {
+            List<CompletableFuture<WaitingEntryResult>> futures = new ArrayList<>();
+            for (int i = 0; i < USER_COUNT; i++) {
+                long userId = i;
+                futures.add(CompletableFuture.supplyAsync(() -> adapter.enterOrWait(TEST_SCHEDULE_ID, userId, userId + ":user-" + userId), executor));
+            }
+            List<WaitingEntryResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+            assertThat(results).filteredOn(WaitingEntryResult::admitted).hasSize(3);
+            assertThat(results).filteredOn(result -> !result.admitted())
+                    .hasSize(USER_COUNT - 3)
+                    .allSatisfy(result -> assertThat(result.rank()).isBetween(0, USER_COUNT - 4));
+            assertThat(results).extracting(WaitingEntryResult::userKey).doesNotHaveDuplicates();
+            assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(USER_COUNT - 3);
+            assertThat(adapter.hasActiveWaitingQueue(TEST_SCHEDULE_ID)).isTrue();
+            // 단일 노드에서는 진입 스크립트 안에서 활성 대기열 목록에 등록됨
+            assertThat(adapter.getActiveWaitingScheduleIds()).contains(TEST_SCHEDULE_ID.toString());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 진입하면 기존 항목과 순번을 반환해야 한다")
+    void 재진입_기존항목반환() {
+        adapter.updatePermitLimit(TEST_SCHEDULE_ID, 0);
+        adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:first");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(TEST_SCHEDULE_ID, 1L, "1:second");
+
+        assertThat(reentered.admitted()).isFalse();
+        assertThat(reentered.userKey()).isEqualTo("1:first");
+        assertThat(reentered.rank()).isZero();
+        assertThat(adapter.getWaitingQueueSize(TEST_SCHEDULE_ID)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.ReservationWaitingRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingLegacyKeyMigrator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("이전 형식 대기열 키 이전 통합 테스트")
+public class WaitingLegacyKeyMigrationIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 779L;
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private ReservationWaitingRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*" + TEST_SCHEDULE_ID + "*");
+        adapter = new ReservationWaitingRedisAdapter(redisson, 0, "", 0, 1, 3000);
+    }
+
+    @Test
+    @DisplayName("해시 태그 이전 형식으로 저장된 대기열과 입장 토큰은 시작 시 새 형식 키로 옮겨져야 한다")
+    void 이전형식키_이전() {
+        // given - 이전 버전이 남긴 대기열, Permit, 입장 토큰
+        redisson.<String>getScoredSortedSet("waiting:reservation:" + TEST_SCHEDULE_ID, StringCodec.INSTANCE).add(1, "1:first");
+        redisson.<String>getScoredSortedSet("waiting:reservation:" + TEST_SCHEDULE_ID, StringCodec.INSTANCE).add(2, "2:second");
+        redisson.getBucket("semaphore:reservation:" + TEST_SCHEDULE_ID, StringCodec.INSTANCE).set("3");
+        redisson.getBucket("admitted:reservation:" + TEST_SCHEDULE_ID + ":3:third", StringCodec.INSTANCE).set("token", Duration.ofMinutes(5));
+
+        // when
+        new WaitingLegacyKeyMigrator(redisson, true).migrate();
+
+        // then
+        WaitingQueueStatus status = adapter.getRankAndTotalWaitingCount(TEST_SCHEDULE_ID, "2:second");
+        assertThat(status.rank()).isEqualTo(1);
+        assertThat(status.totalWaiting()).isEqualTo(2);
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(3);
+        assertThat(adapter.getAdmittedTokens(TEST_SCHEDULE_ID, List.of("3:third"))).isEqualTo(Map.of("3:third", "token"));
+        // 남은 만료 시간은 유지됨
+        assertThat(redisson.getBucket("admitted:reservation:{" + TEST_SCHEDULE_ID + "}:3:third").remainTimeToLive()).isPositive();
+        assertThat(redisson.getKeys().countExists("waiting:reservation:" + TEST_SCHEDULE_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("새 형식 키가 이미 있으면 덮어쓰지 않아야 한다")
+    void 새형식키_존재시_유지() {
+        // given
+        redisson.getBucket("semaphore:reservation:" + TEST_SCHEDULE_ID, StringCodec.INSTANCE).set("3");
+        redisson.getBucket("semaphore:reservation:{" + TEST_SCHEDULE_ID + "}", StringCodec.INSTANCE).set("7");
+
+        // when
+        new WaitingLegacyKeyMigrator(redisson, true).migrate();
+
+        // then
+        assertThat(adapter.getAvailablePermits(TEST_SCHEDULE_ID)).isEqualTo(7);
+        assertThat(redisson.getKeys().countExists("semaphore:reservation:" + TEST_SCHEDULE_ID)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.roovies.concertreservation.waiting.infra.integration;
+
+import com.roovies.concertreservation.testcontainers.RedisTestContainer;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingPresenceRedisAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("touch_presence.lua / take_expired_presence.lua 통합 테스트")
+public class WaitingPresenceScriptIntegrationTest extends RedisTestContainer {
+
+    private static final Long TEST_SCHEDULE_ID = 787L;
+    private static final Duration GRACE = Duration.ofMillis(300);
+
+    @Autowired
+    private RedissonClient redisson;
+
+    private WaitingPresenceRedisAdapter presence;
+
+    @BeforeEach
+    void setUp() {
+        redisson.getKeys().deleteByPattern("*{" + TEST_SCHEDULE_ID + "*");
+        presence = new WaitingPresenceRedisAdapter(redisson);
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 갱신된 대기자는 추출되지 않아야 한다")
+    void 유예시간내_추출안됨() {
+        presence.touch(TEST_SCHEDULE_ID, List.of("1:a", "2:b"));
+
+        assertThat(presence.takeExpired(TEST_SCHEDULE_ID, GRACE, 10)).isEmpty();
+        assertThat(redisson.getKeys().remainTimeToLive(presenceKey())).isPositive();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 대기자는 오래된 순으로 최대 인원까지만 추출되고 기록에서 제거되어야 한다")
+    void 유예시간경과_오래된순추출() throws InterruptedException {
+        presence.touch(TEST_SCHEDULE_ID, List.of("1:a"));
+        Thread.sleep(10);
+        presence.touch(TEST_SCHEDULE_ID, List.of("2:b"));
+        Thread.sleep(10);
+        presence.touch(TEST_SCHEDULE_ID, List.of("3:c"));
+        Thread.sleep(GRACE.toMillis() + 50);
+
+        List<String> first = presence.takeExpired(TEST_SCHEDULE_ID, GRACE, 2);
+        List<String> second = presence.takeExpired(TEST_SCHEDULE_ID, GRACE, 2);
+        List<String> third = presence.takeExpired(TEST_SCHEDULE_ID, GRACE, 2);
+
+        assertThat(first).containsExactly("1:a", "2:b");
+        assertThat(second).containsExactly("3:c");
+        assertThat(third).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 갱신된 대기자는 유예 시간이 새로 시작되어 추출되지 않아야 한다")
+    void 재갱신_유예시간재시작() throws InterruptedException {
+        presence.touch(TEST_SCHEDULE_ID, List.of("1:a", "2:b"));
+        Thread.sleep(GRACE.toMillis() + 50);
+
+        presence.touch(TEST_SCHEDULE_ID, List.of("2:b"));
+
+        assertThat(presence.takeExpired(TEST_SCHEDULE_ID, GRACE, 10)).containsExactly("1:a");
+    }
+
+    private String presenceKey() {
+        return WaitingRedisKey.PRESENCE.generateKey("reservation", TEST_SCHEDULE_ID);
+    }
+}
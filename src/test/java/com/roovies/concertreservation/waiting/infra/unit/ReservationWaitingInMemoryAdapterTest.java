@@ -0,0 +1,120 @@
+package com.roovies.concertreservation.waiting.infra.unit;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEntryResult;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueEntry;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingQueueStatus;
+import com.roovies.concertreservation.waiting.infra.adapter.out.inmemory.ReservationWaitingInMemoryAdapter;
+import com.roovies.concertreservation.waiting.infra.adapter.out.inmemory.WaitingPresenceInMemoryAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ReservationWaitingInMemoryAdapter 단위 테스트")
+public class ReservationWaitingInMemoryAdapterTest {
+
+    private static final Long SCHEDULE_ID = 100L;
+
+    private final WaitingPresenceInMemoryAdapter presence = new WaitingPresenceInMemoryAdapter();
+    private final ReservationWaitingInMemoryAdapter adapter =
+            new ReservationWaitingInMemoryAdapter(mock(ApplicationEventPublisher.class), presence, 2);
+
+    @AfterEach
+    void tearDown() {
+        adapter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Permit이 남아있으면 즉시 입장하고, 소진되면 대기열에 진입해야 한다")
+    void enterOrWait_Permit소진_대기열진입() {
+        WaitingEntryResult first = adapter.enterOrWait(SCHEDULE_ID, 1L, "1:a");
+        WaitingEntryResult second = adapter.enterOrWait(SCHEDULE_ID, 2L, "2:b");
+        WaitingEntryResult third = adapter.enterOrWait(SCHEDULE_ID, 3L, "3:c");
+        WaitingEntryResult fourth = adapter.enterOrWait(SCHEDULE_ID, 4L, "4:d");
+
+        assertThat(first.admitted()).isTrue();
+        assertThat(second.admitted()).isTrue();
+        assertThat(third.admitted()).isFalse();
+        assertThat(third.rank()).isZero();
+        assertThat(fourth.rank()).isEqualTo(1);
+        assertThat(fourth.totalWaiting()).isEqualTo(2);
+        assertThat(adapter.hasActiveWaitingQueue(SCHEDULE_ID)).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기열에 진입한 사용자만 생존 기록이 시작되어야 한다")
+    void enterOrWait_대기열진입_생존기록시작() {
+        adapter.enterOrWait(SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(SCHEDULE_ID, 3L, "3:c");
+
+        // 즉시 입장한 사용자는 대기열에 없으므로 기록하지 않음
+        assertThat(presence.takeExpired(SCHEDULE_ID, Duration.ZERO, 10)).containsExactly("3:c");
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 진입하면 기존 항목과 순번을 반환해야 한다")
+    void enterOrWait_재진입_기존항목반환() {
+        adapter.updatePermitLimit(SCHEDULE_ID, 0);
+        adapter.enterOrWait(SCHEDULE_ID, 1L, "1:a");
+
+        WaitingEntryResult reentered = adapter.enterOrWait(SCHEDULE_ID, 1L, "1:new");
+
+        assertThat(reentered.userKey()).isEqualTo("1:a");
+        assertThat(reentered.rank()).isZero();
+        assertThat(adapter.getWaitingQueueSize(SCHEDULE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("입장 처리는 가용 Permit만큼 앞에서부터 추출하고, 재추가 시 기존 순서를 유지해야 한다")
+    void admitBatch_Permit만큼추출_재추가() {
+        adapter.updatePermitLimit(SCHEDULE_ID, 0);
+        adapter.enterOrWait(SCHEDULE_ID, 1L, "1:a");
+        adapter.enterOrWait(SCHEDULE_ID, 2L, "2:b");
+        adapter.enterOrWait(SCHEDULE_ID, 3L, "3:c");
+        adapter.releasePermits(SCHEDULE_ID, 2);
+
+        List<WaitingQueueEntry> admitted = adapter.admitBatch(SCHEDULE_ID, 100);
+
+        assertThat(admitted).extracting(WaitingQueueEntry::userKey).containsExactly("1:a", "2:b");
+        assertThat(adapter.getAvailablePermits(SCHEDULE_ID)).isZero();
+
+        adapter.requeueAdmittedUser(SCHEDULE_ID, admitted.get(1));
+
+        List<WaitingQueueStatus> statuses = adapter.getRankAndTotalWaitingCounts(SCHEDULE_ID, List.of("2:b", "3:c"));
+        assertThat(statuses).extracting(WaitingQueueStatus::rank).containsExactly(0, 1);
+        assertThat(adapter.getAvailablePermits(SCHEDULE_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("마지막 대기자가 이탈하면 활성 대기열 목록에서 제거되어야 한다")
+    void removeWaitingQueue_마지막대기자_활성목록제거() {
+        adapter.updatePermitLimit(SCHEDULE_ID, 0);
+        adapter.enterOrWait(SCHEDULE_ID, 1L, "1:a");
+
+        assertThat(adapter.removeWaitingQueue(SCHEDULE_ID, "1:a")).isTrue();
+        assertThat(adapter.hasActiveWaitingQueue(SCHEDULE_ID)).isFalse();
+        assertThat(adapter.removeWaitingQueue(SCHEDULE_ID, "1:a")).isFalse();
+    }
+
+    @Test
+    @DisplayName("순서 지정 일괄 진입은 주어진 순서대로 대기열을 생성하고, 이미 진입한 사용자는 건너뛰어야 한다")
+    void enterQueueInOrder_순서유지_중복제외() {
+        adapter.updatePermitLimit(SCHEDULE_ID, 0);
+        adapter.enterOrWait(SCHEDULE_ID, 2L, "2:existing");
+
+        int entered = adapter.enterQueueInOrder(SCHEDULE_ID, List.of("3:c", "2:b", "1:a"));
+
+        assertThat(entered).isEqualTo(2);
+        assertThat(adapter.getWaitingQueueSize(SCHEDULE_ID)).isEqualTo(3);
+        assertThat(adapter.getRankAndTotalWaitingCount(SCHEDULE_ID, "3:c").rank())
+                .isLessThan(adapter.getRankAndTotalWaitingCount(SCHEDULE_ID, "1:a").rank());
+        assertThat(adapter.getRankAndTotalWaitingCount(SCHEDULE_ID, "2:b").rank()).isNull();
+    }
+}
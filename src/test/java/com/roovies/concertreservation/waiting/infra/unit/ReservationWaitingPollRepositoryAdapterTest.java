@@ -0,0 +1,72 @@
+package com.roovies.concertreservation.waiting.infra.unit;
+
+import com.roovies.concertreservation.waiting.domain.vo.WaitingEta;
+import com.roovies.concertreservation.waiting.domain.vo.WaitingPollStatus;
+import com.roovies.concertreservation.waiting.infra.adapter.out.inmemory.ReservationWaitingPollRepositoryAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReservationWaitingPollRepositoryAdapter 단위 테스트")
+public class ReservationWaitingPollRepositoryAdapterTest {
+
+    private static final Long SCHEDULE_ID = 100L;
+    private static final String USER_KEY = "1:a";
+
+    private final ReservationWaitingPollRepositoryAdapter repository = new ReservationWaitingPollRepositoryAdapter();
+
+    @Test
+    @DisplayName("같은 구간 안의 갱신은 long-poll을 깨우지 않고, 구간이 바뀌면 깨워야 한다")
+    void awaitChange_구간변경시_완료() {
+        repository.register(SCHEDULE_ID, USER_KEY, waiting(150, 200), 0L);
+
+        CompletableFuture<WaitingPollStatus> change = repository.awaitChange(USER_KEY, "w200");
+        repository.update(USER_KEY, waiting(120, 200));
+        assertThat(change).isNotDone();
+        assertThat(repository.touch(USER_KEY, 1L).eta().position()).isEqualTo(120); // 조회 응답에는 반영
+
+        repository.update(USER_KEY, waiting(90, 90));
+        assertThat(change.join().version()).isEqualTo("w90");
+    }
+
+    @Test
+    @DisplayName("버전이 이미 다르면 즉시 완료되어야 한다")
+    void awaitChange_버전다름_즉시완료() {
+        repository.register(SCHEDULE_ID, USER_KEY, waiting(150, 200), 0L);
+
+        assertThat(repository.awaitChange(USER_KEY, "w300")).isCompletedWithValueMatching(status -> status.version().equals("w200"));
+        assertThat(repository.awaitChange("2:unknown", "w200")).isNull();
+    }
+
+    @Test
+    @DisplayName("입장 처리된 상태는 순번 갱신으로 덮어쓰지 않아야 한다")
+    void update_입장상태_유지() {
+        repository.register(SCHEDULE_ID, USER_KEY, waiting(1, 1), 0L);
+
+        repository.update(USER_KEY, WaitingPollStatus.admitted("token"));
+        repository.update(USER_KEY, WaitingPollStatus.notWaiting());
+
+        assertThat(repository.touch(USER_KEY, 1L).admittedToken()).isEqualTo("token");
+    }
+
+    @Test
+    @DisplayName("오래 조회하지 않은 대기자는 제거되고 대기 중인 long-poll은 현재 상태로 완료되어야 한다")
+    void removeIdle_유휴대기자_제거() {
+        repository.register(SCHEDULE_ID, USER_KEY, waiting(150, 200), 0L);
+        repository.register(SCHEDULE_ID, "2:b", waiting(10, 10), 0L);
+        repository.touch("2:b", 5_000L);
+        CompletableFuture<WaitingPollStatus> change = repository.awaitChange(USER_KEY, "w200");
+
+        assertThat(repository.removeIdle(SCHEDULE_ID, 1_000L)).containsExactly(USER_KEY);
+        assertThat(repository.contains(USER_KEY)).isFalse();
+        assertThat(repository.getUserKeysByScheduleId(SCHEDULE_ID)).containsExactly("2:b");
+        assertThat(change.join().version()).isEqualTo("w200");
+    }
+
+    private WaitingPollStatus waiting(int position, int positionBucket) {
+        return WaitingPollStatus.waiting(new WaitingEta(position, null, 5), 500, positionBucket);
+    }
+}
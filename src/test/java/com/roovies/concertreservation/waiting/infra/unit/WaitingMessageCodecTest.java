@@ -0,0 +1,77 @@
+package com.roovies.concertreservation.waiting.infra.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.AdmittedUsersMessage;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.BinaryWaitingMessageCodec;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.JsonWaitingMessageCodec;
+import com.roovies.concertreservation.waiting.infra.adapter.out.event.codec.WaitingMessageCodecs;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("대기열 Pub/Sub 메시지 코덱 단위 테스트")
+public class WaitingMessageCodecTest {
+
+    private final BinaryWaitingMessageCodec binaryCodec = new BinaryWaitingMessageCodec();
+    private final JsonWaitingMessageCodec jsonCodec = new JsonWaitingMessageCodec(new ObjectMapper());
+    private final WaitingMessageCodecs codecs = new WaitingMessageCodecs(List.of(binaryCodec, jsonCodec), "binary");
+
+    @Test
+    @DisplayName("바이너리 입장 메시지는 토큰 없이 스케줄ID와 userKey만 복원되어야 한다")
+    void binary_입장메시지_토큰참조() {
+        String canonical = "42:" + UUID.randomUUID();
+        Map<String, String> tokens = new LinkedHashMap<>();
+        tokens.put(canonical, "header.payload.signature");
+        tokens.put("7:legacy-key", "header.payload.signature");
+
+        byte[] message = (byte[]) binaryCodec.encodeAdmittedUsers(300L, tokens);
+        AdmittedUsersMessage decoded = codecs.forPayload(message).decodeAdmittedUsers(message);
+
+        assertThat(decoded.hasTokens()).isFalse();
+        assertThat(decoded.scheduleId()).isEqualTo(300L);
+        assertThat(decoded.userKeys()).containsExactly(canonical, "7:legacy-key");
+        // 헤더(magic, type, scheduleId 2B, count) + 정규 형식 userKey(형식, userId, uuid 16B) + 그 외 형식(형식, 길이, 문자열)
+        assertThat(message).hasSize(5 + 18 + 2 + "7:legacy-key".length());
+    }
+
+    @Test
+    @DisplayName("바이너리 스케줄 이벤트는 varint로 인코딩되어야 한다")
+    void binary_스케줄이벤트() {
+        byte[] message = (byte[]) binaryCodec.encodeScheduleEvent(300L);
+
+        assertThat(message).hasSize(4);
+        assertThat(codecs.forPayload(message).decodeScheduleEvent(message)).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("이전 형식(JSON) 메시지도 해석되어야 한다")
+    void json_이전형식_수신() {
+        AdmittedUsersMessage decoded = codecs.forPayload("{\"1:uuid-1\":\"token-1\"}").decodeAdmittedUsers("{\"1:uuid-1\":\"token-1\"}");
+
+        assertThat(decoded.hasTokens()).isTrue();
+        assertThat(decoded.userKeyToAdmittedToken()).containsEntry("1:uuid-1", "token-1");
+        assertThat(codecs.forPayload("{\"scheduleId\":100}").decodeScheduleEvent("{\"scheduleId\":100}")).isEqualTo(100L);
+        assertThat(jsonCodec.encodeScheduleEvent(100L)).isEqualTo("{\"scheduleId\":100}");
+    }
+
+    @Test
+    @DisplayName("잘리거나 알 수 없는 메시지는 IllegalArgumentException으로 거부되어야 한다")
+    void 잘못된메시지_거부() {
+        byte[] message = (byte[]) binaryCodec.encodeAdmittedUsers(300L, Map.of("1:uuid-1", "token"));
+        byte[] truncated = Arrays.copyOf(message, message.length - 2);
+
+        assertThatThrownBy(() -> binaryCodec.decodeAdmittedUsers(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> binaryCodec.decodeScheduleEvent(message))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codecs.forPayload(new byte[]{0x01}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.roovies.concertreservation.waiting.infra.unit;
+
+import com.roovies.concertreservation.waiting.infra.adapter.out.redis.WaitingRedisKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("WaitingRedisKey 단위 테스트")
+public class WaitingRedisKeyTest {
+
+    @Test
+    @DisplayName("스케줄별 키는 스케줄 ID를 해시 태그로 감싸야 한다")
+    void generateKey_해시태그() {
+        assertThat(WaitingRedisKey.WAITING.generateKey("reservation", 100L)).isEqualTo("waiting:reservation:{100}");
+        assertThat(WaitingRedisKey.SEMAPHORE.generateKey("reservation", 100L)).isEqualTo("semaphore:reservation:{100}");
+        assertThat(WaitingRedisKey.ADMITTED_TOKEN.generateKey("reservation", 100L, "1:uuid"))
+                .isEqualTo("admitted:reservation:{100}:1:uuid");
+    }
+
+    @Test
+    @DisplayName("전역 키는 해시 태그 없이 생성되어야 한다")
+    void generateKey_전역키() {
+        assertThat(WaitingRedisKey.ACTIVE_WAITING_ITEMS.generateKey("reservations")).isEqualTo("active:waiting:reservations");
+    }
+
+    @Test
+    @DisplayName("스크립트가 만들어 쓰는 입장 토큰 키는 같은 스케줄의 세마포어 키와 해시 태그가 같아야 한다")
+    void generateKey_입장토큰키_같은슬롯() {
+        String semaphoreKey = WaitingRedisKey.SEMAPHORE.generateKey("reservation", 100L);
+        String tokenKeyPrefix = WaitingRedisKey.ADMITTED_TOKEN.dynamicKeyPrefix("reservation", semaphoreKey);
+
+        String tokenKey = tokenKeyPrefix + "1:uuid";
+
+        assertThat(WaitingRedisKey.extractHashTag(tokenKey.substring(WaitingRedisKey.ADMITTED_TOKEN.prefix("reservation").length())))
+                .isEqualTo(WaitingRedisKey.extractHashTag(semaphoreKey.substring(WaitingRedisKey.SEMAPHORE.prefix("reservation").length())));
+        assertThat(tokenKey).isEqualTo(WaitingRedisKey.ADMITTED_TOKEN.generateKey("reservation", 100L, "1:uuid"));
+    }
+
+    @Test
+    @DisplayName("해시 태그가 없는 키로는 동적 키 접두사를 만들 수 없어야 한다")
+    void dynamicKeyPrefix_해시태그없음_예외() {
+        String activeKey = WaitingRedisKey.ACTIVE_WAITING_ITEMS.generateKey("reservations");
+
+        assertThatThrownBy(() -> WaitingRedisKey.ADMITTED_TOKEN.dynamicKeyPrefix("reservation", activeKey))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("해시 태그에서 스케줄 ID를 추출해야 한다")
+    void extractHashTag() {
+        assertThat(WaitingRedisKey.extractHashTag("{100}:1:uuid")).isEqualTo("100");
+        assertThat(WaitingRedisKey.extractHashTag("100:1:uuid")).isNull();
+    }
+}